@@ -1,12 +1,25 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.balancer.HedgingPolicy;
+import io.weaviate.client.base.balancer.LoadBalancingPolicy;
+import io.weaviate.client.base.retry.RetryPolicy;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.Deflater;
 import lombok.Getter;
 import lombok.Setter;
 
 public class Config {
 
   private static final int DEFAULT_TIMEOUT_SECONDS = 60;
+  private static final int DEFAULT_MAX_CONNECTIONS = 50;
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+  private static final int DEFAULT_CONNECTION_IDLE_EVICTION_SECONDS = 60;
+  private static final int DEFAULT_CONNECTION_TIME_TO_LIVE_SECONDS = 0;
+  private static final int DEFAULT_GRPC_CHANNEL_POOL_SIZE = 1;
+  private static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD_BYTES = 1024;
+  private static final int DEFAULT_ENDPOINT_EJECTION_FAILURES = 3;
+  private static final int DEFAULT_ENDPOINT_EJECTION_SECONDS = 30;
   @Getter
   private final String scheme;
   @Getter
@@ -30,6 +43,140 @@ public class Config {
   private boolean gRPCSecured;
   @Getter @Setter
   private String gRPCHost;
+  /**
+   * Maximum number of pooled HTTP connections shared by all requests of a client.
+   */
+  @Getter @Setter
+  private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+  /**
+   * Maximum number of pooled HTTP connections to a single Weaviate host.
+   */
+  @Getter @Setter
+  private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+  /**
+   * Time in seconds after which idle pooled connections are evicted. 0 disables eviction.
+   */
+  @Getter @Setter
+  private int connectionIdleEvictionTime = DEFAULT_CONNECTION_IDLE_EVICTION_SECONDS;
+  /**
+   * Maximum lifetime in seconds of a pooled connection. 0 means connections are kept as long as they are usable.
+   */
+  @Getter @Setter
+  private int connectionTimeToLive = DEFAULT_CONNECTION_TIME_TO_LIVE_SECONDS;
+  /**
+   * Number of gRPC channels opened per gRPC target. Calls are spread round-robin between them.
+   */
+  @Getter @Setter
+  private int gRPCChannelPoolSize = DEFAULT_GRPC_CHANNEL_POOL_SIZE;
+  /**
+   * Time in seconds between keepalive pings sent on idle gRPC connections. 0 keeps gRPC default.
+   */
+  @Getter @Setter
+  private int gRPCKeepAliveTime;
+  /**
+   * Time in seconds after which an unused gRPC channel enters idle mode. 0 keeps gRPC default.
+   */
+  @Getter @Setter
+  private int gRPCIdleTimeout;
+  /**
+   * Maximum size in bytes of a single gRPC message received from the server. 0 keeps gRPC default.
+   */
+  @Getter @Setter
+  private int gRPCMaxInboundMessageSize;
+  /**
+   * Initial HTTP/2 flow-control window in bytes of gRPC connections. 0 keeps gRPC default.
+   */
+  @Getter @Setter
+  private int gRPCFlowControlWindow;
+  /**
+   * Whether request bodies are streamed to the connection with chunked transfer encoding.
+   * When disabled (default) bodies are buffered to compute Content-Length, as some proxies
+   * and load balancers reject chunked requests.
+   * <p>
+   * Only chunked mode keeps memory used to send a body bounded, roughly by the socket buffer size
+   * (and the compression threshold, when request compression is enabled). Buffered bodies take memory
+   * of the whole serialized payload, e.g. of the whole batch.
+   */
+  @Getter @Setter
+  private boolean chunkedRequestBody;
+  /**
+   * Whether request bodies are sent gzip compressed. Disabled by default, as the server has to accept
+   * gzip encoded requests (e.g. behind a decompressing proxy).
+   */
+  @Getter @Setter
+  private boolean requestCompression;
+  /**
+   * Minimum size in bytes of a request body to be compressed.
+   * <p>
+   * Chunked bodies (see {@link #chunkedRequestBody}), whose size is not known upfront, are first serialized
+   * into a buffer of threshold size. Bodies which fit are sent from it uncompressed. Serialization of larger
+   * bodies is stopped once the buffer is full, and they are serialized once more, compressed straight
+   * to the connection, so their first threshold bytes are serialized twice.
+   */
+  @Getter @Setter
+  private int requestCompressionThreshold = DEFAULT_REQUEST_COMPRESSION_THRESHOLD_BYTES;
+  /**
+   * Gzip level of compressed request bodies, from 1 (fastest) to 9 (smallest). -1 keeps default level.
+   */
+  @Getter @Setter
+  private int requestCompressionLevel = Deflater.DEFAULT_COMPRESSION;
+  /**
+   * Whether gzip and deflate encoded responses are accepted. Compressed responses are decompressed transparently.
+   */
+  @Getter @Setter
+  private boolean responseCompression = true;
+  /**
+   * HTTP hosts (host:port) requests are spread across. Requests are sent to host if not set.
+   */
+  @Getter @Setter
+  private List<String> hosts;
+  /**
+   * gRPC hosts (host:port) calls are spread across. Calls are sent to gRPCHost if not set.
+   */
+  @Getter @Setter
+  private List<String> gRPCHosts;
+  /**
+   * Policy choosing host of each request when requests are spread across multiple hosts.
+   */
+  @Getter @Setter
+  private LoadBalancingPolicy loadBalancingPolicy = LoadBalancingPolicy.roundRobin();
+  /**
+   * Number of consecutive failed requests after which a host stops receiving requests for endpointEjectionTime.
+   */
+  @Getter @Setter
+  private int endpointEjectionFailures = DEFAULT_ENDPOINT_EJECTION_FAILURES;
+  /**
+   * Time in seconds an ejected host does not receive requests, after which it is tried again.
+   */
+  @Getter @Setter
+  private int endpointEjectionTime = DEFAULT_ENDPOINT_EJECTION_SECONDS;
+  /**
+   * Interval in seconds of refreshing hosts from healthy nodes reported by /v1/nodes. 0 disables discovery.
+   * Nodes are addressed by their names, with ports of configured host and gRPC host.
+   * With secured gRPC, TLS certificates of discovered nodes are verified against configured gRPC host,
+   * as node names are usually not covered by them.
+   */
+  @Getter @Setter
+  private int nodesDiscoveryInterval;
+  /**
+   * Time in seconds shard ownership read from /v1/nodes is cached for, when sending tenant scoped reads
+   * straight to nodes holding tenant's shard. 0 disables shard routing. Routing applies only to hosts
+   * addressed by node names, like discovered ones.
+   */
+  @Getter @Setter
+  private int shardRoutingTtl;
+  /**
+   * Policy hedging slow Get, Aggregate and Raw GraphQL queries and gRPC searches with a duplicate request
+   * sent to another host. Null disables hedging. Policy is closed together with the client.
+   */
+  @Getter @Setter
+  private HedgingPolicy hedgingPolicy;
+  /**
+   * Policy retrying failed requests, e.g. {@link RetryPolicy#exponentialBackoff()}. Null disables retries.
+   * Batch requests of batchers are not retried by the policy, they are resent according to batch retries config.
+   */
+  @Getter @Setter
+  private RetryPolicy retryPolicy;
 
   public Config(String scheme, String host) {
     this(scheme, host, null, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS);
@@ -83,6 +230,13 @@ public class Config {
     this.proxyScheme = proxyScheme;
   }
 
+  /**
+   * Whether requests are spread across multiple HTTP hosts.
+   */
+  public boolean useLoadBalancing() {
+    return (hosts != null && !hosts.isEmpty()) || nodesDiscoveryInterval > 0;
+  }
+
   public boolean useGRPC() {
     return this.gRPCHost != null && !this.gRPCHost.trim().isEmpty();
   }
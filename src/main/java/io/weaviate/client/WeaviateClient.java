@@ -1,6 +1,11 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.balancer.EndpointBalancer;
+import io.weaviate.client.base.balancer.LoadBalancingHttpClient;
+import io.weaviate.client.base.balancer.NodesDiscovery;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.RequestCompression;
 import io.weaviate.client.base.http.builder.HttpApacheClientBuilder;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
 import io.weaviate.client.base.util.DbVersionProvider;
@@ -18,31 +23,46 @@ import io.weaviate.client.v1.graphql.GraphQL;
 import io.weaviate.client.v1.misc.Misc;
 import io.weaviate.client.v1.misc.api.MetaGetter;
 import io.weaviate.client.v1.schema.Schema;
+import io.weaviate.client.v1.search.Search;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
-public class WeaviateClient {
+public class WeaviateClient implements AutoCloseable {
   private final Config config;
   private final DbVersionProvider dbVersionProvider;
   private final DbVersionSupport dbVersionSupport;
   private final GrpcVersionSupport grpcVersionSupport;
   private final HttpClient httpClient;
   private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
+  private final NodesDiscovery nodesDiscovery;
 
   public WeaviateClient(Config config) {
-    this(config, new CommonsHttpClientImpl(config.getHeaders(), null, HttpApacheClientBuilder.build(config)), null);
+    this(config, new CommonsHttpClientImpl(config.getHeaders(), null, HttpApacheClientBuilder.build(config), config.isChunkedRequestBody(), RequestCompression.of(config)), null);
   }
 
   public WeaviateClient(Config config, AccessTokenProvider tokenProvider) {
-    this(config, new CommonsHttpClientImpl(config.getHeaders(), tokenProvider, HttpApacheClientBuilder.build(config)), tokenProvider);
+    this(config, new CommonsHttpClientImpl(config.getHeaders(), tokenProvider, HttpApacheClientBuilder.build(config), config.isChunkedRequestBody(), RequestCompression.of(config)), tokenProvider);
   }
 
   public WeaviateClient(Config config, HttpClient httpClient, AccessTokenProvider tokenProvider) {
     this.config = config;
-    this.httpClient = httpClient;
+    this.httpClient = config.useLoadBalancing()
+      ? new LoadBalancingHttpClient(httpClient, config, EndpointBalancer.create(httpHosts(config), config))
+      : httpClient;
     dbVersionProvider = initDbVersionProvider();
     dbVersionSupport = new DbVersionSupport(dbVersionProvider);
     grpcVersionSupport = new GrpcVersionSupport(dbVersionProvider);
     this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = new GrpcChannelPool(config);
+    this.nodesDiscovery = config.getNodesDiscoveryInterval() > 0
+      ? new NodesDiscovery(this.httpClient, config, ((LoadBalancingHttpClient) this.httpClient).getBalancer(),
+      grpcChannelPool.getBalancer())
+      : null;
   }
 
   public WeaviateAsyncClient async() {
@@ -59,12 +79,12 @@ public class WeaviateClient {
 
   public Data data() {
     dbVersionProvider.refresh();
-    return new Data(httpClient, config, dbVersionSupport);
+    return new Data(httpClient, config, dbVersionSupport, tokenProvider, grpcChannelPool);
   }
 
   public Batch batch() {
     dbVersionProvider.refresh();
-    return new Batch(httpClient, config, dbVersionSupport, grpcVersionSupport, tokenProvider, data());
+    return new Batch(httpClient, config, dbVersionSupport, grpcVersionSupport, tokenProvider, grpcChannelPool, data());
   }
 
   public Backup backup() {
@@ -87,6 +107,39 @@ public class WeaviateClient {
     return new GraphQL(httpClient, config);
   }
 
+  public Search search() {
+    return new Search(config, tokenProvider, grpcChannelPool);
+  }
+
+  /**
+   * Releases resources held by the client, like pooled http connections, gRPC channels and threads of
+   * configured hedging policy.
+   * Client should not be used after being closed.
+   */
+  @Override
+  public void close() {
+    if (nodesDiscovery != null) {
+      nodesDiscovery.close();
+    }
+    grpcChannelPool.close();
+    if (config.getHedgingPolicy() != null) {
+      config.getHedgingPolicy().close();
+    }
+    if (httpClient instanceof Closeable) {
+      try {
+        ((Closeable) httpClient).close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private static List<String> httpHosts(Config config) {
+    return config.getHosts() != null && !config.getHosts().isEmpty()
+      ? config.getHosts()
+      : Collections.singletonList(config.getHost());
+  }
+
   private DbVersionProvider initDbVersionProvider() {
     MetaGetter metaGetter = new Misc(httpClient, config, null).metaGetter();
     DbVersionProvider.VersionGetter getter = () ->
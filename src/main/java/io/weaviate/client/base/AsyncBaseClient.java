@@ -1,9 +1,17 @@
 package io.weaviate.client.base;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.http.RequestCompression;
 import io.weaviate.client.base.http.async.ResponseParser;
 import io.weaviate.client.base.http.async.WeaviateResponseConsumer;
+import io.weaviate.client.base.retry.RetryAttempt;
+import io.weaviate.client.base.retry.RetryPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -12,64 +20,199 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
 
 public abstract class AsyncBaseClient<T> {
+  // thread is started with the first scheduled retry
+  private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "weaviate-async-retry");
+    thread.setDaemon(true);
+    return thread;
+  });
+
   private final CloseableHttpAsyncClient client;
   private final Config config;
   private final Serializer serializer;
+  private final RequestCompression requestCompression;
 
   public AsyncBaseClient(CloseableHttpAsyncClient client, Config config) {
     this.client = client;
     this.config = config;
     this.serializer = new Serializer();
+    this.requestCompression = RequestCompression.of(config);
   }
 
-  protected Future<Result<T>> sendGetRequest(String endpoint, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+  protected CompletableFuture<Result<T>> sendGetRequest(String endpoint, Class<T> classOfT, FutureCallback<Result<T>> callback) {
     return sendRequest(endpoint, null, "GET", classOfT, callback, null);
   }
 
-  protected Future<Result<T>> sendGetRequest(String endpoint, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+  protected CompletableFuture<Result<T>> sendGetRequest(String endpoint, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
     return sendRequest(endpoint, null, "GET", null, callback, parser);
   }
 
-  protected Future<Result<T>> sendPostRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+  protected CompletableFuture<Result<T>> sendPostRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
     return sendRequest(endpoint, payload, "POST", classOfT, callback, null);
   }
 
-  protected Future<Result<T>> sendPostRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+  protected CompletableFuture<Result<T>> sendPostRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
     return sendRequest(endpoint, payload, "POST", null, callback, parser);
   }
 
-  protected Future<Result<T>> sendPutRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+  /**
+   * Sends POST request once, regardless of configured retry policy. Meant for callers resending failed requests
+   * themselves, like batchers, so that their retries are not multiplied by retries of the policy.
+   */
+  protected CompletableFuture<Result<T>> sendPostRequestWithoutRetries(String endpoint, Object payload, Class<T> classOfT,
+                                                                      FutureCallback<Result<T>> callback) {
+    return sendRequest(endpoint, payload, "POST", classOfT, callback, null, null);
+  }
+
+  protected CompletableFuture<Result<T>> sendPutRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
     return sendRequest(endpoint, payload, "PUT", classOfT, callback, null);
   }
 
-  protected Future<Result<T>> sendPutRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+  protected CompletableFuture<Result<T>> sendPutRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
     return sendRequest(endpoint, payload, "PUT", null, callback, parser);
   }
 
-  protected Future<Result<T>> sendDeleteRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+  protected CompletableFuture<Result<T>> sendPatchRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+    return sendRequest(endpoint, payload, "PATCH", classOfT, callback, null);
+  }
+
+  protected CompletableFuture<Result<T>> sendPatchRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+    return sendRequest(endpoint, payload, "PATCH", null, callback, parser);
+  }
+
+  protected CompletableFuture<Result<T>> sendDeleteRequest(String endpoint, Object payload, Class<T> classOfT, FutureCallback<Result<T>> callback) {
     return sendRequest(endpoint, payload, "DELETE", classOfT, callback, null);
   }
 
-  protected Future<Result<T>> sendDeleteRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+  protected CompletableFuture<Result<T>> sendDeleteRequest(String endpoint, Object payload, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
     return sendRequest(endpoint, payload, "DELETE", null, callback, parser);
   }
 
-  protected Future<Result<T>> sendHeadRequest(String endpoint, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+  protected CompletableFuture<Result<T>> sendHeadRequest(String endpoint, Class<T> classOfT, FutureCallback<Result<T>> callback) {
     return sendRequest(endpoint, null, "HEAD", classOfT, callback, null);
   }
 
-  protected Future<Result<T>> sendHeadRequest(String endpoint, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+  protected CompletableFuture<Result<T>> sendHeadRequest(String endpoint, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
     return sendRequest(endpoint, null, "HEAD", null, callback, parser);
   }
 
-  private Future<Result<T>> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, FutureCallback<Result<T>> callback,
+  private CompletableFuture<Result<T>> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, FutureCallback<Result<T>> callback,
     ResponseParser<T> parser) {
+    return sendRequest(endpoint, payload, method, classOfT, callback, parser, config.getRetryPolicy());
+  }
+
+  private CompletableFuture<Result<T>> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, FutureCallback<Result<T>> callback,
+    ResponseParser<T> parser, RetryPolicy retryPolicy) {
     SimpleHttpRequest req = new SimpleHttpRequest(method, String.format("%s%s", config.getBaseURL(), endpoint));
     req.addHeader(HttpHeaders.ACCEPT, "*/*");
     req.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+    if (config.isResponseCompression()) {
+      // decompressed by WeaviateResponseConsumer
+      req.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    }
     if (payload != null) {
-      req.setBody(serializer.toJsonString(payload), ContentType.APPLICATION_JSON);
+      byte[] body = serializer.toJsonString(payload).getBytes(StandardCharsets.UTF_8);
+      if (requestCompression != null && requestCompression.shouldCompress(body.length)) {
+        req.addHeader(HttpHeaders.CONTENT_ENCODING, RequestCompression.GZIP);
+        body = requestCompression.compress(body);
+      }
+      req.setBody(body, ContentType.APPLICATION_JSON);
+    }
+
+    AsyncRequest request = new AsyncRequest(req, RetryPolicy.isIdempotent(method, endpoint), classOfT, parser, callback, retryPolicy);
+    request.send(1);
+    return request.future;
+  }
+
+  /**
+   * Request sent with retries allowed by given retry policy. Retries are scheduled without blocking.
+   * Cancelling the future aborts current exchange or scheduled retry.
+   */
+  private class AsyncRequest {
+    private final SimpleHttpRequest request;
+    private final boolean idempotent;
+    private final Class<T> classOfT;
+    private final ResponseParser<T> parser;
+    private final FutureCallback<Result<T>> callback;
+    private final RetryPolicy retryPolicy;
+    private final CompletableFuture<Result<T>> future = new CompletableFuture<>();
+    // current exchange or scheduled retry
+    private volatile Future<?> pending;
+
+    private AsyncRequest(SimpleHttpRequest request, boolean idempotent, Class<T> classOfT, ResponseParser<T> parser,
+                         FutureCallback<Result<T>> callback, RetryPolicy retryPolicy) {
+      this.request = request;
+      this.idempotent = idempotent;
+      this.classOfT = classOfT;
+      this.parser = parser;
+      this.callback = callback;
+      this.retryPolicy = retryPolicy;
+      if (retryPolicy != null) {
+        retryPolicy.onRequest();
+      }
+      future.whenComplete((result, e) -> {
+        Future<?> current = pending;
+        if (future.isCancelled() && current != null) {
+          current.cancel(true);
+        }
+      });
+    }
+
+    private void send(int attempt) {
+      WeaviateResponseConsumer<T> consumer = new WeaviateResponseConsumer<>(classOfT, parser);
+      pending = client.execute(SimpleRequestProducer.create(request), consumer, new FutureCallback<Result<T>>() {
+        @Override
+        public void completed(Result<T> result) {
+          if (!retry(attempt, consumer.getStatusCode(), null, consumer.getRetryAfterMs())) {
+            future.complete(result);
+            if (callback != null) {
+              callback.completed(result);
+            }
+          }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+          // status is known when response was received, but could not be read
+          if (!retry(attempt, consumer.getStatusCode(), ex, consumer.getRetryAfterMs())) {
+            future.completeExceptionally(ex);
+            if (callback != null) {
+              callback.failed(ex);
+            }
+          }
+        }
+
+        @Override
+        public void cancelled() {
+          future.cancel(false);
+          if (callback != null) {
+            callback.cancelled();
+          }
+        }
+      });
+      // future could have been cancelled while previous attempt was being replaced
+      if (future.isCancelled()) {
+        pending.cancel(true);
+      }
+    }
+
+    private boolean retry(int attempt, int statusCode, Exception error, Long retryAfterMs) {
+      if (retryPolicy == null || future.isDone()) {
+        return false;
+      }
+      long delay = retryPolicy.retryDelay(RetryAttempt.builder()
+        .attempt(attempt)
+        .method(request.getMethod())
+        .idempotent(idempotent)
+        .statusCode(statusCode)
+        .error(error)
+        .retryAfterMs(retryAfterMs)
+        .build());
+      if (delay < 0) {
+        return false;
+      }
+      pending = RETRY_SCHEDULER.schedule(() -> send(attempt + 1), delay, TimeUnit.MILLISECONDS);
+      return true;
     }
-    return client.execute(SimpleRequestProducer.create(req), new WeaviateResponseConsumer<>(classOfT, parser), callback);
   }
 }
@@ -1,9 +1,9 @@
 package io.weaviate.client.base;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
 public interface AsyncClientResult<T> {
-  Future<Result<T>> run();
-  Future<Result<T>> run(FutureCallback<Result<T>> callback);
+  CompletableFuture<Result<T>> run();
+  CompletableFuture<Result<T>> run(FutureCallback<Result<T>> callback);
 }
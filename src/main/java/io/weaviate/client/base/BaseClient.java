@@ -1,9 +1,17 @@
 package io.weaviate.client.base;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.balancer.HedgingPolicy;
+import io.weaviate.client.base.http.HttpBodyWriter;
 import io.weaviate.client.base.http.HttpClient;
-import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import io.weaviate.client.base.retry.RetryAfter;
+import io.weaviate.client.base.retry.RetryAttempt;
+import io.weaviate.client.base.retry.RetryPolicy;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Collections;
+import java.util.function.Function;
 
 public abstract class BaseClient<T> {
   private final HttpClient client;
@@ -24,6 +32,14 @@ public abstract class BaseClient<T> {
     return sendRequest(endpoint, payload, "POST", classOfT);
   }
 
+  /**
+   * Sends POST request once, regardless of configured retry policy. Meant for callers resending failed requests
+   * themselves, like batchers, so that their retries are not multiplied by retries of the policy.
+   */
+  protected Response<T> sendPostRequestWithoutRetries(String endpoint, Object payload, Class<T> classOfT) {
+    return sendRequest(endpoint, payload, "POST", classOfT, null);
+  }
+
   protected Response<T> sendPutRequest(String endpoint, Object payload, Class<T> classOfT) {
     return sendRequest(endpoint, payload, "PUT", classOfT);
   }
@@ -40,56 +56,97 @@ public abstract class BaseClient<T> {
     return sendRequest(endpoint, null, "HEAD", classOfT);
   }
 
+  /**
+   * Sends read-only POST request, hedged with configured hedging policy if there is one.
+   */
+  protected Response<T> sendHedgedPostRequest(String endpoint, Object payload, Class<T> classOfT) {
+    HedgingPolicy hedgingPolicy = config.getHedgingPolicy();
+    String url = config.getBaseURL() + endpoint;
+    HttpBodyWriter body = out -> serializer.toJson(payload, out);
+    return send("POST", RetryPolicy.isIdempotent("POST", endpoint), classOfT, config.getRetryPolicy(),
+      handler -> hedgingPolicy != null
+        ? client.sendHedgedRequest(url, "POST", body, handler, hedgingPolicy)
+        : client.sendRequest(url, "POST", body, handler));
+  }
+
   private Response<T> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT) {
-    try {
-      String url = config.getBaseURL() + endpoint;
-      String json = toJsonString(payload);
-      HttpResponse response = this.sendHttpRequest(url, json, method);
-      int statusCode = response.getStatusCode();
-      String responseBody = response.getBody();
-
-      if (statusCode < 399) {
-        T body = toResponse(responseBody, classOfT);
-        return new Response<>(statusCode, body, null);
-      }
+    return sendRequest(endpoint, payload, method, classOfT, config.getRetryPolicy());
+  }
 
-      WeaviateErrorResponse error = toResponse(responseBody, WeaviateErrorResponse.class);
-      return new Response<>(statusCode, null, error);
-    } catch (Exception e) {
-      WeaviateErrorResponse errors = getWeaviateErrorResponse(e);
-      return new Response<>(0, null, errors);
-    }
+  private Response<T> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, RetryPolicy retryPolicy) {
+    String url = config.getBaseURL() + endpoint;
+    HttpBodyWriter body = payload != null ? out -> serializer.toJson(payload, out) : null;
+    // response body is parsed straight from the connection stream
+    return send(method, RetryPolicy.isIdempotent(method, endpoint), classOfT, retryPolicy,
+      handler -> client.sendRequest(url, method, body, handler));
   }
 
-  private HttpResponse sendHttpRequest(String address, String json, String method) throws Exception {
-    if (method.equals("POST")) {
-      return client.sendPostRequest(address, json);
-    }
-    if (method.equals("PUT")) {
-      return client.sendPutRequest(address, json);
-    }
-    if (method.equals("PATCH")) {
-      return client.sendPatchRequest(address, json);
+  /**
+   * Sends request, retrying it as long as given retry policy allows.
+   *
+   * @param retryPolicy policy of retries, null to send request once
+   */
+  private Response<T> send(String method, boolean idempotent, Class<T> classOfT, RetryPolicy retryPolicy, Call<T> call) {
+    if (retryPolicy != null) {
+      retryPolicy.onRequest();
     }
-    if (method.equals("DELETE")) {
-      return client.sendDeleteRequest(address, json);
-    }
-    if (method.equals("HEAD")) {
-      return client.sendHeadRequest(address);
+    for (int attempt = 1; ; attempt++) {
+      Long[] retryAfter = new Long[1];
+      int[] statusCode = new int[1];
+      Response<T> response;
+      Exception error = null;
+      try {
+        response = call.send(new HttpResponseHandler<Response<T>>() {
+          @Override
+          public Response<T> handle(int code, Reader body) throws IOException {
+            statusCode[0] = code;
+            return serializer.toResponse(code, body, classOfT);
+          }
+
+          @Override
+          public Response<T> handle(int code, Reader body, Function<String, String> headers) throws IOException {
+            retryAfter[0] = RetryAfter.parseMillis(headers.apply(RetryAfter.HEADER));
+            return handle(code, body);
+          }
+        });
+      } catch (Exception e) {
+        error = e;
+        // status of received response is kept, so that retries are decided by it
+        response = new Response<>(statusCode[0], null, getWeaviateErrorResponse(e));
+      }
+      if (retryPolicy == null) {
+        return response;
+      }
+      long delay = retryPolicy.retryDelay(RetryAttempt.builder()
+        .attempt(attempt)
+        .method(method)
+        .idempotent(idempotent)
+        .statusCode(response.getStatusCode())
+        .error(error)
+        .retryAfterMs(retryAfter[0])
+        .build());
+      if (delay < 0 || !sleep(delay)) {
+        return response;
+      }
     }
-    return client.sendGetRequest(address);
-  }
-
-  private <C> C toResponse(String response, Class<C> classOfT) {
-    return serializer.toObject(response, classOfT);
   }
 
-  private String toJsonString(Object object) {
-    return serializer.toJsonString(object);
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 
   private WeaviateErrorResponse getWeaviateErrorResponse(Exception e) {
     WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(e.getMessage()).throwable(e).build();
     return WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build();
   }
+
+  private interface Call<T> {
+    Response<T> send(HttpResponseHandler<Response<T>> handler) throws Exception;
+  }
 }
@@ -1,5 +1,6 @@
 package io.weaviate.client.base;
 
+import io.weaviate.client.v1.graphql.model.GetHitsResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
 import java.util.List;
 import lombok.AccessLevel;
@@ -18,6 +19,8 @@ public class Response<T> {
     this.body = body;
     if (body instanceof GraphQLResponse) {
       this.errors = getWeaviateGraphQLErrorResponse((GraphQLResponse) body, statusCode);;
+    } else if (body instanceof GetHitsResponse) {
+      this.errors = getWeaviateGraphQLErrorResponse(((GetHitsResponse) body).errorMessages(), statusCode);
     } else {
       this.errors = errors;
     }
@@ -31,10 +34,13 @@ public class Response<T> {
    * @return Error response to be returned to the caller.
    */
   private WeaviateErrorResponse getWeaviateGraphQLErrorResponse(GraphQLResponse gql, int code) {
-    List<WeaviateErrorMessage> messages = gql.errorMessages();
+    return getWeaviateGraphQLErrorResponse(gql.errorMessages(), code);
+  }
+
+  private WeaviateErrorResponse getWeaviateGraphQLErrorResponse(List<WeaviateErrorMessage> messages, int code) {
     if (messages == null || messages.isEmpty()) {
       return null;
     }
-    return WeaviateErrorResponse.builder().code(code).error(gql.errorMessages()).build();
+    return WeaviateErrorResponse.builder().code(code).error(messages).build();
   }
 }
@@ -2,22 +2,60 @@ package io.weaviate.client.base;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.base.util.FloatArrayAdapter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 public class Serializer {
   private Gson gson;
 
   public Serializer() {
-    this.gson = new GsonBuilder().disableHtmlEscaping().create();
+    this.gson = gsonBuilder().create();
+  }
+
+  /**
+   * Gson configuration used for request payloads, for components which have to write the same json
+   * outside of requests (like batch spool).
+   */
+  public static GsonBuilder gsonBuilder() {
+    return new GsonBuilder()
+      .disableHtmlEscaping()
+      .registerTypeAdapter(float[].class, new FloatArrayAdapter());
   }
 
   public <T> T toObject(String response, Class<T> classOfT) {
     return gson.fromJson(response, classOfT);
   }
 
+  /**
+   * Parses json read from given reader, without building intermediate String.
+   * Returns null for empty input. Reader is not closed.
+   */
+  public <T> T toObject(Reader reader, Class<T> classOfT) {
+    return gson.fromJson(reader, classOfT);
+  }
+
   public String toJsonString(Object object) {
     return (object != null) ? gson.toJson(object) : null;
   }
 
+  /**
+   * Writes object as UTF-8 json directly to given stream, without building intermediate String.
+   * Stream is flushed but not closed.
+   */
+  public void toJson(Object object, OutputStream out) throws IOException {
+    JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    gson.toJson(object, object.getClass(), writer);
+    writer.flush();
+  }
+
   public <T> Result<T> toResult(int statusCode, String body, Class<T> classOfT) {
     if (statusCode < 399) {
       return new Result<>(toResponse(statusCode, body, classOfT));
@@ -33,7 +71,49 @@ public class Serializer {
     return new Response<>(statusCode, null, toWeaviateError(body));
   }
 
+  public <T> Result<T> toResult(int statusCode, Reader body, Class<T> classOfT) {
+    if (statusCode < 399) {
+      return new Result<>(toResponse(statusCode, body, classOfT));
+    }
+    return new Result<>(statusCode, null, toWeaviateError(body));
+  }
+
+  public <T> Response<T> toResponse(int statusCode, Reader body, Class<T> classOfT) {
+    if (statusCode < 399) {
+      T obj = toObject(body, classOfT);
+      return new Response<>(statusCode, obj, null);
+    }
+    return new Response<>(statusCode, null, toWeaviateError(body));
+  }
+
+  /**
+   * Parses error response. Bodies which are not Weaviate's json error, like html pages or plain text
+   * returned by proxies for 502/503/504, are kept as a single error message instead of failing the request.
+   */
   public WeaviateErrorResponse toWeaviateError(String body) {
-    return toObject(body, WeaviateErrorResponse.class);
+    try {
+      return toObject(body, WeaviateErrorResponse.class);
+    } catch (JsonParseException e) {
+      WeaviateErrorMessage message = WeaviateErrorMessage.builder().message(body.trim()).build();
+      return WeaviateErrorResponse.builder().error(Collections.singletonList(message)).build();
+    }
+  }
+
+  /**
+   * Reads error response, see {@link #toWeaviateError(String)}. Error bodies are small, so they are read
+   * whole to be available as plain text when they are not json.
+   */
+  public WeaviateErrorResponse toWeaviateError(Reader body) {
+    StringBuilder text = new StringBuilder();
+    char[] buffer = new char[1024];
+    try {
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        text.append(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return toWeaviateError(text.toString());
   }
 }
@@ -0,0 +1,95 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Weaviate node requests are balanced to, with statistics of requests sent to it.
+ * <p>
+ * Endpoint failing given number of requests in a row is ejected for ejection time,
+ * after which it is admitted again. Next failure ejects it right away, until a request succeeds.
+ */
+public class Endpoint {
+  private static final double EWMA_ALPHA = 0.3;
+
+  /**
+   * Address in host:port form.
+   */
+  @Getter
+  private final String address;
+  private final int ejectionFailures;
+  private final long ejectionNanos;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile double latencyEwma;
+  private volatile long ejectedUntil;
+  private volatile boolean ejected;
+
+  Endpoint(String address, int ejectionFailures, long ejectionNanos) {
+    this.address = address;
+    this.ejectionFailures = ejectionFailures;
+    this.ejectionNanos = ejectionNanos;
+  }
+
+  /**
+   * Number of requests sent to the endpoint which did not complete yet.
+   */
+  public int getOutstanding() {
+    return outstanding.get();
+  }
+
+  /**
+   * Exponentially weighted moving average of request latency in nanoseconds, 0 before first response.
+   */
+  public double getLatencyEwma() {
+    return latencyEwma;
+  }
+
+  /**
+   * Host part of the address.
+   */
+  public String getHost() {
+    int colon = address.lastIndexOf(':');
+    return colon < 0 || colon < address.lastIndexOf(']') ? address : address.substring(0, colon);
+  }
+
+  public boolean isAvailable(long nanoTime) {
+    return !ejected || nanoTime - ejectedUntil >= 0;
+  }
+
+  /**
+   * Marks start of a request.
+   *
+   * @return start time to be passed to {@link #finish(long, boolean)}
+   */
+  public long start() {
+    outstanding.incrementAndGet();
+    return System.nanoTime();
+  }
+
+  public void finish(long startNanos, boolean failed) {
+    long now = System.nanoTime();
+    outstanding.decrementAndGet();
+    if (failed) {
+      if (consecutiveFailures.incrementAndGet() >= ejectionFailures) {
+        ejectedUntil = now + ejectionNanos;
+        ejected = true;
+      }
+      return;
+    }
+    consecutiveFailures.set(0);
+    ejected = false;
+    updateLatency(now - startNanos);
+  }
+
+  private synchronized void updateLatency(long latencyNanos) {
+    latencyEwma = latencyEwma == 0
+      ? latencyNanos
+      : latencyEwma + EWMA_ALPHA * (latencyNanos - latencyEwma);
+  }
+
+  @Override
+  public String toString() {
+    return address;
+  }
+}
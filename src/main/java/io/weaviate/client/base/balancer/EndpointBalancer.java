@@ -0,0 +1,135 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads requests across endpoints with configured {@link LoadBalancingPolicy}, skipping ejected ones.
+ * When all endpoints are ejected, requests are spread across all of them.
+ */
+public class EndpointBalancer {
+  private final LoadBalancingPolicy policy;
+  private final int ejectionFailures;
+  private final long ejectionNanos;
+  private final List<Consumer<List<Endpoint>>> updateListeners;
+  private volatile List<Endpoint> endpoints;
+
+  public EndpointBalancer(Collection<String> addresses, LoadBalancingPolicy policy, int ejectionFailures, long ejectionTime,
+                          TimeUnit ejectionTimeUnit) {
+    if (addresses.isEmpty()) {
+      throw new IllegalArgumentException("at least one endpoint is required");
+    }
+    if (ejectionFailures < 1) {
+      throw new IllegalArgumentException("ejectionFailures should be greater than or equal 1");
+    }
+    this.policy = Objects.requireNonNull(policy);
+    this.ejectionFailures = ejectionFailures;
+    this.ejectionNanos = ejectionTimeUnit.toNanos(ejectionTime);
+    this.updateListeners = new CopyOnWriteArrayList<>();
+    this.endpoints = createEndpoints(addresses, address -> null);
+  }
+
+  public static EndpointBalancer create(Collection<String> addresses, Config config) {
+    return new EndpointBalancer(addresses, config.getLoadBalancingPolicy(), config.getEndpointEjectionFailures(),
+      config.getEndpointEjectionTime(), TimeUnit.SECONDS);
+  }
+
+  public Endpoint select() {
+    List<Endpoint> current = endpoints;
+    if (current.size() == 1) {
+      return current.get(0);
+    }
+    long now = System.nanoTime();
+    List<Endpoint> available = new ArrayList<>(current.size());
+    for (Endpoint endpoint : current) {
+      if (endpoint.isAvailable(now)) {
+        available.add(endpoint);
+      }
+    }
+    return policy.select(available.isEmpty() ? current : available);
+  }
+
+  /**
+   * Selects one of the available endpoints with given hosts. Falls back to {@link #select()}
+   * if there is none, e.g. all of them are ejected.
+   */
+  public Endpoint select(Collection<String> hosts) {
+    if (hosts.isEmpty()) {
+      return select();
+    }
+    long now = System.nanoTime();
+    List<Endpoint> candidates = new ArrayList<>(hosts.size());
+    for (Endpoint endpoint : endpoints) {
+      if (hosts.contains(endpoint.getHost()) && endpoint.isAvailable(now)) {
+        candidates.add(endpoint);
+      }
+    }
+    return candidates.isEmpty() ? select() : policy.select(candidates);
+  }
+
+  /**
+   * Selects one of the available endpoints other than given one, e.g. for a duplicate of a request
+   * sent to it. Falls back to {@link #select()} if there is none.
+   */
+  public Endpoint selectOther(Endpoint excluded) {
+    if (excluded == null) {
+      return select();
+    }
+    long now = System.nanoTime();
+    List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+    for (Endpoint endpoint : endpoints) {
+      if (endpoint != excluded && endpoint.isAvailable(now)) {
+        candidates.add(endpoint);
+      }
+    }
+    return candidates.isEmpty() ? select() : policy.select(candidates);
+  }
+
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  /**
+   * Registers listener called with the new endpoints each time they are replaced,
+   * e.g. to release resources held for endpoints no longer in the list.
+   */
+  public void addUpdateListener(Consumer<List<Endpoint>> listener) {
+    updateListeners.add(Objects.requireNonNull(listener));
+  }
+
+  /**
+   * Replaces endpoints with given addresses. Statistics of endpoints kept in the list are preserved.
+   * Empty list is ignored, so that requests can still be sent.
+   */
+  public void updateAddresses(Collection<String> addresses) {
+    if (addresses.isEmpty()) {
+      return;
+    }
+    List<Endpoint> current = endpoints;
+    List<Endpoint> updated = createEndpoints(addresses, address -> current.stream()
+      .filter(endpoint -> endpoint.getAddress().equals(address))
+      .findFirst()
+      .orElse(null));
+    endpoints = updated;
+    updateListeners.forEach(listener -> listener.accept(updated));
+  }
+
+  private List<Endpoint> createEndpoints(Collection<String> addresses, Function<String, Endpoint> existing) {
+    return Collections.unmodifiableList(new LinkedHashSet<>(addresses).stream()
+      .map(address -> {
+        Endpoint endpoint = existing.apply(address);
+        return endpoint != null ? endpoint : new Endpoint(address, ejectionFailures, ejectionNanos);
+      })
+      .collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,25 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EwmaPolicy implements LoadBalancingPolicy {
+  private final AtomicInteger counter = new AtomicInteger();
+
+  @Override
+  public Endpoint select(List<Endpoint> endpoints) {
+    // scan starts at rotating offset, so ties are spread evenly
+    int offset = Math.floorMod(counter.getAndIncrement(), endpoints.size());
+    Endpoint selected = null;
+    double selectedCost = 0;
+    for (int i = 0; i < endpoints.size(); i++) {
+      Endpoint endpoint = endpoints.get((offset + i) % endpoints.size());
+      double cost = endpoint.getLatencyEwma() * (endpoint.getOutstanding() + 1);
+      if (selected == null || cost < selectedCost) {
+        selected = endpoint;
+        selectedCost = cost;
+      }
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,376 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.base.http.Cancellation;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hedges slow read-only requests: if a request does not complete within given percentile of recent latencies,
+ * a duplicate is sent, preferably to another endpoint. First accepted outcome wins and the other attempt is
+ * cancelled by interrupting it and running cancel action it registered with its {@link Cancellation}.
+ * Interrupting does not abort blocking socket I/O, so attempts sending HTTP requests should register
+ * aborting the request.
+ * <p>
+ * The first attempt runs on the caller's thread, only duplicates are handed over to the policy's pool,
+ * which runs at most maxConcurrentHedges of them at once. Requests which cannot be hedged (before enough
+ * latencies are recorded, or without budget left) cost no thread handoff.
+ * <p>
+ * Hedging starts once enough latencies are recorded. Duplicates are limited by a budget, earning maxExtraLoad
+ * of a duplicate with every request, so that hedging never adds more than that fraction of extra load
+ * (besides a small burst).
+ * <p>
+ * Policy keeps latency statistics and budget, so a single instance should be shared by requests it applies to.
+ * Its threads are stopped by {@link #close()}, after which requests are no longer hedged.
+ */
+public class HedgingPolicy implements Closeable {
+  public static final int MAX_CONCURRENT_HEDGES = 64;
+  static final int MIN_SAMPLES = 20;
+  private static final int WINDOW_SIZE = 1000;
+  private static final int RECOMPUTE_INTERVAL = 50;
+  // budget is kept in thousandths of a duplicate, to account fractions without floating point
+  private static final long HEDGE_COST = 1000;
+  private static final long MAX_BURST = 10;
+
+  private final double percentile;
+  private final long minDelayNanos;
+  private final long creditPerRequest;
+  private final AtomicLong credits = new AtomicLong();
+  private final long[] latencies = new long[WINDOW_SIZE];
+  private int samples;
+  private volatile long delayNanos = -1;
+  // starts duplicates once their delay passes
+  private final ScheduledThreadPoolExecutor scheduler;
+  // runs duplicates, without queueing them when all threads are busy
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * @param percentile   percentile of recent latencies after which duplicate is sent, e.g. 95
+   * @param minDelay     minimal delay before duplicate is sent
+   * @param maxExtraLoad maximal fraction of requests which are duplicated, e.g. 0.05
+   */
+  public HedgingPolicy(double percentile, long minDelay, TimeUnit minDelayUnit, double maxExtraLoad) {
+    this(percentile, minDelay, minDelayUnit, maxExtraLoad, MAX_CONCURRENT_HEDGES);
+  }
+
+  /**
+   * @param percentile           percentile of recent latencies after which duplicate is sent, e.g. 95
+   * @param minDelay             minimal delay before duplicate is sent
+   * @param maxExtraLoad         maximal fraction of requests which are duplicated, e.g. 0.05
+   * @param maxConcurrentHedges  maximal number of duplicates running at once, further ones are not sent
+   */
+  public HedgingPolicy(double percentile, long minDelay, TimeUnit minDelayUnit, double maxExtraLoad,
+                       int maxConcurrentHedges) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile should be greater than 0 and less than or equal 100");
+    }
+    if (maxExtraLoad < 0 || maxExtraLoad > 1) {
+      throw new IllegalArgumentException("maxExtraLoad should be between 0 and 1");
+    }
+    if (maxConcurrentHedges < 1) {
+      throw new IllegalArgumentException("maxConcurrentHedges should be greater than 0");
+    }
+    this.percentile = percentile;
+    this.minDelayNanos = minDelayUnit.toNanos(minDelay);
+    this.creditPerRequest = Math.round(maxExtraLoad * HEDGE_COST);
+    this.scheduler = new ScheduledThreadPoolExecutor(1, daemonThreads("weaviate-hedging-timer"));
+    this.scheduler.setRemoveOnCancelPolicy(true);
+    this.executor = new ThreadPoolExecutor(0, maxConcurrentHedges, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+      daemonThreads("weaviate-hedging"));
+  }
+
+  /**
+   * Runs given attempt, running it once more if it does not complete within hedging delay.
+   * <p>
+   * The first attempt runs on the caller's thread. If the duplicate wins, the first attempt is interrupted,
+   * and the caller returns once it stops.
+   *
+   * @return value of the first accepted outcome, or of the last one if none was accepted
+   * @throws Exception thrown by the last attempt if none was accepted
+   */
+  public <T> T execute(Attempt<T> attempt) throws Exception {
+    return execute((CancellableAttempt<T>) (hedge, cancellation) -> attempt.run(hedge));
+  }
+
+  /**
+   * Runs given attempt, running it once more if it does not complete within hedging delay.
+   * Attempt which did not win is interrupted and its cancel action is run.
+   * <p>
+   * The first attempt runs on the caller's thread. If the duplicate wins, the caller returns once the first
+   * attempt stops, so it should register a cancel action aborting it promptly.
+   *
+   * @return value of the first accepted outcome, or of the last one if none was accepted
+   * @throws Exception thrown by the last attempt if none was accepted
+   */
+  public <T> T execute(CancellableAttempt<T> attempt) throws Exception {
+    earnCredit();
+    long delay = getDelayNanos();
+    if (delay < 0 || credits.get() < HEDGE_COST) {
+      // request cannot be hedged, so it is just run
+      long start = System.nanoTime();
+      Outcome<T> outcome = attempt.run(false, new Cancellation());
+      if (outcome.accepted) {
+        record(System.nanoTime() - start);
+      }
+      return outcome.value;
+    }
+    return new HedgedCall<>(attempt).run(delay);
+  }
+
+  /**
+   * Wraps response handler of an HTTP attempt, so that server errors let the other attempt win.
+   * Response headers are passed through to the wrapped handler.
+   */
+  public static <R> HttpResponseHandler<Outcome<R>> outcomeHandler(HttpResponseHandler<R> handler) {
+    return new HttpResponseHandler<Outcome<R>>() {
+      @Override
+      public Outcome<R> handle(int statusCode, Reader body) throws IOException {
+        return Outcome.of(handler.handle(statusCode, body), statusCode < 500);
+      }
+
+      @Override
+      public Outcome<R> handle(int statusCode, Reader body, Function<String, String> headers) throws IOException {
+        return Outcome.of(handler.handle(statusCode, body, headers), statusCode < 500);
+      }
+    };
+  }
+
+  /**
+   * Stops threads running duplicates. Running duplicates are interrupted, further requests are not hedged.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /**
+   * Delay after which duplicate is sent in nanoseconds, negative until enough latencies are recorded.
+   */
+  long getDelayNanos() {
+    return delayNanos < 0 ? delayNanos : Math.max(delayNanos, minDelayNanos);
+  }
+
+  synchronized void record(long latencyNanos) {
+    latencies[samples % WINDOW_SIZE] = latencyNanos;
+    samples++;
+    if (samples >= MIN_SAMPLES && (samples < WINDOW_SIZE || samples % RECOMPUTE_INTERVAL == 0)) {
+      long[] window = Arrays.copyOf(latencies, Math.min(samples, WINDOW_SIZE));
+      Arrays.sort(window);
+      int index = (int) Math.ceil(percentile / 100 * window.length) - 1;
+      delayNanos = window[Math.max(index, 0)];
+    }
+    if (samples == 2 * WINDOW_SIZE) {
+      // keep position in the window without overflowing
+      samples = WINDOW_SIZE;
+    }
+  }
+
+  private void earnCredit() {
+    credits.accumulateAndGet(creditPerRequest, (current, credit) -> Math.min(current + credit, MAX_BURST * HEDGE_COST));
+  }
+
+  private void refundCredit() {
+    credits.accumulateAndGet(HEDGE_COST, (current, credit) -> Math.min(current + credit, MAX_BURST * HEDGE_COST));
+  }
+
+  private boolean spendCredit() {
+    while (true) {
+      long current = credits.get();
+      if (current < HEDGE_COST) {
+        return false;
+      }
+      if (credits.compareAndSet(current, current - HEDGE_COST)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Single attempt of a hedged request.
+   */
+  public interface Attempt<T> {
+    /**
+     * @param hedge whether this is the duplicate attempt, which should avoid endpoint of the first one
+     */
+    Outcome<T> run(boolean hedge) throws Exception;
+  }
+
+  /**
+   * Single attempt of a hedged request, which can register how it is aborted if the other attempt wins.
+   */
+  public interface CancellableAttempt<T> {
+    /**
+     * @param hedge        whether this is the duplicate attempt, which should avoid endpoint of the first one
+     * @param cancellation registers action aborting the attempt, e.g. its HTTP request
+     */
+    Outcome<T> run(boolean hedge, Cancellation cancellation) throws Exception;
+  }
+
+  /**
+   * Value returned by an attempt. Not accepted values, like server errors, let the other attempt win.
+   */
+  public static class Outcome<T> {
+    private final T value;
+    private final boolean accepted;
+
+    private Outcome(T value, boolean accepted) {
+      this.value = value;
+      this.accepted = accepted;
+    }
+
+    public static <T> Outcome<T> of(T value, boolean accepted) {
+      return new Outcome<>(value, accepted);
+    }
+
+    public static <T> Outcome<T> accepted(T value) {
+      return new Outcome<>(value, true);
+    }
+  }
+
+  /**
+   * Hedged request, with the first attempt run by the caller's thread and the duplicate by the pool.
+   */
+  private class HedgedCall<T> {
+    private final CancellableAttempt<T> attempt;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Cancellation primaryCancellation = new Cancellation();
+    private final Thread primaryThread = Thread.currentThread();
+    private boolean primaryRunning = true;
+    private boolean primaryInterrupted;
+    private Cancellation hedgeCancellation;
+    private Future<?> hedge;
+    private int launched = 1;
+    private int failed;
+
+    private HedgedCall(CancellableAttempt<T> attempt) {
+      this.attempt = attempt;
+    }
+
+    private T run(long delayNanos) throws Exception {
+      ScheduledFuture<?> timer;
+      try {
+        timer = scheduler.schedule(this::launchHedge, delayNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // policy is closed
+        timer = null;
+      }
+      try {
+        runAttempt(false, primaryCancellation);
+      } finally {
+        finishPrimary();
+        if (timer != null) {
+          timer.cancel(false);
+        }
+      }
+      try {
+        return result.get();
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+      } finally {
+        cancelHedge();
+      }
+    }
+
+    private synchronized void launchHedge() {
+      if (result.isDone() || !spendCredit()) {
+        return;
+      }
+      Cancellation cancellation = new Cancellation();
+      try {
+        hedge = executor.submit(() -> runAttempt(true, cancellation));
+      } catch (RejectedExecutionException e) {
+        // too many duplicates running already
+        refundCredit();
+        return;
+      }
+      hedgeCancellation = cancellation;
+      launched++;
+    }
+
+    private void runAttempt(boolean isHedge, Cancellation cancellation) {
+      long start = System.nanoTime();
+      Outcome<T> outcome;
+      try {
+        outcome = attempt.run(isHedge, cancellation);
+      } catch (Exception e) {
+        cancellation.done();
+        complete(null, e, isHedge);
+        return;
+      }
+      // completed attempt is not aborted, even if its outcome does not win
+      cancellation.done();
+      if (outcome.accepted) {
+        record(System.nanoTime() - start);
+      }
+      complete(outcome, null, isHedge);
+    }
+
+    private synchronized void complete(Outcome<T> outcome, Exception error, boolean isHedge) {
+      if (result.isDone()) {
+        return;
+      }
+      if (outcome != null && outcome.accepted) {
+        result.complete(outcome.value);
+        if (isHedge) {
+          cancelPrimary();
+        }
+        return;
+      }
+      // not accepted outcome is returned only if the other attempt does not do better
+      if (++failed < launched) {
+        return;
+      }
+      if (outcome != null) {
+        result.complete(outcome.value);
+      } else {
+        result.completeExceptionally(error);
+      }
+    }
+
+    private synchronized void cancelPrimary() {
+      primaryCancellation.cancel();
+      if (primaryRunning) {
+        primaryInterrupted = true;
+        primaryThread.interrupt();
+      }
+    }
+
+    private synchronized void finishPrimary() {
+      primaryRunning = false;
+      if (primaryInterrupted) {
+        // interrupt was meant for the attempt only, not for the caller
+        Thread.interrupted();
+      }
+    }
+
+    private synchronized void cancelHedge() {
+      if (hedge != null) {
+        hedgeCancellation.cancel();
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
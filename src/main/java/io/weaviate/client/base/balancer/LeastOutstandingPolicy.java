@@ -0,0 +1,22 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LeastOutstandingPolicy implements LoadBalancingPolicy {
+  private final AtomicInteger counter = new AtomicInteger();
+
+  @Override
+  public Endpoint select(List<Endpoint> endpoints) {
+    // scan starts at rotating offset, so ties are spread evenly
+    int offset = Math.floorMod(counter.getAndIncrement(), endpoints.size());
+    Endpoint selected = null;
+    for (int i = 0; i < endpoints.size(); i++) {
+      Endpoint endpoint = endpoints.get((offset + i) % endpoints.size());
+      if (selected == null || endpoint.getOutstanding() < selected.getOutstanding()) {
+        selected = endpoint;
+      }
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,194 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.Cancellation;
+import io.weaviate.client.base.http.HttpBodyWriter;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * Sends requests addressed to configured host to endpoints chosen by {@link EndpointBalancer}.
+ * Requests failing with an exception or with 502, 503 or 504 status count as endpoint failures.
+ * Requests to other hosts are passed through.
+ * <p>
+ * With shard routing enabled, tenant scoped reads are sent to the nodes holding tenant's shard,
+ * see {@link ShardRouter}. Hedged requests send their duplicates to another endpoint.
+ */
+public class LoadBalancingHttpClient implements HttpClient, Closeable {
+  private final HttpClient client;
+  private final EndpointBalancer balancer;
+  private final ShardRouter router;
+  private final String scheme;
+  private final String origin;
+
+  public LoadBalancingHttpClient(HttpClient client, Config config, EndpointBalancer balancer) {
+    this.client = client;
+    this.balancer = balancer;
+    this.scheme = config.getScheme() + "://";
+    this.origin = scheme + config.getHost();
+    this.router = config.getShardRoutingTtl() > 0 ? new ShardRouter(this, config) : null;
+  }
+
+  public EndpointBalancer getBalancer() {
+    return balancer;
+  }
+
+  @Override
+  public HttpResponse sendGetRequest(String url) throws Exception {
+    return send(url, target -> client.sendGetRequest(target));
+  }
+
+  @Override
+  public HttpResponse sendPostRequest(String url, String json) throws Exception {
+    return send(url, target -> client.sendPostRequest(target, json));
+  }
+
+  @Override
+  public HttpResponse sendPutRequest(String url, String json) throws Exception {
+    return send(url, target -> client.sendPutRequest(target, json));
+  }
+
+  @Override
+  public HttpResponse sendPatchRequest(String url, String json) throws Exception {
+    return send(url, target -> client.sendPatchRequest(target, json));
+  }
+
+  @Override
+  public HttpResponse sendDeleteRequest(String url, String json) throws Exception {
+    return send(url, target -> client.sendDeleteRequest(target, json));
+  }
+
+  @Override
+  public HttpResponse sendHeadRequest(String url) throws Exception {
+    return send(url, target -> client.sendHeadRequest(target));
+  }
+
+  @Override
+  public HttpResponse sendRequest(String url, String method, HttpBodyWriter body) throws Exception {
+    return send(url, target -> client.sendRequest(target, method, body));
+  }
+
+  @Override
+  public <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler) throws Exception {
+    if (!isBalanced(url)) {
+      return client.sendRequest(url, method, body, handler);
+    }
+    return send(url, select(url), method, body, handler, null);
+  }
+
+  @Override
+  public <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                           Cancellation cancellation) throws Exception {
+    if (!isBalanced(url)) {
+      return client.sendRequest(url, method, body, handler, cancellation);
+    }
+    return send(url, select(url), method, body, handler, cancellation);
+  }
+
+  /**
+   * Sends the duplicate to an endpoint other than the one the first request was sent to.
+   */
+  @Override
+  public <R> R sendHedgedRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                                 HedgingPolicy policy) throws Exception {
+    if (!isBalanced(url)) {
+      return client.sendHedgedRequest(url, method, body, handler, policy);
+    }
+    AtomicReference<Endpoint> primary = new AtomicReference<>();
+    return policy.execute((hedge, cancellation) -> {
+      Endpoint endpoint = hedge ? balancer.selectOther(primary.get()) : select(url);
+      if (!hedge) {
+        primary.set(endpoint);
+      }
+      return send(url, endpoint, method, body, HedgingPolicy.outcomeHandler(handler), cancellation);
+    });
+  }
+
+  private <R> R send(String url, Endpoint endpoint, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                     Cancellation cancellation) throws Exception {
+    int[] statusCode = new int[1];
+    long start = endpoint.start();
+    boolean failed = true;
+    try {
+      HttpResponseHandler<R> trackingHandler = new HttpResponseHandler<R>() {
+        @Override
+        public R handle(int code, Reader reader) throws IOException {
+          statusCode[0] = code;
+          return handler.handle(code, reader);
+        }
+
+        @Override
+        public R handle(int code, Reader reader, Function<String, String> headers) throws IOException {
+          statusCode[0] = code;
+          return handler.handle(code, reader, headers);
+        }
+      };
+      String target = rewrite(url, endpoint);
+      R result = cancellation != null
+        ? client.sendRequest(target, method, body, trackingHandler, cancellation)
+        : client.sendRequest(target, method, body, trackingHandler);
+      failed = isFailure(statusCode[0]);
+      return result;
+    } finally {
+      endpoint.finish(start, failed);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (router != null) {
+      router.close();
+    }
+    if (client instanceof Closeable) {
+      ((Closeable) client).close();
+    }
+  }
+
+  private HttpResponse send(String url, Call call) throws Exception {
+    if (!isBalanced(url)) {
+      return call.send(url);
+    }
+    Endpoint endpoint = select(url);
+    long start = endpoint.start();
+    boolean failed = true;
+    try {
+      HttpResponse response = call.send(rewrite(url, endpoint));
+      failed = isFailure(response.getStatusCode());
+      return response;
+    } finally {
+      endpoint.finish(start, failed);
+    }
+  }
+
+  private Endpoint select(String url) {
+    if (router == null) {
+      return balancer.select();
+    }
+    return balancer.select(router.route(url.substring(origin.length())));
+  }
+
+  private boolean isBalanced(String url) {
+    return url.startsWith(origin) && (url.length() == origin.length() || url.charAt(origin.length()) == '/');
+  }
+
+  private String rewrite(String url, Endpoint endpoint) {
+    return scheme + endpoint.getAddress() + url.substring(origin.length());
+  }
+
+  private static boolean isFailure(int statusCode) {
+    return statusCode == HttpStatus.SC_BAD_GATEWAY
+      || statusCode == HttpStatus.SC_SERVICE_UNAVAILABLE
+      || statusCode == HttpStatus.SC_GATEWAY_TIMEOUT;
+  }
+
+  private interface Call {
+    HttpResponse send(String url) throws Exception;
+  }
+}
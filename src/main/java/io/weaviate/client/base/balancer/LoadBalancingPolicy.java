@@ -0,0 +1,36 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.List;
+
+/**
+ * Chooses endpoint of the next request. Implementations have to be thread safe.
+ */
+public interface LoadBalancingPolicy {
+
+  /**
+   * @param endpoints available endpoints, never empty
+   */
+  Endpoint select(List<Endpoint> endpoints);
+
+  /**
+   * Sends requests to endpoints in turn.
+   */
+  static LoadBalancingPolicy roundRobin() {
+    return new RoundRobinPolicy();
+  }
+
+  /**
+   * Sends request to endpoint with fewest requests in flight.
+   */
+  static LoadBalancingPolicy leastOutstanding() {
+    return new LeastOutstandingPolicy();
+  }
+
+  /**
+   * Sends request to endpoint with lowest average latency, weighted by requests in flight.
+   * Endpoints without measured latency are tried first.
+   */
+  static LoadBalancingPolicy ewma() {
+    return new EwmaPolicy();
+  }
+}
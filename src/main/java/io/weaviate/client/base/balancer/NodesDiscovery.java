@@ -0,0 +1,86 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.v1.cluster.api.NodesStatusGetter;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically replaces balanced endpoints with healthy nodes reported by /v1/nodes.
+ * <p>
+ * Nodes status does not include node addresses, so nodes are addressed by their names
+ * (e.g. pod names of a stateful set behind a headless service) with ports of configured hosts.
+ * Failed discovery keeps current endpoints.
+ */
+public class NodesDiscovery implements AutoCloseable {
+  private final NodesStatusGetter nodesStatusGetter;
+  private final EndpointBalancer httpBalancer;
+  private final EndpointBalancer grpcBalancer;
+  private final String httpPort;
+  private final String grpcPort;
+  private final ScheduledExecutorService executor;
+
+  /**
+   * @param httpClient   client sending discovery requests
+   * @param httpBalancer balancer of HTTP hosts, may be null
+   * @param grpcBalancer balancer of gRPC hosts, may be null
+   */
+  public NodesDiscovery(HttpClient httpClient, Config config, EndpointBalancer httpBalancer, EndpointBalancer grpcBalancer) {
+    this.nodesStatusGetter = new NodesStatusGetter(httpClient, config);
+    this.httpBalancer = httpBalancer;
+    this.grpcBalancer = grpcBalancer;
+    this.httpPort = port(config.getHost(), "https".equals(config.getScheme()) ? "443" : "80");
+    this.grpcPort = grpcBalancer != null ? port(grpcBalancer.getEndpoints().get(0).getAddress(), "80") : null;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "weaviate-nodes-discovery");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::discover, 0, config.getNodesDiscoveryInterval(), TimeUnit.SECONDS);
+  }
+
+  void discover() {
+    try {
+      Result<NodesStatusResponse> result = nodesStatusGetter.run();
+      if (result.hasErrors() || result.getResult() == null || result.getResult().getNodes() == null) {
+        return;
+      }
+      List<String> nodes = Arrays.stream(result.getResult().getNodes())
+        .filter(node -> NodesStatusResponse.Status.HEALTHY.equals(node.getStatus()))
+        .map(NodesStatusResponse.NodeStatus::getName)
+        .collect(Collectors.toList());
+      if (httpBalancer != null) {
+        httpBalancer.updateAddresses(withPort(nodes, httpPort));
+      }
+      if (grpcBalancer != null) {
+        grpcBalancer.updateAddresses(withPort(nodes, grpcPort));
+      }
+    } catch (RuntimeException e) {
+      // discovery is retried with next run, task would not be rescheduled if exception was thrown
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static List<String> withPort(List<String> nodes, String port) {
+    return nodes.stream().map(node -> node + ":" + port).collect(Collectors.toList());
+  }
+
+  private static String port(String address, String defaultPort) {
+    int colon = address.lastIndexOf(':');
+    if (colon < 0 || colon < address.lastIndexOf(']')) {
+      return defaultPort;
+    }
+    return address.substring(colon + 1);
+  }
+}
@@ -0,0 +1,13 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RoundRobinPolicy implements LoadBalancingPolicy {
+  private final AtomicInteger counter = new AtomicInteger();
+
+  @Override
+  public Endpoint select(List<Endpoint> endpoints) {
+    return endpoints.get(Math.floorMod(counter.getAndIncrement(), endpoints.size()));
+  }
+}
@@ -0,0 +1,198 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.v1.cluster.api.NodesStatusGetter;
+import io.weaviate.client.v1.cluster.model.NodeStatusOutput;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds nodes holding the shard a request reads from, so that it can be sent to one of them directly.
+ * <p>
+ * Shard ownership is read from /v1/nodes?output=verbose and cached for configured time. Only tenant scoped
+ * requests of /v1/objects are routed, as shards of multi tenant classes are named after tenants, while shards
+ * of other classes cannot be determined from object ids on the client side. Requests with node_name are
+ * routed to that node.
+ * <p>
+ * Stale ownership is refreshed in the background, started by the first request noticing it. Requests do not wait
+ * for the refresh, they keep using stale ownership meanwhile, and are not routed until the first refresh completes.
+ * Failed refresh is retried after {@link #FAILED_REFRESH_RETRY_DELAY_MS}, or after ttl if it is shorter.
+ */
+public class ShardRouter implements AutoCloseable {
+  static final long FAILED_REFRESH_RETRY_DELAY_MS = 5000;
+  private static final String OBJECTS_PATH_SEGMENT = "objects";
+
+  private final NodesStatusGetter nodesStatusGetter;
+  private final long ttlNanos;
+  private final long retryDelayNanos;
+  private final ExecutorService executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  // nodes by class and shard key
+  private volatile Map<String, Set<String>> owners = Collections.emptyMap();
+  // stale right away, so that the first request starts loading ownership
+  private volatile long nextRefreshAt = System.nanoTime();
+
+  public ShardRouter(HttpClient httpClient, Config config) {
+    this(httpClient, config, config.getShardRoutingTtl(), TimeUnit.SECONDS);
+  }
+
+  public ShardRouter(HttpClient httpClient, Config config, long ttl, TimeUnit ttlUnit) {
+    this(httpClient, config, ttlUnit.toNanos(ttl),
+      Math.min(ttlUnit.toNanos(ttl), TimeUnit.MILLISECONDS.toNanos(FAILED_REFRESH_RETRY_DELAY_MS)));
+  }
+
+  ShardRouter(HttpClient httpClient, Config config, long ttlNanos, long retryDelayNanos) {
+    this.nodesStatusGetter = new NodesStatusGetter(httpClient, config).withOutput(NodeStatusOutput.VERBOSE);
+    this.ttlNanos = ttlNanos;
+    this.retryDelayNanos = retryDelayNanos;
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "weaviate-shard-router");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Returns names of nodes request should be sent to, empty if any node can serve it.
+   *
+   * @param path request path with query, relative to host
+   */
+  public Set<String> route(String path) {
+    int queryStart = path.indexOf('?');
+    if (queryStart < 0) {
+      return Collections.emptySet();
+    }
+    Map<String, String> params = parseQuery(path.substring(queryStart + 1));
+    String nodeName = params.get("node_name");
+    if (nodeName != null) {
+      return Collections.singleton(nodeName);
+    }
+    String tenant = params.get("tenant");
+    if (tenant == null) {
+      return Collections.emptySet();
+    }
+    String className = params.get("class");
+    if (className == null) {
+      // /v1/objects/{className}/{id}
+      String[] segments = path.substring(0, queryStart).split("/");
+      if (segments.length >= 4 && OBJECTS_PATH_SEGMENT.equals(segments[2])) {
+        className = segments[3];
+      }
+    }
+    if (className == null) {
+      return Collections.emptySet();
+    }
+    return owners(className, tenant);
+  }
+
+  /**
+   * Returns names of nodes holding given shard, empty if not known.
+   */
+  public Set<String> owners(String className, String shard) {
+    refreshIfStale();
+    return owners.getOrDefault(key(className, shard), Collections.emptySet());
+  }
+
+  /**
+   * Stops background refresh, ownership known so far is kept.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private void refreshIfStale() {
+    if (isFresh() || !refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          refresh();
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // router is closed
+      refreshing.set(false);
+    }
+  }
+
+  private boolean isFresh() {
+    return System.nanoTime() - nextRefreshAt < 0;
+  }
+
+  void refresh() {
+    boolean refreshed = false;
+    try {
+      refreshed = load();
+    } catch (RuntimeException e) {
+      // retried like failed response
+    } finally {
+      // failed refresh is retried after a short delay, instead of with every request
+      nextRefreshAt = System.nanoTime() + (refreshed ? ttlNanos : retryDelayNanos);
+    }
+  }
+
+  private boolean load() {
+    Result<NodesStatusResponse> result = nodesStatusGetter.run();
+    if (result.hasErrors() || result.getResult() == null || result.getResult().getNodes() == null) {
+      return false;
+    }
+    Map<String, Set<String>> refreshed = new HashMap<>();
+    for (NodesStatusResponse.NodeStatus node : result.getResult().getNodes()) {
+      if (node.getShards() == null || !NodesStatusResponse.Status.HEALTHY.equals(node.getStatus())) {
+        continue;
+      }
+      for (NodesStatusResponse.ShardStatus shard : node.getShards()) {
+        if (shard.getClassName() == null || shard.getName() == null) {
+          continue;
+        }
+        refreshed.computeIfAbsent(key(shard.getClassName(), shard.getName()), k -> new HashSet<>()).add(node.getName());
+      }
+    }
+    owners = refreshed;
+    return true;
+  }
+
+  private static String key(String className, String shard) {
+    // class names are case insensitive
+    return className.toLowerCase(Locale.ROOT) + "/" + shard;
+  }
+
+  private static Map<String, String> parseQuery(String query) {
+    Map<String, String> params = new HashMap<>();
+    for (String param : query.split("&")) {
+      int separator = param.indexOf('=');
+      if (separator > 0) {
+        params.put(param.substring(0, separator), decode(param.substring(separator + 1)));
+      }
+    }
+    return params;
+  }
+
+  private static String decode(String value) {
+    try {
+      return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      // UTF-8 is always supported
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.weaviate.client.base.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.weaviate.client.base.balancer.Endpoint;
+import io.weaviate.client.base.balancer.EndpointBalancer;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Channel sending each call to an endpoint chosen by the balancer, over channels of the pool.
+ * Calls failing with UNAVAILABLE count as endpoint failures.
+ * Calls with {@link #FIRST_ENDPOINT} option avoid endpoint of the first call made with the same option.
+ */
+class BalancedChannel extends Channel {
+  /**
+   * Holder of the endpoint of the first call made with it. Later calls made with the same holder,
+   * like duplicates of hedged calls, are sent to other endpoints.
+   */
+  static final CallOptions.Key<AtomicReference<Endpoint>> FIRST_ENDPOINT = CallOptions.Key.create("weaviate-first-endpoint");
+
+  private final GrpcChannelPool pool;
+  private final EndpointBalancer balancer;
+
+  BalancedChannel(GrpcChannelPool pool, EndpointBalancer balancer) {
+    this.pool = pool;
+    this.balancer = balancer;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions) {
+    Endpoint endpoint = select(callOptions.getOption(FIRST_ENDPOINT));
+    ClientCall<ReqT, RespT> call = pool.getChannel(endpoint.getAddress()).newCall(method, callOptions);
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(call) {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        long start = endpoint.start();
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            endpoint.finish(start, status.getCode() == Status.Code.UNAVAILABLE);
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      }
+    };
+  }
+
+  private Endpoint select(AtomicReference<Endpoint> first) {
+    if (first == null) {
+      return balancer.select();
+    }
+    Endpoint excluded = first.get();
+    Endpoint endpoint = balancer.selectOther(excluded);
+    if (excluded == null) {
+      first.compareAndSet(null, endpoint);
+    }
+    return endpoint;
+  }
+
+  @Override
+  public String authority() {
+    return balancer.getEndpoints().get(0).getAddress();
+  }
+}
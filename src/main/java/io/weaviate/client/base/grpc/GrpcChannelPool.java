@@ -0,0 +1,195 @@
+package io.weaviate.client.base.grpc;
+
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.balancer.Endpoint;
+import io.weaviate.client.base.balancer.EndpointBalancer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps long-lived gRPC channels shared by all gRPC calls of a client.
+ * Channels are created lazily per gRPC target and closed when the pool is closed.
+ * <p>
+ * With gRPC hosts configured, calls are spread across them by an {@link EndpointBalancer}.
+ * Channels of targets removed from the balancer (e.g. nodes dropped by discovery) are shut down.
+ * <p>
+ * Discovered nodes are addressed by their names, which TLS certificate of the cluster may not cover.
+ * With secured gRPC, channels to discovered nodes keep configured gRPC host as their authority,
+ * so certificate is verified against the host the client was configured with.
+ */
+public class GrpcChannelPool implements AutoCloseable {
+
+  private static final int AWAIT_TERMINATION_SECONDS = 5;
+
+  private final Config config;
+  private final Map<String, ManagedChannel[]> channels;
+  private final AtomicInteger counter;
+  private final EndpointBalancer balancer;
+  private final Channel balancedChannel;
+  private final Set<String> configuredTargets;
+  private final String discoveredAuthority;
+  private volatile boolean closed;
+
+  public GrpcChannelPool(Config config) {
+    this.config = config;
+    this.channels = new ConcurrentHashMap<>();
+    this.counter = new AtomicInteger();
+    this.balancer = createBalancer(config);
+    this.balancedChannel = balancer != null ? new BalancedChannel(this, balancer) : null;
+    this.configuredTargets = balancer != null
+      ? balancer.getEndpoints().stream().map(Endpoint::getAddress).collect(Collectors.toSet())
+      : Collections.emptySet();
+    this.discoveredAuthority = config.getNodesDiscoveryInterval() > 0 && config.isGRPCSecured()
+      ? GrpcClient.getAddress(config)
+      : null;
+    if (balancer != null) {
+      balancer.addUpdateListener(this::retainTargets);
+    }
+  }
+
+  /**
+   * Returns balancer of gRPC hosts, null if calls are sent to a single gRPC host.
+   */
+  public EndpointBalancer getBalancer() {
+    return balancer;
+  }
+
+  /**
+   * Returns channel calls should be sent over. With gRPC hosts configured, each call is sent to
+   * one of them, otherwise to given target.
+   *
+   * @param target gRPC target in host:port form
+   * @return shared channel
+   */
+  public Channel channel(String target) {
+    if (balancedChannel != null) {
+      return balancedChannel;
+    }
+    return getChannel(target);
+  }
+
+  /**
+   * Returns one of the channels opened to given target, creating them if needed.
+   * If more than one channel per target is configured, channels are returned round-robin.
+   *
+   * @param target gRPC target in host:port form
+   * @return shared channel, which should not be shut down by the caller
+   */
+  public ManagedChannel getChannel(String target) {
+    if (closed) {
+      throw new IllegalStateException("gRPC channel pool is closed");
+    }
+    ManagedChannel[] targetChannels = channels.computeIfAbsent(target, this::createChannels);
+    if (targetChannels.length == 1) {
+      return targetChannels[0];
+    }
+    return targetChannels[Math.floorMod(counter.getAndIncrement(), targetChannels.length)];
+  }
+
+  /**
+   * Shuts down and removes channels of targets other than given endpoints. Calls already sent over them
+   * are completed, new calls are sent to remaining endpoints.
+   * <p>
+   * Called on every update of balanced endpoints, so channel recreated by a call racing with the update
+   * is removed with the next one.
+   */
+  void retainTargets(List<Endpoint> endpoints) {
+    Set<String> targets = endpoints.stream().map(Endpoint::getAddress).collect(Collectors.toSet());
+    channels.forEach((target, targetChannels) -> {
+      if (!targets.contains(target) && channels.remove(target, targetChannels)) {
+        for (ManagedChannel channel : targetChannels) {
+          channel.shutdown();
+        }
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    channels.values().forEach(targetChannels -> {
+      for (ManagedChannel channel : targetChannels) {
+        channel.shutdown();
+      }
+    });
+    channels.values().forEach(targetChannels -> {
+      for (ManagedChannel channel : targetChannels) {
+        awaitTermination(channel);
+      }
+    });
+    channels.clear();
+  }
+
+  private static EndpointBalancer createBalancer(Config config) {
+    List<String> hosts = config.getGRPCHosts();
+    if (hosts != null && !hosts.isEmpty()) {
+      return EndpointBalancer.create(hosts, config);
+    }
+    if (config.getNodesDiscoveryInterval() > 0 && config.useGRPC()) {
+      // discovered nodes replace configured host
+      return EndpointBalancer.create(Collections.singletonList(GrpcClient.getAddress(config)), config);
+    }
+    return null;
+  }
+
+  private ManagedChannel[] createChannels(String target) {
+    String authority = discoveredAuthority != null && !configuredTargets.contains(target) ? discoveredAuthority : null;
+    ManagedChannel[] targetChannels = new ManagedChannel[Math.max(1, config.getGRPCChannelPoolSize())];
+    for (int i = 0; i < targetChannels.length; i++) {
+      targetChannels[i] = createChannel(config, target, authority);
+    }
+    return targetChannels;
+  }
+
+  static ManagedChannel createChannel(Config config, String target) {
+    return createChannel(config, target, null);
+  }
+
+  /**
+   * @param authority authority used instead of the target, e.g. for TLS host name verification, null to use the target
+   */
+  static ManagedChannel createChannel(Config config, String target, String authority) {
+    NettyChannelBuilder channelBuilder = NettyChannelBuilder.forTarget(target);
+    if (authority != null) {
+      channelBuilder.overrideAuthority(authority);
+    }
+    if (config.isGRPCSecured()) {
+      channelBuilder.useTransportSecurity();
+    } else {
+      channelBuilder.usePlaintext();
+    }
+    if (config.getGRPCKeepAliveTime() > 0) {
+      channelBuilder.keepAliveTime(config.getGRPCKeepAliveTime(), TimeUnit.SECONDS);
+    }
+    if (config.getGRPCIdleTimeout() > 0) {
+      channelBuilder.idleTimeout(config.getGRPCIdleTimeout(), TimeUnit.SECONDS);
+    }
+    if (config.getGRPCMaxInboundMessageSize() > 0) {
+      channelBuilder.maxInboundMessageSize(config.getGRPCMaxInboundMessageSize());
+    }
+    if (config.getGRPCFlowControlWindow() > 0) {
+      channelBuilder.flowControlWindow(config.getGRPCFlowControlWindow());
+    }
+    return channelBuilder.build();
+  }
+
+  private static void awaitTermination(ManagedChannel channel) {
+    try {
+      if (!channel.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+        channel.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      channel.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,24 +1,40 @@
 package io.weaviate.client.base.grpc;
 
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.ForwardingClientCall;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
-import io.grpc.stub.MetadataUtils;
+import io.grpc.MethodDescriptor;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.StreamObserver;
 import io.weaviate.client.Config;
+import io.weaviate.client.base.balancer.HedgingPolicy;
 import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
 import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatchDelete;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class GrpcClient {
   WeaviateGrpc.WeaviateBlockingStub client;
+  WeaviateGrpc.WeaviateStub asyncClient;
+  // channel owned by this client, null if channel is shared
   ManagedChannel channel;
 
-  private GrpcClient(WeaviateGrpc.WeaviateBlockingStub client, ManagedChannel channel) {
+  private GrpcClient(WeaviateGrpc.WeaviateBlockingStub client, WeaviateGrpc.WeaviateStub asyncClient,
+                     ManagedChannel channel) {
     this.client = client;
+    this.asyncClient = asyncClient;
     this.channel = channel;
   }
 
@@ -26,33 +42,70 @@ public class GrpcClient {
     return this.client.batchObjects(request);
   }
 
-  public void shutdown() {
-    this.channel.shutdown();
+  /**
+   * Sends request without blocking. Many calls can be in flight at once, multiplexed over the same connection.
+   * Returned future is completed on gRPC callback thread.
+   */
+  public CompletableFuture<WeaviateProtoBatch.BatchObjectsReply> batchObjectsAsync(WeaviateProtoBatch.BatchObjectsRequest request) {
+    FutureObserver<WeaviateProtoBatch.BatchObjectsReply> observer = new FutureObserver<>();
+    this.asyncClient.batchObjects(request, observer);
+    return observer.future;
   }
 
-  public static GrpcClient create(Config config, AccessTokenProvider tokenProvider) {
-    Metadata headers = new Metadata();
-    if (config.getHeaders() != null) {
-      for (Map.Entry<String, String> e : config.getHeaders().entrySet()) {
-        headers.put(Metadata.Key.of(e.getKey(), Metadata.ASCII_STRING_MARSHALLER), e.getValue());
+  public WeaviateProtoSearchGet.SearchReply search(WeaviateProtoSearchGet.SearchRequest request) {
+    return this.client.search(request);
+  }
+
+  /**
+   * Searches with given hedging policy. With balanced channel, the duplicate is sent to another endpoint.
+   * Losing call is cancelled through its context.
+   */
+  public WeaviateProtoSearchGet.SearchReply search(WeaviateProtoSearchGet.SearchRequest request, HedgingPolicy policy) throws Exception {
+    WeaviateGrpc.WeaviateBlockingStub stub = this.client.withOption(BalancedChannel.FIRST_ENDPOINT, new AtomicReference<>());
+    return policy.execute((hedge, cancellation) -> {
+      Context.CancellableContext context = Context.current().withCancellation();
+      cancellation.onCancel(() -> context.cancel(null));
+      try {
+        return HedgingPolicy.Outcome.accepted(context.call(() -> stub.search(request)));
+      } finally {
+        context.cancel(null);
       }
+    });
+  }
+
+  public WeaviateProtoBatchDelete.BatchDeleteReply batchDelete(WeaviateProtoBatchDelete.BatchDeleteRequest request) {
+    return this.client.batchDelete(request);
+  }
+
+  public void shutdown() {
+    if (this.channel != null) {
+      this.channel.shutdown();
     }
-    if (tokenProvider != null) {
-      headers.put(Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER), String.format("Bearer %s", tokenProvider.getAccessToken()));
-    }
-    ManagedChannelBuilder<?> channelBuilder = ManagedChannelBuilder.forTarget(getAddress(config));
-    if (config.isGRPCSecured()) {
-      channelBuilder = channelBuilder.useTransportSecurity();
-    } else {
-      channelBuilder.usePlaintext();
-    }
-    ManagedChannel channel = channelBuilder.build();
-    WeaviateGrpc.WeaviateBlockingStub blockingStub = WeaviateGrpc.newBlockingStub(channel);
-    WeaviateGrpc.WeaviateBlockingStub client = blockingStub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
-    return new GrpcClient(client, channel);
   }
 
-  private static String getAddress(Config config) {
+  /**
+   * Creates client with its own channel, which should be closed with {@link #shutdown()}.
+   */
+  public static GrpcClient create(Config config, AccessTokenProvider tokenProvider) {
+    ManagedChannel channel = GrpcChannelPool.createChannel(config, getAddress(config));
+    return new GrpcClient(createStub(WeaviateGrpc.newBlockingStub(channel), config, tokenProvider),
+      createStub(WeaviateGrpc.newStub(channel), config, tokenProvider), channel);
+  }
+
+  /**
+   * Creates client using channel shared in given pool. Calling {@link #shutdown()} does not close shared channel.
+   */
+  public static GrpcClient create(Config config, AccessTokenProvider tokenProvider, GrpcChannelPool channelPool) {
+    Channel channel = channelPool.channel(getAddress(config));
+    return new GrpcClient(createStub(WeaviateGrpc.newBlockingStub(channel), config, tokenProvider),
+      createStub(WeaviateGrpc.newStub(channel), config, tokenProvider), null);
+  }
+
+  private static <S extends AbstractStub<S>> S createStub(S stub, Config config, AccessTokenProvider tokenProvider) {
+    return stub.withInterceptors(new HeadersInterceptor(config, tokenProvider));
+  }
+
+  static String getAddress(Config config) {
     if (config.getGRPCHost() != null) {
       String host = config.getGRPCHost();
       if (host.contains(":")) {
@@ -65,4 +118,61 @@ public class GrpcClient {
     }
     return "";
   }
+
+  private static class FutureObserver<R> implements StreamObserver<R> {
+    private final CompletableFuture<R> future = new CompletableFuture<>();
+
+    @Override
+    public void onNext(R value) {
+      future.complete(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      // unary call, reply is already passed to onNext
+    }
+  }
+
+  /**
+   * Attaches configured headers and current access token to every call.
+   * Token is read per call, so long-lived channels keep working after token is refreshed.
+   */
+  private static class HeadersInterceptor implements ClientInterceptor {
+    private final Config config;
+    private final AccessTokenProvider tokenProvider;
+
+    private HeadersInterceptor(Config config, AccessTokenProvider tokenProvider) {
+      this.config = config;
+      this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+      return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+          headers.merge(buildHeaders());
+          super.start(responseListener, headers);
+        }
+      };
+    }
+
+    private Metadata buildHeaders() {
+      Metadata headers = new Metadata();
+      if (config.getHeaders() != null) {
+        for (Map.Entry<String, String> e : config.getHeaders().entrySet()) {
+          headers.put(Metadata.Key.of(e.getKey(), Metadata.ASCII_STRING_MARSHALLER), e.getValue());
+        }
+      }
+      if (tokenProvider != null) {
+        headers.put(Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER), String.format("Bearer %s", tokenProvider.getAccessToken()));
+      }
+      return headers;
+    }
+  }
 }
@@ -0,0 +1,55 @@
+package io.weaviate.client.base.grpc;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Encodes and decodes little-endian packed numbers used by gRPC bytes fields
+ * (vector_bytes, number and int list values).
+ */
+public class VectorBytes {
+
+  private VectorBytes() {
+  }
+
+  public static ByteString fromFloats(Float[] vector) {
+    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (Float f : vector) {
+      buffer.putFloat(f);
+    }
+    buffer.flip();
+    return ByteString.copyFrom(buffer);
+  }
+
+  public static ByteString fromFloats(float[] vector) {
+    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asFloatBuffer().put(vector);
+    return ByteString.copyFrom(buffer);
+  }
+
+  public static float[] toFloats(ByteString bytes) {
+    FloatBuffer buffer = bytes.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+    float[] vector = new float[buffer.remaining()];
+    buffer.get(vector);
+    return vector;
+  }
+
+  public static double[] toDoubles(ByteString bytes) {
+    DoubleBuffer buffer = bytes.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    double[] values = new double[buffer.remaining()];
+    buffer.get(values);
+    return values;
+  }
+
+  public static long[] toLongs(ByteString bytes) {
+    LongBuffer buffer = bytes.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    long[] values = new long[buffer.remaining()];
+    buffer.get(values);
+    return values;
+  }
+}
@@ -0,0 +1,48 @@
+package io.weaviate.client.base.http;
+
+/**
+ * Cancel action of a single request, e.g. of an attempt of a hedged request. Action is run only if the request
+ * is still running when it is cancelled, right away if it is registered after that.
+ */
+public class Cancellation {
+  private Runnable action;
+  private boolean cancelled;
+  private boolean done;
+
+  /**
+   * Registers action aborting the request, like closing its connection.
+   */
+  public void onCancel(Runnable action) {
+    synchronized (this) {
+      if (!cancelled) {
+        this.action = action;
+        return;
+      }
+    }
+    action.run();
+  }
+
+  /**
+   * Runs registered action, unless request is already done or cancelled.
+   */
+  public void cancel() {
+    Runnable toRun;
+    synchronized (this) {
+      if (cancelled || done) {
+        return;
+      }
+      cancelled = true;
+      toRun = action;
+    }
+    if (toRun != null) {
+      toRun.run();
+    }
+  }
+
+  /**
+   * Marks request as done, completed request is not aborted anymore.
+   */
+  public synchronized void done() {
+    done = true;
+  }
+}
@@ -0,0 +1,13 @@
+package io.weaviate.client.base.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes request body directly to the output stream of the connection.
+ * Writer may be invoked more than once, e.g. when request is retried.
+ */
+@FunctionalInterface
+public interface HttpBodyWriter {
+  void writeTo(OutputStream out) throws IOException;
+}
@@ -1,5 +1,10 @@
 package io.weaviate.client.base.http;
 
+import io.weaviate.client.base.balancer.HedgingPolicy;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
 public interface HttpClient {
   HttpResponse sendGetRequest(String url) throws Exception;
   HttpResponse sendPostRequest(String url, String json) throws Exception;
@@ -7,4 +12,87 @@ public interface HttpClient {
   HttpResponse sendPatchRequest(String url, String json) throws Exception;
   HttpResponse sendDeleteRequest(String url, String json) throws Exception;
   HttpResponse sendHeadRequest(String url) throws Exception;
+
+  /**
+   * Sends POST, PUT, PATCH or DELETE request with json body written by given writer.
+   * <p>
+   * Default implementation buffers the body and delegates to string based methods.
+   * Implementations should override it to stream the body straight to the connection.
+   */
+  default HttpResponse sendRequest(String url, String method, HttpBodyWriter body) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    switch (method) {
+      case "POST":
+        return sendPostRequest(url, json);
+      case "PUT":
+        return sendPutRequest(url, json);
+      case "PATCH":
+        return sendPatchRequest(url, json);
+      case "DELETE":
+        return sendDeleteRequest(url, json);
+      default:
+        throw new IllegalArgumentException(String.format("method %s does not support request body", method));
+    }
+  }
+
+  /**
+   * Sends request and passes response body to given handler as a stream, without materializing it as String.
+   * Body writer is null for requests without payload.
+   * <p>
+   * Default implementation delegates to string based methods and wraps returned body in a reader.
+   */
+  default <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler) throws Exception {
+    HttpResponse response;
+    if (body != null) {
+      response = sendRequest(url, method, body);
+    } else {
+      switch (method) {
+        case "POST":
+          response = sendPostRequest(url, null);
+          break;
+        case "PUT":
+          response = sendPutRequest(url, null);
+          break;
+        case "PATCH":
+          response = sendPatchRequest(url, null);
+          break;
+        case "DELETE":
+          response = sendDeleteRequest(url, null);
+          break;
+        case "HEAD":
+          response = sendHeadRequest(url);
+          break;
+        default:
+          response = sendGetRequest(url);
+      }
+    }
+    String responseBody = response.getBody() != null ? response.getBody() : "";
+    return handler.handle(response.getStatusCode(), new StringReader(responseBody));
+  }
+
+  /**
+   * Sends request like {@link #sendRequest(String, String, HttpBodyWriter, HttpResponseHandler)}, registering
+   * action aborting it with given cancellation, so that request of losing hedged attempt releases its connection.
+   * <p>
+   * Default implementation does not register any action, request is only interrupted.
+   */
+  default <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                            Cancellation cancellation) throws Exception {
+    return sendRequest(url, method, body, handler);
+  }
+
+  /**
+   * Sends read-only request with given hedging policy: if response is slow, request is sent once more
+   * and the first response other than a server error wins.
+   * <p>
+   * Default implementation sends the duplicate to the same url. Implementations spreading requests
+   * across endpoints should override it to send the duplicate to another one.
+   */
+  default <R> R sendHedgedRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                                  HedgingPolicy policy) throws Exception {
+    return policy.execute((hedge, cancellation) -> sendRequest(url, method, body,
+      HedgingPolicy.outcomeHandler(handler), cancellation));
+  }
 }
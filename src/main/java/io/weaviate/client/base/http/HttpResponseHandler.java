@@ -0,0 +1,23 @@
+package io.weaviate.client.base.http;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Function;
+
+/**
+ * Consumes response body as a stream. Body reader is valid only until handler returns.
+ */
+@FunctionalInterface
+public interface HttpResponseHandler<R> {
+  R handle(int statusCode, Reader body) throws IOException;
+
+  /**
+   * Consumes response with access to its headers. Clients able to read response headers call this method,
+   * default implementation ignores them.
+   *
+   * @param headers returns value of the first header with given name, null if there is none
+   */
+  default R handle(int statusCode, Reader body, Function<String, String> headers) throws IOException {
+    return handle(statusCode, body);
+  }
+}
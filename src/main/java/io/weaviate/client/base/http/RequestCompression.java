@@ -0,0 +1,82 @@
+package io.weaviate.client.base.http;
+
+import io.weaviate.client.Config;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+
+/**
+ * Gzip compression of request bodies. Bodies smaller than threshold are sent as they are.
+ */
+@Getter
+public class RequestCompression {
+  public static final String GZIP = "gzip";
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int threshold;
+  private final int level;
+
+  public RequestCompression(int threshold, int level) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("threshold should be greater than or equal 0");
+    }
+    if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+      throw new IllegalArgumentException(String.format("level should be between %d and %d, or %d",
+        Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION, Deflater.DEFAULT_COMPRESSION));
+    }
+    this.threshold = threshold;
+    this.level = level;
+  }
+
+  /**
+   * Returns compression configured in given config, null if request compression is disabled.
+   */
+  public static RequestCompression of(Config config) {
+    return config.isRequestCompression()
+      ? new RequestCompression(config.getRequestCompressionThreshold(), config.getRequestCompressionLevel())
+      : null;
+  }
+
+  public boolean shouldCompress(long length) {
+    return length >= threshold;
+  }
+
+  public byte[] compress(byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, body.length / 4));
+    try (OutputStream gzip = compressing(out)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      // not thrown by in-memory streams
+      throw new IllegalStateException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Wraps given stream so that written bytes are compressed. Returned stream has to be closed
+   * to write gzip trailer, given stream is flushed but left open.
+   */
+  public OutputStream compressing(OutputStream out) throws IOException {
+    OutputStream target = new FilterOutputStream(out) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        flush();
+      }
+    };
+    return new GZIPOutputStream(target, BUFFER_SIZE) {
+      {
+        def.setLevel(level);
+      }
+    };
+  }
+}
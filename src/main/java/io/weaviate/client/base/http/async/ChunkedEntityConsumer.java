@@ -0,0 +1,53 @@
+package io.weaviate.client.base.http.async;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+
+/**
+ * Collects response body as list of received chunks and exposes them as a single stream.
+ * Unlike {@link org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer} content is never copied
+ * into one growing array, so large responses can be handed over to the parser without extra copies.
+ */
+public class ChunkedEntityConsumer extends AbstractBinAsyncEntityConsumer<InputStream> {
+  private final List<byte[]> chunks = new ArrayList<>();
+
+  @Override
+  protected void streamStart(ContentType contentType) {
+  }
+
+  @Override
+  protected int capacityIncrement() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  protected void data(ByteBuffer src, boolean endOfStream) {
+    if (src == null || !src.hasRemaining()) {
+      return;
+    }
+    byte[] chunk = new byte[src.remaining()];
+    src.get(chunk);
+    chunks.add(chunk);
+  }
+
+  @Override
+  protected InputStream generateContent() {
+    List<InputStream> streams = new ArrayList<>(chunks.size());
+    for (byte[] chunk : chunks) {
+      streams.add(new ByteArrayInputStream(chunk));
+    }
+    return new SequenceInputStream(Collections.enumeration(streams));
+  }
+
+  @Override
+  public void releaseResources() {
+    chunks.clear();
+  }
+}
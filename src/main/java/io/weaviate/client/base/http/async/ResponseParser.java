@@ -2,6 +2,11 @@ package io.weaviate.client.base.http.async;
 
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.Serializer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpResponse;
 
@@ -13,4 +18,23 @@ public abstract class ResponseParser<T> {
   }
 
   public abstract Result<T> parse(HttpResponse response, String body, ContentType contentType);
+
+  /**
+   * Parses response body stream. By default body is read into String and passed to
+   * {@link #parse(HttpResponse, String, ContentType)}; parsers handling large payloads
+   * should override it and read the stream directly.
+   */
+  public Result<T> parse(HttpResponse response, InputStream body, ContentType contentType) {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return parse(response, new String(out.toByteArray(), StandardCharsets.UTF_8), contentType);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
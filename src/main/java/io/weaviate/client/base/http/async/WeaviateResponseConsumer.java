@@ -2,34 +2,93 @@ package io.weaviate.client.base.http.async;
 
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.Serializer;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.retry.RetryAfter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpResponse;
-import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
 import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
 import org.apache.hc.core5.http.protocol.HttpContext;
 
-public class WeaviateResponseConsumer<T> extends AbstractAsyncResponseConsumer<Result<T>, byte[]> {
+public class WeaviateResponseConsumer<T> extends AbstractAsyncResponseConsumer<Result<T>, InputStream> {
   private final Serializer serializer;
   private final Class<T> classOfT;
   private final ResponseParser<T> parser;
+  private volatile int statusCode;
+  private volatile Long retryAfterMs;
 
   public WeaviateResponseConsumer(Class<T> classOfT, ResponseParser<T> parser) {
-    super(new BasicAsyncEntityConsumer());
+    super(new ChunkedEntityConsumer());
     this.serializer = new Serializer();
     this.classOfT = classOfT;
     this.parser = parser;
   }
 
   @Override
-  protected Result<T> buildResult(HttpResponse response, byte[] entity, ContentType contentType) {
-    String body = new String(entity, StandardCharsets.UTF_8);
+  protected Result<T> buildResult(HttpResponse response, InputStream entity, ContentType contentType) {
+    statusCode = response.getCode();
+    Header retryAfter = response.getFirstHeader(RetryAfter.HEADER);
+    retryAfterMs = retryAfter != null ? RetryAfter.parseMillis(retryAfter.getValue()) : null;
+    InputStream body;
+    try {
+      body = entity != null ? decode(response, entity) : new ByteArrayInputStream(new byte[0]);
+    } catch (IOException e) {
+      WeaviateErrorMessage message = WeaviateErrorMessage.builder()
+        .message(String.format("could not decompress response: %s", e.getMessage()))
+        .throwable(e)
+        .build();
+      return new Result<>(response.getCode(), null,
+        WeaviateErrorResponse.builder().error(Collections.singletonList(message)).build());
+    }
     if (this.parser != null) {
       return this.parser.parse(response, body, contentType);
     }
-    return serializer.toResult(response.getCode(), body, classOfT);
+    return serializer.toResult(response.getCode(), new InputStreamReader(body, StandardCharsets.UTF_8), classOfT);
+  }
+
+  /**
+   * Status code of the consumed response, 0 before it is consumed.
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Delay in milliseconds requested by Retry-After header of the consumed response, null if there was none.
+   */
+  public Long getRetryAfterMs() {
+    return retryAfterMs;
+  }
+
+  /**
+   * Async client does not decompress responses, body is decoded here according to its Content-Encoding.
+   */
+  private static InputStream decode(HttpResponse response, InputStream entity) throws IOException {
+    Header encoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+    if (encoding == null) {
+      return entity;
+    }
+    switch (encoding.getValue().trim().toLowerCase(Locale.ROOT)) {
+      case "gzip":
+      case "x-gzip":
+        return new GZIPInputStream(entity);
+      case "deflate":
+        return new InflaterInputStream(entity);
+      default:
+        return entity;
+    }
   }
 
   @Override
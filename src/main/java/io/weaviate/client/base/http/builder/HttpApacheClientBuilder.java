@@ -3,9 +3,13 @@ package io.weaviate.client.base.http.builder;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
 import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 public class HttpApacheClientBuilder {
@@ -14,7 +18,6 @@ public class HttpApacheClientBuilder {
 
   public static CommonsHttpClientImpl.CloseableHttpClientBuilder build(Config config) {
     RequestConfig.Builder requestConfigBuilder = RequestConfig.custom()
-      .setConnectTimeout(Timeout.of(config.getConnectionTimeout(), TimeUnit.SECONDS))
       .setConnectionRequestTimeout(Timeout.of(config.getConnectionRequestTimeout(), TimeUnit.SECONDS))
       .setResponseTimeout(Timeout.of(config.getSocketTimeout(), TimeUnit.SECONDS));
 
@@ -23,6 +26,34 @@ public class HttpApacheClientBuilder {
     }
 
     RequestConfig requestConfig = requestConfigBuilder.build();
-    return HttpClientBuilder.create().setDefaultRequestConfig(requestConfig)::build;
+    return () -> {
+      HttpClientBuilder clientBuilder = HttpClientBuilder.create()
+        .setDefaultRequestConfig(requestConfig)
+        .setConnectionManager(createConnectionManager(config))
+        .evictExpiredConnections();
+      if (!config.isResponseCompression()) {
+        // Accept-Encoding is sent and responses are decompressed by default
+        clientBuilder.disableContentCompression();
+      }
+      if (config.getConnectionIdleEvictionTime() > 0) {
+        clientBuilder.evictIdleConnections(TimeValue.of(config.getConnectionIdleEvictionTime(), TimeUnit.SECONDS));
+      }
+      return clientBuilder.build();
+    };
+  }
+
+  private static PoolingHttpClientConnectionManager createConnectionManager(Config config) {
+    ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom()
+      .setConnectTimeout(Timeout.of(config.getConnectionTimeout(), TimeUnit.SECONDS))
+      .setSocketTimeout(Timeout.of(config.getSocketTimeout(), TimeUnit.SECONDS));
+    if (config.getConnectionTimeToLive() > 0) {
+      connectionConfigBuilder.setTimeToLive(TimeValue.of(config.getConnectionTimeToLive(), TimeUnit.SECONDS));
+    }
+
+    return PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(config.getMaxConnections())
+      .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+      .setDefaultConnectionConfig(connectionConfigBuilder.build())
+      .build();
   }
 }
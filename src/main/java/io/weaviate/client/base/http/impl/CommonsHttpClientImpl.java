@@ -1,13 +1,29 @@
 package io.weaviate.client.base.http.impl;
 
+import io.weaviate.client.base.http.Cancellation;
+import io.weaviate.client.base.http.HttpBodyWriter;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import io.weaviate.client.base.http.RequestCompression;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpHead;
@@ -17,24 +33,48 @@ import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicClassicHttpRequest;
+import org.apache.hc.core5.io.CloseMode;
 
 public class CommonsHttpClientImpl implements HttpClient, Closeable {
   private final Map<String, String> headers;
   private AccessTokenProvider tokenProvider;
   private final CloseableHttpClientBuilder clientBuilder;
+  private final boolean chunkedRequestBody;
+  private final RequestCompression requestCompression;
+  private volatile CloseableHttpClient client;
 
   public CommonsHttpClientImpl(Map<String, String> headers, CloseableHttpClientBuilder clientBuilder) {
     this(headers, null, clientBuilder);
   }
 
   public CommonsHttpClientImpl(Map<String, String> headers, AccessTokenProvider tokenProvider, CloseableHttpClientBuilder clientBuilder) {
+    this(headers, tokenProvider, clientBuilder, false);
+  }
+
+  public CommonsHttpClientImpl(Map<String, String> headers, AccessTokenProvider tokenProvider, CloseableHttpClientBuilder clientBuilder,
+                               boolean chunkedRequestBody) {
+    this(headers, tokenProvider, clientBuilder, chunkedRequestBody, null);
+  }
+
+  /**
+   * @param requestCompression compression of request bodies, null to send them uncompressed
+   */
+  public CommonsHttpClientImpl(Map<String, String> headers, AccessTokenProvider tokenProvider, CloseableHttpClientBuilder clientBuilder,
+                               boolean chunkedRequestBody, RequestCompression requestCompression) {
     this.headers = headers;
     this.clientBuilder = clientBuilder;
     this.tokenProvider = tokenProvider;
+    this.chunkedRequestBody = chunkedRequestBody;
+    this.requestCompression = requestCompression;
   }
 
   @Override
@@ -70,6 +110,93 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
     return sendRequestWithoutPayload(new HttpHead(url));
   }
 
+  @Override
+  public HttpResponse sendRequest(String url, String method, HttpBodyWriter body) throws Exception {
+    return sendRequest(createRequestWithBody(url, method, body));
+  }
+
+  @Override
+  public <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler) throws Exception {
+    return sendRequest(url, method, body, handler, null);
+  }
+
+  /**
+   * Registers aborting the request with given cancellation. Aborted request closes its connection,
+   * releasing it from the pool even while blocked reading the response.
+   */
+  @Override
+  public <R> R sendRequest(String url, String method, HttpBodyWriter body, HttpResponseHandler<R> handler,
+                           Cancellation cancellation) throws Exception {
+    BasicClassicHttpRequest request;
+    if (body != null) {
+      request = createRequestWithBody(url, method, body);
+    } else {
+      request = createRequestWithoutBody(url, method);
+      request.setHeader(HttpHeaders.ACCEPT, "*/*");
+    }
+    addHeaders(request);
+    if (cancellation != null && request instanceof Cancellable) {
+      cancellation.onCancel(((Cancellable) request)::cancel);
+    }
+
+    // response has to be closed to release the connection back to the pool
+    try (CloseableHttpResponse response = getClient().execute(request)) {
+      Function<String, String> headers = name -> {
+        Header header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+      };
+      HttpEntity entity = response.getEntity();
+      if (entity == null) {
+        return handler.handle(response.getCode(), new StringReader(""), headers);
+      }
+      R result = handler.handle(response.getCode(), new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8), headers);
+      // read whatever parser left, so that connection can be reused
+      EntityUtils.consume(entity);
+      return result;
+    }
+  }
+
+  private BasicClassicHttpRequest createRequestWithBody(String url, String method, HttpBodyWriter body) {
+    BasicClassicHttpRequest request;
+    switch (method) {
+      case "POST":
+        request = new HttpPost(url);
+        break;
+      case "PUT":
+        request = new HttpPut(url);
+        break;
+      case "PATCH":
+        request = new HttpPatch(url);
+        break;
+      case "DELETE":
+        request = new HttpDeleteWithBody(url);
+        break;
+      default:
+        throw new IllegalArgumentException(String.format("method %s does not support request body", method));
+    }
+    request.setHeader(HttpHeaders.ACCEPT, "application/json");
+    request.setHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+    request.setEntity(new JsonWriterEntity(body, chunkedRequestBody, requestCompression));
+    return request;
+  }
+
+  private BasicClassicHttpRequest createRequestWithoutBody(String url, String method) {
+    switch (method) {
+      case "POST":
+        return new HttpPost(url);
+      case "PUT":
+        return new HttpPut(url);
+      case "PATCH":
+        return new HttpPatch(url);
+      case "DELETE":
+        return new HttpDelete(url);
+      case "HEAD":
+        return new HttpHead(url);
+      default:
+        return new HttpGet(url);
+    }
+  }
+
   private HttpResponse sendRequestWithoutPayload(BasicClassicHttpRequest request) throws Exception {
     request.setHeader(HttpHeaders.ACCEPT, "*/*");
     return sendRequest(request);
@@ -78,28 +205,60 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
   private HttpResponse sendRequestWithPayload(BasicClassicHttpRequest request, String jsonString) throws Exception {
     request.setHeader(HttpHeaders.ACCEPT, "application/json");
     request.setHeader(HttpHeaders.CONTENT_TYPE, "application/json");
-    request.setEntity(new StringEntity(jsonString, StandardCharsets.UTF_8));
+    request.setEntity(createEntity(jsonString));
     return sendRequest(request);
   }
 
+  private HttpEntity createEntity(String jsonString) {
+    if (requestCompression != null) {
+      byte[] body = jsonString.getBytes(StandardCharsets.UTF_8);
+      if (requestCompression.shouldCompress(body.length)) {
+        // Content-Encoding header is added from the entity when request is sent
+        return new ByteArrayEntity(requestCompression.compress(body), ContentType.APPLICATION_JSON, RequestCompression.GZIP);
+      }
+    }
+    return new StringEntity(jsonString, StandardCharsets.UTF_8);
+  }
+
   private HttpResponse sendRequest(BasicClassicHttpRequest request) throws Exception {
+    addHeaders(request);
+
+    // response has to be closed to release the connection back to the pool
+    try (CloseableHttpResponse response = getClient().execute(request)) {
+      int statusCode = response.getCode();
+      String body = response.getEntity() != null
+        ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
+        : "";
+
+      return new HttpResponse(statusCode, body);
+    }
+  }
+
+  private void addHeaders(BasicClassicHttpRequest request) {
     if (headers != null && headers.size() > 0) {
       headers.forEach(request::addHeader);
     }
     if (tokenProvider != null) {
       request.addHeader("Authorization", String.format("Bearer %s", tokenProvider.getAccessToken()));
     }
+  }
 
-    CloseableHttpClient client = clientBuilder.build();
-    CloseableHttpResponse response = client.execute(request);
-
-    int statusCode = response.getCode();
-    String body = response.getEntity() != null
-      ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
-      : "";
-    client.close();
-
-    return new HttpResponse(statusCode, body);
+  /**
+   * Returns http client shared by all requests, so that pooled connections are kept alive between calls.
+   * Client is created lazily on first request.
+   */
+  private CloseableHttpClient getClient() {
+    CloseableHttpClient current = client;
+    if (current == null) {
+      synchronized (this) {
+        current = client;
+        if (current == null) {
+          current = clientBuilder.build();
+          client = current;
+        }
+      }
+    }
+    return current;
   }
 
   @Override
@@ -107,6 +266,12 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
     if (tokenProvider != null) {
       tokenProvider.shutdown();
     }
+    synchronized (this) {
+      if (client != null) {
+        client.close(CloseMode.GRACEFUL);
+        client = null;
+      }
+    }
   }
 
   private static class HttpDeleteWithBody extends HttpUriRequestBase {
@@ -115,6 +280,219 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
     }
   }
 
+  /**
+   * Entity writing json straight to the connection's output stream.
+   * If not chunked, body is buffered once to compute Content-Length, and compressed if it reaches the threshold.
+   * If chunked, body is written up to the threshold first to decide on compression. Smaller bodies are kept
+   * and sent as they are, larger ones are written again, gzipped while streamed to the connection.
+   */
+  private static class JsonWriterEntity implements HttpEntity {
+    private final HttpBodyWriter body;
+    private final boolean chunked;
+    private final RequestCompression compression;
+    // decided before headers are sent, as Content-Encoding depends on it
+    private Boolean compressed;
+    // body as sent, null if it is streamed
+    private BodyBuffer buffered;
+
+    private JsonWriterEntity(HttpBodyWriter body, boolean chunked, RequestCompression compression) {
+      this.body = body;
+      this.chunked = chunked;
+      this.compression = compression;
+    }
+
+    @Override
+    public long getContentLength() {
+      if (chunked) {
+        return -1;
+      }
+      prepare();
+      return buffered.size();
+    }
+
+    @Override
+    public String getContentType() {
+      return ContentType.APPLICATION_JSON.toString();
+    }
+
+    @Override
+    public String getContentEncoding() {
+      prepare();
+      return compressed ? RequestCompression.GZIP : null;
+    }
+
+    @Override
+    public boolean isChunked() {
+      return chunked;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public Supplier<List<? extends Header>> getTrailers() {
+      return null;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      prepare();
+      if (buffered != null) {
+        return buffered.toInputStream();
+      }
+      BodyBuffer out = new BodyBuffer();
+      writeBody(out);
+      return out.toInputStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      prepare();
+      if (buffered != null) {
+        buffered.writeTo(out);
+      } else {
+        writeBody(out);
+      }
+      out.flush();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+      return false;
+    }
+
+    @Override
+    public void close() {
+      compressed = null;
+      buffered = null;
+    }
+
+    private void prepare() {
+      if (compressed != null) {
+        return;
+      }
+      try {
+        if (!chunked) {
+          BodyBuffer out = new BodyBuffer();
+          body.writeTo(out);
+          compressed = compression != null && compression.shouldCompress(out.size());
+          buffered = compressed ? compress(out) : out;
+        } else if (compression == null) {
+          compressed = false;
+        } else {
+          prepareChunked();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void prepareChunked() throws IOException {
+      ThresholdBuffer out = new ThresholdBuffer(compression.getThreshold());
+      try {
+        body.writeTo(out);
+      } catch (IOException | RuntimeException e) {
+        if (!ThresholdBuffer.isReached(e)) {
+          throw e;
+        }
+        // body is large enough, prefix written so far is dropped
+        compressed = true;
+        return;
+      }
+      compressed = compression.shouldCompress(out.size());
+      buffered = compressed ? compress(out) : out;
+    }
+
+    private BodyBuffer compress(BodyBuffer uncompressed) throws IOException {
+      BodyBuffer out = new BodyBuffer(Math.max(32, uncompressed.size() / 4));
+      try (OutputStream gzip = compression.compressing(out)) {
+        uncompressed.writeTo(gzip);
+      }
+      return out;
+    }
+
+    private void writeBody(OutputStream out) throws IOException {
+      if (!compressed) {
+        body.writeTo(out);
+        return;
+      }
+      try (OutputStream gzip = compression.compressing(out)) {
+        body.writeTo(gzip);
+      }
+    }
+  }
+
+  /**
+   * Buffer of request body, read and written without copying its content to a new array.
+   */
+  private static class BodyBuffer extends ByteArrayOutputStream {
+
+    private BodyBuffer() {
+    }
+
+    private BodyBuffer(int size) {
+      super(size);
+    }
+
+    private InputStream toInputStream() {
+      return new ByteArrayInputStream(buf, 0, count);
+    }
+  }
+
+  /**
+   * Buffer stopping the writer with {@link ThresholdReachedException} once given number of bytes is written.
+   */
+  private static class ThresholdBuffer extends BodyBuffer {
+    private final int threshold;
+
+    private ThresholdBuffer(int threshold) {
+      this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) {
+      checkThreshold(1);
+      super.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      checkThreshold(len);
+      super.write(b, off, len);
+    }
+
+    private void checkThreshold(int len) {
+      if (count + len >= threshold) {
+        throw new ThresholdReachedException();
+      }
+    }
+
+    /**
+     * Exception may reach the caller wrapped, e.g. by json writer.
+     */
+    private static boolean isReached(Throwable e) {
+      for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof ThresholdReachedException) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static class ThresholdReachedException extends RuntimeException {
+    private ThresholdReachedException() {
+      super("request compression threshold reached", null, false, false);
+    }
+  }
+
   public interface CloseableHttpClientBuilder {
     CloseableHttpClient build();
   }
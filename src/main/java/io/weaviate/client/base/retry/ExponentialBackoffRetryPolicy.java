@@ -0,0 +1,141 @@
+package io.weaviate.client.base.retry;
+
+import io.weaviate.client.base.util.Assert;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * Retries requests failed with I/O errors or with one of given statuses, waiting a random time between 0
+ * and a cap doubling with each attempt (exponential backoff with full jitter). Longer delay requested
+ * by Retry-After header is respected, unless it exceeds maxDelayMs, in which case request is not retried.
+ * <p>
+ * Requests which are not idempotent are retried only when server rejected them with 429 Too Many Requests,
+ * unless retryNonIdempotent is set.
+ * <p>
+ * Retries are limited by a budget, earning retryBudgetRatio of a retry with every request, so that
+ * retries cannot multiply load of an overloaded server. Budget starts with, and is capped at, a burst
+ * of {@link #RETRY_BUDGET_BURST} retries.
+ */
+@Getter
+@ToString(exclude = "credits")
+@EqualsAndHashCode(exclude = "credits")
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+  public static final int MAX_ATTEMPTS = 3;
+  public static final int BASE_DELAY = 100;
+  public static final int MAX_DELAY = 5000;
+  public static final double RETRY_BUDGET_RATIO = 0.1;
+  public static final int RETRY_BUDGET_BURST = 10;
+  public static final Set<Integer> RETRY_ON_STATUS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+    HttpStatus.SC_TOO_MANY_REQUESTS, HttpStatus.SC_BAD_GATEWAY, HttpStatus.SC_SERVICE_UNAVAILABLE,
+    HttpStatus.SC_GATEWAY_TIMEOUT)));
+  // budget is kept in thousandths of a retry, to account fractions without floating point
+  private static final long RETRY_COST = 1000;
+
+  /**
+   * Maximal number of attempts, including the first one.
+   */
+  int maxAttempts;
+  int baseDelayMs;
+  int maxDelayMs;
+  Set<Integer> retryOnStatus;
+  boolean retryNonIdempotent;
+  /**
+   * Fraction of requests which can be retried, besides the burst.
+   */
+  double retryBudgetRatio;
+  @Getter(AccessLevel.NONE)
+  long creditPerRequest;
+  @Getter(AccessLevel.NONE)
+  AtomicLong credits;
+
+  @Builder
+  private ExponentialBackoffRetryPolicy(int maxAttempts, int baseDelayMs, int maxDelayMs, Set<Integer> retryOnStatus,
+                                        boolean retryNonIdempotent, double retryBudgetRatio) {
+    Assert.requireGreater(maxAttempts, 0, "maxAttempts");
+    Assert.requireGreater(baseDelayMs, 0, "baseDelayMs");
+    Assert.requireGreaterEqual(maxDelayMs, baseDelayMs, "maxDelayMs");
+    Assert.requiredNotNull(retryOnStatus, "retryOnStatus");
+    if (retryBudgetRatio < 0) {
+      throw new IllegalArgumentException("retryBudgetRatio should be greater than or equal 0");
+    }
+
+    this.maxAttempts = maxAttempts;
+    this.baseDelayMs = baseDelayMs;
+    this.maxDelayMs = maxDelayMs;
+    this.retryOnStatus = Collections.unmodifiableSet(new HashSet<>(retryOnStatus));
+    this.retryNonIdempotent = retryNonIdempotent;
+    this.retryBudgetRatio = retryBudgetRatio;
+    this.creditPerRequest = Math.round(retryBudgetRatio * RETRY_COST);
+    this.credits = new AtomicLong(RETRY_BUDGET_BURST * RETRY_COST);
+  }
+
+  public static ExponentialBackoffRetryPolicyBuilder defaultConfig() {
+    return ExponentialBackoffRetryPolicy.builder()
+      .maxAttempts(MAX_ATTEMPTS)
+      .baseDelayMs(BASE_DELAY)
+      .maxDelayMs(MAX_DELAY)
+      .retryOnStatus(RETRY_ON_STATUS)
+      .retryBudgetRatio(RETRY_BUDGET_RATIO);
+  }
+
+  @Override
+  public void onRequest() {
+    credits.accumulateAndGet(creditPerRequest, (current, credit) -> Math.min(current + credit, RETRY_BUDGET_BURST * RETRY_COST));
+  }
+
+  @Override
+  public long retryDelay(RetryAttempt attempt) {
+    if (attempt.getAttempt() >= maxAttempts || !isRetryable(attempt)) {
+      return NO_RETRY;
+    }
+    Long retryAfter = attempt.getRetryAfterMs();
+    if (retryAfter != null && retryAfter > maxDelayMs) {
+      return NO_RETRY;
+    }
+    if (!spendCredit()) {
+      return NO_RETRY;
+    }
+    long cap = Math.min(maxDelayMs, (long) baseDelayMs << Math.min(attempt.getAttempt() - 1, 30));
+    long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+    return retryAfter != null ? Math.max(delay, retryAfter) : delay;
+  }
+
+  private boolean isRetryable(RetryAttempt attempt) {
+    boolean idempotent = attempt.isIdempotent() || retryNonIdempotent;
+    // received response is judged by its status, even if reading its body failed
+    if (attempt.getStatusCode() == 0) {
+      // request might have been processed before connection failed
+      return idempotent && attempt.getError() instanceof IOException;
+    }
+    if (!retryOnStatus.contains(attempt.getStatusCode())) {
+      return false;
+    }
+    return idempotent || attempt.getStatusCode() == HttpStatus.SC_TOO_MANY_REQUESTS;
+  }
+
+  private boolean spendCredit() {
+    while (true) {
+      long current = credits.get();
+      if (current < RETRY_COST) {
+        return false;
+      }
+      if (credits.compareAndSet(current, current - RETRY_COST)) {
+        return true;
+      }
+    }
+  }
+}
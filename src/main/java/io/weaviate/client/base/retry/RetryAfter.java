@@ -0,0 +1,42 @@
+package io.weaviate.client.base.retry;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses Retry-After header, given either as number of seconds or as HTTP date.
+ */
+public class RetryAfter {
+
+  public static final String HEADER = "Retry-After";
+
+  private RetryAfter() {
+  }
+
+  /**
+   * @return delay in milliseconds, null if header is missing or invalid
+   */
+  public static Long parseMillis(String value) {
+    return parseMillis(value, System.currentTimeMillis());
+  }
+
+  static Long parseMillis(String value, long nowMillis) {
+    if (value == null || value.trim().isEmpty()) {
+      return null;
+    }
+    String trimmed = value.trim();
+    try {
+      long seconds = Long.parseLong(trimmed);
+      return seconds >= 0 ? seconds * 1000 : null;
+    } catch (NumberFormatException e) {
+      // not delay in seconds, should be HTTP date
+    }
+    try {
+      long at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+      return Math.max(at - nowMillis, 0);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package io.weaviate.client.base.retry;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Outcome of a single attempt of a request, passed to {@link RetryPolicy}.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class RetryAttempt {
+  /**
+   * Number of attempts made so far, 1 after the request is sent for the first time.
+   */
+  int attempt;
+  String method;
+  /**
+   * Whether request can be safely sent more than once, e.g. GET or read-only POST like GraphQL query.
+   */
+  boolean idempotent;
+  /**
+   * Response status code, 0 if no response was received.
+   */
+  int statusCode;
+  /**
+   * Exception request failed with, null if response was received and read. Set together with status code
+   * when response was received, but reading it failed.
+   */
+  Exception error;
+  /**
+   * Delay in milliseconds requested by Retry-After header, null if there was none.
+   */
+  Long retryAfterMs;
+}
@@ -0,0 +1,54 @@
+package io.weaviate.client.base.retry;
+
+/**
+ * Decides whether and when failed requests are sent again. Implementations have to be thread safe.
+ */
+public interface RetryPolicy {
+  /**
+   * Returned by {@link #retryDelay(RetryAttempt)} when request should not be retried.
+   */
+  long NO_RETRY = -1;
+
+  /**
+   * Called once for every request, before it is sent for the first time.
+   * Policies limiting retries to a fraction of requests earn their budget here.
+   */
+  default void onRequest() {
+  }
+
+  /**
+   * Called after every attempt, successful or not.
+   *
+   * @return delay in milliseconds after which request is sent again, or {@link #NO_RETRY}
+   */
+  long retryDelay(RetryAttempt attempt);
+
+  /**
+   * Retries transient failures with exponential backoff and full jitter, see {@link ExponentialBackoffRetryPolicy}.
+   */
+  static RetryPolicy exponentialBackoff() {
+    return ExponentialBackoffRetryPolicy.defaultConfig().build();
+  }
+
+  /**
+   * Whether sending request more than once has the same effect as sending it once.
+   * Besides idempotent methods, GraphQL queries are, as GraphQL API only reads.
+   *
+   * @param endpoint request path relative to API base URL, e.g. /objects
+   */
+  static boolean isIdempotent(String method, String endpoint) {
+    if ("/graphql".equals(endpoint)) {
+      return true;
+    }
+    switch (method) {
+      case "GET":
+      case "HEAD":
+      case "PUT":
+      case "DELETE":
+      case "OPTIONS":
+        return true;
+      default:
+        return false;
+    }
+  }
+}
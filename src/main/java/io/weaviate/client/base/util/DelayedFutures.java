@@ -0,0 +1,41 @@
+package io.weaviate.client.base.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Schedules follow-up async calls (like status polling) without blocking a thread while waiting.
+ * Single daemon thread is shared by all clients, it only triggers the calls and never runs them to completion.
+ */
+public class DelayedFutures {
+
+  private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "weaviate-delayed-futures");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private DelayedFutures() {
+  }
+
+  public static <T> CompletableFuture<T> delayed(long delayMs, Supplier<CompletableFuture<T>> supplier) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    SCHEDULER.schedule(() -> {
+      try {
+        supplier.get().whenComplete((result, e) -> {
+          if (e != null) {
+            future.completeExceptionally(e);
+          } else {
+            future.complete(result);
+          }
+        });
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    }, delayMs, TimeUnit.MILLISECONDS);
+    return future;
+  }
+}
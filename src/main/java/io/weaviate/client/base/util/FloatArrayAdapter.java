@@ -0,0 +1,49 @@
+package io.weaviate.client.base.util;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads and writes {@code float[]} element by element, without boxing values to {@link Float}
+ * as Gson's default array adapter does.
+ */
+public class FloatArrayAdapter extends TypeAdapter<float[]> {
+  private static final int INITIAL_CAPACITY = 256;
+
+  @Override
+  public void write(JsonWriter out, float[] value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginArray();
+    for (float f : value) {
+      out.value(f);
+    }
+    out.endArray();
+  }
+
+  @Override
+  public float[] read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    float[] values = new float[INITIAL_CAPACITY];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = (float) in.nextDouble();
+    }
+    in.endArray();
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+}
@@ -0,0 +1,53 @@
+package io.weaviate.client.base.util;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts vectors between boxed and primitive representation.
+ */
+public class FloatArrays {
+
+  private FloatArrays() {
+  }
+
+  /**
+   * @throws IllegalArgumentException if vector contains null elements
+   */
+  public static float[] toPrimitive(Float[] vector) {
+    if (vector == null) {
+      return null;
+    }
+    float[] result = new float[vector.length];
+    for (int i = 0; i < vector.length; i++) {
+      if (vector[i] == null) {
+        throw new IllegalArgumentException(String.format("vector should not contain null elements, found one at index %d", i));
+      }
+      result[i] = vector[i];
+    }
+    return result;
+  }
+
+  /**
+   * @throws IllegalArgumentException if any vector contains null elements
+   */
+  public static Map<String, float[]> toPrimitive(Map<String, Float[]> vectors) {
+    if (vectors == null) {
+      return null;
+    }
+    Map<String, float[]> result = new LinkedHashMap<>();
+    vectors.forEach((name, vector) -> result.put(name, toPrimitive(vector)));
+    return result;
+  }
+
+  public static Map<String, Float[]> toObject(Map<String, float[]> vectors) {
+    if (vectors == null) {
+      return null;
+    }
+    Map<String, Float[]> result = new LinkedHashMap<>();
+    vectors.forEach((name, vector) -> result.put(name, ArrayUtils.toObject(vector)));
+    return result;
+  }
+}
@@ -1,21 +1,38 @@
 package io.weaviate.client.v1.async;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.async.AsyncHttpClient;
+import io.weaviate.client.base.util.DbVersionProvider;
+import io.weaviate.client.base.util.DbVersionSupport;
+import io.weaviate.client.v1.async.backup.Backup;
+import io.weaviate.client.v1.async.batch.Batch;
+import io.weaviate.client.v1.async.classifications.Classifications;
+import io.weaviate.client.v1.async.cluster.Cluster;
+import io.weaviate.client.v1.async.data.Data;
+import io.weaviate.client.v1.async.graphql.GraphQL;
 import io.weaviate.client.v1.async.misc.Misc;
+import io.weaviate.client.v1.async.misc.api.MetaGetter;
 import io.weaviate.client.v1.async.schema.Schema;
+import io.weaviate.client.v1.misc.model.Meta;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.io.CloseMode;
 
 public class WeaviateAsyncClient implements AutoCloseable {
   private final Config config;
   private final CloseableHttpAsyncClient client;
+  private final DbVersionProvider dbVersionProvider;
+  private final DbVersionSupport dbVersionSupport;
 
   public WeaviateAsyncClient(Config config) {
     this.config = config;
     this.client = AsyncHttpClient.create(config);
     // auto start the client
     this.start();
+    this.dbVersionProvider = initDbVersionProvider();
+    this.dbVersionSupport = new DbVersionSupport(dbVersionProvider);
   }
 
   public Misc misc() {
@@ -26,10 +43,55 @@ public class WeaviateAsyncClient implements AutoCloseable {
     return new Schema(client, config);
   }
 
+  public Data data() {
+    dbVersionProvider.refresh();
+    return new Data(client, config, dbVersionSupport);
+  }
+
+  public Batch batch() {
+    dbVersionProvider.refresh();
+    return new Batch(client, config, dbVersionSupport);
+  }
+
+  public GraphQL graphQL() {
+    return new GraphQL(client, config);
+  }
+
+  public Backup backup() {
+    return new Backup(client, config);
+  }
+
+  public Cluster cluster() {
+    return new Cluster(client, config);
+  }
+
+  public Classifications classifications() {
+    return new Classifications(client, config);
+  }
+
   private void start() {
     this.client.start();
   }
 
+  private DbVersionProvider initDbVersionProvider() {
+    MetaGetter metaGetter = new Misc(client, config).metaGetter();
+    DbVersionProvider.VersionGetter getter = () -> {
+      try {
+        Result<Meta> result = metaGetter.run().get();
+        return Optional.ofNullable(result)
+          .filter(r -> !r.hasErrors())
+          .map(r -> r.getResult().getVersion());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Optional.empty();
+      } catch (ExecutionException e) {
+        return Optional.empty();
+      }
+    };
+
+    return new DbVersionProvider(getter);
+  }
+
   @Override
   public void close() {
     this.client.close(CloseMode.GRACEFUL);
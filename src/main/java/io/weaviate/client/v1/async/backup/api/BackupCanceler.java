@@ -0,0 +1,48 @@
+package io.weaviate.client.v1.async.backup.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * BackupCanceler can cancel an in-progress backup by ID.
+ *
+ * <p>
+ * Canceling backups which have successfully completed before being interrupted is not supported and will result in an error.
+ */
+public class BackupCanceler extends AsyncBaseClient<Void> implements AsyncClientResult<Void> {
+  private String backend;
+  private String backupId;
+
+  public BackupCanceler(CloseableHttpAsyncClient client, Config config) {
+    super(client, config);
+  }
+
+  public BackupCanceler withBackend(String backend) {
+    this.backend = backend;
+    return this;
+  }
+
+  public BackupCanceler withBackupId(String backupId) {
+    this.backupId = backupId;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<Void>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<Void>> run(FutureCallback<Result<Void>> callback) {
+    return sendDeleteRequest(path(), null, Void.class, callback);
+  }
+
+  private String path() {
+    return String.format("/backups/%s/%s", backend, backupId);
+  }
+}
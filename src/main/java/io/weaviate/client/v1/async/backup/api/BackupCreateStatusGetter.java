@@ -0,0 +1,44 @@
+package io.weaviate.client.v1.async.backup.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.backup.model.BackupCreateStatusResponse;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+public class BackupCreateStatusGetter extends AsyncBaseClient<BackupCreateStatusResponse> implements AsyncClientResult<BackupCreateStatusResponse> {
+
+  private String backend;
+  private String backupId;
+
+  public BackupCreateStatusGetter(CloseableHttpAsyncClient client, Config config) {
+    super(client, config);
+  }
+
+  public BackupCreateStatusGetter withBackend(String backend) {
+    this.backend = backend;
+    return this;
+  }
+
+  public BackupCreateStatusGetter withBackupId(String backupId) {
+    this.backupId = backupId;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupCreateStatusResponse>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupCreateStatusResponse>> run(FutureCallback<Result<BackupCreateStatusResponse>> callback) {
+    return sendGetRequest(path(), BackupCreateStatusResponse.class, callback);
+  }
+
+  private String path() {
+    return String.format("/backups/%s/%s", backend, backupId);
+  }
+}
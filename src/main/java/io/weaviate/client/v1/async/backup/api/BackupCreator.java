@@ -0,0 +1,164 @@
+package io.weaviate.client.v1.async.backup.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.DelayedFutures;
+import io.weaviate.client.v1.backup.api.BackupCreator.BackupCreateConfig;
+import io.weaviate.client.v1.backup.model.BackupCreateResponse;
+import io.weaviate.client.v1.backup.model.BackupCreateStatusResponse;
+import io.weaviate.client.v1.backup.model.CreateStatus;
+import java.util.concurrent.CompletableFuture;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpStatus;
+
+public class BackupCreator extends AsyncBaseClient<BackupCreateResponse> implements AsyncClientResult<BackupCreateResponse> {
+
+  private static final long WAIT_INTERVAL = 1000;
+
+  private final BackupCreateStatusGetter statusGetter;
+  private String[] includeClassNames;
+  private String[] excludeClassNames;
+  private String backend;
+  private String backupId;
+  private BackupCreateConfig config;
+  private boolean waitForCompletion;
+
+  public BackupCreator(CloseableHttpAsyncClient client, Config config, BackupCreateStatusGetter statusGetter) {
+    super(client, config);
+    this.statusGetter = statusGetter;
+  }
+
+  public BackupCreator withIncludeClassNames(String... classNames) {
+    this.includeClassNames = classNames;
+    return this;
+  }
+
+  public BackupCreator withExcludeClassNames(String... classNames) {
+    this.excludeClassNames = classNames;
+    return this;
+  }
+
+  public BackupCreator withBackend(String backend) {
+    this.backend = backend;
+    return this;
+  }
+
+  public BackupCreator withBackupId(String backupId) {
+    this.backupId = backupId;
+    return this;
+  }
+
+  public BackupCreator withConfig(BackupCreateConfig config) {
+    this.config = config;
+    return this;
+  }
+
+  /**
+   * Completes returned future only after backup has finished. Status is polled
+   * without blocking any thread in between.
+   */
+  public BackupCreator withWaitForCompletion(boolean waitForCompletion) {
+    this.waitForCompletion = waitForCompletion;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupCreateResponse>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupCreateResponse>> run(FutureCallback<Result<BackupCreateResponse>> callback) {
+    BackupCreate payload = BackupCreate.builder()
+      .id(backupId)
+      .config(config)
+      .include(includeClassNames)
+      .exclude(excludeClassNames)
+      .build();
+
+    if (!waitForCompletion) {
+      return sendPostRequest(path(), payload, BackupCreateResponse.class, callback);
+    }
+
+    CompletableFuture<Result<BackupCreateResponse>> future = sendPostRequest(path(), payload, BackupCreateResponse.class, null)
+      .thenCompose(result -> {
+        if (result.hasErrors()) {
+          return CompletableFuture.completedFuture(result);
+        }
+        statusGetter.withBackend(backend).withBackupId(backupId);
+        return waitForCompletion(result);
+      });
+    if (callback != null) {
+      future.whenComplete((result, e) -> {
+        if (e != null) {
+          callback.failed(new Exception(e));
+        } else {
+          callback.completed(result);
+        }
+      });
+    }
+    return future;
+  }
+
+  private CompletableFuture<Result<BackupCreateResponse>> waitForCompletion(Result<BackupCreateResponse> result) {
+    return statusGetter.run().thenCompose(status -> {
+      if (status.hasErrors()) {
+        return CompletableFuture.completedFuture(merge(status, result));
+      }
+      switch (status.getResult().getStatus()) {
+        case CreateStatus.SUCCESS:
+        case CreateStatus.FAILED:
+          return CompletableFuture.completedFuture(merge(status, result));
+        default:
+          return DelayedFutures.delayed(WAIT_INTERVAL, () -> waitForCompletion(result));
+      }
+    });
+  }
+
+  private String path() {
+    return String.format("/backups/%s", backend);
+  }
+
+  private Result<BackupCreateResponse> merge(Result<BackupCreateStatusResponse> status, Result<BackupCreateResponse> result) {
+    BackupCreateStatusResponse statusCreateResponse = status.getResult();
+    BackupCreateResponse createResponse = result.getResult();
+
+    BackupCreateResponse merged = null;
+    if (statusCreateResponse != null) {
+      merged = new BackupCreateResponse();
+
+      merged.setId(statusCreateResponse.getId());
+      merged.setBackend(statusCreateResponse.getBackend());
+      merged.setPath(statusCreateResponse.getPath());
+      merged.setStatus(statusCreateResponse.getStatus());
+      merged.setError(statusCreateResponse.getError());
+      merged.setClassNames(createResponse.getClassNames());
+    }
+
+    WeaviateError error = status.getError();
+    if (error == null) {
+      return new Result<>(HttpStatus.SC_OK, merged, null);
+    }
+    return new Result<>(error.getStatusCode(), merged, WeaviateErrorResponse.builder()
+      .code(error.getStatusCode())
+      .error(error.getMessages())
+      .build());
+  }
+
+
+  @Getter
+  @Builder
+  private static class BackupCreate {
+    String id;
+    String[] include;
+    String[] exclude;
+    BackupCreateConfig config;
+  }
+}
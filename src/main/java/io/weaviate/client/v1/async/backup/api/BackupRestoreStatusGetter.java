@@ -0,0 +1,44 @@
+package io.weaviate.client.v1.async.backup.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.backup.model.BackupRestoreStatusResponse;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+public class BackupRestoreStatusGetter extends AsyncBaseClient<BackupRestoreStatusResponse> implements AsyncClientResult<BackupRestoreStatusResponse> {
+
+  private String backend;
+  private String backupId;
+
+  public BackupRestoreStatusGetter(CloseableHttpAsyncClient client, Config config) {
+    super(client, config);
+  }
+
+  public BackupRestoreStatusGetter withBackend(String backend) {
+    this.backend = backend;
+    return this;
+  }
+
+  public BackupRestoreStatusGetter withBackupId(String backupId) {
+    this.backupId = backupId;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupRestoreStatusResponse>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupRestoreStatusResponse>> run(FutureCallback<Result<BackupRestoreStatusResponse>> callback) {
+    return sendGetRequest(path(), BackupRestoreStatusResponse.class, callback);
+  }
+
+  private String path() {
+    return String.format("/backups/%s/%s/restore", backend, backupId);
+  }
+}
@@ -0,0 +1,168 @@
+package io.weaviate.client.v1.async.backup.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.DelayedFutures;
+import io.weaviate.client.v1.backup.api.BackupRestorer.BackupRestoreConfig;
+import io.weaviate.client.v1.backup.model.BackupRestoreResponse;
+import io.weaviate.client.v1.backup.model.BackupRestoreStatusResponse;
+import io.weaviate.client.v1.backup.model.RestoreStatus;
+import java.util.concurrent.CompletableFuture;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpStatus;
+
+public class BackupRestorer extends AsyncBaseClient<BackupRestoreResponse> implements AsyncClientResult<BackupRestoreResponse> {
+
+  private static final long WAIT_INTERVAL = 1000;
+
+  private final BackupRestoreStatusGetter statusGetter;
+  private String[] includeClassNames;
+  private String[] excludeClassNames;
+  private String backend;
+  private String backupId;
+  private BackupRestoreConfig config;
+  private boolean waitForCompletion;
+
+  public BackupRestorer(CloseableHttpAsyncClient client, Config config, BackupRestoreStatusGetter statusGetter) {
+    super(client, config);
+    this.statusGetter = statusGetter;
+  }
+
+  public BackupRestorer withIncludeClassNames(String... classNames) {
+    this.includeClassNames = classNames;
+    return this;
+  }
+
+  public BackupRestorer withExcludeClassNames(String... classNames) {
+    this.excludeClassNames = classNames;
+    return this;
+  }
+
+  public BackupRestorer withBackend(String backend) {
+    this.backend = backend;
+    return this;
+  }
+
+  @Deprecated
+  public BackupRestorer backend(String backend) {
+    return withBackend(backend);
+  }
+
+  public BackupRestorer withBackupId(String backupId) {
+    this.backupId = backupId;
+    return this;
+  }
+
+  public BackupRestorer withConfig(BackupRestoreConfig config) {
+    this.config = config;
+    return this;
+  }
+
+  /**
+   * Completes returned future only after backup has been restored. Status is polled
+   * without blocking any thread in between.
+   */
+  public BackupRestorer withWaitForCompletion(boolean waitForCompletion) {
+    this.waitForCompletion = waitForCompletion;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupRestoreResponse>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BackupRestoreResponse>> run(FutureCallback<Result<BackupRestoreResponse>> callback) {
+    BackupRestore payload = BackupRestore.builder()
+      .id(backupId)
+      .config(config)
+      .include(includeClassNames)
+      .exclude(excludeClassNames)
+      .build();
+
+    if (!waitForCompletion) {
+      return sendPostRequest(path(), payload, BackupRestoreResponse.class, callback);
+    }
+
+    CompletableFuture<Result<BackupRestoreResponse>> future = sendPostRequest(path(), payload, BackupRestoreResponse.class, null)
+      .thenCompose(result -> {
+        if (result.hasErrors()) {
+          return CompletableFuture.completedFuture(result);
+        }
+        statusGetter.withBackend(backend).withBackupId(backupId);
+        return waitForCompletion(result);
+      });
+    if (callback != null) {
+      future.whenComplete((result, e) -> {
+        if (e != null) {
+          callback.failed(new Exception(e));
+        } else {
+          callback.completed(result);
+        }
+      });
+    }
+    return future;
+  }
+
+  private CompletableFuture<Result<BackupRestoreResponse>> waitForCompletion(Result<BackupRestoreResponse> result) {
+    return statusGetter.run().thenCompose(status -> {
+      if (status.hasErrors()) {
+        return CompletableFuture.completedFuture(merge(status, result));
+      }
+      switch (status.getResult().getStatus()) {
+        case RestoreStatus.SUCCESS:
+        case RestoreStatus.FAILED:
+          return CompletableFuture.completedFuture(merge(status, result));
+        default:
+          return DelayedFutures.delayed(WAIT_INTERVAL, () -> waitForCompletion(result));
+      }
+    });
+  }
+
+  private String path() {
+    return String.format("/backups/%s/%s/restore", backend, backupId);
+  }
+
+  private Result<BackupRestoreResponse> merge(Result<BackupRestoreStatusResponse> status, Result<BackupRestoreResponse> result) {
+    BackupRestoreStatusResponse statusRestoreResponse = status.getResult();
+    BackupRestoreResponse restoreResponse = result.getResult();
+
+    BackupRestoreResponse merged = null;
+    if (statusRestoreResponse != null) {
+      merged = new BackupRestoreResponse();
+
+      merged.setId(statusRestoreResponse.getId());
+      merged.setBackend(statusRestoreResponse.getBackend());
+      merged.setPath(statusRestoreResponse.getPath());
+      merged.setStatus(statusRestoreResponse.getStatus());
+      merged.setError(statusRestoreResponse.getError());
+      merged.setClassNames(restoreResponse.getClassNames());
+    }
+
+    WeaviateError error = status.getError();
+    if (error == null) {
+      return new Result<>(HttpStatus.SC_OK, merged, null);
+    }
+    return new Result<>(error.getStatusCode(), merged, WeaviateErrorResponse.builder()
+      .code(error.getStatusCode())
+      .error(error.getMessages())
+      .build());
+  }
+
+
+  @Getter
+  @Builder
+  private static class BackupRestore {
+    BackupRestoreConfig config;
+    String[] include;
+    String[] exclude;
+  }
+}
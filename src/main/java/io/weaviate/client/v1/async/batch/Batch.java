@@ -0,0 +1,52 @@
+package io.weaviate.client.v1.async.batch;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.util.BeaconPath;
+import io.weaviate.client.base.util.DbVersionSupport;
+import io.weaviate.client.v1.async.batch.api.ObjectsBatchDeleter;
+import io.weaviate.client.v1.async.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.async.batch.api.ReferencesBatcher;
+import io.weaviate.client.v1.batch.api.ReferencePayloadBuilder;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.batch.util.ReferencesPath;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+public class Batch {
+  private final CloseableHttpAsyncClient client;
+  private final Config config;
+  private final BeaconPath beaconPath;
+  private final ObjectsPath objectsPath;
+  private final ReferencesPath referencesPath;
+
+  public Batch(CloseableHttpAsyncClient client, Config config, DbVersionSupport dbVersionSupport) {
+    this.client = client;
+    this.config = config;
+    this.beaconPath = new BeaconPath(dbVersionSupport);
+    this.objectsPath = new ObjectsPath();
+    this.referencesPath = new ReferencesPath();
+  }
+
+  public ObjectsBatcher objectsBatcher() {
+    return objectsBatcher(io.weaviate.client.v1.batch.api.ObjectsBatcher.BatchRetriesConfig.defaultConfig().build());
+  }
+
+  public ObjectsBatcher objectsBatcher(io.weaviate.client.v1.batch.api.ObjectsBatcher.BatchRetriesConfig batchRetriesConfig) {
+    return new ObjectsBatcher(client, config, objectsPath, batchRetriesConfig);
+  }
+
+  public ObjectsBatchDeleter objectsBatchDeleter() {
+    return new ObjectsBatchDeleter(client, config, objectsPath);
+  }
+
+  public ReferencePayloadBuilder referencePayloadBuilder() {
+    return new ReferencePayloadBuilder(beaconPath);
+  }
+
+  public ReferencesBatcher referencesBatcher() {
+    return referencesBatcher(io.weaviate.client.v1.batch.api.ReferencesBatcher.BatchRetriesConfig.defaultConfig().build());
+  }
+
+  public ReferencesBatcher referencesBatcher(io.weaviate.client.v1.batch.api.ReferencesBatcher.BatchRetriesConfig batchRetriesConfig) {
+    return new ReferencesBatcher(client, config, referencesPath, batchRetriesConfig);
+  }
+}
@@ -0,0 +1,103 @@
+package io.weaviate.client.v1.async.batch.api;
+
+import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.filters.WhereFilter;
+import java.util.concurrent.CompletableFuture;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+public class ObjectsBatchDeleter extends AsyncBaseClient<BatchDeleteResponse> implements AsyncClientResult<BatchDeleteResponse> {
+
+  private final ObjectsPath objectsPath;
+  private String className;
+  private String consistencyLevel;
+  private String tenant;
+  private WhereFilter where;
+  private String output;
+  private Boolean dryRun;
+
+  public ObjectsBatchDeleter(CloseableHttpAsyncClient client, Config config, ObjectsPath objectsPath) {
+    super(client, config);
+    this.objectsPath = objectsPath;
+  }
+
+  public ObjectsBatchDeleter withClassName(String className) {
+    this.className = className;
+    return this;
+  }
+
+  public ObjectsBatchDeleter withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  public ObjectsBatchDeleter withTenant(String tenant) {
+    this.tenant = tenant;
+    return this;
+  }
+
+  public ObjectsBatchDeleter withWhere(WhereFilter where) {
+    this.where = where;
+    return this;
+  }
+
+  public ObjectsBatchDeleter withOutput(String output) {
+    this.output = output;
+    return this;
+  }
+
+  public ObjectsBatchDeleter withDryRun(Boolean dryRun) {
+    this.dryRun = dryRun;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BatchDeleteResponse>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BatchDeleteResponse>> run(FutureCallback<Result<BatchDeleteResponse>> callback) {
+    BatchDeleteMatch match = BatchDeleteMatch.builder()
+      .className(className)
+      .whereFilter(where)
+      .build();
+    BatchDelete batchDelete = BatchDelete.builder()
+      .dryRun(dryRun)
+      .output(output)
+      .match(match)
+      .build();
+    String path = objectsPath.buildDelete(ObjectsPath.Params.builder()
+      .consistencyLevel(consistencyLevel)
+      .tenant(tenant)
+      .build());
+    return sendDeleteRequest(path, batchDelete, BatchDeleteResponse.class, callback);
+  }
+
+  @Getter
+  @Builder
+  private static class BatchDelete {
+
+    BatchDeleteMatch match;
+    String output;
+    Boolean dryRun;
+  }
+
+  @Getter
+  @Builder
+  private static class BatchDeleteMatch {
+
+    @SerializedName("class")
+    String className;
+    @SerializedName("where")
+    WhereFilter whereFilter;
+  }
+}
@@ -0,0 +1,123 @@
+package io.weaviate.client.v1.async.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.DelayedFutures;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher.BatchRetriesConfig;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Sends all added objects in a single batch request.
+ * Requests failing on connection errors or timeouts are resent according to given retries config,
+ * retries are scheduled without blocking any thread.
+ */
+public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]> implements AsyncClientResult<ObjectGetResponse[]> {
+
+  private final ObjectsPath objectsPath;
+  private final BatchRetriesConfig batchRetriesConfig;
+  private final List<WeaviateObject> objects;
+  private String consistencyLevel;
+
+  public ObjectsBatcher(CloseableHttpAsyncClient client, Config config, ObjectsPath objectsPath,
+                        BatchRetriesConfig batchRetriesConfig) {
+    super(client, config);
+    Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
+    this.objectsPath = objectsPath;
+    this.batchRetriesConfig = batchRetriesConfig;
+    this.objects = new ArrayList<>();
+  }
+
+  public ObjectsBatcher withObject(WeaviateObject object) {
+    return withObjects(object);
+  }
+
+  public ObjectsBatcher withObjects(WeaviateObject... objects) {
+    Arrays.stream(objects)
+      .filter(o -> o.getId() == null)
+      .forEach(o -> o.setId(UUID.randomUUID().toString()));
+    this.objects.addAll(Arrays.asList(objects));
+    return this;
+  }
+
+  public ObjectsBatcher withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<ObjectGetResponse[]>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<ObjectGetResponse[]>> run(FutureCallback<Result<ObjectGetResponse[]>> callback) {
+    if (objects.isEmpty()) {
+      Result<ObjectGetResponse[]> empty = new Result<>(0, new ObjectGetResponse[0], null);
+      if (callback != null) {
+        callback.completed(empty);
+      }
+      return CompletableFuture.completedFuture(empty);
+    }
+
+    ObjectsBatchRequestBody payload = ObjectsBatchRequestBody.builder()
+      .objects(objects.toArray(new WeaviateObject[0]))
+      .fields(new String[]{"ALL"})
+      .build();
+    objects.clear();
+    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
+      .consistencyLevel(consistencyLevel)
+      .build());
+
+    CompletableFuture<Result<ObjectGetResponse[]>> future = runRecursively(path, payload, 0, 0);
+    if (callback != null) {
+      future.whenComplete((result, e) -> {
+        if (e != null) {
+          callback.failed(e instanceof Exception ? (Exception) e : new CompletionException(e));
+        } else {
+          callback.completed(result);
+        }
+      });
+    }
+    return future;
+  }
+
+  private CompletableFuture<Result<ObjectGetResponse[]>> runRecursively(String path, ObjectsBatchRequestBody payload,
+                                                                        int connectionErrorCount, int timeoutErrorCount) {
+    CompletableFuture<Result<ObjectGetResponse[]>> request = sendPostRequestWithoutRetries(path, payload, ObjectGetResponse[].class, null);
+    return request.handle((result, e) -> {
+      if (e == null) {
+        return CompletableFuture.completedFuture(result);
+      }
+      Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof ConnectException && connectionErrorCount < batchRetriesConfig.getMaxConnectionRetries()) {
+        int count = connectionErrorCount + 1;
+        return DelayedFutures.delayed((long) count * batchRetriesConfig.getRetriesIntervalMs(),
+          () -> runRecursively(path, payload, count, timeoutErrorCount));
+      }
+      if (cause instanceof SocketTimeoutException && timeoutErrorCount < batchRetriesConfig.getMaxTimeoutRetries()) {
+        int count = timeoutErrorCount + 1;
+        return DelayedFutures.delayed((long) count * batchRetriesConfig.getRetriesIntervalMs(),
+          () -> runRecursively(path, payload, connectionErrorCount, count));
+      }
+      CompletableFuture<Result<ObjectGetResponse[]>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(cause);
+      return failed;
+    }).thenCompose(f -> f);
+  }
+}
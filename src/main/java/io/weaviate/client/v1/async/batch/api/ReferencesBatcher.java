@@ -0,0 +1,115 @@
+package io.weaviate.client.v1.async.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.DelayedFutures;
+import io.weaviate.client.v1.batch.api.ReferencesBatcher.BatchRetriesConfig;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
+import io.weaviate.client.v1.batch.util.ReferencesPath;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Sends all added references in a single batch request.
+ * Requests failing on connection errors or timeouts are resent according to given retries config,
+ * retries are scheduled without blocking any thread.
+ */
+public class ReferencesBatcher extends AsyncBaseClient<BatchReferenceResponse[]> implements AsyncClientResult<BatchReferenceResponse[]> {
+
+  private final ReferencesPath referencesPath;
+  private final BatchRetriesConfig batchRetriesConfig;
+  private final List<BatchReference> references;
+  private String consistencyLevel;
+
+  public ReferencesBatcher(CloseableHttpAsyncClient client, Config config, ReferencesPath referencesPath,
+                           BatchRetriesConfig batchRetriesConfig) {
+    super(client, config);
+    Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
+    this.referencesPath = referencesPath;
+    this.batchRetriesConfig = batchRetriesConfig;
+    this.references = new ArrayList<>();
+  }
+
+  public ReferencesBatcher withReference(BatchReference reference) {
+    return withReferences(reference);
+  }
+
+  public ReferencesBatcher withReferences(BatchReference... references) {
+    this.references.addAll(Arrays.asList(references));
+    return this;
+  }
+
+  public ReferencesBatcher withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<BatchReferenceResponse[]>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<BatchReferenceResponse[]>> run(FutureCallback<Result<BatchReferenceResponse[]>> callback) {
+    if (references.isEmpty()) {
+      Result<BatchReferenceResponse[]> empty = new Result<>(0, new BatchReferenceResponse[0], null);
+      if (callback != null) {
+        callback.completed(empty);
+      }
+      return CompletableFuture.completedFuture(empty);
+    }
+
+    BatchReference[] payload = references.toArray(new BatchReference[0]);
+    references.clear();
+    String path = referencesPath.buildCreate(ReferencesPath.Params.builder()
+      .consistencyLevel(consistencyLevel)
+      .build());
+
+    CompletableFuture<Result<BatchReferenceResponse[]>> future = runRecursively(path, payload, 0, 0);
+    if (callback != null) {
+      future.whenComplete((result, e) -> {
+        if (e != null) {
+          callback.failed(e instanceof Exception ? (Exception) e : new CompletionException(e));
+        } else {
+          callback.completed(result);
+        }
+      });
+    }
+    return future;
+  }
+
+  private CompletableFuture<Result<BatchReferenceResponse[]>> runRecursively(String path, BatchReference[] payload,
+                                                                             int connectionErrorCount, int timeoutErrorCount) {
+    CompletableFuture<Result<BatchReferenceResponse[]>> request = sendPostRequestWithoutRetries(path, payload, BatchReferenceResponse[].class, null);
+    return request.handle((result, e) -> {
+      if (e == null) {
+        return CompletableFuture.completedFuture(result);
+      }
+      Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof ConnectException && connectionErrorCount < batchRetriesConfig.getMaxConnectionRetries()) {
+        int count = connectionErrorCount + 1;
+        return DelayedFutures.delayed((long) count * batchRetriesConfig.getRetriesIntervalMs(),
+          () -> runRecursively(path, payload, count, timeoutErrorCount));
+      }
+      if (cause instanceof SocketTimeoutException && timeoutErrorCount < batchRetriesConfig.getMaxTimeoutRetries()) {
+        int count = timeoutErrorCount + 1;
+        return DelayedFutures.delayed((long) count * batchRetriesConfig.getRetriesIntervalMs(),
+          () -> runRecursively(path, payload, connectionErrorCount, count));
+      }
+      CompletableFuture<Result<BatchReferenceResponse[]>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(cause);
+      return failed;
+    }).thenCompose(f -> f);
+  }
+}
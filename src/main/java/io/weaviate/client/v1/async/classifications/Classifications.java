@@ -0,0 +1,24 @@
+package io.weaviate.client.v1.async.classifications;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.v1.async.classifications.api.Getter;
+import io.weaviate.client.v1.async.classifications.api.Scheduler;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+public class Classifications {
+  private final CloseableHttpAsyncClient client;
+  private final Config config;
+
+  public Classifications(CloseableHttpAsyncClient client, Config config) {
+    this.client = client;
+    this.config = config;
+  }
+
+  public Scheduler scheduler() {
+    return new Scheduler(client, config);
+  }
+
+  public Getter getter() {
+    return new Getter(client, config);
+  }
+}
@@ -0,0 +1,46 @@
+package io.weaviate.client.v1.async.classifications.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.classifications.model.Classification;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+public class Getter extends AsyncBaseClient<Classification> implements AsyncClientResult<Classification> {
+
+  private String id;
+
+  public Getter(CloseableHttpAsyncClient client, Config config) {
+    super(client, config);
+  }
+
+  public Getter withID(String id) {
+    this.id = id;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<Classification>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<Classification>> run(FutureCallback<Result<Classification>> callback) {
+    if (StringUtils.isBlank(id)) {
+      WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
+        .message("id cannot be empty").build();
+      WeaviateErrorResponse errors = WeaviateErrorResponse.builder()
+        .error(Collections.singletonList(errorMessage)).build();
+      return CompletableFuture.completedFuture(new Result<>(500, null, errors));
+    }
+    String path = String.format("/classifications/%s", id);
+    return sendGetRequest(path, Classification.class, callback);
+  }
+}
@@ -0,0 +1,144 @@
+package io.weaviate.client.v1.async.classifications.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.DelayedFutures;
+import io.weaviate.client.v1.classifications.model.Classification;
+import io.weaviate.client.v1.classifications.model.ClassificationFilters;
+import io.weaviate.client.v1.filters.WhereFilter;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpStatus;
+
+public class Scheduler extends AsyncBaseClient<Classification> implements AsyncClientResult<Classification> {
+
+  private static final long WAIT_INTERVAL = 2000;
+
+  private String classificationType;
+  private String className;
+  private String[] classifyProperties;
+  private String[] basedOnProperties;
+  private WhereFilter sourceWhereFilter;
+  private WhereFilter trainingSetWhereFilter;
+  private WhereFilter targetWhereFilter;
+  private boolean waitForCompletion;
+  private Object settings;
+
+  private final Getter getter;
+
+  public Scheduler(CloseableHttpAsyncClient client, Config config) {
+    super(client, config);
+    this.getter = new Getter(client, config);
+  }
+
+  public Scheduler withType(String classificationType) {
+    this.classificationType = classificationType;
+    return this;
+  }
+
+  public Scheduler withClassName(String className) {
+    this.className = className;
+    return this;
+  }
+
+  public Scheduler withClassifyProperties(String[] classifyProperties) {
+    this.classifyProperties = classifyProperties;
+    return this;
+  }
+
+  public Scheduler withBasedOnProperties(String[] basedOnProperties) {
+    this.basedOnProperties = basedOnProperties;
+    return this;
+  }
+
+  public Scheduler withSourceWhereFilter(WhereFilter whereFilter) {
+    this.sourceWhereFilter = whereFilter;
+    return this;
+  }
+
+  public Scheduler withTrainingSetWhereFilter(WhereFilter whereFilter) {
+    this.trainingSetWhereFilter = whereFilter;
+    return this;
+  }
+
+  public Scheduler withTargetWhereFilter(WhereFilter whereFilter) {
+    this.targetWhereFilter = whereFilter;
+    return this;
+  }
+
+  public Scheduler withSettings(Object settings) {
+    this.settings = settings;
+    return this;
+  }
+
+  public Scheduler withWaitForCompletion() {
+    this.waitForCompletion = true;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<Classification>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<Classification>> run(FutureCallback<Result<Classification>> callback) {
+    Classification config = Classification.builder()
+      .basedOnProperties(basedOnProperties)
+      .className(className)
+      .classifyProperties(classifyProperties)
+      .type(classificationType)
+      .settings(settings)
+      .filters(getClassificationFilters(sourceWhereFilter, targetWhereFilter, trainingSetWhereFilter))
+      .build();
+
+    if (!waitForCompletion) {
+      return sendPostRequest("/classifications", config, Classification.class, callback);
+    }
+
+    CompletableFuture<Result<Classification>> future = sendPostRequest("/classifications", config, Classification.class, null)
+      .thenCompose(result -> {
+        if (result.hasErrors() || result.getResult() == null) {
+          return CompletableFuture.completedFuture(result);
+        }
+        return waitForCompletion(result.getResult().getId());
+      });
+    if (callback != null) {
+      future.whenComplete((result, e) -> {
+        if (e != null) {
+          callback.failed(new Exception(e));
+        } else {
+          callback.completed(result);
+        }
+      });
+    }
+    return future;
+  }
+
+  private CompletableFuture<Result<Classification>> waitForCompletion(String id) {
+    return getter.withID(id).run().thenCompose(result -> {
+      if (result.getResult() == null) {
+        return CompletableFuture.completedFuture(new Result<>(HttpStatus.SC_CREATED, null, null));
+      }
+      if ("running".equals(result.getResult().getStatus())) {
+        return DelayedFutures.delayed(WAIT_INTERVAL, () -> waitForCompletion(id));
+      }
+      return CompletableFuture.completedFuture(new Result<>(HttpStatus.SC_CREATED, result.getResult(), null));
+    });
+  }
+
+  private ClassificationFilters getClassificationFilters(WhereFilter sourceWhere, WhereFilter targetWhere, WhereFilter trainingSetWhere) {
+    if (ObjectUtils.anyNotNull(sourceWhere, targetWhere, trainingSetWhere)) {
+      return ClassificationFilters.builder()
+        .sourceWhere(sourceWhere)
+        .targetWhere(targetWhere)
+        .trainingSetWhere(trainingSetWhere)
+        .build();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,135 @@
+package io.weaviate.client.v1.async.data.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.http.async.ResponseParser;
+import io.weaviate.client.base.util.FloatArrays;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.data.util.ObjectsPath;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+
+public class ObjectUpdater extends AsyncBaseClient<Boolean> implements AsyncClientResult<Boolean> {
+
+  private final ObjectsPath objectsPath;
+  private String id;
+  private String className;
+  private String consistencyLevel;
+  private String tenant;
+  private Map<String, Object> properties;
+  private float[] vector;
+  private Map<String, float[]> vectors;
+  private Boolean withMerge;
+
+  public ObjectUpdater(CloseableHttpAsyncClient client, Config config, ObjectsPath objectsPath) {
+    super(client, config);
+    this.objectsPath = Objects.requireNonNull(objectsPath);
+  }
+
+  public ObjectUpdater withID(String id) {
+    this.id = id;
+    return this;
+  }
+
+  public ObjectUpdater withClassName(String className) {
+    this.className = className;
+    return this;
+  }
+
+  public ObjectUpdater withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  public ObjectUpdater withTenant(String tenant) {
+    this.tenant = tenant;
+    return this;
+  }
+
+  public ObjectUpdater withProperties(Map<String, Object> properties) {
+    this.properties = properties;
+    return this;
+  }
+
+  public ObjectUpdater withVector(Float[] vector) {
+    this.vector = FloatArrays.toPrimitive(vector);
+    return this;
+  }
+
+  public ObjectUpdater withVector(float[] vector) {
+    this.vector = vector;
+    return this;
+  }
+
+  public ObjectUpdater withVectors(Map<String, Float[]> vectors) {
+    this.vectors = FloatArrays.toPrimitive(vectors);
+    return this;
+  }
+
+  public ObjectUpdater withPrimitiveVectors(Map<String, float[]> vectors) {
+    this.vectors = vectors;
+    return this;
+  }
+
+  public ObjectUpdater withMerge() {
+    this.withMerge = true;
+    return this;
+  }
+
+  @Override
+  public CompletableFuture<Result<Boolean>> run() {
+    return run(null);
+  }
+
+  @Override
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+    if (StringUtils.isEmpty(id)) {
+      WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
+        .message("id cannot be empty").build();
+      WeaviateErrorResponse errors = WeaviateErrorResponse.builder()
+        .error(Collections.singletonList(errorMessage)).build();
+      return CompletableFuture.completedFuture(new Result<>(500, false, errors));
+    }
+    String path = objectsPath.buildUpdate(ObjectsPath.Params.builder()
+      .id(id)
+      .className(className)
+      .consistencyLevel(consistencyLevel)
+      .build());
+    WeaviateObject obj = WeaviateObject.builder()
+      .className(className)
+      .properties(properties)
+      .id(id)
+      .vector(vector)
+      .primitiveVectors(vectors)
+      .tenant(tenant)
+      .build();
+    if (BooleanUtils.isTrue(withMerge)) {
+      return sendPatchRequest(path, obj, callback, parser(HttpStatus.SC_NO_CONTENT));
+    }
+    return sendPutRequest(path, obj, callback, parser(HttpStatus.SC_OK));
+  }
+
+  private ResponseParser<Boolean> parser(int successCode) {
+    return new ResponseParser<Boolean>() {
+      @Override
+      public Result<Boolean> parse(HttpResponse response, String body, ContentType contentType) {
+        Response<WeaviateObject> resp = this.serializer.toResponse(response.getCode(), body, WeaviateObject.class);
+        return new Result<>(resp.getStatusCode(), resp.getStatusCode() == successCode, resp.getErrors());
+      }
+    };
+  }
+}
@@ -0,0 +1,120 @@
+package io.weaviate.client.v1.async.graphql;
+
+import io.weaviate.client.v1.async.graphql.api.Aggregate;
+import io.weaviate.client.v1.async.graphql.api.Explore;
+import io.weaviate.client.v1.async.graphql.api.Get;
+import io.weaviate.client.v1.async.graphql.api.Raw;
+import io.weaviate.client.v1.graphql.query.argument.AskArgument;
+import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
+import io.weaviate.client.v1.graphql.query.argument.GroupArgument;
+import io.weaviate.client.v1.graphql.query.argument.GroupByArgument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearAudioArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearDepthArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearImageArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearImuArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearObjectArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextMoveParameters;
+import io.weaviate.client.v1.graphql.query.argument.NearThermalArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArgument;
+import io.weaviate.client.Config;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+public class GraphQL {
+  private final CloseableHttpAsyncClient client;
+  private final Config config;
+
+  public class Arguments {
+    public NearTextArgument.NearTextArgumentBuilder nearTextArgBuilder() {
+      return NearTextArgument.builder();
+    }
+
+    public Bm25Argument.Bm25ArgumentBuilder bm25ArgBuilder() {
+      return Bm25Argument.builder();
+    }
+
+    public HybridArgument.HybridArgumentBuilder hybridArgBuilder() {
+      return HybridArgument.builder();
+    }
+
+    public AskArgument.AskArgumentBuilder askArgBuilder() {
+      return AskArgument.builder();
+    }
+
+    public NearTextMoveParameters.NearTextMoveParametersBuilder nearTextMoveParameterBuilder() {
+      return NearTextMoveParameters.builder();
+    }
+
+    public NearObjectArgument.NearObjectArgumentBuilder nearObjectArgBuilder() {
+      return NearObjectArgument.builder();
+    }
+
+    public NearVectorArgument.NearVectorArgumentBuilder nearVectorArgBuilder() {
+      return NearVectorArgument.builder();
+    }
+
+    public NearImageArgument.NearImageArgumentBuilder nearImageArgBuilder() {
+      return NearImageArgument.builder();
+    }
+
+    public NearAudioArgument.NearAudioArgumentBuilder nearAudioArgBuilder() {
+      return NearAudioArgument.builder();
+    }
+
+    public NearVideoArgument.NearVideoArgumentBuilder nearVideoArgBuilder() {
+      return NearVideoArgument.builder();
+    }
+
+    public NearDepthArgument.NearDepthArgumentBuilder nearDepthArgBuilder() {
+      return NearDepthArgument.builder();
+    }
+
+    public NearThermalArgument.NearThermalArgumentBuilder nearThermalArgBuilder() {
+      return NearThermalArgument.builder();
+    }
+
+    public NearImuArgument.NearImuArgumentBuilder nearImuArgBuilder() {
+      return NearImuArgument.builder();
+    }
+
+    public GroupArgument.GroupArgumentBuilder groupArgBuilder() {
+      return GroupArgument.builder();
+    }
+
+    public SortArgument.SortArgumentBuilder sortArgBuilder() {
+      return SortArgument.builder();
+    }
+
+    public GroupByArgument.GroupByArgumentBuilder groupByArgBuilder() {
+      return GroupByArgument.builder();
+    }
+  }
+
+  public GraphQL(CloseableHttpAsyncClient client, Config config) {
+    this.client = client;
+    this.config = config;
+  }
+
+  public Get get() {
+    return new Get(client, config);
+  }
+
+  public Raw raw() {
+    return new Raw(client, config);
+  }
+
+  public Explore explore() {
+    return new Explore(client, config);
+  }
+
+  public Aggregate aggregate() {
+    return new Aggregate(client, config);
+  }
+
+  public GraphQL.Arguments arguments() {
+    return new GraphQL.Arguments();
+  }
+}
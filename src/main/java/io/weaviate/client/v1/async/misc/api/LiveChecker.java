@@ -6,7 +6,7 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.async.ResponseParser;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
@@ -19,12 +19,12 @@ public class LiveChecker extends AsyncBaseClient<Boolean> implements AsyncClient
   }
 
   @Override
-  public Future<Result<Boolean>> run() {
+  public CompletableFuture<Result<Boolean>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
     return sendGetRequest("/.well-known/live", callback, new ResponseParser<Boolean>() {
       @Override
       public Result<Boolean> parse(HttpResponse response, String body, ContentType contentType) {
@@ -5,7 +5,7 @@ import io.weaviate.client.base.AsyncBaseClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.v1.misc.model.Meta;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
@@ -16,12 +16,12 @@ public class MetaGetter extends AsyncBaseClient<Meta> implements AsyncClientResu
   }
 
   @Override
-  public Future<Result<Meta>> run() {
+  public CompletableFuture<Result<Meta>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Meta>> run(FutureCallback<Result<Meta>> callback) {
+  public CompletableFuture<Result<Meta>> run(FutureCallback<Result<Meta>> callback) {
     return sendGetRequest("/meta", Meta.class, callback);
   }
 }
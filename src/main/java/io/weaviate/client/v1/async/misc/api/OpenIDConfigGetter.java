@@ -5,7 +5,7 @@ import io.weaviate.client.base.AsyncBaseClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.v1.misc.model.OpenIDConfiguration;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
@@ -16,12 +16,12 @@ public class OpenIDConfigGetter extends AsyncBaseClient<OpenIDConfiguration> imp
   }
 
   @Override
-  public Future<Result<OpenIDConfiguration>> run() {
+  public CompletableFuture<Result<OpenIDConfiguration>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<OpenIDConfiguration>> run(FutureCallback<Result<OpenIDConfiguration>> callback) {
+  public CompletableFuture<Result<OpenIDConfiguration>> run(FutureCallback<Result<OpenIDConfiguration>> callback) {
     return sendGetRequest("/meta", OpenIDConfiguration.class, callback);
   }
 }
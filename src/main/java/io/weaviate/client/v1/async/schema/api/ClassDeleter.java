@@ -9,7 +9,6 @@ import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.async.ResponseParser;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -31,12 +30,12 @@ public class ClassDeleter extends AsyncBaseClient<Boolean> implements AsyncClien
   }
 
   @Override
-  public Future<Result<Boolean>> run() {
+  public CompletableFuture<Result<Boolean>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
     if (StringUtils.isEmpty(this.className)) {
       WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
         .message("classname cannot be empty").build();
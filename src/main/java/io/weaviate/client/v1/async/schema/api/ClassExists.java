@@ -10,7 +10,6 @@ import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.async.ResponseParser;
 import io.weaviate.client.v1.schema.model.WeaviateClass;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -33,12 +32,12 @@ public class ClassExists extends AsyncBaseClient<Boolean> implements AsyncClient
   }
 
   @Override
-  public Future<Result<Boolean>> run() {
+  public CompletableFuture<Result<Boolean>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
     if (StringUtils.isEmpty(this.className)) {
       WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
         .message("classname cannot be empty").build();
@@ -8,7 +8,6 @@ import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.v1.schema.model.WeaviateClass;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -29,12 +28,12 @@ public class ClassGetter extends AsyncBaseClient<WeaviateClass> implements Async
   }
 
   @Override
-  public Future<Result<WeaviateClass>> run() {
+  public CompletableFuture<Result<WeaviateClass>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<WeaviateClass>> run(FutureCallback<Result<WeaviateClass>> callback) {
+  public CompletableFuture<Result<WeaviateClass>> run(FutureCallback<Result<WeaviateClass>> callback) {
     if (StringUtils.isEmpty(this.className)) {
       WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
         .message("classname cannot be empty").build();
@@ -8,7 +8,7 @@ import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.async.ResponseParser;
 import io.weaviate.client.base.util.UrlEncoder;
 import io.weaviate.client.v1.schema.model.WeaviateClass;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
@@ -28,12 +28,12 @@ public class ClassUpdater extends AsyncBaseClient<Boolean> implements AsyncClien
   }
 
   @Override
-  public Future<Result<Boolean>> run() {
+  public CompletableFuture<Result<Boolean>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
     String path = String.format("/schema/%s", UrlEncoder.encodePathParam(clazz.getClassName()));
     return sendPutRequest(path, clazz, callback, new ResponseParser<Boolean>() {
       @Override
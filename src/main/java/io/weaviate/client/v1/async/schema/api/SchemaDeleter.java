@@ -10,7 +10,6 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
@@ -25,12 +24,12 @@ public class SchemaDeleter implements AsyncClientResult<Boolean> {
   }
 
   @Override
-  public Future<Result<Boolean>> run() {
+  public CompletableFuture<Result<Boolean>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+  public CompletableFuture<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
     CompletableFuture<Result<Schema>> getSchema = CompletableFuture.supplyAsync(() -> {
       try {
         return schemaGetter.run().get();
@@ -5,7 +5,7 @@ import io.weaviate.client.base.AsyncBaseClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.v1.schema.model.Schema;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
@@ -16,12 +16,12 @@ public class SchemaGetter extends AsyncBaseClient<Schema> implements AsyncClient
   }
 
   @Override
-  public Future<Result<Schema>> run() {
+  public CompletableFuture<Result<Schema>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Schema>> run(FutureCallback<Result<Schema>> callback) {
+  public CompletableFuture<Result<Schema>> run(FutureCallback<Result<Schema>> callback) {
     return sendGetRequest("/schema", Schema.class, callback);
   }
 }
@@ -9,7 +9,6 @@ import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.v1.schema.model.Shard;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
@@ -28,12 +27,12 @@ public class ShardsGetter extends AsyncBaseClient<Shard[]> implements AsyncClien
   }
 
   @Override
-  public Future<Result<Shard[]>> run() {
+  public CompletableFuture<Result<Shard[]>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Shard[]>> run(FutureCallback<Result<Shard[]>> callback) {
+  public CompletableFuture<Result<Shard[]>> run(FutureCallback<Result<Shard[]>> callback) {
     if (StringUtils.isEmpty(this.className)) {
       WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder()
         .message("className cannot be empty").build();
@@ -11,7 +11,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
@@ -42,12 +41,12 @@ public class ShardsUpdater extends AsyncBaseClient<ShardStatus> implements Async
   }
 
   @Override
-  public Future<Result<ShardStatus>> run() {
+  public CompletableFuture<Result<ShardStatus>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<ShardStatus>> run(FutureCallback<Result<ShardStatus>> callback) {
+  public CompletableFuture<Result<ShardStatus>> run(FutureCallback<Result<ShardStatus>> callback) {
     List<String> emptyFieldNames = new ArrayList<>();
     if (StringUtils.isEmpty(this.className)) {
       emptyFieldNames.add("className");
@@ -6,7 +6,7 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.util.UrlEncoder;
 import io.weaviate.client.v1.schema.model.Tenant;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
@@ -29,12 +29,12 @@ public class TenantsCreator extends AsyncBaseClient<Tenant[]> implements AsyncCl
   }
 
   @Override
-  public Future<Result<Tenant[]>> run() {
+  public CompletableFuture<Result<Tenant[]>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<Tenant[]>> run(FutureCallback<Result<Tenant[]>> callback) {
+  public CompletableFuture<Result<Tenant[]>> run(FutureCallback<Result<Tenant[]>> callback) {
     String path = String.format("/schema/%s/tenants", UrlEncoder.encodePathParam(className));
     return sendPostRequest(path, tenants, Tenant[].class, callback);
   }
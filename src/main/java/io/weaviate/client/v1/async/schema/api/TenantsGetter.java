@@ -11,7 +11,7 @@ import io.weaviate.client.v1.schema.model.Tenant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
@@ -25,12 +25,12 @@ public class TenantsGetter extends AsyncBaseClient<List<Tenant>> implements Asyn
   }
 
   @Override
-  public Future<Result<List<Tenant>>> run() {
+  public CompletableFuture<Result<List<Tenant>>> run() {
     return run(null);
   }
 
   @Override
-  public Future<Result<List<Tenant>>> run(FutureCallback<Result<List<Tenant>>> callback) {
+  public CompletableFuture<Result<List<Tenant>>> run(FutureCallback<Result<List<Tenant>>> callback) {
     String path = String.format("/schema/%s/tenants", UrlEncoder.encodePathParam(className));
     return sendGetRequest(path, callback, new ResponseParser<List<Tenant>>() {
       @Override
@@ -2,6 +2,7 @@ package io.weaviate.client.v1.auth.nimbus;
 
 import io.weaviate.client.base.http.builder.HttpApacheClientBuilder;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import io.weaviate.client.Config;
@@ -34,26 +35,29 @@ public class BaseAuth {
   }
 
   public AuthResponse getIdAndTokenEndpoint(Config config) throws AuthException {
-    HttpClient client = new CommonsHttpClientImpl(config.getHeaders(), HttpApacheClientBuilder.build(config));
-    String url = config.getBaseURL() + OIDC_URL;
-    HttpResponse response = sendGetRequest(client, url);
-    switch (response.getStatusCode()) {
-      case 404:
-        String msg = "Auth001: The client was configured to use authentication, but weaviate is configured without authentication. Are you sure this is " +
-          "correct?";
-        log(msg);
-        throw new AuthException(msg);
-      case 200:
-        OIDCConfig oidcConfig = serializer.toObject(response.getBody(), OIDCConfig.class);
-        HttpResponse resp = sendGetRequest(client, oidcConfig.getHref());
-        if (resp.getStatusCode() != 200) {
-          String errorMessage = String.format("OIDC configuration url %s returned status code %s", oidcConfig.getHref(), resp.getStatusCode());
+    try (CommonsHttpClientImpl client = new CommonsHttpClientImpl(config.getHeaders(), HttpApacheClientBuilder.build(config))) {
+      String url = config.getBaseURL() + OIDC_URL;
+      HttpResponse response = sendGetRequest(client, url);
+      switch (response.getStatusCode()) {
+        case 404:
+          String msg = "Auth001: The client was configured to use authentication, but weaviate is configured without authentication. Are you sure this is " +
+            "correct?";
+          log(msg);
+          throw new AuthException(msg);
+        case 200:
+          OIDCConfig oidcConfig = serializer.toObject(response.getBody(), OIDCConfig.class);
+          HttpResponse resp = sendGetRequest(client, oidcConfig.getHref());
+          if (resp.getStatusCode() != 200) {
+            String errorMessage = String.format("OIDC configuration url %s returned status code %s", oidcConfig.getHref(), resp.getStatusCode());
+            throw new AuthException(errorMessage);
+          }
+          return new AuthResponse(oidcConfig.getClientId(), oidcConfig.getScopes(), resp.getBody());
+        default:
+          String errorMessage = String.format("OIDC configuration url %s returned status code %s", url, response.getStatusCode());
           throw new AuthException(errorMessage);
-        }
-        return new AuthResponse(oidcConfig.getClientId(), oidcConfig.getScopes(), resp.getBody());
-      default:
-        String errorMessage = String.format("OIDC configuration url %s returned status code %s", url, response.getStatusCode());
-        throw new AuthException(errorMessage);
+      }
+    } catch (IOException e) {
+      throw new AuthException(e);
     }
   }
 
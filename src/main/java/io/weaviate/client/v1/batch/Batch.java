@@ -1,6 +1,7 @@
 package io.weaviate.client.v1.batch;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.BeaconPath;
 import io.weaviate.client.base.util.DbVersionSupport;
@@ -22,15 +23,17 @@ public class Batch {
   private final ObjectsPath objectsPath;
   private final ReferencesPath referencesPath;
   private final GrpcVersionSupport grpcVersionSupport;
+  private final GrpcChannelPool grpcChannelPool;
   private final Data data;
 
   public Batch(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport, GrpcVersionSupport grpcVersionSupport,
-    AccessTokenProvider tokenProvider, Data data) {
+    AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool, Data data) {
     this.config = config;
     this.httpClient = httpClient;
     this.tokenProvider = tokenProvider;
     this.beaconPath = new BeaconPath(dbVersionSupport);
     this.grpcVersionSupport = grpcVersionSupport;
+    this.grpcChannelPool = grpcChannelPool;
     this.objectsPath = new ObjectsPath();
     this.referencesPath = new ReferencesPath();
     this.data = data;
@@ -41,7 +44,7 @@ public class Batch {
   }
 
   public ObjectsBatcher objectsBatcher(ObjectsBatcher.BatchRetriesConfig batchRetriesConfig) {
-    return ObjectsBatcher.create(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, batchRetriesConfig);
+    return ObjectsBatcher.create(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, grpcChannelPool, batchRetriesConfig);
   }
 
   public ObjectsBatcher objectsAutoBatcher() {
@@ -67,11 +70,12 @@ public class Batch {
 
   public ObjectsBatcher objectsAutoBatcher(ObjectsBatcher.BatchRetriesConfig batchRetriesConfig,
                                            ObjectsBatcher.AutoBatchConfig autoBatchConfig) {
-    return ObjectsBatcher.createAuto(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, batchRetriesConfig, autoBatchConfig);
+    return ObjectsBatcher.createAuto(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, grpcChannelPool,
+      batchRetriesConfig, autoBatchConfig);
   }
 
   public ObjectsBatchDeleter objectsBatchDeleter() {
-    return new ObjectsBatchDeleter(httpClient, config, objectsPath);
+    return new ObjectsBatchDeleter(httpClient, config, objectsPath, tokenProvider, grpcChannelPool);
   }
 
   public ReferencePayloadBuilder referencePayloadBuilder() {
@@ -1,7 +1,15 @@
 package io.weaviate.client.v1.batch.api;
 
 import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
+import io.weaviate.client.base.grpc.GrpcClient;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatchDelete;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.batch.grpc.BatchDeleteConverter;
 import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.BatchDeleteResult;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,9 +21,14 @@ import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
 
+import java.util.Collections;
+
 public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> implements ClientResult<BatchDeleteResponse> {
 
+  private final Config config;
   private final ObjectsPath objectsPath;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
   private String className;
   private String consistencyLevel;
   private String tenant;
@@ -25,8 +38,16 @@ public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> impleme
 
 
   public ObjectsBatchDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
+    this(httpClient, config, objectsPath, null, null);
+  }
+
+  public ObjectsBatchDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath,
+                             AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool) {
     super(httpClient, config);
+    this.config = config;
     this.objectsPath = objectsPath;
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
   }
 
 
@@ -80,6 +101,41 @@ public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> impleme
     return new Result<>(resp);
   }
 
+  /**
+   * Runs batch delete over gRPC. Requires gRPC host to be set in {@link Config}.
+   * <p>
+   * With verbose output, per-object results are available by iterating the returned {@link BatchDeleteResult},
+   * without building a JSON body of all deleted objects first.
+   */
+  public Result<BatchDeleteResult> runGrpc() {
+    if (!config.useGRPC()) {
+      return error(new IllegalStateException("gRPC host is not configured"));
+    }
+    try {
+      WeaviateProtoBatchDelete.BatchDeleteRequest request = BatchDeleteConverter.toBatchDeleteRequest(
+        className, where, output, dryRun, consistencyLevel, tenant);
+      WeaviateProtoBatchDelete.BatchDeleteReply reply;
+      if (grpcChannelPool != null) {
+        reply = GrpcClient.create(config, tokenProvider, grpcChannelPool).batchDelete(request);
+      } else {
+        GrpcClient grpcClient = GrpcClient.create(config, tokenProvider);
+        try {
+          reply = grpcClient.batchDelete(request);
+        } finally {
+          grpcClient.shutdown();
+        }
+      }
+      return new Result<>(200, BatchDeleteConverter.toBatchDeleteResult(reply), null);
+    } catch (Exception e) {
+      return error(e);
+    }
+  }
+
+  private Result<BatchDeleteResult> error(Exception e) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(e.getMessage()).throwable(e).build();
+    return new Result<>(0, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
 
   @Getter
   @Builder
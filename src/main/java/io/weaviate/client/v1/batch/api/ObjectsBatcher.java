@@ -1,5 +1,6 @@
 package io.weaviate.client.v1.batch.api;
 
+import io.grpc.Status;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
@@ -7,6 +8,7 @@ import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
 import io.weaviate.client.base.grpc.GrpcClient;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.Assert;
@@ -15,29 +17,56 @@ import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
 import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.batch.grpc.BatchObjectConverter;
+import io.weaviate.client.v1.batch.model.AutoBatchStats;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.batch.model.ObjectGetResponseStatus;
 import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
 import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
+import io.weaviate.client.v1.batch.model.QueueFullPolicy;
+import io.weaviate.client.v1.batch.spool.BatchSpool;
+import io.weaviate.client.v1.batch.spool.ObjectSpoolCodec;
+import io.weaviate.client.v1.batch.util.BatchQueue;
+import io.weaviate.client.v1.batch.util.DynamicBatchSizer;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.batch.util.PendingBatches;
+import io.weaviate.client.v1.batch.util.TransientErrors;
 import io.weaviate.client.v1.data.Data;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.query.Get;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.search.model.SearchHit;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -51,70 +80,116 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   implements ClientResult<ObjectGetResponse[]>, Closeable {
 
+  private static final int EXISTENCE_CHECK_CHUNK_SIZE = 500;
+
+  private final HttpClient httpClient;
+  private final Config config;
   private final Data data;
   private final ObjectsPath objectsPath;
 
   private final BatchRetriesConfig batchRetriesConfig;
   private final AutoBatchConfig autoBatchConfig;
   private final boolean autoRunEnabled;
-  private final ScheduledExecutorService executorService;
+  private final ScheduledThreadPoolExecutor executorService;
+  private final DynamicBatchSizer batchSizer;
   private final DelayedExecutor<?> delayedExecutor;
-  private final List<WeaviateObject> objects;
-  private String consistencyLevel;
+  private final BatchQueue<WeaviateObject> objects;
+  private final BatchSpool<WeaviateObject> spool;
+  private final Semaphore inFlightBatches;
+  // batches taken from the queue by auto run and not yet registered as undone
+  private final PendingBatches pendingBatches;
+  private volatile String consistencyLevel;
   private final List<CompletableFuture<Result<ObjectGetResponse[]>>> undoneFutures;
   private final boolean useGRPC;
-  private final AccessTokenProvider tokenProvider;
+  // batches are sent with non-blocking gRPC calls, completed on callbacks instead of pool threads
+  private final boolean pipelined;
+  private final GrpcClient grpcClient;
   private final GrpcVersionSupport grpcVersionSupport;
-  private final Config config;
-
+  // ids assigned by batcher, objects with such ids could not exist before being sent
+  private final Set<String> generatedIds;
 
   private ObjectsBatcher(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
                          AccessTokenProvider tokenProvider, GrpcVersionSupport grpcVersionSupport,
-                         BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+                         GrpcChannelPool grpcChannelPool, BatchRetriesConfig batchRetriesConfig,
+                         AutoBatchConfig autoBatchConfig) {
     super(httpClient, config);
+    this.httpClient = httpClient;
     this.config = config;
     this.useGRPC = config.useGRPC();
-    this.tokenProvider = tokenProvider;
+    this.grpcClient = useGRPC ? GrpcClient.create(config, tokenProvider, grpcChannelPool) : null;
     this.data = data;
     this.objectsPath = objectsPath;
     this.grpcVersionSupport = grpcVersionSupport;
-    this.objects = new ArrayList<>();
+    this.pendingBatches = new PendingBatches();
+    this.generatedIds = ConcurrentHashMap.newKeySet();
     this.batchRetriesConfig = batchRetriesConfig;
 
     if (autoBatchConfig != null) {
       this.autoRunEnabled = true;
       this.autoBatchConfig = autoBatchConfig;
-      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
+      if (autoBatchConfig.dynamic) {
+        this.batchSizer = new DynamicBatchSizer(autoBatchConfig.batchSize, autoBatchConfig.minBatchSize,
+          autoBatchConfig.maxBatchSize, autoBatchConfig.poolSize, autoBatchConfig.targetLatencyMs);
+        this.executorService = new ScheduledThreadPoolExecutor(batchSizer.getConcurrency());
+      } else {
+        this.batchSizer = null;
+        this.executorService = new ScheduledThreadPoolExecutor(autoBatchConfig.poolSize);
+      }
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
+      this.pipelined = useGRPC && autoBatchConfig.grpcPipelineWindow > 0;
+      this.inFlightBatches = new Semaphore(pipelined
+        ? Math.min(autoBatchConfig.maxInFlightBatches, autoBatchConfig.grpcPipelineWindow)
+        : autoBatchConfig.maxInFlightBatches);
+      this.objects = new BatchQueue<>(autoBatchConfig.maxQueuedObjects, autoBatchConfig.queueFullPolicy);
+      this.spool = autoBatchConfig.spoolDirectory != null
+        ? openSpool(autoBatchConfig.spoolDirectory, autoBatchConfig.spoolFsync)
+        : null;
     } else {
       this.autoRunEnabled = false;
       this.autoBatchConfig = null;
       this.executorService = null;
+      this.batchSizer = null;
       this.delayedExecutor = new SleepDelayedExecutor();
       this.undoneFutures = null;
+      this.pipelined = false;
+      this.inFlightBatches = null;
+      this.objects = new BatchQueue<>();
+      this.spool = null;
+    }
+  }
+
+  private static BatchSpool<WeaviateObject> openSpool(Path directory, boolean fsync) {
+    try {
+      return BatchSpool.open(directory, new ObjectSpoolCodec(), fsync);
+    } catch (IOException e) {
+      throw new UncheckedIOException("could not open batch spool", e);
     }
   }
 
   public static ObjectsBatcher create(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
                                       AccessTokenProvider tokenProvider, GrpcVersionSupport grpcVersionSupport,
-                                      BatchRetriesConfig batchRetriesConfig) {
+                                      GrpcChannelPool grpcChannelPool, BatchRetriesConfig batchRetriesConfig) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
-    return new ObjectsBatcher(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, batchRetriesConfig, null);
+    return new ObjectsBatcher(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, grpcChannelPool,
+      batchRetriesConfig, null);
   }
 
   public static ObjectsBatcher createAuto(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
                                           AccessTokenProvider tokenProvider, GrpcVersionSupport grpcVersionSupport,
-                                          BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+                                          GrpcChannelPool grpcChannelPool, BatchRetriesConfig batchRetriesConfig,
+                                          AutoBatchConfig autoBatchConfig) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
     Assert.requiredNotNull(autoBatchConfig, "autoBatchConfig");
-    return new ObjectsBatcher(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport, batchRetriesConfig, autoBatchConfig);
+    ObjectsBatcher batcher = new ObjectsBatcher(httpClient, config, data, objectsPath, tokenProvider, grpcVersionSupport,
+      grpcChannelPool, batchRetriesConfig, autoBatchConfig);
+    batcher.replaySpool();
+    return batcher;
   }
 
 
@@ -122,9 +197,28 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return withObjects(object);
   }
 
+  /**
+   * Adds objects to the batch. Can be called concurrently by multiple producers.
+   * <p>
+   * In auto mode, if adding objects would exceed {@link AutoBatchConfig#getMaxQueuedObjects()},
+   * call either blocks until enough objects are sent or throws {@link RejectedExecutionException},
+   * depending on {@link AutoBatchConfig#getQueueFullPolicy()}.
+   */
   public ObjectsBatcher withObjects(WeaviateObject... objects) {
     addMissingIds(objects);
-    this.objects.addAll(Arrays.asList(objects));
+    if (spool != null) {
+      spool.append(objects);
+    }
+    try {
+      this.objects.addAll(objects);
+    } catch (RejectedExecutionException e) {
+      forgetGeneratedIds(Arrays.asList(objects));
+      if (spool != null) {
+        // rejected objects are caller's responsibility, they should not be replayed
+        Arrays.stream(objects).forEach(spool::ack);
+      }
+      throw e;
+    }
     autoRun();
     return this;
   }
@@ -141,13 +235,15 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return null;
     }
 
-    if (objects.isEmpty()) {
+    List<WeaviateObject> batch = objects.poll(Integer.MAX_VALUE);
+    if (batch.isEmpty()) {
       return new Result<>(0, new ObjectGetResponse[0], null);
     }
 
-    List<WeaviateObject> batch = extractBatch(objects.size());
-    return runRecursively(batch, 0, 0, null,
+    Result<ObjectGetResponse[]> result = runRecursively(batch, 0, 0, 0, null,
       (DelayedExecutor<Result<ObjectGetResponse[]>>) delayedExecutor);
+    forgetGeneratedIds(batch);
+    return result;
   }
 
   public void flush() {
@@ -156,17 +252,26 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
-    if (!objects.isEmpty()) {
-      List<WeaviateObject> batch = extractBatch(objects.size());
-      runInThread(batch);
-    }
+    while (true) {
+      List<WeaviateObject> batch = objects.poll(currentBatchSize());
+      if (!batch.isEmpty()) {
+        acquireInFlightBatch();
+        runInThread(batch);
+        continue;
+      }
+      if (!pendingBatches.isEmpty()) {
+        // batch taken by concurrent auto run is about to be registered
+        pendingBatches.awaitNone();
+        continue;
+      }
 
-    CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
-    if (futures.length == 0) {
-      return;
+      // completed batches may send remaining objects, so queue is checked again after waiting
+      CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
+      if (futures.length == 0) {
+        return;
+      }
+      CompletableFuture.allOf(futures).join();
     }
-
-    CompletableFuture.allOf(futures).join();
   }
 
   @Override
@@ -175,6 +280,10 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
+    if (pipelined) {
+      // pipelined calls are not executed by pool threads, so they are awaited separately
+      awaitUndoneFutures();
+    }
     executorService.shutdown();
     try {
       if (!executorService.awaitTermination(autoBatchConfig.awaitTerminationMs, TimeUnit.MILLISECONDS)) {
@@ -183,23 +292,92 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     } catch (InterruptedException e) {
       executorService.shutdownNow();
     }
+
+    if (spool != null) {
+      try {
+        spool.close();
+      } catch (IOException e) {
+        // unacknowledged objects are replayed on next start anyway
+      }
+    }
+  }
+
+  private void awaitUndoneFutures() {
+    CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
+    try {
+      CompletableFuture.allOf(futures).get(autoBatchConfig.awaitTerminationMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // results are passed to callback, remaining calls are abandoned
+    }
+  }
+
+  /**
+   * Queues objects left in the spool by previous run.
+   */
+  private void replaySpool() {
+    if (spool == null) {
+      return;
+    }
+    for (WeaviateObject object : spool.takePending()) {
+      while (true) {
+        try {
+          objects.addAll(object);
+          break;
+        } catch (RejectedExecutionException e) {
+          flush();
+        }
+      }
+      autoRun();
+    }
+  }
+
+  private void completeSpooled(List<WeaviateObject> batch, Result<ObjectGetResponse[]> result) {
+    if (spool == null) {
+      return;
+    }
+    // objects without response (e.g. cluster unavailable after all retries) stay in the spool for next run,
+    // batches rejected as a whole with non-transient status (e.g. 422 for unknown class) would be rejected again
+    boolean allDone = result != null
+      && (!result.hasErrors() || !TransientErrors.isTransientStatus(result.getError().getStatusCode()));
+    Set<String> doneIds = new HashSet<>();
+    if (!allDone && result != null && result.getResult() != null) {
+      Arrays.stream(result.getResult()).forEach(r -> doneIds.add(r.getId()));
+    }
+    for (WeaviateObject object : batch) {
+      if (allDone || doneIds.contains(object.getId())) {
+        spool.ack(object);
+      } else {
+        spool.release(object);
+      }
+    }
   }
 
 
   private void addMissingIds(WeaviateObject[] objects) {
     Arrays.stream(objects)
       .filter(o -> o.getId() == null)
-      .forEach(o -> o.setId(UUID.randomUUID().toString()));
+      .forEach(o -> {
+        String id = UUID.randomUUID().toString();
+        o.setId(id);
+        generatedIds.add(id);
+      });
   }
 
-  private List<WeaviateObject> extractBatch(int batchSize) {
-    List<WeaviateObject> batch = new ArrayList<>(batchSize);
-    List<WeaviateObject> sublist = objects.subList(0, batchSize);
-
-    batch.addAll(sublist);
-    sublist.clear();
+  private void forgetGeneratedIds(List<WeaviateObject> batch) {
+    if (!generatedIds.isEmpty()) {
+      batch.forEach(o -> generatedIds.remove(o.getId()));
+    }
+  }
 
-    return batch;
+  private void acquireInFlightBatch() {
+    try {
+      inFlightBatches.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("interrupted while waiting for in-flight batch to complete", e);
+    }
   }
 
   private void autoRun() {
@@ -207,17 +385,48 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
-    while (objects.size() >= autoBatchConfig.batchSize) {
-      List<WeaviateObject> batch = extractBatch(autoBatchConfig.batchSize);
-      runInThread(batch);
+    // full batches are sent as long as in-flight limit allows, remaining ones are sent when in-flight batches complete
+    while (true) {
+      // counted as pending before taking objects from the queue, so flush does not miss the batch
+      pendingBatches.increment();
+      try {
+        if (!inFlightBatches.tryAcquire()) {
+          return;
+        }
+        List<WeaviateObject> batch = objects.pollFull(currentBatchSize());
+        if (batch.isEmpty()) {
+          inFlightBatches.release();
+          // concurrent producer might have failed to acquire the permit held here, so queue is checked again
+          if (objects.size() < currentBatchSize()) {
+            return;
+          }
+          continue;
+        }
+        runInThread(batch);
+      } finally {
+        pendingBatches.decrement();
+      }
     }
   }
 
+  private int currentBatchSize() {
+    return batchSizer != null ? batchSizer.getBatchSize() : autoBatchConfig.batchSize;
+  }
+
+  /**
+   * Current batch size, concurrency and observed throughput of dynamic auto batcher.
+   *
+   * @return stats, null if batcher does not run in dynamic mode
+   */
+  public AutoBatchStats getAutoBatchStats() {
+    return batchSizer != null ? batchSizer.getStats() : null;
+  }
+
   private void runInThread(List<WeaviateObject> batch) {
-    CompletableFuture<Result<ObjectGetResponse[]>> future = CompletableFuture.supplyAsync(
-      () -> createRunFuture(batch),
-      executorService
-    ).thenCompose(f -> f);
+    // pipelined call does not block, so there is no need to hand it over to pool thread
+    CompletableFuture<Result<ObjectGetResponse[]>> future = pipelined
+      ? createRunFuture(batch)
+      : CompletableFuture.supplyAsync(() -> createRunFuture(batch), executorService).thenCompose(f -> f);
 
     if (autoBatchConfig.callback != null) {
       future = future.whenComplete((result, e) -> autoBatchConfig.callback.accept(result));
@@ -225,17 +434,49 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
 
     CompletableFuture<Result<ObjectGetResponse[]>> undoneFuture = future;
     undoneFutures.add(undoneFuture);
-    undoneFuture.whenComplete((result, ex) -> undoneFutures.remove(undoneFuture));
+    undoneFuture.whenComplete((result, ex) -> {
+      undoneFutures.remove(undoneFuture);
+      inFlightBatches.release();
+      autoRun();
+    });
   }
 
   private CompletableFuture<Result<ObjectGetResponse[]>> createRunFuture(List<WeaviateObject> batch) {
-    return runRecursively(batch, 0, 0, null,
-      (DelayedExecutor<CompletableFuture<Result<ObjectGetResponse[]>>>) delayedExecutor);
+    CompletableFuture<Result<ObjectGetResponse[]>> future = pipelined
+      ? runPipelined(batch, 0, 0, 0, null)
+      : runRecursively(batch, 0, 0, 0, null, (DelayedExecutor<CompletableFuture<Result<ObjectGetResponse[]>>>) delayedExecutor);
+    return future.whenComplete((result, e) -> {
+      forgetGeneratedIds(batch);
+      completeSpooled(batch, result);
+    });
   }
 
   private <T> T runRecursively(List<WeaviateObject> batch, int connectionErrorCount, int timeoutErrorCount,
-                               List<ObjectGetResponse> combinedSingleResponses, DelayedExecutor<T> delayedExecutor) {
+                               int objectErrorCount, List<ObjectGetResponse> combinedSingleResponses,
+                               DelayedExecutor<T> delayedExecutor) {
+    long start = System.currentTimeMillis();
     Result<ObjectGetResponse[]> result = useGRPC ? internalGrpcRun(batch) : internalRun(batch);
+    return handleResult(result, start, batch, connectionErrorCount, timeoutErrorCount, objectErrorCount,
+      combinedSingleResponses, delayedExecutor,
+      (b, c, t, o, responses) -> runRecursively(b, c, t, o, responses, delayedExecutor));
+  }
+
+  private CompletableFuture<Result<ObjectGetResponse[]>> runPipelined(List<WeaviateObject> batch, int connectionErrorCount,
+                                                                      int timeoutErrorCount, int objectErrorCount,
+                                                                      List<ObjectGetResponse> combinedSingleResponses) {
+    long start = System.currentTimeMillis();
+    return internalGrpcRunAsync(batch).thenCompose(result -> handleResult(result, start, batch, connectionErrorCount,
+      timeoutErrorCount, objectErrorCount, combinedSingleResponses,
+      (DelayedExecutor<CompletableFuture<Result<ObjectGetResponse[]>>>) delayedExecutor, this::runPipelined));
+  }
+
+  private <T> T handleResult(Result<ObjectGetResponse[]> result, long start, List<WeaviateObject> batch,
+                             int connectionErrorCount, int timeoutErrorCount, int objectErrorCount,
+                             List<ObjectGetResponse> combinedSingleResponses, DelayedExecutor<T> delayedExecutor,
+                             BatchRun<T> rerun) {
+    if (batchSizer != null) {
+      adjustBatchSize(result, batch.size(), System.currentTimeMillis() - start);
+    }
 
     if (result.hasErrors()) {
       List<WeaviateErrorMessage> messages = result.getError().getMessages();
@@ -263,16 +504,33 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
         if (executeAgain) {
           int lambdaConnectionErrorCount = connectionErrorCount;
           int lambdaTimeoutErrorCount = timeoutErrorCount;
+          int lambdaObjectErrorCount = objectErrorCount;
           List<WeaviateObject> lambdaBatch = batch;
           List<ObjectGetResponse> lambdaCombinedSingleResponses = combinedSingleResponses;
 
           return delayedExecutor.delayed(
             delay,
-            () -> runRecursively(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaCombinedSingleResponses, delayedExecutor)
+            () -> rerun.run(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaObjectErrorCount,
+              lambdaCombinedSingleResponses)
           );
         }
       }
     } else {
+      // objects failed with transient errors are sent again, with exponential backoff
+      Pair<List<ObjectGetResponse>, List<WeaviateObject>> pair = splitTransientFailures(batch, result.getResult());
+      if (ObjectUtils.isNotEmpty(pair.getRight()) && objectErrorCount++ < batchRetriesConfig.maxObjectRetries) {
+        int lambdaConnectionErrorCount = connectionErrorCount;
+        int lambdaTimeoutErrorCount = timeoutErrorCount;
+        int lambdaObjectErrorCount = objectErrorCount;
+        List<WeaviateObject> lambdaBatch = pair.getRight();
+        List<ObjectGetResponse> lambdaCombinedSingleResponses = combineSingleResponses(combinedSingleResponses, pair.getLeft());
+
+        return delayedExecutor.delayed(
+          TransientErrors.retryDelay(batchRetriesConfig.retriesIntervalMs, objectErrorCount),
+          () -> rerun.run(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaObjectErrorCount,
+            lambdaCombinedSingleResponses)
+        );
+      }
       batch = null;
     }
 
@@ -280,6 +538,21 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return delayedExecutor.now(finalResult);
   }
 
+  private void adjustBatchSize(Result<ObjectGetResponse[]> result, int objects, long latencyMs) {
+    // transient per-object errors (e.g. too many requests) signal overload as well
+    if (result.hasErrors()
+      || (result.getResult() != null && Arrays.stream(result.getResult()).anyMatch(this::isTransientError))) {
+      batchSizer.onFailure(latencyMs);
+    } else {
+      batchSizer.onSuccess(objects, latencyMs);
+    }
+
+    int concurrency = batchSizer.getConcurrency();
+    if (executorService.getCorePoolSize() != concurrency) {
+      executorService.setCorePoolSize(concurrency);
+    }
+  }
+
   private Result<ObjectGetResponse[]> internalRun(List<WeaviateObject> batch) {
     ObjectsBatchRequestBody batchRequest = ObjectsBatchRequestBody.builder()
       .objects(batch.toArray(new WeaviateObject[0]))
@@ -288,11 +561,27 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
         .consistencyLevel(consistencyLevel)
         .build());
-    Response<ObjectGetResponse[]> resp = sendPostRequest(path, batchRequest, ObjectGetResponse[].class);
+    Response<ObjectGetResponse[]> resp = sendPostRequestWithoutRetries(path, batchRequest, ObjectGetResponse[].class);
     return new Result<>(resp);
   }
 
   private Result<ObjectGetResponse[]> internalGrpcRun(List<WeaviateObject> batch) {
+    WeaviateProtoBatch.BatchObjectsReply batchObjectsReply = grpcClient.batchObjects(buildGrpcRequest(batch));
+    return toResult(batch, batchObjectsReply);
+  }
+
+  private CompletableFuture<Result<ObjectGetResponse[]>> internalGrpcRunAsync(List<WeaviateObject> batch) {
+    CompletableFuture<WeaviateProtoBatch.BatchObjectsReply> reply;
+    try {
+      reply = grpcClient.batchObjectsAsync(buildGrpcRequest(batch));
+    } catch (RuntimeException e) {
+      reply = new CompletableFuture<>();
+      reply.completeExceptionally(e);
+    }
+    return reply.handle((batchObjectsReply, e) -> e != null ? toErrorResult(e) : toResult(batch, batchObjectsReply));
+  }
+
+  private WeaviateProtoBatch.BatchObjectsRequest buildGrpcRequest(List<WeaviateObject> batch) {
     BatchObjectConverter batchObjectConverter = new BatchObjectConverter(grpcVersionSupport);
     List<WeaviateProtoBatch.BatchObject> batchObjects = batch.stream()
       .map(batchObjectConverter::toBatchObject)
@@ -310,46 +599,142 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       batchObjectsRequestBuilder.setConsistencyLevel(cl);
     }
 
-    WeaviateProtoBatch.BatchObjectsRequest batchObjectsRequest = batchObjectsRequestBuilder.build();
-    WeaviateProtoBatch.BatchObjectsReply batchObjectsReply;
-    GrpcClient grpcClient = GrpcClient.create(this.config, this.tokenProvider);
-    try {
-      batchObjectsReply = grpcClient.batchObjects(batchObjectsRequest);
-    } finally {
-      grpcClient.shutdown();
-    }
-
-    List<WeaviateErrorMessage> weaviateErrorMessages = batchObjectsReply.getErrorsList().stream()
-      .map(WeaviateProtoBatch.BatchObjectsReply.BatchError::getError)
-      .filter(e -> !e.isEmpty())
-      .map(msg -> WeaviateErrorMessage.builder().message(msg).build())
-      .collect(Collectors.toList());
+    return batchObjectsRequestBuilder.build();
+  }
 
-    if (!weaviateErrorMessages.isEmpty()) {
-      WeaviateErrorResponse weaviateErrorResponse = WeaviateErrorResponse.builder()
-        .code(422).message(StringUtils.join(weaviateErrorMessages, ",")).error(weaviateErrorMessages).build();
-      return new Result<>(422, null, weaviateErrorResponse);
+  private Result<ObjectGetResponse[]> toResult(List<WeaviateObject> batch, WeaviateProtoBatch.BatchObjectsReply batchObjectsReply) {
+    // errors refer to objects by their index in the request, same as REST per-object results
+    Map<Integer, String> errorsByIndex = new HashMap<>();
+    for (WeaviateProtoBatch.BatchObjectsReply.BatchError error : batchObjectsReply.getErrorsList()) {
+      if (!error.getError().isEmpty()) {
+        errorsByIndex.put(error.getIndex(), error.getError());
+      }
     }
 
-    ObjectGetResponse[] objectGetResponses = batch.stream().map(o -> {
+    ObjectGetResponse[] objectGetResponses = new ObjectGetResponse[batch.size()];
+    for (int i = 0; i < batch.size(); i++) {
+      WeaviateObject o = batch.get(i);
       ObjectGetResponse resp = new ObjectGetResponse();
       resp.setId(o.getId());
       resp.setClassName(o.getClassName());
       resp.setTenant(o.getTenant());
       ObjectsGetResponseAO2Result result = new ObjectsGetResponseAO2Result();
-      result.setStatus(ObjectGetResponseStatus.SUCCESS);
+      String error = errorsByIndex.get(i);
+      if (error == null) {
+        result.setStatus(ObjectGetResponseStatus.SUCCESS);
+      } else {
+        ObjectsGetResponseAO2Result.ErrorItem errorItem = new ObjectsGetResponseAO2Result.ErrorItem();
+        errorItem.setMessage(error);
+        ObjectsGetResponseAO2Result.ErrorResponse errorResponse = new ObjectsGetResponseAO2Result.ErrorResponse();
+        errorResponse.setError(Collections.singletonList(errorItem));
+        result.setStatus(ObjectGetResponseStatus.FAILED);
+        result.setErrors(errorResponse);
+      }
       resp.setResult(result);
-      return resp;
-    }).toArray(ObjectGetResponse[]::new);
+      objectGetResponses[i] = resp;
+    }
 
     return new Result<>(200, objectGetResponses, null);
   }
 
+  private Result<ObjectGetResponse[]> toErrorResult(Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (Status.fromThrowable(cause).getCode() == Status.Code.UNAVAILABLE) {
+      // retried the same way as connection errors of REST requests
+      ConnectException connectException = new ConnectException(cause.getMessage());
+      connectException.initCause(cause);
+      cause = connectException;
+    }
+    WeaviateErrorMessage message = WeaviateErrorMessage.builder().message(cause.getMessage()).throwable(cause).build();
+    return new Result<>(0, null, WeaviateErrorResponse.builder()
+      .code(0)
+      .error(Collections.singletonList(message))
+      .build());
+  }
+
+  /**
+   * Splits batch responses into final ones (successes and permanent failures)
+   * and objects failed with transient errors, which should be sent again.
+   */
+  private Pair<List<ObjectGetResponse>, List<WeaviateObject>> splitTransientFailures(List<WeaviateObject> batch,
+                                                                                     ObjectGetResponse[] responses) {
+    if (ArrayUtils.isEmpty(responses)) {
+      return Pair.of(Collections.emptyList(), Collections.emptyList());
+    }
+
+    Map<String, WeaviateObject> batchById = new HashMap<>(batch.size() * 4 / 3 + 1);
+    batch.forEach(o -> batchById.put(o.getId(), o));
+
+    List<ObjectGetResponse> finalResponses = new ArrayList<>(responses.length);
+    List<WeaviateObject> rerunBatch = new ArrayList<>();
+    for (ObjectGetResponse response : responses) {
+      WeaviateObject batchObject = batchById.get(response.getId());
+      if (batchObject != null && isTransientError(response)) {
+        rerunBatch.add(batchObject);
+      } else {
+        finalResponses.add(response);
+      }
+    }
+    return Pair.of(finalResponses, rerunBatch);
+  }
+
+  private boolean isTransientError(ObjectGetResponse response) {
+    if (response.getResult() == null || response.getResult().getErrors() == null
+      || response.getResult().getErrors().getError() == null) {
+      return false;
+    }
+    return response.getResult().getErrors().getError().stream()
+      .anyMatch(item -> TransientErrors.isTransient(item.getMessage()));
+  }
+
+  /**
+   * Splits batch into objects already stored and objects to be sent again.
+   * <p>
+   * Objects with ids generated by batcher are checked in bulk, with a single id-only Get query
+   * per class, tenant and chunk of ids - their presence means they were stored by this batch.
+   * Objects with ids provided by the caller may have existed before, so they are fetched
+   * one by one and compared with the batch object.
+   */
   private Pair<List<ObjectGetResponse>, List<WeaviateObject>> fetchCreatedAndBuildBatchToReRun(List<WeaviateObject> batch) {
     List<WeaviateObject> rerunBatch = new ArrayList<>(batch.size());
     List<ObjectGetResponse> createdResponses = new ArrayList<>(batch.size());
 
-    for (WeaviateObject batchObject: batch) {
+    Map<Pair<String, String>, List<WeaviateObject>> generatedByClassAndTenant = new LinkedHashMap<>();
+    List<WeaviateObject> toCompare = new ArrayList<>();
+    for (WeaviateObject batchObject : batch) {
+      if (generatedIds.contains(batchObject.getId())) {
+        generatedByClassAndTenant
+          .computeIfAbsent(Pair.of(batchObject.getClassName(), batchObject.getTenant()), k -> new ArrayList<>())
+          .add(batchObject);
+      } else {
+        toCompare.add(batchObject);
+      }
+    }
+
+    for (Map.Entry<Pair<String, String>, List<WeaviateObject>> entry : generatedByClassAndTenant.entrySet()) {
+      List<WeaviateObject> objects = entry.getValue();
+      for (int from = 0; from < objects.size(); from += EXISTENCE_CHECK_CHUNK_SIZE) {
+        List<WeaviateObject> chunk = objects.subList(from, Math.min(from + EXISTENCE_CHECK_CHUNK_SIZE, objects.size()));
+        Result<Set<String>> existingIdsResult = fetchExistingIds(entry.getKey().getLeft(), entry.getKey().getRight(), chunk);
+
+        if (existingIdsResult.hasErrors()) {
+          // bulk check not possible (e.g. older server), fall back to checking one by one
+          toCompare.addAll(chunk);
+          continue;
+        }
+
+        Set<String> existingIds = existingIdsResult.getResult();
+        for (WeaviateObject batchObject : chunk) {
+          if (existingIds.contains(batchObject.getId())) {
+            createdResponses.add(createResponseFromExistingObject(batchObject));
+          } else {
+            rerunBatch.add(batchObject);
+          }
+        }
+      }
+    }
+
+    for (WeaviateObject batchObject : toCompare) {
       Result<List<WeaviateObject>> existingResult = fetchExistingObject(batchObject);
 
       if (existingResult.hasErrors() || ObjectUtils.isEmpty(existingResult.getResult())) {
@@ -369,6 +754,39 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return Pair.of(createdResponses, rerunBatch);
   }
 
+  private Result<Set<String>> fetchExistingIds(String className, String tenant, List<WeaviateObject> chunk) {
+    WhereFilter idFilter = WhereFilter.builder()
+      .path("id")
+      .operator(chunk.size() == 1 ? Operator.Equal : Operator.ContainsAny)
+      .valueText(chunk.stream().map(WeaviateObject::getId).toArray(String[]::new))
+      .build();
+    Get get = new Get(httpClient, config)
+      .withClassName(className)
+      .withWhere(WhereArgument.builder().filter(idFilter).build())
+      .withLimit(chunk.size())
+      .withFields(Field.builder().name("_additional").fields(Field.builder().name("id").build()).build());
+    if (tenant != null) {
+      get.withTenant(tenant);
+    }
+    if (consistencyLevel != null) {
+      get.withConsistencyLevel(consistencyLevel);
+    }
+
+    Result<List<SearchHit>> hits = get.runTyped();
+    if (hits.hasErrors()) {
+      return new Result<>(hits.getError().getStatusCode(), null, WeaviateErrorResponse.builder()
+        .code(hits.getError().getStatusCode())
+        .error(hits.getError().getMessages())
+        .build());
+    }
+
+    Set<String> ids = new HashSet<>();
+    if (hits.getResult() != null) {
+      hits.getResult().forEach(hit -> ids.add(hit.getId()));
+    }
+    return new Result<>(200, ids, null);
+  }
+
   private Result<List<WeaviateObject>> fetchExistingObject(WeaviateObject batchObject) {
     return data.objectsGetter()
       .withID(batchObject.getId())
@@ -378,8 +796,8 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   }
 
   private boolean isDifferentObject(WeaviateObject batchObject, WeaviateObject existingObject) {
-    if ((existingObject.getVector() != null || batchObject.getVector() != null)
-      && !Arrays.equals(existingObject.getVector(), batchObject.getVector())
+    if ((existingObject.getPrimitiveVector() != null || batchObject.getPrimitiveVector() != null)
+      && !Arrays.equals(existingObject.getPrimitiveVector(), batchObject.getPrimitiveVector())
     ) {
       return true;
     }
@@ -476,8 +894,13 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
 
 
 
+  private interface BatchRun<T> {
+    T run(List<WeaviateObject> batch, int connectionErrorCount, int timeoutErrorCount, int objectErrorCount,
+          List<ObjectGetResponse> combinedSingleResponses);
+  }
+
   private interface DelayedExecutor<T> {
-    T delayed(int delay, Supplier<T> supplier);
+    T delayed(long delay, Supplier<T> supplier);
     T now(Result<ObjectGetResponse[]> result);
   }
 
@@ -487,7 +910,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     private final ScheduledExecutorService executorService;
 
     @Override
-    public CompletableFuture<Result<ObjectGetResponse[]>> delayed(int delay, Supplier<CompletableFuture<Result<ObjectGetResponse[]>>> supplier) {
+    public CompletableFuture<Result<ObjectGetResponse[]>> delayed(long delay, Supplier<CompletableFuture<Result<ObjectGetResponse[]>>> supplier) {
       Executor executor = (runnable) -> executorService.schedule(runnable, delay, TimeUnit.MILLISECONDS);
       return CompletableFuture.supplyAsync(supplier, executor).thenCompose(f -> f);
     }
@@ -502,7 +925,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   private static class SleepDelayedExecutor implements DelayedExecutor<Result<ObjectGetResponse[]>> {
 
     @Override
-    public Result<ObjectGetResponse[]> delayed(int delay, Supplier<Result<ObjectGetResponse[]>> supplier) {
+    public Result<ObjectGetResponse[]> delayed(long delay, Supplier<Result<ObjectGetResponse[]>> supplier) {
       try {
         Thread.sleep(delay);
       } catch (InterruptedException e) {
@@ -527,26 +950,38 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     public static final int MAX_TIMEOUT_RETRIES = 3;
     public static final int MAX_CONNECTION_RETRIES = 3;
     public static final int RETRIES_INTERVAL = 2000;
+    public static final int MAX_OBJECT_RETRIES = 3;
 
     int maxTimeoutRetries;
     int maxConnectionRetries;
     int retriesIntervalMs;
-
-    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int retriesIntervalMs) {
+    /**
+     * How many times objects failed with transient errors (e.g. "too many requests",
+     * "context deadline exceeded", read-only shard) are sent again.
+     * Delay is random, up to a cap doubling with each retry, starting from retriesIntervalMs
+     * and limited to {@link TransientErrors#MAX_RETRY_DELAY_MS}.
+     */
+    int maxObjectRetries;
+
+    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int retriesIntervalMs,
+                               int maxObjectRetries) {
       Assert.requireGreaterEqual(maxTimeoutRetries, 0, "maxTimeoutRetries");
       Assert.requireGreaterEqual(maxConnectionRetries, 0, "maxConnectionRetries");
       Assert.requireGreater(retriesIntervalMs, 0, "retriesIntervalMs");
+      Assert.requireGreaterEqual(maxObjectRetries, 0, "maxObjectRetries");
 
       this.maxTimeoutRetries = maxTimeoutRetries;
       this.maxConnectionRetries = maxConnectionRetries;
       this.retriesIntervalMs = retriesIntervalMs;
+      this.maxObjectRetries = maxObjectRetries;
     }
 
     public static BatchRetriesConfigBuilder defaultConfig() {
       return BatchRetriesConfig.builder()
         .maxTimeoutRetries(MAX_TIMEOUT_RETRIES)
         .maxConnectionRetries(MAX_CONNECTION_RETRIES)
-        .retriesIntervalMs(RETRIES_INTERVAL);
+        .retriesIntervalMs(RETRIES_INTERVAL)
+        .maxObjectRetries(MAX_OBJECT_RETRIES);
     }
   }
 
@@ -560,22 +995,96 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     public static final int BATCH_SIZE = 100;
     public static final int POOL_SIZE = 1;
     public static final int AWAIT_TERMINATION_MS = 10_000;
+    public static final int MIN_BATCH_SIZE = 10;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int TARGET_LATENCY_MS = 2000;
+    public static final int MAX_IN_FLIGHT_BATCHES = Integer.MAX_VALUE;
+    public static final int MAX_QUEUED_OBJECTS = Integer.MAX_VALUE;
+    public static final int GRPC_PIPELINE_WINDOW = 0;
 
     int batchSize;
     int poolSize;
     int awaitTerminationMs;
     Consumer<Result<ObjectGetResponse[]>> callback;
+    /**
+     * Adjusts batch size (between minBatchSize and maxBatchSize, starting from batchSize)
+     * and number of concurrent batches (up to poolSize) towards targetLatencyMs.
+     */
+    boolean dynamic;
+    int minBatchSize;
+    int maxBatchSize;
+    int targetLatencyMs;
+    /**
+     * Limits number of batches sent or waiting for retry at the same time. 0 means no limit.
+     */
+    int maxInFlightBatches;
+    /**
+     * Limits number of objects added to batcher and not yet sent. 0 means no limit.
+     */
+    int maxQueuedObjects;
+    /**
+     * What to do when adding objects would exceed maxQueuedObjects, {@link QueueFullPolicy#BLOCK} if not set.
+     */
+    QueueFullPolicy queueFullPolicy;
+    /**
+     * Directory of on-disk spool. When set, objects are written to the spool before being queued
+     * and removed from it once sent, objects not sent by the time batcher stops are sent on next start.
+     */
+    Path spoolDirectory;
+    /**
+     * Whether spool writes are synced to disk, to survive machine crash and not only process restart.
+     */
+    boolean spoolFsync;
+    /**
+     * When greater than 0 and gRPC is enabled, batches are sent with non-blocking calls, up to that many
+     * at the same time over single connection, and completed on callbacks instead of occupying pool threads.
+     * Lowers maxInFlightBatches if needed. 0 disables pipelining.
+     */
+    int grpcPipelineWindow;
 
     private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
-                            Consumer<Result<ObjectGetResponse[]>> callback) {
+                            Consumer<Result<ObjectGetResponse[]>> callback,
+                            boolean dynamic, int minBatchSize, int maxBatchSize, int targetLatencyMs,
+                            int maxInFlightBatches, int maxQueuedObjects, QueueFullPolicy queueFullPolicy,
+                            Path spoolDirectory, boolean spoolFsync, int grpcPipelineWindow) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
+      if (dynamic) {
+        Assert.requireGreaterEqual(minBatchSize, 1, "minBatchSize");
+        Assert.requireGreaterEqual(maxBatchSize, minBatchSize, "maxBatchSize");
+        Assert.requireGreater(targetLatencyMs, 0, "targetLatencyMs");
+      }
+      // limits not set (e.g. config built without defaultConfig()) keep batcher unbounded, as before they existed
+      Assert.requireGreaterEqual(maxInFlightBatches, 0, "maxInFlightBatches");
+      Assert.requireGreaterEqual(maxQueuedObjects, 0, "maxQueuedObjects");
+      if (maxInFlightBatches == 0) {
+        maxInFlightBatches = MAX_IN_FLIGHT_BATCHES;
+      }
+      if (maxQueuedObjects == 0) {
+        maxQueuedObjects = MAX_QUEUED_OBJECTS;
+      }
+      if (queueFullPolicy == null) {
+        queueFullPolicy = QueueFullPolicy.BLOCK;
+      }
+      // queue has to fit a full batch, otherwise blocked producers would never see it sent
+      Assert.requireGreaterEqual(maxQueuedObjects, dynamic ? maxBatchSize : batchSize, "maxQueuedObjects");
+      Assert.requireGreaterEqual(grpcPipelineWindow, 0, "grpcPipelineWindow");
 
       this.batchSize = batchSize;
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
       this.callback = callback;
+      this.dynamic = dynamic;
+      this.minBatchSize = minBatchSize;
+      this.maxBatchSize = maxBatchSize;
+      this.targetLatencyMs = targetLatencyMs;
+      this.maxInFlightBatches = maxInFlightBatches;
+      this.maxQueuedObjects = maxQueuedObjects;
+      this.queueFullPolicy = queueFullPolicy;
+      this.spoolDirectory = spoolDirectory;
+      this.spoolFsync = spoolFsync;
+      this.grpcPipelineWindow = grpcPipelineWindow;
     }
 
     public static AutoBatchConfigBuilder defaultConfig() {
@@ -583,7 +1092,17 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
         .batchSize(BATCH_SIZE)
         .poolSize(POOL_SIZE)
         .awaitTerminationMs(AWAIT_TERMINATION_MS)
-        .callback(null);
+        .callback(null)
+        .dynamic(false)
+        .minBatchSize(MIN_BATCH_SIZE)
+        .maxBatchSize(MAX_BATCH_SIZE)
+        .targetLatencyMs(TARGET_LATENCY_MS)
+        .maxInFlightBatches(MAX_IN_FLIGHT_BATCHES)
+        .maxQueuedObjects(MAX_QUEUED_OBJECTS)
+        .queueFullPolicy(QueueFullPolicy.BLOCK)
+        .spoolDirectory(null)
+        .spoolFsync(false)
+        .grpcPipelineWindow(GRPC_PIPELINE_WINDOW);
     }
   }
 }
@@ -2,7 +2,12 @@ package io.weaviate.client.v1.batch.api;
 
 import io.weaviate.client.v1.batch.model.BatchReference;
 import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
+import io.weaviate.client.v1.batch.spool.BatchSpool;
+import io.weaviate.client.v1.batch.spool.ReferenceSpoolCodec;
+import io.weaviate.client.v1.batch.util.BatchQueue;
+import io.weaviate.client.v1.batch.util.PendingBatches;
 import io.weaviate.client.v1.batch.util.ReferencesPath;
+import io.weaviate.client.v1.batch.util.TransientErrors;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -10,7 +15,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
@@ -22,12 +29,18 @@ import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.Assert;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -47,8 +60,11 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   private final boolean autoRunEnabled;
   private final ScheduledExecutorService executorService;
   private final DelayedExecutor<?> delayedExecutor;
-  private final List<BatchReference> references;
-  private String consistencyLevel;
+  private final BatchQueue<BatchReference> references;
+  private final BatchSpool<BatchReference> spool;
+  // batches taken from the queue by auto run and not yet registered as undone
+  private final PendingBatches pendingBatches;
+  private volatile String consistencyLevel;
   private final List<CompletableFuture<Result<BatchReferenceResponse[]>>> undoneFutures;
 
 
@@ -56,7 +72,8 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
                             BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
     super(httpClient, config);
     this.referencesPath = referencesPath;
-    this.references = new ArrayList<>();
+    this.references = new BatchQueue<>();
+    this.pendingBatches = new PendingBatches();
     this.batchRetriesConfig = batchRetriesConfig;
 
     if (autoBatchConfig != null) {
@@ -65,12 +82,24 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
+      this.spool = autoBatchConfig.spoolDirectory != null
+        ? openSpool(autoBatchConfig.spoolDirectory, autoBatchConfig.spoolFsync)
+        : null;
     } else {
       this.autoRunEnabled = false;
       this.autoBatchConfig = null;
       this.executorService = null;
       this.delayedExecutor = new SleepDelayedExecutor();
       this.undoneFutures = null;
+      this.spool = null;
+    }
+  }
+
+  private static BatchSpool<BatchReference> openSpool(Path directory, boolean fsync) {
+    try {
+      return BatchSpool.open(directory, new ReferenceSpoolCodec(), fsync);
+    } catch (IOException e) {
+      throw new UncheckedIOException("could not open batch spool", e);
     }
   }
 
@@ -84,7 +113,9 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
                                              BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
     Assert.requiredNotNull(autoBatchConfig, "autoBatchConfig");
-    return new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig);
+    ReferencesBatcher batcher = new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig);
+    batcher.replaySpool();
+    return batcher;
   }
 
 
@@ -92,8 +123,14 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     return withReferences(reference);
   }
 
+  /**
+   * Adds references to the batch. Can be called concurrently by multiple producers.
+   */
   public ReferencesBatcher withReferences(BatchReference... references) {
-    this.references.addAll(Arrays.asList(references));
+    if (spool != null) {
+      spool.append(references);
+    }
+    this.references.addAll(references);
     autoRun();
     return this;
   }
@@ -110,12 +147,12 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return null;
     }
 
-    if (references.isEmpty()) {
+    List<BatchReference> batch = references.poll(Integer.MAX_VALUE);
+    if (batch.isEmpty()) {
       return new Result<>(0, new BatchReferenceResponse[0], null);
     }
 
-    List<BatchReference> batch = extractBatch(references.size());
-    return runRecursively(batch, 0, 0,
+    return runRecursively(batch, 0, 0, 0, null,
       (DelayedExecutor<Result<BatchReferenceResponse[]>>) delayedExecutor);
   }
 
@@ -125,10 +162,12 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return;
     }
 
-    if (!references.isEmpty()) {
-      List<BatchReference> batch = extractBatch(references.size());
+    List<BatchReference> batch = references.poll(Integer.MAX_VALUE);
+    if (!batch.isEmpty()) {
       runInThread(batch);
     }
+    // batch taken by concurrent auto run is about to be registered
+    pendingBatches.awaitNone();
 
     CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
     if (futures.length == 0) {
@@ -152,16 +191,45 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     } catch (InterruptedException e) {
       executorService.shutdownNow();
     }
-  }
 
-  private List<BatchReference> extractBatch(int batchSize) {
-    List<BatchReference> batch = new ArrayList<>(batchSize);
-    List<BatchReference> sublist = references.subList(0, batchSize);
+    if (spool != null) {
+      try {
+        spool.close();
+      } catch (IOException e) {
+        // unacknowledged references are replayed on next start anyway
+      }
+    }
+  }
 
-    batch.addAll(sublist);
-    sublist.clear();
+  /**
+   * Queues references left in the spool by previous run.
+   */
+  private void replaySpool() {
+    if (spool == null) {
+      return;
+    }
+    List<BatchReference> pending = spool.takePending();
+    if (!pending.isEmpty()) {
+      references.addAll(pending.toArray(new BatchReference[0]));
+      autoRun();
+    }
+  }
 
-    return batch;
+  private void completeSpooled(List<BatchReference> batch, Result<BatchReferenceResponse[]> result) {
+    if (spool == null) {
+      return;
+    }
+    // batches failed after all retries stay in the spool for next run, unless they were rejected
+    // with non-transient status (e.g. 422), which would fail the same way again
+    boolean done = result != null
+      && (!result.hasErrors() || !TransientErrors.isTransientStatus(result.getError().getStatusCode()));
+    for (BatchReference reference : batch) {
+      if (done) {
+        spool.ack(reference);
+      } else {
+        spool.release(reference);
+      }
+    }
   }
 
   private void autoRun() {
@@ -169,9 +237,18 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return;
     }
 
-    while (references.size() >= autoBatchConfig.batchSize) {
-      List<BatchReference> batch = extractBatch(autoBatchConfig.batchSize);
-      runInThread(batch);
+    while (true) {
+      // counted as pending before taking references from the queue, so flush does not miss the batch
+      pendingBatches.increment();
+      try {
+        List<BatchReference> batch = references.pollFull(autoBatchConfig.batchSize);
+        if (batch.isEmpty()) {
+          return;
+        }
+        runInThread(batch);
+      } finally {
+        pendingBatches.decrement();
+      }
     }
   }
 
@@ -191,11 +268,13 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   }
 
   private CompletableFuture<Result<BatchReferenceResponse[]>> createRunFuture(List<BatchReference> batch) {
-    return runRecursively(batch, 0, 0,
+    CompletableFuture<Result<BatchReferenceResponse[]>> future = runRecursively(batch, 0, 0, 0, null,
       (DelayedExecutor<CompletableFuture<Result<BatchReferenceResponse[]>>>) delayedExecutor);
+    return future.whenComplete((result, e) -> completeSpooled(batch, result));
   }
 
   private <T> T runRecursively(List<BatchReference> batch, int connectionErrorCount, int timeoutErrorCount,
+                               int referenceErrorCount, BatchReferenceResponse[] combinedResponses,
                                DelayedExecutor<T> delayedExecutor) {
     Result<BatchReferenceResponse[]> result = internalRun(batch);
 
@@ -221,19 +300,38 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
         if (executeAgain) {
           int lambdaConnectionErrorCount = connectionErrorCount;
           int lambdaTimeoutErrorCount = timeoutErrorCount;
+          int lambdaReferenceErrorCount = referenceErrorCount;
           List<BatchReference> lambdaBatch = batch;
+          BatchReferenceResponse[] lambdaCombinedResponses = combinedResponses;
 
           return delayedExecutor.delayed(
             delay,
-            () -> runRecursively(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, delayedExecutor)
+            () -> runRecursively(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaReferenceErrorCount,
+              lambdaCombinedResponses, delayedExecutor)
           );
         }
       }
     } else {
+      // references failed with transient errors are sent again, with exponential backoff
+      Pair<List<BatchReferenceResponse>, List<BatchReference>> pair = splitTransientFailures(batch, result.getResult());
+      if (ObjectUtils.isNotEmpty(pair.getRight()) && referenceErrorCount++ < batchRetriesConfig.maxReferenceRetries) {
+        int lambdaConnectionErrorCount = connectionErrorCount;
+        int lambdaTimeoutErrorCount = timeoutErrorCount;
+        int lambdaReferenceErrorCount = referenceErrorCount;
+        List<BatchReference> lambdaBatch = pair.getRight();
+        BatchReferenceResponse[] lambdaCombinedResponses = ArrayUtils.addAll(combinedResponses,
+          pair.getLeft().toArray(new BatchReferenceResponse[0]));
+
+        return delayedExecutor.delayed(
+          TransientErrors.retryDelay(batchRetriesConfig.retriesIntervalMs, referenceErrorCount),
+          () -> runRecursively(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaReferenceErrorCount,
+            lambdaCombinedResponses, delayedExecutor)
+        );
+      }
       batch = null;
     }
 
-    Result<BatchReferenceResponse[]> finalResult = createFinalResultFromLastResult(result, batch);
+    Result<BatchReferenceResponse[]> finalResult = createFinalResultFromLastResult(result, combinedResponses, batch);
     return delayedExecutor.now(finalResult);
   }
 
@@ -242,19 +340,63 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     String path = referencesPath.buildCreate(ReferencesPath.Params.builder()
         .consistencyLevel(consistencyLevel)
         .build());
-    Response<BatchReferenceResponse[]> resp = sendPostRequest(path, payload, BatchReferenceResponse[].class);
+    Response<BatchReferenceResponse[]> resp = sendPostRequestWithoutRetries(path, payload, BatchReferenceResponse[].class);
     return new Result<>(resp);
   }
 
+  /**
+   * Splits batch responses into final ones (successes and permanent failures)
+   * and references failed with transient errors, which should be sent again.
+   */
+  private Pair<List<BatchReferenceResponse>, List<BatchReference>> splitTransientFailures(List<BatchReference> batch,
+                                                                                          BatchReferenceResponse[] responses) {
+    if (ArrayUtils.isEmpty(responses)) {
+      return Pair.of(Collections.emptyList(), Collections.emptyList());
+    }
+
+    // the same reference may be added more than once, each response is matched with a single one of them
+    Map<String, Deque<BatchReference>> batchByBeacons = new HashMap<>(batch.size() * 4 / 3 + 1);
+    batch.forEach(ref -> batchByBeacons.computeIfAbsent(beacons(ref.getFrom(), ref.getTo()), k -> new ArrayDeque<>()).add(ref));
+
+    List<BatchReferenceResponse> finalResponses = new ArrayList<>(responses.length);
+    List<BatchReference> rerunBatch = new ArrayList<>();
+    for (BatchReferenceResponse response : responses) {
+      Deque<BatchReference> batchReferences = batchByBeacons.get(beacons(response.getFrom(), response.getTo()));
+      if (batchReferences != null && !batchReferences.isEmpty() && isTransientError(response)) {
+        rerunBatch.add(batchReferences.poll());
+      } else {
+        finalResponses.add(response);
+      }
+    }
+    return Pair.of(finalResponses, rerunBatch);
+  }
+
+  private static String beacons(String from, String to) {
+    return from + " => " + to;
+  }
+
+  private boolean isTransientError(BatchReferenceResponse response) {
+    if (response.getResult() == null || response.getResult().getErrors() == null
+      || response.getResult().getErrors().getError() == null) {
+      return false;
+    }
+    return response.getResult().getErrors().getError().stream()
+      .anyMatch(item -> TransientErrors.isTransient(item.getMessage()));
+  }
+
   private Result<BatchReferenceResponse[]> createFinalResultFromLastResult(
-    Result<BatchReferenceResponse[]> lastResult, List<BatchReference> failedBatch) {
+    Result<BatchReferenceResponse[]> lastResult, BatchReferenceResponse[] combinedResponses,
+    List<BatchReference> failedBatch) {
 
     if (ObjectUtils.isEmpty(failedBatch)) {
-      return lastResult;
+      if (ArrayUtils.isEmpty(combinedResponses)) {
+        return lastResult;
+      }
+      return new Result<>(lastResult.getStatusCode(), ArrayUtils.addAll(combinedResponses, lastResult.getResult()), null);
     }
 
     String failedRefs = failedBatch.stream()
-      .map(ref -> ref.getFrom() + " => " + ref.getTo())
+      .map(ref -> beacons(ref.getFrom(), ref.getTo()))
       .collect(Collectors.joining(", "));
     WeaviateErrorMessage failedRefsMessage = WeaviateErrorMessage.builder().message("Failed refs: " + failedRefs).build();
     List<WeaviateErrorMessage> messages;
@@ -270,7 +412,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       messages = Collections.singletonList(failedRefsMessage);
     }
 
-    return new Result<>(statusCode, null, WeaviateErrorResponse.builder()
+    return new Result<>(statusCode, ArrayUtils.isEmpty(combinedResponses) ? null : combinedResponses, WeaviateErrorResponse.builder()
       .error(messages)
       .code(statusCode)
       .build()
@@ -280,7 +422,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
 
 
   private interface DelayedExecutor<T> {
-    T delayed(int delay, Supplier<T> supplier);
+    T delayed(long delay, Supplier<T> supplier);
     T now(Result<BatchReferenceResponse[]> result);
   }
 
@@ -290,7 +432,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     private final ScheduledExecutorService executorService;
 
     @Override
-    public CompletableFuture<Result<BatchReferenceResponse[]>> delayed(int delay, Supplier<CompletableFuture<Result<BatchReferenceResponse[]>>> supplier) {
+    public CompletableFuture<Result<BatchReferenceResponse[]>> delayed(long delay, Supplier<CompletableFuture<Result<BatchReferenceResponse[]>>> supplier) {
       Executor executor = (runnable) -> executorService.schedule(runnable, delay, TimeUnit.MILLISECONDS);
       return CompletableFuture.supplyAsync(supplier, executor).thenCompose(f -> f);
     }
@@ -305,7 +447,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   private static class SleepDelayedExecutor implements DelayedExecutor<Result<BatchReferenceResponse[]>> {
 
     @Override
-    public Result<BatchReferenceResponse[]> delayed(int delay, Supplier<Result<BatchReferenceResponse[]>> supplier) {
+    public Result<BatchReferenceResponse[]> delayed(long delay, Supplier<Result<BatchReferenceResponse[]>> supplier) {
       try {
         Thread.sleep(delay);
       } catch (InterruptedException e) {
@@ -330,26 +472,38 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     public static final int MAX_TIMEOUT_RETRIES = 3;
     public static final int MAX_CONNECTION_RETRIES = 3;
     public static final int RETRIES_INTERVAL = 2000;
+    public static final int MAX_REFERENCE_RETRIES = 3;
 
     int maxTimeoutRetries;
     int maxConnectionRetries;
     int retriesIntervalMs;
-
-    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int retriesIntervalMs) {
+    /**
+     * How many times references failed with transient errors (e.g. "too many requests",
+     * "context deadline exceeded", read-only shard) are sent again.
+     * Delay is random, up to a cap doubling with each retry, starting from retriesIntervalMs
+     * and limited to {@link TransientErrors#MAX_RETRY_DELAY_MS}.
+     */
+    int maxReferenceRetries;
+
+    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int retriesIntervalMs,
+                               int maxReferenceRetries) {
       Assert.requireGreaterEqual(maxTimeoutRetries, 0, "maxTimeoutRetries");
       Assert.requireGreaterEqual(maxConnectionRetries, 0, "maxConnectionRetries");
       Assert.requireGreater(retriesIntervalMs, 0, "retriesIntervalMs");
+      Assert.requireGreaterEqual(maxReferenceRetries, 0, "maxReferenceRetries");
 
       this.maxTimeoutRetries = maxTimeoutRetries;
       this.maxConnectionRetries = maxConnectionRetries;
       this.retriesIntervalMs = retriesIntervalMs;
+      this.maxReferenceRetries = maxReferenceRetries;
     }
 
     public static BatchRetriesConfigBuilder defaultConfig() {
       return BatchRetriesConfig.builder()
         .maxTimeoutRetries(MAX_TIMEOUT_RETRIES)
         .maxConnectionRetries(MAX_CONNECTION_RETRIES)
-        .retriesIntervalMs(RETRIES_INTERVAL);
+        .retriesIntervalMs(RETRIES_INTERVAL)
+        .maxReferenceRetries(MAX_REFERENCE_RETRIES);
     }
   }
 
@@ -368,9 +522,19 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     int poolSize;
     int awaitTerminationMs;
     Consumer<Result<BatchReferenceResponse[]>> callback;
+    /**
+     * Directory of on-disk spool. When set, references are written to the spool before being queued
+     * and removed from it once sent, references not sent by the time batcher stops are sent on next start.
+     */
+    Path spoolDirectory;
+    /**
+     * Whether spool writes are synced to disk, to survive machine crash and not only process restart.
+     */
+    boolean spoolFsync;
 
     private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
-                            Consumer<Result<BatchReferenceResponse[]>> callback) {
+                            Consumer<Result<BatchReferenceResponse[]>> callback,
+                            Path spoolDirectory, boolean spoolFsync) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
@@ -379,6 +543,8 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
       this.callback = callback;
+      this.spoolDirectory = spoolDirectory;
+      this.spoolFsync = spoolFsync;
     }
 
     public static AutoBatchConfigBuilder defaultConfig() {
@@ -386,7 +552,9 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
         .batchSize(BATCH_SIZE)
         .poolSize(POOL_SIZE)
         .awaitTerminationMs(AWAIT_TERMINATION_MS)
-        .callback(null);
+        .callback(null)
+        .spoolDirectory(null)
+        .spoolFsync(false);
     }
   }
 }
@@ -0,0 +1,56 @@
+package io.weaviate.client.v1.batch.grpc;
+
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatchDelete;
+import io.weaviate.client.v1.batch.model.BatchDeleteOutput;
+import io.weaviate.client.v1.batch.model.BatchDeleteResult;
+import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.filters.grpc.WhereFilterConverter;
+
+public class BatchDeleteConverter {
+
+  private BatchDeleteConverter() {
+  }
+
+  public static WeaviateProtoBatchDelete.BatchDeleteRequest toBatchDeleteRequest(String className, WhereFilter where,
+                                                                                 String output, Boolean dryRun,
+                                                                                 String consistencyLevel, String tenant) {
+    if (where == null) {
+      throw new IllegalArgumentException("where filter is required");
+    }
+    WeaviateProtoBatchDelete.BatchDeleteRequest.Builder builder = WeaviateProtoBatchDelete.BatchDeleteRequest.newBuilder()
+      .setCollection(className)
+      .setFilters(WhereFilterConverter.toFilters(where))
+      .setVerbose(BatchDeleteOutput.VERBOSE.equals(output))
+      .setDryRun(Boolean.TRUE.equals(dryRun));
+    if (consistencyLevel != null) {
+      builder.setConsistencyLevel(toConsistencyLevel(consistencyLevel));
+    }
+    if (tenant != null) {
+      builder.setTenant(tenant);
+    }
+    return builder.build();
+  }
+
+  public static BatchDeleteResult toBatchDeleteResult(WeaviateProtoBatchDelete.BatchDeleteReply reply) {
+    return BatchDeleteResult.builder()
+      .took(reply.getTook())
+      .matches(reply.getMatches())
+      .successful(reply.getSuccessful())
+      .failed(reply.getFailed())
+      .objects(reply.getObjectsList())
+      .build();
+  }
+
+  private static WeaviateProtoBase.ConsistencyLevel toConsistencyLevel(String consistencyLevel) {
+    switch (consistencyLevel) {
+      case ConsistencyLevel.ALL:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ALL;
+      case ConsistencyLevel.QUORUM:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_QUORUM;
+      default:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ONE;
+    }
+  }
+}
@@ -1,8 +1,8 @@
 package io.weaviate.client.v1.batch.grpc;
 
-import com.google.protobuf.ByteString;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
+import io.weaviate.client.base.grpc.VectorBytes;
 import io.weaviate.client.base.util.CrossReference;
 import io.weaviate.client.base.util.GrpcVersionSupport;
 import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
@@ -14,8 +14,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -44,21 +42,23 @@ public class BatchObjectConverter {
       builder.setProperties(buildProperties(obj.getProperties()));
     }
 
-    Float[] vector = obj.getVector();
+    float[] vector = obj.getPrimitiveVector();
     if (vector != null) {
       if (grpcVersionSupport.supportsVectorBytesField()) {
-        builder.setVectorBytes(toByteString(vector));
+        builder.setVectorBytes(VectorBytes.fromFloats(vector));
       } else {
-        builder.addAllVector(Arrays.asList(vector));
+        for (float f : vector) {
+          builder.addVector(f);
+        }
       }
     }
 
-    Map<String, Float[]> vectors = obj.getVectors();
+    Map<String, float[]> vectors = obj.getPrimitiveVectors();
     if (vectors != null && !vectors.isEmpty()) {
       List<WeaviateProtoBase.Vectors> protoVectors = vectors.entrySet().stream().map(entry ->
         WeaviateProtoBase.Vectors.newBuilder()
           .setName(entry.getKey())
-          .setVectorBytes(toByteString(entry.getValue()))
+          .setVectorBytes(VectorBytes.fromFloats(entry.getValue()))
           .build()
       ).collect(Collectors.toList());
       builder.addAllVectors(protoVectors);
@@ -67,12 +67,6 @@ public class BatchObjectConverter {
     return builder.build();
   }
 
-  private ByteString toByteString(Float[] vector) {
-    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
-    Arrays.stream(vector).forEach(buffer::putFloat);
-    return ByteString.copyFrom(buffer.array());
-  }
-
   @AllArgsConstructor
   @ToString
   @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -0,0 +1,30 @@
+package io.weaviate.client.v1.batch.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class AutoBatchStats {
+  int batchSize;
+  int concurrency;
+  /**
+   * Objects sent per second, averaged over recent batches.
+   */
+  double objectsPerSecond;
+  /**
+   * Batch request latency in milliseconds, averaged over recent batches.
+   */
+  double latencyMs;
+  /**
+   * Share of recent batch requests which failed or timed out.
+   */
+  double errorRate;
+}
@@ -0,0 +1,100 @@
+package io.weaviate.client.v1.batch.model;
+
+import com.google.protobuf.ByteString;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatchDelete;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of batch delete run over gRPC.
+ * <p>
+ * Per-object results are only returned for verbose output. They are kept in their wire form
+ * and wrapped while iterating, ids are decoded from uuid bytes on first access.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class BatchDeleteResult implements Iterable<BatchDeleteResult.DeletedObject> {
+  /**
+   * Time the delete took on the server, in seconds
+   */
+  float took;
+  long matches;
+  long successful;
+  long failed;
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  List<WeaviateProtoBatchDelete.BatchDeleteObject> objects;
+
+  public int getObjectsCount() {
+    return objects != null ? objects.size() : 0;
+  }
+
+  @Override
+  public Iterator<DeletedObject> iterator() {
+    Iterator<WeaviateProtoBatchDelete.BatchDeleteObject> it = objects != null
+      ? objects.iterator()
+      : Collections.<WeaviateProtoBatchDelete.BatchDeleteObject>emptyIterator();
+    return new Iterator<DeletedObject>() {
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public DeletedObject next() {
+        return new DeletedObject(it.next());
+      }
+    };
+  }
+
+
+  public static class DeletedObject {
+
+    private final WeaviateProtoBatchDelete.BatchDeleteObject object;
+    private String id;
+
+    private DeletedObject(WeaviateProtoBatchDelete.BatchDeleteObject object) {
+      this.object = object;
+    }
+
+    public String getId() {
+      if (id == null) {
+        id = toId(object.getUuid());
+      }
+      return id;
+    }
+
+    public boolean isSuccessful() {
+      return object.getSuccessful();
+    }
+
+    /**
+     * @return error message, null if object was deleted
+     */
+    public String getError() {
+      return object.hasError() && !object.getError().isEmpty() ? object.getError() : null;
+    }
+
+    @Override
+    public String toString() {
+      return "BatchDeleteResult.DeletedObject(id=" + getId() + ", successful=" + isSuccessful()
+        + ", error=" + getError() + ")";
+    }
+
+    private static String toId(ByteString uuid) {
+      ByteBuffer buffer = uuid.asReadOnlyByteBuffer();
+      return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+  }
+}
@@ -20,6 +20,7 @@ public class ObjectsGetResponseAO2Result {
 
 
   @Getter
+  @Setter
   @ToString
   @EqualsAndHashCode
   @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -28,6 +29,7 @@ public class ObjectsGetResponseAO2Result {
   }
 
   @Getter
+  @Setter
   @ToString
   @EqualsAndHashCode
   @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -0,0 +1,15 @@
+package io.weaviate.client.v1.batch.model;
+
+/**
+ * Behaviour of auto batcher when its queue of objects waiting to be sent is full.
+ */
+public enum QueueFullPolicy {
+  /**
+   * Caller waits until queued objects are sent.
+   */
+  BLOCK,
+  /**
+   * Caller gets {@link java.util.concurrent.RejectedExecutionException}.
+   */
+  FAIL_FAST
+}
@@ -0,0 +1,408 @@
+package io.weaviate.client.v1.batch.spool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, disk-backed log of items added to an auto batcher.
+ * <p>
+ * Items are written to segment files before being queued and acknowledged once their batch is done,
+ * acknowledged sequence numbers are appended to the segment's ack file. Once all records of a full segment are
+ * acknowledged or released, released ones are copied to the active segment and the full one is deleted.
+ * Items not acknowledged by the time the process stops are read on next
+ * {@link #open(Path, SpoolCodec, boolean)} and returned by {@link #takePending()}, to be sent again.
+ * <p>
+ * Delivery is at-least-once: an item sent right before a crash may be sent again, which is safe as batch
+ * requests upsert objects by id.
+ * <p>
+ * Record layout: {@code [int payload length][long sequence][payload][int crc32 of sequence and payload]}.
+ * Incomplete or corrupted trailing records, left by a crash during write, are skipped.
+ */
+public class BatchSpool<T> implements Closeable {
+
+  static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+  private static final String LOG_SUFFIX = ".log";
+  private static final String ACK_SUFFIX = ".ack";
+  private static final int RECORD_OVERHEAD = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+  private final Path directory;
+  private final SpoolCodec<T> codec;
+  private final boolean fsync;
+  private final long segmentSize;
+  private final TreeMap<Long, Segment> segments;
+  // sequence numbers of spooled items, by identity as equal items may be added more than once;
+  // the same instance may be added more than once as well, each of its records is completed separately
+  private final Map<IdentityKey, Deque<Long>> sequences;
+  private List<T> pending;
+  private Segment active;
+  private long nextSeq;
+
+  private BatchSpool(Path directory, SpoolCodec<T> codec, boolean fsync, long segmentSize) {
+    this.directory = directory;
+    this.codec = codec;
+    this.fsync = fsync;
+    this.segmentSize = segmentSize;
+    this.segments = new TreeMap<>();
+    this.sequences = new ConcurrentHashMap<>();
+    this.pending = new ArrayList<>();
+  }
+
+  /**
+   * Opens spool in given directory, reading items not acknowledged by previous runs.
+   */
+  public static <T> BatchSpool<T> open(Path directory, SpoolCodec<T> codec, boolean fsync) throws IOException {
+    return open(directory, codec, fsync, SEGMENT_SIZE);
+  }
+
+  static <T> BatchSpool<T> open(Path directory, SpoolCodec<T> codec, boolean fsync, long segmentSize) throws IOException {
+    Files.createDirectories(directory);
+    BatchSpool<T> spool = new BatchSpool<>(directory, codec, fsync, segmentSize);
+    spool.recover();
+    return spool;
+  }
+
+  /**
+   * Returns items left unacknowledged by previous runs. Subsequent calls return empty list.
+   */
+  public synchronized List<T> takePending() {
+    List<T> items = pending;
+    pending = Collections.emptyList();
+    return items;
+  }
+
+  @SafeVarargs
+  public final synchronized void append(T... items) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+      DataOutputStream payloadOut = new DataOutputStream(payloadBytes);
+      long firstSeq = nextSeq;
+
+      for (T item : items) {
+        payloadBytes.reset();
+        codec.encode(item, payloadOut);
+        payloadOut.flush();
+        writeRecord(out, nextSeq++, payloadBytes.toByteArray());
+      }
+      out.flush();
+
+      Segment segment = activeSegment(firstSeq);
+      write(segment, bytes, items.length);
+
+      long seq = firstSeq;
+      for (T item : items) {
+        track(item, seq++);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("could not write batch spool", e);
+    }
+  }
+
+  /**
+   * Marks item as done, it will not be replayed. Item appended more than once is acknowledged once per call,
+   * oldest record first.
+   */
+  public void ack(T item) {
+    Long seq = untrack(item);
+    if (seq != null) {
+      acknowledge(seq);
+    }
+  }
+
+  /**
+   * Stops tracking item without acknowledging it, so it is replayed on next open. Item appended more than once
+   * is released once per call, oldest record first.
+   */
+  public void release(T item) {
+    Long seq = untrack(item);
+    if (seq != null) {
+      releaseRecord(seq);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (Segment segment : segments.values()) {
+      segment.close();
+    }
+  }
+
+  private void track(T item, long seq) {
+    sequences.compute(new IdentityKey(item), (key, seqs) -> {
+      Deque<Long> tracked = seqs != null ? seqs : new ArrayDeque<>(1);
+      tracked.add(seq);
+      return tracked;
+    });
+  }
+
+  private Long untrack(T item) {
+    Long[] seq = new Long[1];
+    sequences.computeIfPresent(new IdentityKey(item), (key, seqs) -> {
+      seq[0] = seqs.poll();
+      return seqs.isEmpty() ? null : seqs;
+    });
+    return seq[0];
+  }
+
+  private synchronized void acknowledge(long seq) {
+    Map.Entry<Long, Segment> entry = segments.floorEntry(seq);
+    if (entry == null) {
+      return;
+    }
+    Segment segment = entry.getValue();
+    try {
+      if (segment.acks == null) {
+        segment.acks = FileChannel.open(segment.ackPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.APPEND);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, seq);
+      while (buffer.hasRemaining()) {
+        segment.acks.write(buffer);
+      }
+      if (fsync) {
+        segment.acks.force(false);
+      }
+      segment.acked++;
+      deleteIfDone(segment);
+    } catch (IOException e) {
+      // record stays unacknowledged and is sent again on next open
+    }
+  }
+
+  private synchronized void releaseRecord(long seq) {
+    Map.Entry<Long, Segment> entry = segments.floorEntry(seq);
+    if (entry == null) {
+      return;
+    }
+    Segment segment = entry.getValue();
+    segment.released++;
+    try {
+      deleteIfDone(segment);
+    } catch (IOException e) {
+      // segment is reclaimed on next open, once its released records are replayed and acknowledged
+    }
+  }
+
+  private Segment activeSegment(long firstSeq) throws IOException {
+    Segment full = null;
+    if (active != null && active.size >= segmentSize) {
+      full = active;
+      active = null;
+      full.log.close();
+      full.log = null;
+    }
+    if (active == null) {
+      active = new Segment(firstSeq, directory);
+      active.log = FileChannel.open(active.logPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+      segments.put(firstSeq, active);
+    }
+    if (full != null) {
+      // new active segment has to exist first, as released records of the full one are moved there
+      deleteIfDone(full);
+    }
+    return active;
+  }
+
+  private void write(Segment segment, ByteArrayOutputStream bytes, int records) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+    while (buffer.hasRemaining()) {
+      segment.log.write(buffer);
+    }
+    if (fsync) {
+      segment.log.force(false);
+    }
+    segment.records += records;
+    segment.size += bytes.size();
+  }
+
+  private void deleteIfDone(Segment segment) throws IOException {
+    if (segment != active && segment.acked + segment.released >= segment.records) {
+      if (segment.released > 0) {
+        carryOverReleased(segment);
+      }
+      segment.close();
+      Files.deleteIfExists(segment.logPath);
+      Files.deleteIfExists(segment.ackPath);
+      segments.remove(segment.firstSeq);
+    }
+  }
+
+  /**
+   * Copies records of given segment which were not acknowledged to the active segment, so that they are still
+   * replayed on next open. They are not tracked, so they count as released in the active segment as well.
+   */
+  private void carryOverReleased(Segment segment) throws IOException {
+    Set<Long> acked = readAcks(segment.ackPath);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    long firstSeq = nextSeq;
+    readRecords(segment.logPath, (seq, payload) -> {
+      if (!acked.contains(seq)) {
+        writeRecord(out, nextSeq++, payload);
+      }
+    });
+    out.flush();
+    int records = (int) (nextSeq - firstSeq);
+    if (records == 0) {
+      return;
+    }
+
+    Segment target = active != null ? active : activeSegment(firstSeq);
+    write(target, bytes, records);
+    target.released += records;
+  }
+
+  private void recover() throws IOException {
+    List<Path> logs = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + LOG_SUFFIX)) {
+      stream.forEach(logs::add);
+    }
+    Collections.sort(logs);
+
+    for (Path logPath : logs) {
+      String name = logPath.getFileName().toString();
+      Segment segment = new Segment(Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length())), directory);
+      Set<Long> acked = readAcks(segment.ackPath);
+
+      readRecords(logPath, (seq, payload) -> {
+        segment.records++;
+        nextSeq = Math.max(nextSeq, seq + 1);
+        if (acked.contains(seq)) {
+          segment.acked++;
+          return;
+        }
+        T item = codec.decode(new DataInputStream(new ByteArrayInputStream(payload)));
+        pending.add(item);
+        track(item, seq);
+      });
+
+      segments.put(segment.firstSeq, segment);
+      deleteIfDone(segment);
+    }
+  }
+
+  private static void writeRecord(DataOutputStream out, long seq, byte[] payload) throws IOException {
+    CRC32 crc = new CRC32();
+    crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, seq).array());
+    crc.update(payload);
+
+    out.writeInt(payload.length);
+    out.writeLong(seq);
+    out.write(payload);
+    out.writeInt((int) crc.getValue());
+  }
+
+  /**
+   * Reads valid records of given log, stopping at the first incomplete or corrupted one.
+   */
+  private static void readRecords(Path logPath, RecordConsumer consumer) throws IOException {
+    byte[] content = Files.readAllBytes(logPath);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+    int offset = 0;
+    while (content.length - offset >= RECORD_OVERHEAD) {
+      int length = in.readInt();
+      if (length < 0 || content.length - offset < RECORD_OVERHEAD + length) {
+        break;
+      }
+      long seq = in.readLong();
+      byte[] payload = new byte[length];
+      in.readFully(payload);
+      int checksum = in.readInt();
+
+      CRC32 crc = new CRC32();
+      crc.update(content, offset + Integer.BYTES, Long.BYTES + length);
+      if ((int) crc.getValue() != checksum) {
+        break;
+      }
+      offset += RECORD_OVERHEAD + length;
+      consumer.accept(seq, payload);
+    }
+  }
+
+  private static Set<Long> readAcks(Path ackPath) throws IOException {
+    Set<Long> acked = new HashSet<>();
+    if (Files.exists(ackPath)) {
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(ackPath));
+      while (buffer.remaining() >= Long.BYTES) {
+        acked.add(buffer.getLong());
+      }
+    }
+    return acked;
+  }
+
+
+  private static class Segment {
+    private final long firstSeq;
+    private final Path logPath;
+    private final Path ackPath;
+    private FileChannel log;
+    private FileChannel acks;
+    private int records;
+    private int acked;
+    private int released;
+    private long size;
+
+    private Segment(long firstSeq, Path directory) {
+      String name = String.format("%020d", firstSeq);
+      this.firstSeq = firstSeq;
+      this.logPath = directory.resolve(name + LOG_SUFFIX);
+      this.ackPath = directory.resolve(name + ACK_SUFFIX);
+    }
+
+    private void close() throws IOException {
+      if (log != null) {
+        log.close();
+        log = null;
+      }
+      if (acks != null) {
+        acks.close();
+        acks = null;
+      }
+    }
+  }
+
+  private interface RecordConsumer {
+    void accept(long seq, byte[] payload) throws IOException;
+  }
+
+  private static class IdentityKey {
+    private final Object item;
+
+    private IdentityKey(Object item) {
+      this.item = item;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(item);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof IdentityKey && ((IdentityKey) o).item == item;
+    }
+  }
+}
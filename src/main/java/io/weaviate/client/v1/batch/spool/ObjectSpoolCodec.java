@@ -0,0 +1,106 @@
+package io.weaviate.client.v1.batch.spool;
+
+import com.google.gson.Gson;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores vectors as raw float32 values and properties as json, written with the same configuration as requests.
+ * <p>
+ * Json numbers are read back as longs if they are integral, so int properties are not sent as doubles after replay.
+ */
+public class ObjectSpoolCodec implements SpoolCodec<WeaviateObject> {
+
+  private static final Type PROPERTIES_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+  private final Gson gson;
+
+  public ObjectSpoolCodec() {
+    // number strategy only affects reading, replayed properties are serialized to the same json as originally
+    this.gson = Serializer.gsonBuilder()
+      .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+      .create();
+  }
+
+  @Override
+  public void encode(WeaviateObject object, DataOutput out) throws IOException {
+    ReferenceSpoolCodec.writeNullableString(out, object.getId());
+    ReferenceSpoolCodec.writeNullableString(out, object.getClassName());
+    ReferenceSpoolCodec.writeNullableString(out, object.getTenant());
+    writeVector(out, object.getPrimitiveVector());
+
+    Map<String, float[]> vectors = object.getPrimitiveVectors();
+    out.writeInt(vectors != null ? vectors.size() : -1);
+    if (vectors != null) {
+      for (Map.Entry<String, float[]> entry : vectors.entrySet()) {
+        out.writeUTF(entry.getKey());
+        writeVector(out, entry.getValue());
+      }
+    }
+
+    // properties may exceed writeUTF limit of 64KB
+    byte[] properties = object.getProperties() != null
+      ? gson.toJson(object.getProperties()).getBytes(StandardCharsets.UTF_8)
+      : null;
+    out.writeInt(properties != null ? properties.length : -1);
+    if (properties != null) {
+      out.write(properties);
+    }
+  }
+
+  @Override
+  public WeaviateObject decode(DataInput in) throws IOException {
+    WeaviateObject.WeaviateObjectBuilder builder = WeaviateObject.builder()
+      .id(ReferenceSpoolCodec.readNullableString(in))
+      .className(ReferenceSpoolCodec.readNullableString(in))
+      .tenant(ReferenceSpoolCodec.readNullableString(in))
+      .vector(readVector(in));
+
+    int vectorsCount = in.readInt();
+    if (vectorsCount >= 0) {
+      Map<String, float[]> vectors = new LinkedHashMap<>(vectorsCount * 4 / 3 + 1);
+      for (int i = 0; i < vectorsCount; i++) {
+        vectors.put(in.readUTF(), readVector(in));
+      }
+      builder.primitiveVectors(vectors);
+    }
+
+    int propertiesLength = in.readInt();
+    if (propertiesLength >= 0) {
+      byte[] properties = new byte[propertiesLength];
+      in.readFully(properties);
+      builder.properties(gson.fromJson(new String(properties, StandardCharsets.UTF_8), PROPERTIES_TYPE));
+    }
+    return builder.build();
+  }
+
+  private static void writeVector(DataOutput out, float[] vector) throws IOException {
+    out.writeInt(vector != null ? vector.length : -1);
+    if (vector != null) {
+      for (float f : vector) {
+        out.writeFloat(f);
+      }
+    }
+  }
+
+  private static float[] readVector(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    float[] vector = new float[length];
+    for (int i = 0; i < length; i++) {
+      vector[i] = in.readFloat();
+    }
+    return vector;
+  }
+}
@@ -0,0 +1,36 @@
+package io.weaviate.client.v1.batch.spool;
+
+import io.weaviate.client.v1.batch.model.BatchReference;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class ReferenceSpoolCodec implements SpoolCodec<BatchReference> {
+
+  @Override
+  public void encode(BatchReference reference, DataOutput out) throws IOException {
+    writeNullableString(out, reference.getFrom());
+    writeNullableString(out, reference.getTo());
+    writeNullableString(out, reference.getTenant());
+  }
+
+  @Override
+  public BatchReference decode(DataInput in) throws IOException {
+    return BatchReference.builder()
+      .from(readNullableString(in))
+      .to(readNullableString(in))
+      .tenant(readNullableString(in))
+      .build();
+  }
+
+  static void writeNullableString(DataOutput out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  static String readNullableString(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
@@ -0,0 +1,15 @@
+package io.weaviate.client.v1.batch.spool;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes items stored in {@link BatchSpool} records.
+ */
+public interface SpoolCodec<T> {
+
+  void encode(T item, DataOutput out) throws IOException;
+
+  T decode(DataInput in) throws IOException;
+}
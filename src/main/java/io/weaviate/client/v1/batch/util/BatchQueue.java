@@ -0,0 +1,151 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.v1.batch.model.QueueFullPolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of items waiting to be sent in batches, safe for many concurrent producers and consumers.
+ * <p>
+ * Adding and taking items is lock-free. Consumers reserve whole batches from available items count
+ * before taking them, so each item ends up in exactly one batch.
+ * Lock is used only by producers waiting for capacity of a full queue.
+ */
+public class BatchQueue<T> {
+
+  private final ConcurrentLinkedQueue<T> items;
+  // items added and not yet taken, counts towards capacity
+  private final AtomicInteger queued;
+  // items added and not yet reserved by consumers
+  private final AtomicInteger available;
+  private final AtomicInteger waitingProducers;
+  private final ReentrantLock lock;
+  private final Condition notFull;
+  private final int capacity;
+  private final QueueFullPolicy queueFullPolicy;
+
+  public BatchQueue() {
+    this(Integer.MAX_VALUE, QueueFullPolicy.BLOCK);
+  }
+
+  public BatchQueue(int capacity, QueueFullPolicy queueFullPolicy) {
+    this.items = new ConcurrentLinkedQueue<>();
+    this.queued = new AtomicInteger();
+    this.available = new AtomicInteger();
+    this.waitingProducers = new AtomicInteger();
+    this.lock = new ReentrantLock();
+    this.notFull = lock.newCondition();
+    this.capacity = capacity;
+    this.queueFullPolicy = queueFullPolicy;
+  }
+
+  /**
+   * Adds items, waiting for capacity or throwing {@link RejectedExecutionException} if queue is full.
+   * Items are always accepted by an empty queue, even if there are more of them than its capacity.
+   */
+  @SafeVarargs
+  public final void addAll(T... newItems) {
+    if (newItems.length == 0) {
+      return;
+    }
+    if (!tryReserveCapacity(newItems.length)) {
+      awaitCapacity(newItems.length);
+    }
+    for (T item : newItems) {
+      items.offer(item);
+    }
+    available.addAndGet(newItems.length);
+  }
+
+  /**
+   * Takes exactly batchSize items, or none if there are not enough of them.
+   */
+  public List<T> pollFull(int batchSize) {
+    int count;
+    do {
+      count = available.get();
+      if (count < batchSize) {
+        return Collections.emptyList();
+      }
+    } while (!available.compareAndSet(count, count - batchSize));
+    return take(batchSize);
+  }
+
+  /**
+   * Takes up to maxSize items.
+   */
+  public List<T> poll(int maxSize) {
+    int count;
+    int size;
+    do {
+      count = available.get();
+      if (count == 0) {
+        return Collections.emptyList();
+      }
+      size = Math.min(count, maxSize);
+    } while (!available.compareAndSet(count, count - size));
+    return take(size);
+  }
+
+  public int size() {
+    return available.get();
+  }
+
+  public boolean isEmpty() {
+    return available.get() == 0;
+  }
+
+  private List<T> take(int size) {
+    // reserved items are already in the queue, as they are counted as available only after being offered
+    List<T> batch = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      batch.add(items.poll());
+    }
+    queued.addAndGet(-size);
+    if (waitingProducers.get() > 0) {
+      lock.lock();
+      try {
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+    return batch;
+  }
+
+  private boolean tryReserveCapacity(int count) {
+    int current;
+    do {
+      current = queued.get();
+      if (current > 0 && current + count > capacity) {
+        return false;
+      }
+    } while (!queued.compareAndSet(current, current + count));
+    return true;
+  }
+
+  private void awaitCapacity(int count) {
+    if (queueFullPolicy == QueueFullPolicy.FAIL_FAST) {
+      throw new RejectedExecutionException(String.format("batch queue is full (%d items queued)", queued.get()));
+    }
+    lock.lock();
+    waitingProducers.incrementAndGet();
+    try {
+      while (!tryReserveCapacity(count)) {
+        notFull.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("interrupted while waiting for batch queue capacity", e);
+    } finally {
+      waitingProducers.decrementAndGet();
+      lock.unlock();
+    }
+  }
+}
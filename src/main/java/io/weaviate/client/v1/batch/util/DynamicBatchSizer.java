@@ -0,0 +1,83 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.v1.batch.model.AutoBatchStats;
+
+/**
+ * Adjusts batch size and number of concurrent batches AIMD-style towards a target latency.
+ * <p>
+ * Each batch completed within target latency grows batch size by {@code minBatchSize};
+ * once {@code maxBatchSize} is reached concurrency grows by one.
+ * Batches slower than target halve batch size, failed or timed out batches halve both batch size and concurrency.
+ */
+public class DynamicBatchSizer {
+
+  private static final double ALPHA = 0.2;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int maxConcurrency;
+  private final int targetLatencyMs;
+
+  private int batchSize;
+  private int concurrency;
+  private double objectsPerSecond;
+  private double latencyMs;
+  private double errorRate;
+
+  public DynamicBatchSizer(int initialBatchSize, int minBatchSize, int maxBatchSize, int maxConcurrency,
+                           int targetLatencyMs) {
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.maxConcurrency = maxConcurrency;
+    this.targetLatencyMs = targetLatencyMs;
+    this.batchSize = Math.max(minBatchSize, Math.min(maxBatchSize, initialBatchSize));
+    this.concurrency = 1;
+  }
+
+  public synchronized int getBatchSize() {
+    return batchSize;
+  }
+
+  public synchronized int getConcurrency() {
+    return concurrency;
+  }
+
+  public synchronized void onSuccess(int objects, long latencyMs) {
+    this.errorRate += ALPHA * (0 - errorRate);
+    this.latencyMs = ewma(this.latencyMs, latencyMs);
+    this.objectsPerSecond = ewma(objectsPerSecond, objects * 1000.0 / Math.max(1, latencyMs) * concurrency);
+
+    if (latencyMs > targetLatencyMs) {
+      batchSize = Math.max(minBatchSize, batchSize / 2);
+    } else if (objects >= batchSize) {
+      // grow only if batch was full, flushed leftovers do not say anything about capacity
+      if (batchSize < maxBatchSize) {
+        batchSize = Math.min(maxBatchSize, batchSize + minBatchSize);
+      } else if (concurrency < maxConcurrency) {
+        concurrency++;
+      }
+    }
+  }
+
+  public synchronized void onFailure(long latencyMs) {
+    this.errorRate += ALPHA * (1 - errorRate);
+    this.latencyMs = ewma(this.latencyMs, latencyMs);
+
+    batchSize = Math.max(minBatchSize, batchSize / 2);
+    concurrency = Math.max(1, concurrency / 2);
+  }
+
+  public synchronized AutoBatchStats getStats() {
+    return AutoBatchStats.builder()
+      .batchSize(batchSize)
+      .concurrency(concurrency)
+      .objectsPerSecond(objectsPerSecond)
+      .latencyMs(latencyMs)
+      .errorRate(errorRate)
+      .build();
+  }
+
+  private static double ewma(double average, double value) {
+    return average == 0 ? value : average + ALPHA * (value - average);
+  }
+}
@@ -0,0 +1,69 @@
+package io.weaviate.client.v1.batch.util;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts batches being taken from the queue by auto run and not yet registered as in progress,
+ * so that flush can wait for them without spinning.
+ * <p>
+ * Counting is lock-free, lock is used only when a flushing thread waits for the count to drop to zero.
+ */
+public class PendingBatches {
+
+  private final AtomicInteger pending;
+  private final AtomicInteger waiting;
+  private final ReentrantLock lock;
+  private final Condition none;
+
+  public PendingBatches() {
+    this.pending = new AtomicInteger();
+    this.waiting = new AtomicInteger();
+    this.lock = new ReentrantLock();
+    this.none = lock.newCondition();
+  }
+
+  public void increment() {
+    pending.incrementAndGet();
+  }
+
+  public void decrement() {
+    if (pending.decrementAndGet() == 0 && waiting.get() > 0) {
+      lock.lock();
+      try {
+        none.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return pending.get() == 0;
+  }
+
+  /**
+   * Waits until no batch is pending, throwing {@link RejectedExecutionException} if interrupted.
+   */
+  public void awaitNone() {
+    if (pending.get() == 0) {
+      return;
+    }
+    lock.lock();
+    waiting.incrementAndGet();
+    try {
+      // count is checked with waiting registered, so decrement either sees the waiter or the check sees zero
+      while (pending.get() > 0) {
+        none.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("interrupted while waiting for pending batches", e);
+    } finally {
+      waiting.decrementAndGet();
+      lock.unlock();
+    }
+  }
+}
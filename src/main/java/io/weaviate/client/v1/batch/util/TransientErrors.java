@@ -0,0 +1,62 @@
+package io.weaviate.client.v1.batch.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.core5.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Recognizes batch errors which may succeed when sent again, and spaces out sending them again.
+ */
+public class TransientErrors {
+
+  /**
+   * Maximal delay before items failed with transient errors are sent again, however many times they failed.
+   */
+  public static final long MAX_RETRY_DELAY_MS = 30_000;
+
+  // texts of errors reported by server, not generic words which may be part of a permanent error
+  // (e.g. validation of a property named "timeout")
+  private static final List<String> MESSAGES = Arrays.asList(
+    "context deadline exceeded",
+    "too many requests",
+    "is read-only",
+    "connection refused",
+    "connection reset by peer",
+    "service unavailable",
+    "i/o timeout",
+    "timeout awaiting response headers"
+  );
+
+  private TransientErrors() {
+  }
+
+  /**
+   * Whether request failed as a whole with given status may succeed when sent again: no response was received
+   * (status 0), server was overloaded or failed. Other statuses, like 401 or 422, would fail the same way again.
+   */
+  public static boolean isTransientStatus(int statusCode) {
+    return statusCode == 0
+      || statusCode == HttpStatus.SC_REQUEST_TIMEOUT
+      || statusCode == HttpStatus.SC_TOO_MANY_REQUESTS
+      || statusCode >= HttpStatus.SC_SERVER_ERROR;
+  }
+
+  public static boolean isTransient(String message) {
+    String lowerCase = StringUtils.lowerCase(message);
+    return lowerCase != null && MESSAGES.stream().anyMatch(lowerCase::contains);
+  }
+
+  /**
+   * Returns delay before given retry (starting with 1) of items failed with transient errors: random time between
+   * 0 and a cap doubling with each retry, starting from intervalMs and limited to {@link #MAX_RETRY_DELAY_MS}
+   * (exponential backoff with full jitter, like {@link io.weaviate.client.base.retry.ExponentialBackoffRetryPolicy}).
+   * Jitter keeps batchers failed at the same time from sending items again all at once.
+   */
+  public static long retryDelay(int intervalMs, int retry) {
+    long cap = Math.min(MAX_RETRY_DELAY_MS, (long) intervalMs << Math.min(Math.max(retry - 1, 0), 30));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+}
@@ -1,5 +1,6 @@
 package io.weaviate.client.v1.data;
 
+import io.weaviate.client.base.grpc.GrpcChannelPool;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.BeaconPath;
 import io.weaviate.client.base.util.DbVersionSupport;
@@ -8,7 +9,10 @@ import io.weaviate.client.v1.data.api.ObjectDeleter;
 import io.weaviate.client.v1.data.api.ObjectUpdater;
 import io.weaviate.client.v1.data.api.ObjectValidator;
 import io.weaviate.client.v1.data.api.ObjectsChecker;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.data.api.ObjectsExporter;
 import io.weaviate.client.v1.data.api.ObjectsGetter;
+import io.weaviate.client.v1.data.api.ObjectsIterator;
 import io.weaviate.client.v1.data.api.ReferenceCreator;
 import io.weaviate.client.v1.data.api.ReferenceDeleter;
 import io.weaviate.client.v1.data.api.ReferenceReplacer;
@@ -23,13 +27,22 @@ public class Data {
   private final ObjectsPath objectsPath;
   private final ReferencesPath referencesPath;
   private final BeaconPath beaconPath;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
 
   public Data(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport) {
+    this(httpClient, config, dbVersionSupport, null, null);
+  }
+
+  public Data(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport,
+              AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool) {
     this.config = config;
     this.httpClient = httpClient;
     this.objectsPath = new ObjectsPath(dbVersionSupport);
     this.referencesPath = new ReferencesPath(dbVersionSupport);
     this.beaconPath = new BeaconPath(dbVersionSupport);
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
   }
 
   public ObjectCreator creator() {
@@ -40,6 +53,14 @@ public class Data {
     return new ObjectsGetter(httpClient, config, objectsPath);
   }
 
+  public ObjectsIterator objectsIterator(String className) {
+    return new ObjectsIterator(httpClient, config, objectsPath, tokenProvider, grpcChannelPool, className);
+  }
+
+  public ObjectsExporter objectsExporter(String className) {
+    return new ObjectsExporter(httpClient, config, objectsPath, tokenProvider, grpcChannelPool, className);
+  }
+
   public ObjectsChecker checker() {
     return new ObjectsChecker(httpClient, config, objectsPath);
   }
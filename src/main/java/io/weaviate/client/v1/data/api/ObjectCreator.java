@@ -13,6 +13,7 @@ import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.FloatArrays;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 
 public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientResult<WeaviateObject> {
@@ -23,8 +24,8 @@ public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientR
   private String consistencyLevel;
   private String tenant;
   private Map<String, Object> properties;
-  private Float[] vector;
-  private Map<String, Float[]> vectors;
+  private float[] vector;
+  private Map<String, float[]> vectors;
 
   public ObjectCreator(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
     super(httpClient, config);
@@ -57,11 +58,21 @@ public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientR
   }
 
   public ObjectCreator withVector(Float[] vector) {
+    this.vector = FloatArrays.toPrimitive(vector);
+    return this;
+  }
+
+  public ObjectCreator withVector(float[] vector) {
     this.vector = vector;
     return this;
   }
 
   public ObjectCreator withVectors(Map<String, Float[]> vectors) {
+    this.vectors = FloatArrays.toPrimitive(vectors);
+    return this;
+  }
+
+  public ObjectCreator withPrimitiveVectors(Map<String, float[]> vectors) {
     this.vectors = vectors;
     return this;
   }
@@ -82,7 +93,7 @@ public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientR
       .className(className)
       .properties(properties)
       .vector(vector)
-      .vectors(vectors)
+      .primitiveVectors(vectors)
       .id(getID())
       .tenant(tenant)
       .build();
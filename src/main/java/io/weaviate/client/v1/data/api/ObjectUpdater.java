@@ -18,6 +18,7 @@ import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.FloatArrays;
 
 public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientResult<Boolean> {
 
@@ -27,8 +28,8 @@ public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientR
   private String consistencyLevel;
   private String tenant;
   private Map<String, Object> properties;
-  private Float[] vector;
-  private Map<String, Float[]> vectors;
+  private float[] vector;
+  private Map<String, float[]> vectors;
   private Boolean withMerge;
 
   public ObjectUpdater(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
@@ -62,11 +63,21 @@ public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientR
   }
 
   public ObjectUpdater withVector(Float[] vector) {
+    this.vector = FloatArrays.toPrimitive(vector);
+    return this;
+  }
+
+  public ObjectUpdater withVector(float[] vector) {
     this.vector = vector;
     return this;
   }
 
   public ObjectUpdater withVectors(Map<String, Float[]> vectors) {
+    this.vectors = FloatArrays.toPrimitive(vectors);
+    return this;
+  }
+
+  public ObjectUpdater withPrimitiveVectors(Map<String, float[]> vectors) {
     this.vectors = vectors;
     return this;
   }
@@ -95,7 +106,7 @@ public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientR
       .properties(properties)
       .id(id)
       .vector(vector)
-      .vectors(vectors)
+      .primitiveVectors(vectors)
       .tenant(tenant)
       .build();
     if (BooleanUtils.isTrue(withMerge)) {
@@ -0,0 +1,275 @@
+package io.weaviate.client.v1.data.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.data.model.ObjectsExportResult;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.data.util.ObjectsFileWriter;
+import io.weaviate.client.v1.data.util.ObjectsPath;
+import io.weaviate.client.v1.misc.model.MultiTenancyConfig;
+import io.weaviate.client.v1.schema.api.ClassGetter;
+import io.weaviate.client.v1.schema.api.TenantsGetter;
+import io.weaviate.client.v1.schema.model.ActivityStatus;
+import io.weaviate.client.v1.schema.model.Tenant;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import org.apache.hc.core5.http.HttpStatus;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Exports all objects of a class, scanning tenants concurrently.
+ * <p>
+ * Multi tenant classes are partitioned by tenant, each tenant being its own shard, and up to
+ * {@link #withParallelism(int) parallelism} tenants are scanned at once with {@link ObjectsIterator}.
+ * By default all active tenants are exported. Classes without multi tenancy are read as a single partition,
+ * as objects of their shards cannot be listed separately.
+ * <p>
+ * Objects are passed to the {@link #withSink(Consumer) sink}, which is called concurrently for different
+ * tenants, or written to one file per partition in the {@link #withOutputDirectory(Path) output directory}
+ * in {@link ObjectsFileWriter} format. Failed partitions are reported as errors of the result,
+ * next to the counts of exported ones.
+ */
+public class ObjectsExporter implements ClientResult<ObjectsExportResult> {
+
+  public static final int PARALLELISM = 4;
+  public static final String FILE_EXTENSION = ".bin";
+
+  private final HttpClient httpClient;
+  private final Config config;
+  private final ObjectsPath objectsPath;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
+  private final String className;
+  private int parallelism = PARALLELISM;
+  private int pageSize = ObjectsIterator.PAGE_SIZE;
+  private boolean vector;
+  private String[] tenants;
+  private String consistencyLevel;
+  private Consumer<WeaviateObject> sink;
+  private Path outputDirectory;
+
+  public ObjectsExporter(HttpClient httpClient, Config config, ObjectsPath objectsPath,
+                         AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool, String className) {
+    this.httpClient = httpClient;
+    this.config = config;
+    this.objectsPath = Objects.requireNonNull(objectsPath);
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
+    this.className = Objects.requireNonNull(className);
+  }
+
+  public ObjectsExporter withParallelism(int parallelism) {
+    Assert.requireGreaterEqual(parallelism, 1, "parallelism");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public ObjectsExporter withPageSize(int pageSize) {
+    Assert.requireGreaterEqual(pageSize, 1, "pageSize");
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  public ObjectsExporter withVector() {
+    this.vector = true;
+    return this;
+  }
+
+  /**
+   * Tenants to export instead of all active ones.
+   */
+  public ObjectsExporter withTenants(String... tenants) {
+    this.tenants = tenants;
+    return this;
+  }
+
+  public ObjectsExporter withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  /**
+   * Consumer of exported objects, has to be thread safe.
+   */
+  public ObjectsExporter withSink(Consumer<WeaviateObject> sink) {
+    this.sink = sink;
+    return this;
+  }
+
+  /**
+   * Directory files are written to, named {@code <className>.bin} or {@code <className>.<tenant>.bin}.
+   */
+  public ObjectsExporter withOutputDirectory(Path outputDirectory) {
+    this.outputDirectory = outputDirectory;
+    return this;
+  }
+
+  @Override
+  public Result<ObjectsExportResult> run() {
+    if ((sink == null) == (outputDirectory == null)) {
+      return errorResult(HttpStatus.SC_BAD_REQUEST, Collections.singletonList(WeaviateErrorMessage.builder()
+        .message("either sink or output directory is required").build()));
+    }
+
+    Result<List<String>> partitions = partitions();
+    if (partitions.hasErrors()) {
+      WeaviateError error = partitions.getError();
+      return errorResult(error.getStatusCode(), error.getMessages());
+    }
+
+    List<String> tenantPartitions = partitions.getResult();
+    Map<String, Long> tenantCounts = new LinkedHashMap<>();
+    List<Path> files = new ArrayList<>();
+    List<WeaviateErrorMessage> errors = new ArrayList<>();
+    long count = 0;
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, tenantPartitions.size())), runnable -> {
+      Thread thread = new Thread(runnable, "weaviate-objects-exporter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<Long>> futures = new ArrayList<>(tenantPartitions.size());
+      for (String tenant : tenantPartitions) {
+        futures.add(executor.submit(() -> exportPartition(tenant)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        String tenant = tenantPartitions.get(i);
+        try {
+          long partitionCount = futures.get(i).get();
+          count += partitionCount;
+          if (tenant != null) {
+            tenantCounts.put(tenant, partitionCount);
+          }
+          if (outputDirectory != null) {
+            files.add(file(tenant));
+          }
+        } catch (ExecutionException e) {
+          errors.add(WeaviateErrorMessage.builder()
+            .message(String.format("could not export %s: %s", tenant != null ? "tenant " + tenant : className,
+              e.getCause().getMessage()))
+            .throwable(e.getCause())
+            .build());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          errors.add(WeaviateErrorMessage.builder().message("export was interrupted").throwable(e).build());
+          break;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    ObjectsExportResult result = ObjectsExportResult.builder()
+      .className(className)
+      .objectsCount(count)
+      .tenantObjectsCounts(tenantCounts)
+      .files(files)
+      .build();
+    WeaviateErrorResponse errorResponse = errors.isEmpty()
+      ? null
+      : WeaviateErrorResponse.builder().code(HttpStatus.SC_INTERNAL_SERVER_ERROR).error(errors).build();
+    return new Result<>(errors.isEmpty() ? HttpStatus.SC_OK : HttpStatus.SC_INTERNAL_SERVER_ERROR, result, errorResponse);
+  }
+
+  private long exportPartition(String tenant) throws Exception {
+    ObjectsIterator objects = new ObjectsIterator(httpClient, config, objectsPath, tokenProvider, grpcChannelPool, className)
+      .withPageSize(pageSize)
+      .withTenant(tenant)
+      .withConsistencyLevel(consistencyLevel);
+    if (vector) {
+      objects.withVector();
+    }
+
+    long count = 0;
+    if (outputDirectory == null) {
+      for (WeaviateObject object : objects) {
+        sink.accept(object);
+        count++;
+      }
+      return count;
+    }
+    try (ObjectsFileWriter writer = new ObjectsFileWriter(file(tenant))) {
+      for (WeaviateObject object : objects) {
+        writer.write(object);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private Path file(String tenant) {
+    return outputDirectory.resolve(tenant != null
+      ? className + "." + tenant + FILE_EXTENSION
+      : className + FILE_EXTENSION);
+  }
+
+  /**
+   * Tenants to scan, single null partition for classes without multi tenancy.
+   */
+  private Result<List<String>> partitions() {
+    if (tenants != null) {
+      return new Result<>(HttpStatus.SC_OK, Arrays.asList(tenants), null);
+    }
+
+    Result<WeaviateClass> weaviateClass = new ClassGetter(httpClient, config).withClassName(className).run();
+    if (weaviateClass.hasErrors()) {
+      return new Result<>(weaviateClass.getError().getStatusCode(), null,
+        WeaviateErrorResponse.builder().error(weaviateClass.getError().getMessages()).build());
+    }
+    if (weaviateClass.getResult() == null) {
+      return new Result<>(HttpStatus.SC_NOT_FOUND, null, WeaviateErrorResponse.builder()
+        .error(Collections.singletonList(WeaviateErrorMessage.builder()
+          .message(String.format("class %s does not exist", className)).build()))
+        .build());
+    }
+    MultiTenancyConfig multiTenancyConfig = weaviateClass.getResult().getMultiTenancyConfig();
+    if (multiTenancyConfig == null || !Boolean.TRUE.equals(multiTenancyConfig.getEnabled())) {
+      return new Result<>(HttpStatus.SC_OK, Collections.<String>singletonList(null), null);
+    }
+
+    Result<List<Tenant>> classTenants = new TenantsGetter(httpClient, config).withClassName(className).run();
+    if (classTenants.hasErrors()) {
+      return new Result<>(classTenants.getError().getStatusCode(), null,
+        WeaviateErrorResponse.builder().error(classTenants.getError().getMessages()).build());
+    }
+    List<String> activeTenants = classTenants.getResult().stream()
+      .filter(tenant -> isActive(tenant.getActivityStatus()))
+      .map(Tenant::getName)
+      .collect(Collectors.toList());
+    return new Result<>(HttpStatus.SC_OK, activeTenants, null);
+  }
+
+  @SuppressWarnings("deprecation")
+  private static boolean isActive(String activityStatus) {
+    return activityStatus == null
+      || ActivityStatus.HOT.equals(activityStatus)
+      || ActivityStatus.ACTIVE.equals(activityStatus)
+      || ActivityStatus.WARM.equals(activityStatus);
+  }
+
+  private static Result<ObjectsExportResult> errorResult(int statusCode, List<WeaviateErrorMessage> messages) {
+    return new Result<>(statusCode, null, WeaviateErrorResponse.builder().code(statusCode).error(messages).build());
+  }
+}
@@ -0,0 +1,254 @@
+package io.weaviate.client.v1.data.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
+import io.weaviate.client.base.grpc.GrpcClient;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.data.util.ObjectsPath;
+import io.weaviate.client.v1.search.grpc.SearchReplyConverter;
+import io.weaviate.client.v1.search.grpc.SearchRequestConverter;
+import io.weaviate.client.v1.search.model.SearchHit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over all objects of a class with cursor ({@code after}) pagination.
+ * <p>
+ * Next page is fetched in the background while the current one is consumed.
+ * Pages are fetched with gRPC search when gRPC host is set in {@link Config}, from /v1/objects otherwise.
+ * Over gRPC, property values are decoded as described in {@link SearchReplyConverter}
+ * and only the default vector is returned.
+ * <p>
+ * Each call to {@link #iterator()} starts a new cursor. Returned iterators are not thread safe,
+ * errors of fetching pages are thrown from {@link Iterator#hasNext()} as {@link IllegalStateException}.
+ */
+public class ObjectsIterator implements Iterable<WeaviateObject> {
+
+  public static final int PAGE_SIZE = 100;
+
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "weaviate-objects-iterator");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final HttpClient httpClient;
+  private final Config config;
+  private final ObjectsPath objectsPath;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
+  private final String className;
+  private int pageSize = PAGE_SIZE;
+  private boolean vector;
+  private String tenant;
+  private String consistencyLevel;
+  private Executor executor = DEFAULT_EXECUTOR;
+
+  public ObjectsIterator(HttpClient httpClient, Config config, ObjectsPath objectsPath,
+                         AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool, String className) {
+    this.httpClient = httpClient;
+    this.config = config;
+    this.objectsPath = Objects.requireNonNull(objectsPath);
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
+    this.className = Objects.requireNonNull(className);
+  }
+
+  public ObjectsIterator withPageSize(int pageSize) {
+    Assert.requireGreaterEqual(pageSize, 1, "pageSize");
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  public ObjectsIterator withVector() {
+    this.vector = true;
+    return this;
+  }
+
+  public ObjectsIterator withTenant(String tenant) {
+    this.tenant = tenant;
+    return this;
+  }
+
+  public ObjectsIterator withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  /**
+   * Executor pages are fetched on, by default shared pool of daemon threads.
+   */
+  public ObjectsIterator withExecutor(Executor executor) {
+    this.executor = Objects.requireNonNull(executor);
+    return this;
+  }
+
+  @Override
+  public Iterator<WeaviateObject> iterator() {
+    PageFetcher fetcher = config.useGRPC() && grpcChannelPool != null
+      ? new GrpcPageFetcher(GrpcClient.create(config, tokenProvider, grpcChannelPool), className, pageSize, vector,
+      tenant, consistencyLevel)
+      : new RestPageFetcher(new ObjectsGetter(httpClient, config, objectsPath), className, pageSize, vector,
+      tenant, consistencyLevel);
+    return new Cursor(fetcher, pageSize, executor);
+  }
+
+  public Stream<WeaviateObject> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+
+  private interface PageFetcher {
+    List<WeaviateObject> fetch(String after);
+  }
+
+  private static class RestPageFetcher implements PageFetcher {
+    private final ObjectsGetter getter;
+
+    private RestPageFetcher(ObjectsGetter getter, String className, int pageSize, boolean vector,
+                            String tenant, String consistencyLevel) {
+      this.getter = getter.withClassName(className).withLimit(pageSize);
+      if (vector) {
+        getter.withVector();
+      }
+      if (tenant != null) {
+        getter.withTenant(tenant);
+      }
+      if (consistencyLevel != null) {
+        getter.withConsistencyLevel(consistencyLevel);
+      }
+    }
+
+    @Override
+    public List<WeaviateObject> fetch(String after) {
+      // getter is only used by one fetch at a time
+      Result<List<WeaviateObject>> result = getter.withAfter(after).run();
+      if (result.hasErrors()) {
+        List<WeaviateErrorMessage> messages = result.getError().getMessages();
+        String message = messages.stream().map(WeaviateErrorMessage::getMessage).collect(Collectors.joining(", "));
+        Throwable cause = messages.isEmpty() ? null : messages.get(0).getThrowable();
+        throw new IllegalStateException(String.format("could not fetch objects (status code %d): %s",
+          result.getError().getStatusCode(), message), cause);
+      }
+      return result.getResult() != null ? result.getResult() : Collections.emptyList();
+    }
+  }
+
+  private static class GrpcPageFetcher implements PageFetcher {
+    private final GrpcClient grpcClient;
+    private final String className;
+    private final int pageSize;
+    private final boolean vector;
+    private final String tenant;
+    private final String consistencyLevel;
+
+    private GrpcPageFetcher(GrpcClient grpcClient, String className, int pageSize, boolean vector,
+                            String tenant, String consistencyLevel) {
+      this.grpcClient = grpcClient;
+      this.className = className;
+      this.pageSize = pageSize;
+      this.vector = vector;
+      this.tenant = tenant;
+      this.consistencyLevel = consistencyLevel;
+    }
+
+    @Override
+    public List<WeaviateObject> fetch(String after) {
+      List<SearchHit> hits = SearchReplyConverter.toSearchResponse(grpcClient.search(
+        SearchRequestConverter.toCursorRequest(className, after, pageSize, vector, tenant, consistencyLevel))
+      ).getObjects();
+
+      List<WeaviateObject> objects = new ArrayList<>(hits.size());
+      for (SearchHit hit : hits) {
+        objects.add(WeaviateObject.builder()
+          .id(hit.getId())
+          .className(className)
+          .tenant(tenant)
+          .properties(hit.getProperties())
+          .vector(hit.getVector())
+          .primitiveVectors(hit.getVectors())
+          .creationTimeUnix(hit.getCreationTimeUnix())
+          .lastUpdateTimeUnix(hit.getLastUpdateTimeUnix())
+          .build());
+      }
+      return objects;
+    }
+  }
+
+  private static class Cursor implements Iterator<WeaviateObject> {
+    private final PageFetcher fetcher;
+    private final int pageSize;
+    private final Executor executor;
+    private Iterator<WeaviateObject> page;
+    // null once the last page was taken
+    private CompletableFuture<List<WeaviateObject>> nextPage;
+
+    private Cursor(PageFetcher fetcher, int pageSize, Executor executor) {
+      this.fetcher = fetcher;
+      this.pageSize = pageSize;
+      this.executor = executor;
+      this.page = Collections.emptyIterator();
+      this.nextPage = fetchAsync(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext()) {
+        if (nextPage == null) {
+          return false;
+        }
+        List<WeaviateObject> objects = join(nextPage);
+        // page shorter than requested is the last one, otherwise next one is fetched while this one is consumed
+        nextPage = objects.size() < pageSize
+          ? null
+          : fetchAsync(objects.get(objects.size() - 1).getId());
+        page = objects.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public WeaviateObject next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page.next();
+    }
+
+    private CompletableFuture<List<WeaviateObject>> fetchAsync(String after) {
+      return CompletableFuture.supplyAsync(() -> fetcher.fetch(after), executor);
+    }
+
+    private List<WeaviateObject> join(CompletableFuture<List<WeaviateObject>> future) {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        nextPage = null;
+        if (e.getCause() instanceof IllegalStateException) {
+          throw (IllegalStateException) e.getCause();
+        }
+        throw new IllegalStateException("could not fetch objects", e.getCause());
+      }
+    }
+  }
+}
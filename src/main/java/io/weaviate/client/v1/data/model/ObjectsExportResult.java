@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.data.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ObjectsExportResult {
+  String className;
+  long objectsCount;
+  // empty for classes without multi tenancy
+  Map<String, Long> tenantObjectsCounts;
+  // empty when objects were passed to the sink
+  List<Path> files;
+}
@@ -1,6 +1,7 @@
 package io.weaviate.client.v1.data.model;
 
 import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.base.util.FloatArrays;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -8,14 +9,15 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
+import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.Map;
 
 @Getter
 @Setter
 @Builder
-@ToString
-@EqualsAndHashCode
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class WeaviateObject {
   String id;
@@ -25,8 +27,75 @@ public class WeaviateObject {
   Long lastUpdateTimeUnix;
   Map<String, Object> properties;
   Map<String, Object> additional;
-  Float[] vector;
-  Map<String, Float[]> vectors;
+  // vectors are stored as primitive arrays, Float[] accessors box them on demand
+  float[] vector;
+  Map<String, float[]> vectors;
   Object vectorWeights;
   String tenant;
+
+  /**
+   * Returns a boxed copy of the vector. Changes made to the returned array do not affect the object,
+   * use {@link #setVector(Float[])} or {@link #getPrimitiveVector()} to modify it.
+   */
+  public Float[] getVector() {
+    return ArrayUtils.toObject(vector);
+  }
+
+  public float[] getPrimitiveVector() {
+    return vector;
+  }
+
+  public void setVector(Float[] vector) {
+    this.vector = FloatArrays.toPrimitive(vector);
+  }
+
+  public void setVector(float[] vector) {
+    this.vector = vector;
+  }
+
+  /**
+   * Returns boxed copies of named vectors. Changes made to the returned map or arrays do not affect the object,
+   * use {@link #setVectors(Map)} or {@link #getPrimitiveVectors()} to modify them.
+   */
+  public Map<String, Float[]> getVectors() {
+    return FloatArrays.toObject(vectors);
+  }
+
+  public Map<String, float[]> getPrimitiveVectors() {
+    return vectors;
+  }
+
+  public void setVectors(Map<String, Float[]> vectors) {
+    this.vectors = FloatArrays.toPrimitive(vectors);
+  }
+
+  public void setPrimitiveVectors(Map<String, float[]> vectors) {
+    this.vectors = vectors;
+  }
+
+  // Extend lombok's builder to accept both boxed and primitive vectors.
+  public static class WeaviateObjectBuilder {
+    private float[] vector;
+    private Map<String, float[]> vectors;
+
+    public WeaviateObjectBuilder vector(Float[] vector) {
+      this.vector = FloatArrays.toPrimitive(vector);
+      return this;
+    }
+
+    public WeaviateObjectBuilder vector(float[] vector) {
+      this.vector = vector;
+      return this;
+    }
+
+    public WeaviateObjectBuilder vectors(Map<String, Float[]> vectors) {
+      this.vectors = FloatArrays.toPrimitive(vectors);
+      return this;
+    }
+
+    public WeaviateObjectBuilder primitiveVectors(Map<String, float[]> vectors) {
+      this.vectors = vectors;
+      return this;
+    }
+  }
 }
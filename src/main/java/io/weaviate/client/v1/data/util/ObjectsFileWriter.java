@@ -0,0 +1,116 @@
+package io.weaviate.client.v1.data.util;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes objects to a compact binary file.
+ * <p>
+ * File starts with {@link #MAGIC} bytes followed by {@link #VERSION} and records, one per object.
+ * All numbers are little-endian, strings are UTF-8 prefixed with their byte length:
+ * <pre>
+ * record:   id (16 bytes, uuid in canonical byte order)
+ *           properties (int32 length + json)
+ *           vector
+ *           named vectors count (int32), each: name (int32 length + bytes), vector
+ * vector:   dimensions (int32, 0 if none) + float32 values
+ * </pre>
+ * Writer is not thread safe.
+ */
+public class ObjectsFileWriter implements Closeable {
+
+  public static final byte[] MAGIC = {'W', 'V', 'O', 'B'};
+  public static final int VERSION = 1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final OutputStream out;
+  private final Serializer serializer = new Serializer();
+  private ByteBuffer record = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+  public ObjectsFileWriter(Path file) throws IOException {
+    this.out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+    out.write(MAGIC);
+    record.putInt(VERSION);
+    flushRecord();
+  }
+
+  public void write(WeaviateObject object) throws IOException {
+    UUID id = UUID.fromString(object.getId());
+    byte[] properties = serializer.toJsonString(object.getProperties() != null
+      ? object.getProperties()
+      : Collections.emptyMap()).getBytes(StandardCharsets.UTF_8);
+    float[] vector = object.getPrimitiveVector();
+    Map<String, float[]> vectors = object.getPrimitiveVectors() != null
+      ? object.getPrimitiveVectors()
+      : Collections.emptyMap();
+
+    int size = 16 + 4 + properties.length + vectorSize(vector) + 4;
+    for (Map.Entry<String, float[]> named : vectors.entrySet()) {
+      size += 4 + named.getKey().length() * 3 + vectorSize(named.getValue());
+    }
+    ensureCapacity(size);
+
+    // uuid keeps its canonical (big-endian) byte order regardless of buffer order
+    record.put(toBytes(id));
+    record.putInt(properties.length).put(properties);
+    putVector(vector);
+    record.putInt(vectors.size());
+    for (Map.Entry<String, float[]> named : vectors.entrySet()) {
+      byte[] name = named.getKey().getBytes(StandardCharsets.UTF_8);
+      record.putInt(name.length).put(name);
+      putVector(named.getValue());
+    }
+    flushRecord();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private void putVector(float[] vector) {
+    if (vector == null) {
+      record.putInt(0);
+      return;
+    }
+    record.putInt(vector.length);
+    record.asFloatBuffer().put(vector);
+    record.position(record.position() + vector.length * Float.BYTES);
+  }
+
+  private void flushRecord() throws IOException {
+    out.write(record.array(), 0, record.position());
+    record.clear();
+  }
+
+  private void ensureCapacity(int size) {
+    if (record.capacity() < size) {
+      record = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  private static int vectorSize(float[] vector) {
+    return 4 + (vector != null ? vector.length * Float.BYTES : 0);
+  }
+
+  private static byte[] toBytes(UUID id) {
+    return ByteBuffer.allocate(16)
+      .putLong(id.getMostSignificantBits())
+      .putLong(id.getLeastSignificantBits())
+      .array();
+  }
+}
@@ -0,0 +1,161 @@
+package io.weaviate.client.v1.filters.grpc;
+
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.time.DateFormatUtils;
+
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Compiles {@link WhereFilter} into gRPC {@link WeaviateProtoBase.Filters}.
+ * <p>
+ * Reference paths ({@code [refProp, TargetClass, ..., property]}) are compiled into nested multi target
+ * filter targets, keeping target class explicit as in REST filters. Dates are sent as RFC 3339 text.
+ * <p>
+ * Filters are compiled on every call, as they hold mutable arrays and dates (formatted in the default time zone),
+ * so compiled result of previous call could get stale.
+ */
+public class WhereFilterConverter {
+
+  private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssZZZZZ";
+  private static final String ID_PROPERTY = "id";
+  private static final String INTERNAL_ID_PROPERTY = "_id";
+
+  private WhereFilterConverter() {
+  }
+
+  public static WeaviateProtoBase.Filters toFilters(WhereFilter filter) {
+    WeaviateProtoBase.Filters.Builder builder = WeaviateProtoBase.Filters.newBuilder()
+      .setOperator(toOperator(filter.getOperator()));
+
+    if (ArrayUtils.isNotEmpty(filter.getOperands())) {
+      for (WhereFilter operand : filter.getOperands()) {
+        builder.addFilters(toFilters(operand));
+      }
+      return builder.build();
+    }
+
+    builder.setTarget(toTarget(filter.getPath()));
+    setValue(builder, filter);
+    return builder.build();
+  }
+
+  private static WeaviateProtoBase.Filters.Operator toOperator(String operator) {
+    if (operator == null) {
+      throw new IllegalArgumentException("where filter operator is required");
+    }
+    switch (operator) {
+      case Operator.And:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_AND;
+      case Operator.Or:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_OR;
+      case Operator.Equal:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_EQUAL;
+      case Operator.NotEqual:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_NOT_EQUAL;
+      case Operator.GreaterThan:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_GREATER_THAN;
+      case Operator.GreaterThanEqual:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_GREATER_THAN_EQUAL;
+      case Operator.LessThan:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_LESS_THAN;
+      case Operator.LessThanEqual:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_LESS_THAN_EQUAL;
+      case Operator.Like:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_LIKE;
+      case Operator.WithinGeoRange:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_WITHIN_GEO_RANGE;
+      case Operator.ContainsAny:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_CONTAINS_ANY;
+      case Operator.ContainsAll:
+        return WeaviateProtoBase.Filters.Operator.OPERATOR_CONTAINS_ALL;
+      default:
+        throw new IllegalArgumentException(String.format("operator %s is not supported by gRPC filters", operator));
+    }
+  }
+
+  private static WeaviateProtoBase.FilterTarget toTarget(String[] path) {
+    if (ArrayUtils.isEmpty(path)) {
+      throw new IllegalArgumentException("where filter path is required");
+    }
+    if (path.length % 2 == 0) {
+      throw new IllegalArgumentException(String.format("path %s should alternate reference properties and classes, "
+        + "ending with property", Arrays.toString(path)));
+    }
+    return toTarget(path, 0);
+  }
+
+  private static WeaviateProtoBase.FilterTarget toTarget(String[] path, int from) {
+    if (from == path.length - 1) {
+      // REST accepts "id" for object id, gRPC only its internal name
+      String property = ID_PROPERTY.equals(path[from]) ? INTERNAL_ID_PROPERTY : path[from];
+      return WeaviateProtoBase.FilterTarget.newBuilder().setProperty(property).build();
+    }
+    return WeaviateProtoBase.FilterTarget.newBuilder()
+      .setMultiTarget(WeaviateProtoBase.FilterReferenceMultiTarget.newBuilder()
+        .setOn(path[from])
+        .setTargetCollection(path[from + 1])
+        .setTarget(toTarget(path, from + 2)))
+      .build();
+  }
+
+  @SuppressWarnings("deprecation")
+  private static void setValue(WeaviateProtoBase.Filters.Builder builder, WhereFilter filter) {
+    if (filter.getValueText() != null) {
+      builder.setValueText(filter.getValueText());
+    } else if (filter.getValueString() != null) {
+      builder.setValueText(filter.getValueString());
+    } else if (filter.getValueInt() != null) {
+      builder.setValueInt(filter.getValueInt());
+    } else if (filter.getValueNumber() != null) {
+      builder.setValueNumber(filter.getValueNumber());
+    } else if (filter.getValueBoolean() != null) {
+      builder.setValueBoolean(filter.getValueBoolean());
+    } else if (filter.getValueDate() != null) {
+      builder.setValueText(formatDate(filter.getValueDate()));
+    } else if (filter.getValueTextArray() != null) {
+      builder.setValueTextArray(WeaviateProtoBase.TextArray.newBuilder().addAllValues(Arrays.asList(filter.getValueTextArray())));
+    } else if (filter.getValueStringArray() != null) {
+      builder.setValueTextArray(WeaviateProtoBase.TextArray.newBuilder().addAllValues(Arrays.asList(filter.getValueStringArray())));
+    } else if (filter.getValueIntArray() != null) {
+      WeaviateProtoBase.IntArray.Builder values = WeaviateProtoBase.IntArray.newBuilder();
+      for (Integer value : filter.getValueIntArray()) {
+        values.addValues(value);
+      }
+      builder.setValueIntArray(values);
+    } else if (filter.getValueNumberArray() != null) {
+      builder.setValueNumberArray(WeaviateProtoBase.NumberArray.newBuilder().addAllValues(Arrays.asList(filter.getValueNumberArray())));
+    } else if (filter.getValueBooleanArray() != null) {
+      builder.setValueBooleanArray(WeaviateProtoBase.BooleanArray.newBuilder().addAllValues(Arrays.asList(filter.getValueBooleanArray())));
+    } else if (filter.getValueDateArray() != null) {
+      WeaviateProtoBase.TextArray.Builder values = WeaviateProtoBase.TextArray.newBuilder();
+      for (Date value : filter.getValueDateArray()) {
+        values.addValues(formatDate(value));
+      }
+      builder.setValueTextArray(values);
+    } else if (filter.getValueGeoRange() != null) {
+      builder.setValueGeo(toGeoCoordinatesFilter(filter.getValueGeoRange()));
+    }
+  }
+
+  private static String formatDate(Date date) {
+    return DateFormatUtils.format(date, DATE_FORMAT);
+  }
+
+  private static WeaviateProtoBase.GeoCoordinatesFilter toGeoCoordinatesFilter(WhereFilter.GeoRange geoRange) {
+    WhereFilter.GeoCoordinates coordinates = geoRange.getGeoCoordinates();
+    WhereFilter.GeoDistance distance = geoRange.getDistance();
+    if (coordinates == null || coordinates.getLatitude() == null || coordinates.getLongitude() == null
+      || distance == null || distance.getMax() == null) {
+      throw new IllegalArgumentException("geo range requires latitude, longitude and max distance");
+    }
+    return WeaviateProtoBase.GeoCoordinatesFilter.newBuilder()
+      .setLatitude(coordinates.getLatitude())
+      .setLongitude(coordinates.getLongitude())
+      .setDistance(distance.getMax())
+      .build();
+  }
+}
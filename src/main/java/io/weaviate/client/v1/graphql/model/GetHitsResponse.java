@@ -0,0 +1,43 @@
+package io.weaviate.client.v1.graphql.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.search.model.SearchHit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Typed response of GraphQL Get query, decoded by {@link GetHitsResponseAdapter}
+ * straight from JSON without building intermediate maps.
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@JsonAdapter(GetHitsResponseAdapter.class)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class GetHitsResponse {
+  List<SearchHit> objects;
+  GraphQLError[] errors;
+
+  /**
+   * Extract the 'message' portion of every error in the response, omitting 'path' and 'location'.
+   *
+   * @return Non-throwable WeaviateErrorMessages
+   */
+  public List<WeaviateErrorMessage> errorMessages() {
+    if (errors == null || errors.length == 0) {
+      return null;
+    }
+    return Arrays.stream(errors)
+      .map(err -> new WeaviateErrorMessage(err.getMessage(), null))
+      .collect(Collectors.toList());
+  }
+}
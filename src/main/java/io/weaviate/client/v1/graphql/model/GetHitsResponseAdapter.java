@@ -0,0 +1,334 @@
+package io.weaviate.client.v1.graphql.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.v1.search.model.SearchHit;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads GraphQL Get response token by token.
+ * <p>
+ * Vectors are read directly into {@code float[]}, {@code _additional} distance, certainty and score
+ * into primitive floats. Properties keep GraphQL semantics: numbers are read as {@code Double},
+ * arrays of numbers only as {@code double[]}, other arrays (including mixed ones) as {@code List}
+ * and objects (including references) as {@code Map}. See {@link SearchHit} for how it differs from gRPC search.
+ * Unknown {@code _additional} fields are skipped.
+ */
+public class GetHitsResponseAdapter extends TypeAdapter<GetHitsResponse> {
+  private static final Gson GSON = new Gson();
+  private static final int INITIAL_VECTOR_CAPACITY = 256;
+
+  /**
+   * Writes response in the shape of GraphQL Get response it is read from, so that it can be read back.
+   * Hits are grouped by class, null properties are written only if the writer serializes nulls.
+   */
+  @Override
+  public void write(JsonWriter out, GetHitsResponse value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    if (value.getObjects() != null) {
+      Map<String, List<SearchHit>> hitsByClass = new LinkedHashMap<>();
+      for (SearchHit hit : value.getObjects()) {
+        hitsByClass.computeIfAbsent(hit.getClassName(), k -> new ArrayList<>()).add(hit);
+      }
+      out.name("data").beginObject().name("Get").beginObject();
+      for (Map.Entry<String, List<SearchHit>> entry : hitsByClass.entrySet()) {
+        out.name(entry.getKey()).beginArray();
+        for (SearchHit hit : entry.getValue()) {
+          writeHit(out, hit);
+        }
+        out.endArray();
+      }
+      out.endObject().endObject();
+    }
+    if (value.getErrors() != null) {
+      out.name("errors");
+      GSON.getAdapter(GraphQLError[].class).write(out, value.getErrors());
+    }
+    out.endObject();
+  }
+
+  @Override
+  public GetHitsResponse read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    List<SearchHit> objects = new ArrayList<>();
+    GraphQLError[] errors = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if ("data".equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+        readData(in, objects);
+      } else if ("errors".equals(name)) {
+        errors = GSON.getAdapter(GraphQLError[].class).read(in);
+      } else {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+
+    return GetHitsResponse.builder().objects(objects).errors(errors).build();
+  }
+
+  private void readData(JsonReader in, List<SearchHit> objects) throws IOException {
+    in.beginObject();
+    while (in.hasNext()) {
+      if (!"Get".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+        in.skipValue();
+        continue;
+      }
+      in.beginObject();
+      while (in.hasNext()) {
+        String className = in.nextName();
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+          in.skipValue();
+          continue;
+        }
+        in.beginArray();
+        while (in.hasNext()) {
+          objects.add(readHit(in, className));
+        }
+        in.endArray();
+      }
+      in.endObject();
+    }
+    in.endObject();
+  }
+
+  private SearchHit readHit(JsonReader in, String className) throws IOException {
+    SearchHit.SearchHitBuilder builder = SearchHit.builder().className(className);
+    Map<String, Object> properties = new LinkedHashMap<>();
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if ("_additional".equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+        readAdditional(in, builder);
+      } else {
+        properties.put(name, readValue(in));
+      }
+    }
+    in.endObject();
+
+    return builder.properties(properties).build();
+  }
+
+  private void readAdditional(JsonReader in, SearchHit.SearchHitBuilder builder) throws IOException {
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        continue;
+      }
+      switch (name) {
+        case "id":
+          builder.id(in.nextString());
+          break;
+        case "vector":
+          builder.vector(readFloats(in));
+          break;
+        case "vectors":
+          Map<String, float[]> vectors = new LinkedHashMap<>();
+          in.beginObject();
+          while (in.hasNext()) {
+            String vectorName = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+              in.nextNull();
+            } else {
+              vectors.put(vectorName, readFloats(in));
+            }
+          }
+          in.endObject();
+          builder.vectors(vectors);
+          break;
+        case "distance":
+          builder.distance((float) in.nextDouble());
+          break;
+        case "certainty":
+          builder.certainty((float) in.nextDouble());
+          break;
+        case "score":
+          // score is returned as string, nextDouble parses quoted numbers as well
+          builder.score((float) in.nextDouble());
+          break;
+        case "explainScore":
+          builder.explainScore(in.nextString());
+          break;
+        case "creationTimeUnix":
+          builder.creationTimeUnix(in.nextLong());
+          break;
+        case "lastUpdateTimeUnix":
+          builder.lastUpdateTimeUnix(in.nextLong());
+          break;
+        case "isConsistent":
+          builder.isConsistent(in.nextBoolean());
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+  }
+
+  private void writeHit(JsonWriter out, SearchHit hit) throws IOException {
+    out.beginObject();
+    if (hit.getProperties() != null) {
+      for (Map.Entry<String, Object> property : hit.getProperties().entrySet()) {
+        out.name(property.getKey());
+        writeValue(out, property.getValue());
+      }
+    }
+    out.name("_additional").beginObject();
+    if (hit.getId() != null) {
+      out.name("id").value(hit.getId());
+    }
+    if (hit.getVector() != null) {
+      out.name("vector");
+      writeFloats(out, hit.getVector());
+    }
+    if (hit.getVectors() != null) {
+      out.name("vectors").beginObject();
+      for (Map.Entry<String, float[]> vector : hit.getVectors().entrySet()) {
+        out.name(vector.getKey());
+        writeFloats(out, vector.getValue());
+      }
+      out.endObject();
+    }
+    if (!Float.isNaN(hit.getDistance())) {
+      out.name("distance").value(hit.getDistance());
+    }
+    if (!Float.isNaN(hit.getCertainty())) {
+      out.name("certainty").value(hit.getCertainty());
+    }
+    if (!Float.isNaN(hit.getScore())) {
+      // returned as string by the server
+      out.name("score").value(Float.toString(hit.getScore()));
+    }
+    if (hit.getExplainScore() != null) {
+      out.name("explainScore").value(hit.getExplainScore());
+    }
+    if (hit.getCreationTimeUnix() != null) {
+      out.name("creationTimeUnix").value(hit.getCreationTimeUnix());
+    }
+    if (hit.getLastUpdateTimeUnix() != null) {
+      out.name("lastUpdateTimeUnix").value(hit.getLastUpdateTimeUnix());
+    }
+    if (hit.getIsConsistent() != null) {
+      out.name("isConsistent").value(hit.getIsConsistent());
+    }
+    out.endObject();
+    out.endObject();
+  }
+
+  private void writeFloats(JsonWriter out, float[] values) throws IOException {
+    out.beginArray();
+    for (float value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  private void writeValue(JsonWriter out, Object value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+    } else if (value instanceof Map) {
+      out.beginObject();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        out.name(String.valueOf(entry.getKey()));
+        writeValue(out, entry.getValue());
+      }
+      out.endObject();
+    } else if (value instanceof List) {
+      out.beginArray();
+      for (Object element : (List<?>) value) {
+        writeValue(out, element);
+      }
+      out.endArray();
+    } else if (value instanceof SearchHit) {
+      // references of gRPC search hits
+      writeHit(out, (SearchHit) value);
+    } else {
+      // strings, numbers, booleans and primitive arrays
+      GSON.toJson(value, value.getClass(), out);
+    }
+  }
+
+  private float[] readFloats(JsonReader in) throws IOException {
+    float[] values = new float[INITIAL_VECTOR_CAPACITY];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = (float) in.nextDouble();
+    }
+    in.endArray();
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  private Object readValue(JsonReader in) throws IOException {
+    switch (in.peek()) {
+      case STRING:
+        return in.nextString();
+      case NUMBER:
+        return in.nextDouble();
+      case BOOLEAN:
+        return in.nextBoolean();
+      case BEGIN_OBJECT:
+        Map<String, Object> object = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+          object.put(in.nextName(), readValue(in));
+        }
+        in.endObject();
+        return object;
+      case BEGIN_ARRAY:
+        return readArray(in);
+      default:
+        in.skipValue();
+        return null;
+    }
+  }
+
+  private Object readArray(JsonReader in) throws IOException {
+    in.beginArray();
+    double[] numbers = new double[16];
+    int size = 0;
+    while (in.hasNext() && in.peek() == JsonToken.NUMBER) {
+      if (size == numbers.length) {
+        numbers = Arrays.copyOf(numbers, size * 2);
+      }
+      numbers[size++] = in.nextDouble();
+    }
+    if (size > 0 && !in.hasNext()) {
+      in.endArray();
+      return Arrays.copyOf(numbers, size);
+    }
+    // array is not made of numbers only, numbers read so far become its first elements
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      values.add(numbers[i]);
+    }
+    while (in.hasNext()) {
+      values.add(readValue(in));
+    }
+    in.endArray();
+    return values;
+  }
+}
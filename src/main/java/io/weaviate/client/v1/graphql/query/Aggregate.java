@@ -121,7 +121,7 @@ public class Aggregate extends BaseClient<GraphQLResponse> implements ClientResu
   public Result<GraphQLResponse> run() {
     String aggregateQuery = aggregateBuilder.build().buildQuery();
     GraphQLQuery query = GraphQLQuery.builder().query(aggregateQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendHedgedPostRequest("/graphql", query, GraphQLResponse.class);
     return new Result<>(resp);
   }
 }
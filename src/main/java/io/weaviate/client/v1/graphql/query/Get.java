@@ -28,15 +28,20 @@ import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.model.GetHitsResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.search.model.SearchHit;
+import java.util.List;
 
 public class Get extends BaseClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final GetBuilder.GetBuilderBuilder getBuilder;
+  private final HitsClient hitsClient;
 
   public Get(HttpClient httpClient, Config config) {
     super(httpClient, config);
     getBuilder = GetBuilder.builder();
+    hitsClient = new HitsClient(httpClient, config);
   }
 
   public Get withClassName(String className) {
@@ -173,7 +178,30 @@ public class Get extends BaseClient<GraphQLResponse> implements ClientResult<Gra
   public Result<GraphQLResponse> run() {
     String getQuery = getBuilder.build().buildQuery();
     GraphQLQuery query = GraphQLQuery.builder().query(getQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendHedgedPostRequest("/graphql", query, GraphQLResponse.class);
     return new Result<>(resp);
   }
+
+  /**
+   * Runs query and decodes returned objects into typed {@link SearchHit}s,
+   * reading vectors into {@code float[]} without intermediate maps.
+   * GraphQL errors are returned as result's error.
+   */
+  public Result<List<SearchHit>> runTyped() {
+    String getQuery = getBuilder.build().buildQuery();
+    GraphQLQuery query = GraphQLQuery.builder().query(getQuery).build();
+    Response<GetHitsResponse> resp = hitsClient.send(query);
+    List<SearchHit> objects = resp.getBody() != null ? resp.getBody().getObjects() : null;
+    return new Result<>(resp.getStatusCode(), objects, resp.getErrors());
+  }
+
+  private static class HitsClient extends BaseClient<GetHitsResponse> {
+    private HitsClient(HttpClient httpClient, Config config) {
+      super(httpClient, config);
+    }
+
+    private Response<GetHitsResponse> send(GraphQLQuery query) {
+      return sendHedgedPostRequest("/graphql", query, GetHitsResponse.class);
+    }
+  }
 }
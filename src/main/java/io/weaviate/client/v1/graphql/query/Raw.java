@@ -26,7 +26,7 @@ public class Raw extends BaseClient<GraphQLResponse> implements ClientResult<Gra
   @Override
   public Result<GraphQLResponse> run() {
     GraphQLQuery query = GraphQLQuery.builder().query(this.query).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendHedgedPostRequest("/graphql", query, GraphQLResponse.class);
     return new Result<>(resp);
   }
 }
@@ -1,5 +1,6 @@
 package io.weaviate.client.v1.graphql.query.argument;
 
+import io.weaviate.client.base.util.FloatArrays;
 import io.weaviate.client.v1.graphql.query.util.Serializer;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -17,17 +18,28 @@ import org.apache.commons.lang3.ArrayUtils;
 
 @Getter
 @Builder
-@ToString
-@EqualsAndHashCode
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class NearVectorArgument implements Argument {
-  Float[] vector;
+  float[] vector;
   Float certainty;
   Float distance;
   String[] targetVectors;
   Map<String, Float[][]> vectorsPerTarget;
   Targets targets;
 
+  /**
+   * Returns a boxed copy of the vector, changes made to it do not affect the argument.
+   */
+  public Float[] getVector() {
+    return ArrayUtils.toObject(vector);
+  }
+
+  public float[] getPrimitiveVector() {
+    return vector;
+  }
+
   @Override
   public String build() {
     Set<String> arg = new LinkedHashSet<>();
@@ -96,8 +108,19 @@ public class NearVectorArgument implements Argument {
 
   // Extend Lombok's builder to overload some methods.
   public static class NearVectorArgumentBuilder {
+    private float[] vector;
     Map<String, Float[][]> vectorsPerTarget = new LinkedHashMap<>();
 
+    public NearVectorArgumentBuilder vector(Float[] vector) {
+      this.vector = FloatArrays.toPrimitive(vector);
+      return this;
+    }
+
+    public NearVectorArgumentBuilder vector(float[] vector) {
+      this.vector = vector;
+      return this;
+    }
+
     public NearVectorArgumentBuilder vectorPerTarget(Map<String, Float[]> vectors) {
       this.vectorsPerTarget.clear(); // Overwrite the existing entries each time this is called.
       for (Map.Entry<String, Float[]> e : vectors.entrySet()) {
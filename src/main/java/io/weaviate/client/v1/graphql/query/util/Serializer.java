@@ -64,6 +64,25 @@ public class Serializer {
     return array(input, i -> i);
   }
 
+  /**
+   * Creates array string of floats without boxing them
+   *
+   * @param input array of floats
+   * @return array string
+   */
+  public static String array(float[] input) {
+    StringBuilder sb = new StringBuilder("[");
+    if (input != null) {
+      for (int i = 0; i < input.length; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        sb.append(input[i]);
+      }
+    }
+    return sb.append(']').toString();
+  }
+
   /**
    * Creates array string
    * It is up to user to make elements json safe
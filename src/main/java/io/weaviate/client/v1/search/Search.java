@@ -0,0 +1,22 @@
+package io.weaviate.client.v1.search;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.search.api.Getter;
+
+public class Search {
+  private final Config config;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
+
+  public Search(Config config, AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool) {
+    this.config = config;
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
+  }
+
+  public Getter get() {
+    return new Getter(config, tokenProvider, grpcChannelPool);
+  }
+}
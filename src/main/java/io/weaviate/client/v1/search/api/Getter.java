@@ -0,0 +1,148 @@
+package io.weaviate.client.v1.search.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.grpc.GrpcChannelPool;
+import io.weaviate.client.base.grpc.GrpcClient;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
+import io.weaviate.client.v1.graphql.query.argument.GroupByArgument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearObjectArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArguments;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import io.weaviate.client.v1.search.grpc.SearchReplyConverter;
+import io.weaviate.client.v1.search.grpc.SearchRequestConverter;
+import io.weaviate.client.v1.search.model.SearchResponse;
+
+import java.util.Collections;
+
+/**
+ * Runs Get query over gRPC, accepting the same arguments as GraphQL Get.
+ * Requires gRPC host to be set in {@link Config}.
+ */
+public class Getter implements ClientResult<SearchResponse> {
+  private final Config config;
+  private final AccessTokenProvider tokenProvider;
+  private final GrpcChannelPool grpcChannelPool;
+  private final GetBuilder.GetBuilderBuilder getBuilder;
+
+  public Getter(Config config, AccessTokenProvider tokenProvider, GrpcChannelPool grpcChannelPool) {
+    this.config = config;
+    this.tokenProvider = tokenProvider;
+    this.grpcChannelPool = grpcChannelPool;
+    this.getBuilder = GetBuilder.builder();
+  }
+
+  public Getter withClassName(String className) {
+    getBuilder.className(className);
+    return this;
+  }
+
+  public Getter withFields(Field... fields) {
+    getBuilder.fields(Fields.builder().fields(fields).build());
+    return this;
+  }
+
+  public Getter withWhere(WhereArgument where) {
+    getBuilder.withWhereFilter(where);
+    return this;
+  }
+
+  public Getter withLimit(Integer limit) {
+    getBuilder.limit(limit);
+    return this;
+  }
+
+  public Getter withOffset(Integer offset) {
+    getBuilder.offset(offset);
+    return this;
+  }
+
+  public Getter withAfter(String after) {
+    getBuilder.after(after);
+    return this;
+  }
+
+  public Getter withBm25(Bm25Argument bm25) {
+    getBuilder.withBm25Filter(bm25);
+    return this;
+  }
+
+  public Getter withHybrid(HybridArgument hybrid) {
+    getBuilder.withHybridFilter(hybrid);
+    return this;
+  }
+
+  public Getter withNearText(NearTextArgument nearText) {
+    getBuilder.withNearTextFilter(nearText);
+    return this;
+  }
+
+  public Getter withNearObject(NearObjectArgument nearObject) {
+    getBuilder.withNearObjectFilter(nearObject);
+    return this;
+  }
+
+  public Getter withNearVector(NearVectorArgument nearVector) {
+    getBuilder.withNearVectorFilter(nearVector);
+    return this;
+  }
+
+  public Getter withSort(SortArgument... sort) {
+    getBuilder.withSortArguments(SortArguments.builder().sort(sort).build());
+    return this;
+  }
+
+  public Getter withConsistencyLevel(String level) {
+    getBuilder.withConsistencyLevel(level);
+    return this;
+  }
+
+  public Getter withGroupBy(GroupByArgument groupBy) {
+    getBuilder.withGroupByArgument(groupBy);
+    return this;
+  }
+
+  public Getter withTenant(String tenant) {
+    getBuilder.tenant(tenant);
+    return this;
+  }
+
+  public Getter withAutocut(Integer autocut) {
+    getBuilder.autocut(autocut);
+    return this;
+  }
+
+  @Override
+  public Result<SearchResponse> run() {
+    if (!config.useGRPC()) {
+      return error(new IllegalStateException("gRPC host is not configured"));
+    }
+    try {
+      WeaviateProtoSearchGet.SearchRequest request = SearchRequestConverter.toSearchRequest(getBuilder.build());
+      GrpcClient grpcClient = GrpcClient.create(config, tokenProvider, grpcChannelPool);
+      WeaviateProtoSearchGet.SearchReply reply = config.getHedgingPolicy() != null
+        ? grpcClient.search(request, config.getHedgingPolicy())
+        : grpcClient.search(request);
+      return new Result<>(200, SearchReplyConverter.toSearchResponse(reply), null);
+    } catch (Exception e) {
+      return error(e);
+    }
+  }
+
+  private Result<SearchResponse> error(Exception e) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(e.getMessage()).throwable(e).build();
+    return new Result<>(0, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+}
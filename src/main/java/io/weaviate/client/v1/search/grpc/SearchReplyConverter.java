@@ -0,0 +1,186 @@
+package io.weaviate.client.v1.search.grpc;
+
+import io.weaviate.client.base.grpc.VectorBytes;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoProperties;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
+import io.weaviate.client.v1.search.model.SearchGroup;
+import io.weaviate.client.v1.search.model.SearchHit;
+import io.weaviate.client.v1.search.model.SearchResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes gRPC SearchReply into typed search results.
+ * <p>
+ * Property values are mapped to plain java types: text, date and uuid values to {@code String},
+ * ints to {@code Long}, numbers to {@code Double}, number and int lists to {@code double[]} and {@code long[]},
+ * other lists to {@code List}, nested objects, geo coordinates and phone numbers to {@code Map}.
+ */
+public class SearchReplyConverter {
+
+  private SearchReplyConverter() {
+  }
+
+  public static SearchResponse toSearchResponse(WeaviateProtoSearchGet.SearchReply reply) {
+    List<SearchHit> objects = new ArrayList<>(reply.getResultsCount());
+    for (WeaviateProtoSearchGet.SearchResult result : reply.getResultsList()) {
+      objects.add(toSearchHit(result.getMetadata(), result.getProperties()));
+    }
+
+    List<SearchGroup> groups = new ArrayList<>(reply.getGroupByResultsCount());
+    for (WeaviateProtoSearchGet.GroupByResult group : reply.getGroupByResultsList()) {
+      List<SearchHit> groupObjects = new ArrayList<>(group.getObjectsCount());
+      for (WeaviateProtoSearchGet.SearchResult result : group.getObjectsList()) {
+        groupObjects.add(toSearchHit(result.getMetadata(), result.getProperties()));
+      }
+      groups.add(SearchGroup.builder()
+        .name(group.getName())
+        .minDistance(group.getMinDistance())
+        .maxDistance(group.getMaxDistance())
+        .numberOfObjects(group.getNumberOfObjects())
+        .objects(groupObjects)
+        .build());
+    }
+
+    return SearchResponse.builder()
+      .took(reply.getTook())
+      .objects(objects)
+      .groups(groups)
+      .build();
+  }
+
+  private static SearchHit toSearchHit(WeaviateProtoSearchGet.MetadataResult metadata,
+                                       WeaviateProtoSearchGet.PropertiesResult properties) {
+    SearchHit.SearchHitBuilder builder = SearchHit.builder();
+
+    if (!metadata.getId().isEmpty()) {
+      builder.id(metadata.getId());
+    }
+    if (!metadata.getVectorBytes().isEmpty()) {
+      builder.vector(VectorBytes.toFloats(metadata.getVectorBytes()));
+    }
+    if (metadata.getVectorsCount() > 0) {
+      Map<String, float[]> vectors = new LinkedHashMap<>();
+      for (WeaviateProtoBase.Vectors vector : metadata.getVectorsList()) {
+        vectors.put(vector.getName(), VectorBytes.toFloats(vector.getVectorBytes()));
+      }
+      builder.vectors(vectors);
+    }
+    if (metadata.getCreationTimeUnixPresent()) {
+      builder.creationTimeUnix(metadata.getCreationTimeUnix());
+    }
+    if (metadata.getLastUpdateTimeUnixPresent()) {
+      builder.lastUpdateTimeUnix(metadata.getLastUpdateTimeUnix());
+    }
+    if (metadata.getDistancePresent()) {
+      builder.distance(metadata.getDistance());
+    }
+    if (metadata.getCertaintyPresent()) {
+      builder.certainty(metadata.getCertainty());
+    }
+    if (metadata.getScorePresent()) {
+      builder.score(metadata.getScore());
+    }
+    if (metadata.getExplainScorePresent()) {
+      builder.explainScore(metadata.getExplainScore());
+    }
+    if (metadata.getIsConsistentPresent()) {
+      builder.isConsistent(metadata.getIsConsistent());
+    }
+
+    if (!properties.getTargetCollection().isEmpty()) {
+      builder.className(properties.getTargetCollection());
+    }
+    Map<String, Object> props = toMap(properties.getNonRefProps());
+    for (WeaviateProtoSearchGet.RefPropertiesResult ref : properties.getRefPropsList()) {
+      List<SearchHit> refs = new ArrayList<>(ref.getPropertiesCount());
+      for (WeaviateProtoSearchGet.PropertiesResult refProperties : ref.getPropertiesList()) {
+        refs.add(toSearchHit(refProperties.getMetadata(), refProperties));
+      }
+      props.put(ref.getPropName(), refs);
+    }
+    return builder.properties(props).build();
+  }
+
+  private static Map<String, Object> toMap(WeaviateProtoProperties.Properties properties) {
+    Map<String, Object> map = new LinkedHashMap<>(properties.getFieldsCount() * 4 / 3 + 1);
+    for (Map.Entry<String, WeaviateProtoProperties.Value> e : properties.getFieldsMap().entrySet()) {
+      map.put(e.getKey(), toObject(e.getValue()));
+    }
+    return map;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Object toObject(WeaviateProtoProperties.Value value) {
+    switch (value.getKindCase()) {
+      case NUMBER_VALUE:
+        return value.getNumberValue();
+      case STRING_VALUE:
+        return value.getStringValue();
+      case TEXT_VALUE:
+        return value.getTextValue();
+      case BOOL_VALUE:
+        return value.getBoolValue();
+      case INT_VALUE:
+        return value.getIntValue();
+      case DATE_VALUE:
+        return value.getDateValue();
+      case UUID_VALUE:
+        return value.getUuidValue();
+      case BLOB_VALUE:
+        return value.getBlobValue();
+      case OBJECT_VALUE:
+        return toMap(value.getObjectValue());
+      case LIST_VALUE:
+        return toList(value.getListValue());
+      case GEO_VALUE:
+        Map<String, Object> geo = new LinkedHashMap<>();
+        geo.put("latitude", value.getGeoValue().getLatitude());
+        geo.put("longitude", value.getGeoValue().getLongitude());
+        return geo;
+      case PHONE_VALUE:
+        WeaviateProtoProperties.PhoneNumber phone = value.getPhoneValue();
+        Map<String, Object> phoneNumber = new LinkedHashMap<>();
+        phoneNumber.put("input", phone.getInput());
+        phoneNumber.put("defaultCountry", phone.getDefaultCountry());
+        phoneNumber.put("internationalFormatted", phone.getInternationalFormatted());
+        phoneNumber.put("countryCode", phone.getCountryCode());
+        phoneNumber.put("national", phone.getNational());
+        phoneNumber.put("nationalFormatted", phone.getNationalFormatted());
+        phoneNumber.put("valid", phone.getValid());
+        return phoneNumber;
+      default:
+        return null;
+    }
+  }
+
+  private static Object toList(WeaviateProtoProperties.ListValue list) {
+    switch (list.getKindCase()) {
+      case NUMBER_VALUES:
+        return VectorBytes.toDoubles(list.getNumberValues().getValues());
+      case INT_VALUES:
+        return VectorBytes.toLongs(list.getIntValues().getValues());
+      case TEXT_VALUES:
+        return list.getTextValues().getValuesList();
+      case DATE_VALUES:
+        return list.getDateValues().getValuesList();
+      case UUID_VALUES:
+        return list.getUuidValues().getValuesList();
+      case BOOL_VALUES:
+        return list.getBoolValues().getValuesList();
+      case OBJECT_VALUES:
+        List<Map<String, Object>> objects = new ArrayList<>(list.getObjectValues().getValuesCount());
+        for (WeaviateProtoProperties.Properties object : list.getObjectValues().getValuesList()) {
+          objects.add(toMap(object));
+        }
+        return objects;
+      default:
+        return Collections.emptyList();
+    }
+  }
+}
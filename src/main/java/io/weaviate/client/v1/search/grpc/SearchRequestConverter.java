@@ -0,0 +1,446 @@
+package io.weaviate.client.v1.search.grpc;
+
+import io.weaviate.client.base.grpc.VectorBytes;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
+import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.filters.grpc.WhereFilterConverter;
+import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
+import io.weaviate.client.v1.graphql.query.argument.FusionType;
+import io.weaviate.client.v1.graphql.query.argument.GroupByArgument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearObjectArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextMoveParameters;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortOrder;
+import io.weaviate.client.v1.graphql.query.argument.Targets;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Maps arguments of GraphQL Get query onto gRPC SearchRequest.
+ * <p>
+ * Fields are mapped as follows: subfields of {@code _additional} are requested as metadata,
+ * fields with {@code ... on TargetClass} subfield as reference properties,
+ * fields with other subfields as object properties and remaining fields as primitive properties.
+ * If no fields are given all non-reference properties and object's id are returned.
+ */
+public class SearchRequestConverter {
+
+  private static final String ADDITIONAL = "_additional";
+  private static final String ON_PREFIX = "... on ";
+  private static final float DEFAULT_HYBRID_ALPHA = 0.75f;
+
+  private SearchRequestConverter() {
+  }
+
+  @SuppressWarnings("deprecation")
+  public static WeaviateProtoSearchGet.SearchRequest toSearchRequest(GetBuilder get) {
+    if (StringUtils.isBlank(get.getClassName())) {
+      throw new IllegalArgumentException("className is required");
+    }
+
+    WeaviateProtoSearchGet.SearchRequest.Builder builder = WeaviateProtoSearchGet.SearchRequest.newBuilder()
+      .setCollection(get.getClassName())
+      .setUses123Api(true)
+      .setUses125Api(true)
+      .setUses127Api(true);
+
+    if (get.getTenant() != null) {
+      builder.setTenant(get.getTenant());
+    }
+    if (get.getWithConsistencyLevel() != null) {
+      builder.setConsistencyLevel(toConsistencyLevel(get.getWithConsistencyLevel()));
+    }
+
+    Field[] fields = get.getFields() != null ? get.getFields().getFields() : null;
+    if (ArrayUtils.isNotEmpty(fields)) {
+      builder.setProperties(toPropertiesRequest(fields));
+      builder.setMetadata(toMetadataRequest(fields));
+    } else {
+      builder.setProperties(WeaviateProtoSearchGet.PropertiesRequest.newBuilder().setReturnAllNonrefProperties(true));
+      builder.setMetadata(WeaviateProtoSearchGet.MetadataRequest.newBuilder().setUuid(true));
+    }
+
+    if (get.getLimit() != null) {
+      builder.setLimit(get.getLimit());
+    }
+    if (get.getOffset() != null) {
+      builder.setOffset(get.getOffset());
+    }
+    if (get.getAutocut() != null) {
+      builder.setAutocut(get.getAutocut());
+    }
+    if (get.getAfter() != null) {
+      builder.setAfter(get.getAfter());
+    }
+    if (get.getWithSortArguments() != null && get.getWithSortArguments().getSort() != null) {
+      for (SortArgument sort : get.getWithSortArguments().getSort()) {
+        builder.addSortBy(WeaviateProtoSearchGet.SortBy.newBuilder()
+          .setAscending(sort.getOrder() != SortOrder.desc)
+          .addAllPath(Arrays.asList(sort.getPath())));
+      }
+    }
+    if (get.getWithGroupByArgument() != null) {
+      builder.setGroupBy(toGroupBy(get.getWithGroupByArgument()));
+    }
+
+    if (get.getWithWhereFilter() != null && get.getWithWhereFilter().getFilter() != null) {
+      builder.setFilters(WhereFilterConverter.toFilters(get.getWithWhereFilter().getFilter()));
+    }
+    if (get.getWithHybridFilter() != null) {
+      builder.setHybridSearch(toHybrid(get.getWithHybridFilter()));
+    }
+    if (get.getWithBm25Filter() != null) {
+      builder.setBm25Search(toBm25(get.getWithBm25Filter()));
+    }
+    if (get.getWithNearVectorFilter() != null) {
+      builder.setNearVector(toNearVector(get.getWithNearVectorFilter()));
+    }
+    if (get.getWithNearObjectFilter() != null) {
+      builder.setNearObject(toNearObject(get.getWithNearObjectFilter()));
+    }
+    if (get.getWithNearTextFilter() != null) {
+      builder.setNearText(toNearText(get.getWithNearTextFilter()));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Builds request for a page of objects following {@code after} id (or the first page if null),
+   * returning all non-reference properties, id and timestamps.
+   */
+  public static WeaviateProtoSearchGet.SearchRequest toCursorRequest(String className, String after, int limit,
+                                                                     boolean vector, String tenant,
+                                                                     String consistencyLevel) {
+    WeaviateProtoSearchGet.SearchRequest.Builder builder = WeaviateProtoSearchGet.SearchRequest.newBuilder()
+      .setCollection(className)
+      .setUses123Api(true)
+      .setUses125Api(true)
+      .setUses127Api(true)
+      .setLimit(limit)
+      .setProperties(WeaviateProtoSearchGet.PropertiesRequest.newBuilder().setReturnAllNonrefProperties(true))
+      .setMetadata(WeaviateProtoSearchGet.MetadataRequest.newBuilder()
+        .setUuid(true)
+        .setCreationTimeUnix(true)
+        .setLastUpdateTimeUnix(true)
+        .setVector(vector));
+    if (after != null) {
+      builder.setAfter(after);
+    }
+    if (tenant != null) {
+      builder.setTenant(tenant);
+    }
+    if (consistencyLevel != null) {
+      builder.setConsistencyLevel(toConsistencyLevel(consistencyLevel));
+    }
+    return builder.build();
+  }
+
+  static WeaviateProtoBase.ConsistencyLevel toConsistencyLevel(String consistencyLevel) {
+    switch (consistencyLevel) {
+      case ConsistencyLevel.ALL:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ALL;
+      case ConsistencyLevel.QUORUM:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_QUORUM;
+      default:
+        return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ONE;
+    }
+  }
+
+  private static WeaviateProtoSearchGet.PropertiesRequest toPropertiesRequest(Field[] fields) {
+    WeaviateProtoSearchGet.PropertiesRequest.Builder builder = WeaviateProtoSearchGet.PropertiesRequest.newBuilder();
+    for (Field field : fields) {
+      if (ADDITIONAL.equals(field.getName())) {
+        continue;
+      }
+      if (ArrayUtils.isEmpty(field.getFields())) {
+        builder.addNonRefProperties(field.getName());
+        continue;
+      }
+      boolean isReference = false;
+      for (Field subField : field.getFields()) {
+        if (subField.getName() != null && subField.getName().startsWith(ON_PREFIX)) {
+          isReference = true;
+          Field[] refFields = ArrayUtils.nullToEmpty(subField.getFields(), Field[].class);
+          builder.addRefProperties(WeaviateProtoSearchGet.RefPropertiesRequest.newBuilder()
+            .setReferenceProperty(field.getName())
+            .setTargetCollection(subField.getName().substring(ON_PREFIX.length()).trim())
+            .setProperties(toPropertiesRequest(refFields))
+            .setMetadata(toMetadataRequest(refFields)));
+        }
+      }
+      if (!isReference) {
+        builder.addObjectProperties(toObjectPropertiesRequest(field));
+      }
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.ObjectPropertiesRequest toObjectPropertiesRequest(Field field) {
+    WeaviateProtoSearchGet.ObjectPropertiesRequest.Builder builder = WeaviateProtoSearchGet.ObjectPropertiesRequest.newBuilder()
+      .setPropName(field.getName());
+    for (Field subField : field.getFields()) {
+      if (ArrayUtils.isEmpty(subField.getFields())) {
+        builder.addPrimitiveProperties(subField.getName());
+      } else {
+        builder.addObjectProperties(toObjectPropertiesRequest(subField));
+      }
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.MetadataRequest toMetadataRequest(Field[] fields) {
+    WeaviateProtoSearchGet.MetadataRequest.Builder builder = WeaviateProtoSearchGet.MetadataRequest.newBuilder();
+    for (Field field : fields) {
+      if (!ADDITIONAL.equals(field.getName()) || field.getFields() == null) {
+        continue;
+      }
+      for (Field additional : field.getFields()) {
+        switch (additional.getName()) {
+          case "id":
+            builder.setUuid(true);
+            break;
+          case "vector":
+            builder.setVector(true);
+            break;
+          case "vectors":
+            if (additional.getFields() != null) {
+              for (Field vector : additional.getFields()) {
+                builder.addVectors(vector.getName());
+              }
+            }
+            break;
+          case "distance":
+            builder.setDistance(true);
+            break;
+          case "certainty":
+            builder.setCertainty(true);
+            break;
+          case "score":
+            builder.setScore(true);
+            break;
+          case "explainScore":
+            builder.setExplainScore(true);
+            break;
+          case "creationTimeUnix":
+            builder.setCreationTimeUnix(true);
+            break;
+          case "lastUpdateTimeUnix":
+            builder.setLastUpdateTimeUnix(true);
+            break;
+          case "isConsistent":
+            builder.setIsConsistent(true);
+            break;
+          default:
+            throw new IllegalArgumentException(String.format("_additional field %s is not supported by gRPC search", additional.getName()));
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.GroupBy toGroupBy(GroupByArgument groupBy) {
+    WeaviateProtoSearchGet.GroupBy.Builder builder = WeaviateProtoSearchGet.GroupBy.newBuilder();
+    if (groupBy.getPath() != null) {
+      builder.addAllPath(Arrays.asList(groupBy.getPath()));
+    }
+    if (groupBy.getGroups() != null) {
+      builder.setNumberOfGroups(groupBy.getGroups());
+    }
+    if (groupBy.getObjectsPerGroup() != null) {
+      builder.setObjectsPerGroup(groupBy.getObjectsPerGroup());
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.Hybrid toHybrid(HybridArgument hybrid) {
+    WeaviateProtoSearchGet.Hybrid.Builder builder = WeaviateProtoSearchGet.Hybrid.newBuilder()
+      .setAlpha(hybrid.getAlpha() != null ? hybrid.getAlpha() : DEFAULT_HYBRID_ALPHA);
+    if (hybrid.getQuery() != null) {
+      builder.setQuery(hybrid.getQuery());
+    }
+    if (hybrid.getProperties() != null) {
+      builder.addAllProperties(Arrays.asList(hybrid.getProperties()));
+    }
+    if (hybrid.getVector() != null) {
+      builder.setVectorBytes(VectorBytes.fromFloats(hybrid.getVector()));
+    }
+    if (FusionType.RANKED.equals(hybrid.getFusionType())) {
+      builder.setFusionType(WeaviateProtoSearchGet.Hybrid.FusionType.FUSION_TYPE_RANKED);
+    } else if (FusionType.RELATIVE_SCORE.equals(hybrid.getFusionType())) {
+      builder.setFusionType(WeaviateProtoSearchGet.Hybrid.FusionType.FUSION_TYPE_RELATIVE_SCORE);
+    }
+    if (hybrid.getMaxVectorDistance() != null) {
+      builder.setVectorDistance(hybrid.getMaxVectorDistance());
+    }
+    if (hybrid.getSearches() != null) {
+      if (hybrid.getSearches().getNearVector() != null) {
+        builder.setNearVector(toNearVector(hybrid.getSearches().getNearVector()));
+      }
+      if (hybrid.getSearches().getNearText() != null) {
+        builder.setNearText(toNearText(hybrid.getSearches().getNearText()));
+      }
+    }
+    if (hybrid.getTargets() != null || hybrid.getTargetVectors() != null) {
+      builder.setTargets(toTargets(hybrid.getTargets(), hybrid.getTargetVectors(), null));
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.BM25 toBm25(Bm25Argument bm25) {
+    WeaviateProtoSearchGet.BM25.Builder builder = WeaviateProtoSearchGet.BM25.newBuilder();
+    if (bm25.getQuery() != null) {
+      builder.setQuery(bm25.getQuery());
+    }
+    if (bm25.getProperties() != null) {
+      builder.addAllProperties(Arrays.asList(bm25.getProperties()));
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.NearVector toNearVector(NearVectorArgument nearVector) {
+    WeaviateProtoSearchGet.NearVector.Builder builder = WeaviateProtoSearchGet.NearVector.newBuilder();
+    if (nearVector.getPrimitiveVector() != null) {
+      builder.setVectorBytes(VectorBytes.fromFloats(nearVector.getPrimitiveVector()));
+    }
+    if (nearVector.getCertainty() != null) {
+      builder.setCertainty(nearVector.getCertainty());
+    }
+    if (nearVector.getDistance() != null) {
+      builder.setDistance(nearVector.getDistance());
+    }
+    if (nearVector.getVectorsPerTarget() != null) {
+      for (Map.Entry<String, Float[][]> e : nearVector.getVectorsPerTarget().entrySet()) {
+        for (Float[] vector : e.getValue()) {
+          builder.addVectorForTargets(WeaviateProtoSearchGet.VectorForTarget.newBuilder()
+            .setName(e.getKey())
+            .setVectorBytes(VectorBytes.fromFloats(vector)));
+        }
+      }
+    }
+    if (nearVector.getTargets() != null || nearVector.getTargetVectors() != null) {
+      builder.setTargets(toTargets(nearVector.getTargets(), nearVector.getTargetVectors(), nearVector.getVectorsPerTarget()));
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.NearObject toNearObject(NearObjectArgument nearObject) {
+    WeaviateProtoSearchGet.NearObject.Builder builder = WeaviateProtoSearchGet.NearObject.newBuilder();
+    if (nearObject.getId() != null) {
+      builder.setId(nearObject.getId());
+    }
+    if (nearObject.getCertainty() != null) {
+      builder.setCertainty(nearObject.getCertainty());
+    }
+    if (nearObject.getDistance() != null) {
+      builder.setDistance(nearObject.getDistance());
+    }
+    if (nearObject.getTargets() != null || nearObject.getTargetVectors() != null) {
+      builder.setTargets(toTargets(nearObject.getTargets(), nearObject.getTargetVectors(), null));
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.NearTextSearch toNearText(NearTextArgument nearText) {
+    WeaviateProtoSearchGet.NearTextSearch.Builder builder = WeaviateProtoSearchGet.NearTextSearch.newBuilder();
+    if (nearText.getConcepts() != null) {
+      builder.addAllQuery(Arrays.asList(nearText.getConcepts()));
+    }
+    if (nearText.getCertainty() != null) {
+      builder.setCertainty(nearText.getCertainty());
+    }
+    if (nearText.getDistance() != null) {
+      builder.setDistance(nearText.getDistance());
+    }
+    if (nearText.getMoveTo() != null) {
+      builder.setMoveTo(toMove(nearText.getMoveTo()));
+    }
+    if (nearText.getMoveAwayFrom() != null) {
+      builder.setMoveAway(toMove(nearText.getMoveAwayFrom()));
+    }
+    if (nearText.getTargets() != null || nearText.getTargetVectors() != null) {
+      builder.setTargets(toTargets(nearText.getTargets(), nearText.getTargetVectors(), null));
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.NearTextSearch.Move toMove(NearTextMoveParameters move) {
+    WeaviateProtoSearchGet.NearTextSearch.Move.Builder builder = WeaviateProtoSearchGet.NearTextSearch.Move.newBuilder();
+    if (move.getForce() != null) {
+      builder.setForce(move.getForce());
+    }
+    if (move.getConcepts() != null) {
+      builder.addAllConcepts(Arrays.asList(move.getConcepts()));
+    }
+    if (move.getObjects() != null) {
+      for (NearTextMoveParameters.ObjectMove object : move.getObjects()) {
+        if (object.getId() != null) {
+          builder.addUuids(object.getId());
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Server requires target name to be repeated for each vector passed for that target.
+   */
+  private static WeaviateProtoSearchGet.Targets toTargets(Targets targets, String[] targetVectors,
+                                                          Map<String, Float[][]> vectorsPerTarget) {
+    WeaviateProtoSearchGet.Targets.Builder builder = WeaviateProtoSearchGet.Targets.newBuilder();
+    String[] names = targets != null ? targets.getTargetVectors() : targetVectors;
+    if (names != null) {
+      for (String name : names) {
+        int repeat = 1;
+        if (vectorsPerTarget != null && vectorsPerTarget.containsKey(name)) {
+          repeat = Math.max(1, vectorsPerTarget.get(name).length);
+        }
+        for (int i = 0; i < repeat; i++) {
+          builder.addTargetVectors(name);
+        }
+      }
+    }
+    if (targets == null) {
+      return builder.build();
+    }
+    if (targets.getCombinationMethod() != null) {
+      builder.setCombination(toCombinationMethod(targets.getCombinationMethod()));
+    }
+    if (targets.getWeights() != null) {
+      for (Map.Entry<String, Float[]> e : targets.getWeights().entrySet()) {
+        for (Float weight : e.getValue()) {
+          builder.addWeightsForTargets(WeaviateProtoSearchGet.WeightsForTarget.newBuilder()
+            .setTarget(e.getKey())
+            .setWeight(weight));
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  private static WeaviateProtoSearchGet.CombinationMethod toCombinationMethod(Targets.CombinationMethod method) {
+    switch (method) {
+      case minimum:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_TYPE_MIN;
+      case average:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_TYPE_AVERAGE;
+      case sum:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_TYPE_SUM;
+      case manualWeights:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_TYPE_MANUAL;
+      case relativeScore:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_TYPE_RELATIVE_SCORE;
+      default:
+        return WeaviateProtoSearchGet.CombinationMethod.COMBINATION_METHOD_UNSPECIFIED;
+    }
+  }
+}
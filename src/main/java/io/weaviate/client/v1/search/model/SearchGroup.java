@@ -0,0 +1,23 @@
+package io.weaviate.client.v1.search.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SearchGroup {
+  String name;
+  float minDistance;
+  float maxDistance;
+  long numberOfObjects;
+  List<SearchHit> objects;
+}
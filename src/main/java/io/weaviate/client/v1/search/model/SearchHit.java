@@ -0,0 +1,48 @@
+package io.weaviate.client.v1.search.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+/**
+ * Single object returned by a search.
+ * <p>
+ * Vectors are kept as primitive arrays and distance, certainty and score as primitive floats,
+ * which are {@link Float#NaN} when not requested or not returned by the server.
+ * <p>
+ * Shape of {@link #properties} depends on the transport the search was run with, as GraphQL responses
+ * carry no property types:
+ * <ul>
+ *   <li>gRPC search ({@code client.search()}): ints are {@code Long}, numbers {@code Double}, int and number
+ *   arrays {@code long[]} and {@code double[]}, references {@code List<SearchHit>}.</li>
+ *   <li>GraphQL typed Get ({@code Get.runTyped()}): all numbers are {@code Double}, arrays of numbers
+ *   {@code double[]}, other and mixed arrays {@code List}, references {@code List<Map<String, Object>>}.</li>
+ * </ul>
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SearchHit {
+  String id;
+  String className;
+  float[] vector;
+  Map<String, float[]> vectors;
+  Long creationTimeUnix;
+  Long lastUpdateTimeUnix;
+  @Builder.Default
+  float distance = Float.NaN;
+  @Builder.Default
+  float certainty = Float.NaN;
+  @Builder.Default
+  float score = Float.NaN;
+  String explainScore;
+  Boolean isConsistent;
+  Map<String, Object> properties;
+}
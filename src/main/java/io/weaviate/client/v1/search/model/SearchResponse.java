@@ -0,0 +1,27 @@
+package io.weaviate.client.v1.search.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SearchResponse {
+  /**
+   * Time the search took on the server, in seconds
+   */
+  float took;
+  List<SearchHit> objects;
+  /**
+   * Groups returned when search is run with group by, empty otherwise
+   */
+  List<SearchGroup> groups;
+}
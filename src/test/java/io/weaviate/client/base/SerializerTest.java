@@ -1,5 +1,8 @@
 package io.weaviate.client.base;
 
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.StringReader;
+import java.util.Collections;
 import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Test;
@@ -19,6 +22,21 @@ public class SerializerTest extends TestCase {
     Assert.assertEquals(description, deserialized.getDescription());
   }
 
+  @Test
+  public void testToObjectFromReader() {
+    // given
+    Serializer s = new Serializer();
+    String description = "test äüëö";
+    String jsonString = "{\"description\":\""+description+"\"}";
+    // when
+    TestObj deserialized = s.toObject(new StringReader(jsonString), TestObj.class);
+    TestObj empty = s.toObject(new StringReader(""), TestObj.class);
+    // then
+    Assert.assertNotNull(deserialized);
+    Assert.assertEquals(description, deserialized.getDescription());
+    Assert.assertNull(empty);
+  }
+
   @Test
   public void testToJsonString() {
     // given
@@ -60,6 +78,40 @@ public class SerializerTest extends TestCase {
     Assert.assertEquals(new Integer(601), deserialized.getCode());
     Assert.assertEquals("id in body must be of type uuid: \"TODO_4\"", deserialized.getMessage());
   }
+
+  @Test
+  public void testPlainTextErrorResponse() {
+    // given
+    Serializer s = new Serializer();
+    String html = "<html><body><h1>503 Service Unavailable</h1></body></html>\n";
+    String text = "upstream connect error or disconnect/reset before headers. reset reason: connection failure";
+    // when
+    WeaviateErrorResponse fromHtml = s.toWeaviateError(new StringReader(html));
+    WeaviateErrorResponse fromText = s.toWeaviateError(text);
+    // then
+    Assert.assertEquals(1, fromHtml.getError().size());
+    Assert.assertEquals(html.trim(), fromHtml.getError().get(0).getMessage());
+    Assert.assertEquals(1, fromText.getError().size());
+    Assert.assertEquals(text, fromText.getError().get(0).getMessage());
+  }
+
+  @Test
+  public void testPrimitiveVectors() {
+    // given
+    Serializer s = new Serializer();
+    WeaviateObject obj = WeaviateObject.builder()
+      .vector(new float[]{0.1f, 2.0f})
+      .primitiveVectors(Collections.singletonMap("title", new float[]{1.5f}))
+      .build();
+    // when
+    String serialized = s.toJsonString(obj);
+    WeaviateObject deserialized = s.toObject(serialized, WeaviateObject.class);
+    // then
+    Assert.assertEquals("{\"vector\":[0.1,2.0],\"vectors\":{\"title\":[1.5]}}", serialized);
+    Assert.assertArrayEquals(new float[]{0.1f, 2.0f}, deserialized.getPrimitiveVector(), 0f);
+    Assert.assertArrayEquals(new Float[]{0.1f, 2.0f}, deserialized.getVector());
+    Assert.assertArrayEquals(new float[]{1.5f}, deserialized.getPrimitiveVectors().get("title"), 0f);
+  }
 }
 
 class TestObj {
@@ -0,0 +1,132 @@
+package io.weaviate.client.base.balancer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+public class EndpointBalancerTest {
+
+  private static final List<String> ADDRESSES = Arrays.asList("node-0:8080", "node-1:8080", "node-2:8080");
+
+  @Test
+  public void shouldSelectEndpointsRoundRobin() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES, LoadBalancingPolicy.roundRobin(), 3, 30, TimeUnit.SECONDS);
+
+    assertThat(Arrays.asList(balancer.select(), balancer.select(), balancer.select(), balancer.select()))
+      .extracting(Endpoint::getAddress)
+      .containsExactly("node-0:8080", "node-1:8080", "node-2:8080", "node-0:8080");
+  }
+
+  @Test
+  public void shouldSelectEndpointWithFewestOutstandingRequests() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES, LoadBalancingPolicy.leastOutstanding(), 3, 30, TimeUnit.SECONDS);
+    List<Endpoint> endpoints = balancer.getEndpoints();
+    endpoints.get(0).start();
+    endpoints.get(2).start();
+
+    assertThat(balancer.select()).isSameAs(endpoints.get(1));
+    assertThat(balancer.select()).isSameAs(endpoints.get(1));
+  }
+
+  @Test
+  public void shouldPreferFasterAndUnmeasuredEndpointsWithEwma() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES.subList(0, 2), LoadBalancingPolicy.ewma(), 3, 30, TimeUnit.SECONDS);
+    Endpoint slow = balancer.getEndpoints().get(0);
+    Endpoint fast = balancer.getEndpoints().get(1);
+
+    slow.finish(slow.start() - TimeUnit.SECONDS.toNanos(1), false);
+    assertThat(balancer.select()).isSameAs(fast);
+
+    fast.finish(fast.start() - TimeUnit.MILLISECONDS.toNanos(1), false);
+    assertThat(balancer.select()).isSameAs(fast);
+    assertThat(balancer.select()).isSameAs(fast);
+  }
+
+  @Test
+  public void shouldSelectEndpointOtherThanExcluded() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES.subList(0, 2), LoadBalancingPolicy.roundRobin(), 3, 30, TimeUnit.SECONDS);
+    Endpoint excluded = balancer.getEndpoints().get(0);
+
+    assertThat(Arrays.asList(balancer.selectOther(excluded), balancer.selectOther(excluded), balancer.selectOther(excluded)))
+      .extracting(Endpoint::getAddress)
+      .containsOnly("node-1:8080");
+  }
+
+  @Test
+  public void shouldEjectFailingEndpoint() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES.subList(0, 2), LoadBalancingPolicy.roundRobin(), 2, 30, TimeUnit.SECONDS);
+    Endpoint failing = balancer.getEndpoints().get(0);
+
+    failing.finish(failing.start(), true);
+    assertThat(failing.isAvailable(System.nanoTime())).isTrue();
+    failing.finish(failing.start(), true);
+
+    assertThat(failing.isAvailable(System.nanoTime())).isFalse();
+    assertThat(Arrays.asList(balancer.select(), balancer.select(), balancer.select()))
+      .extracting(Endpoint::getAddress)
+      .containsOnly("node-1:8080");
+  }
+
+  @Test
+  public void shouldReadmitEndpointAfterEjectionTime() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES.subList(0, 1), LoadBalancingPolicy.roundRobin(), 1, 0, TimeUnit.SECONDS);
+    Endpoint endpoint = balancer.getEndpoints().get(0);
+
+    endpoint.finish(endpoint.start(), true);
+
+    assertThat(endpoint.isAvailable(System.nanoTime())).isTrue();
+    assertThat(balancer.select()).isSameAs(endpoint);
+  }
+
+  @Test
+  public void shouldSelectFromAllEndpointsWhenAllAreEjected() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES.subList(0, 2), LoadBalancingPolicy.roundRobin(), 1, 30, TimeUnit.SECONDS);
+    balancer.getEndpoints().forEach(endpoint -> endpoint.finish(endpoint.start(), true));
+
+    assertThat(balancer.select()).isNotNull();
+  }
+
+  @Test
+  public void shouldSelectEndpointOfGivenHosts() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES, LoadBalancingPolicy.roundRobin(), 1, 30, TimeUnit.SECONDS);
+    Endpoint ejected = balancer.getEndpoints().get(2);
+    ejected.finish(ejected.start(), true);
+
+    assertThat(balancer.select(Collections.singleton("node-1")).getAddress()).isEqualTo("node-1:8080");
+    assertThat(balancer.select(Collections.singleton("node-2"))).isNotSameAs(ejected);
+    assertThat(balancer.select(Collections.singleton("unknown"))).isNotNull();
+  }
+
+  @Test
+  public void shouldKeepStatisticsOfRemainingEndpointsOnUpdate() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES, LoadBalancingPolicy.roundRobin(), 3, 30, TimeUnit.SECONDS);
+    Endpoint kept = balancer.getEndpoints().get(1);
+    kept.start();
+
+    balancer.updateAddresses(Arrays.asList("node-1:8080", "node-3:8080"));
+
+    assertThat(balancer.getEndpoints()).extracting(Endpoint::getAddress).containsExactly("node-1:8080", "node-3:8080");
+    assertThat(balancer.getEndpoints().get(0)).isSameAs(kept);
+    assertThat(balancer.getEndpoints().get(0).getOutstanding()).isEqualTo(1);
+
+    balancer.updateAddresses(Collections.emptyList());
+    assertThat(balancer.getEndpoints()).hasSize(2);
+  }
+
+  @Test
+  public void shouldNotifyListenersOnUpdate() {
+    EndpointBalancer balancer = new EndpointBalancer(ADDRESSES, LoadBalancingPolicy.roundRobin(), 3, 30, TimeUnit.SECONDS);
+    List<List<Endpoint>> updates = new ArrayList<>();
+    balancer.addUpdateListener(updates::add);
+
+    balancer.updateAddresses(Arrays.asList("node-1:8080", "node-3:8080"));
+    balancer.updateAddresses(Collections.emptyList());
+
+    assertThat(updates).hasSize(1);
+    assertThat(updates.get(0)).isSameAs(balancer.getEndpoints());
+  }
+}
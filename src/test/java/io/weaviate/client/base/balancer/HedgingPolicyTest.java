@@ -0,0 +1,240 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.base.http.HttpResponseHandler;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Test;
+
+public class HedgingPolicyTest {
+
+  @Test
+  public void shouldNotHedgeBeforeEnoughLatenciesAreRecorded() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    AtomicInteger attempts = new AtomicInteger();
+
+    String result = policy.execute(hedge -> {
+      attempts.incrementAndGet();
+      Thread.sleep(50);
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("primary");
+    assertThat(attempts).hasValue(1);
+    assertThat(policy.getDelayNanos()).isNegative();
+  }
+
+  @Test
+  public void shouldComputeDelayFromPercentileOfRecordedLatencies() {
+    HedgingPolicy policy = new HedgingPolicy(90, 1, TimeUnit.MILLISECONDS, 1);
+    for (int i = 1; i <= HedgingPolicy.MIN_SAMPLES; i++) {
+      policy.record(TimeUnit.MILLISECONDS.toNanos(i * 10));
+    }
+
+    assertThat(policy.getDelayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(180));
+  }
+
+  @Test
+  public void shouldNotHedgeSoonerThanMinDelay() {
+    HedgingPolicy policy = new HedgingPolicy(90, 1, TimeUnit.SECONDS, 1);
+    warmUp(policy);
+
+    assertThat(policy.getDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void shouldReturnHedgeAndCancelSlowPrimary() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+    CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+    String result = policy.execute(hedge -> {
+      if (hedge) {
+        return HedgingPolicy.Outcome.accepted("hedge");
+      }
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        primaryCancelled.countDown();
+        throw e;
+      }
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("hedge");
+    assertThat(primaryCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shouldRunCancelActionOfLosingAttemptOnly() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+    CountDownLatch primaryAborted = new CountDownLatch(1);
+    AtomicInteger hedgeAborted = new AtomicInteger();
+
+    String result = policy.execute((hedge, cancellation) -> {
+      if (hedge) {
+        cancellation.onCancel(hedgeAborted::incrementAndGet);
+        return HedgingPolicy.Outcome.accepted("hedge");
+      }
+      cancellation.onCancel(primaryAborted::countDown);
+      // only cancel action releases the latch, interrupt alone fails the attempt without it
+      primaryAborted.await();
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("hedge");
+    assertThat(primaryAborted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(hedgeAborted).hasValue(0);
+  }
+
+  @Test
+  public void shouldRunPrimaryAttemptOnCallerThread() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    Thread caller = Thread.currentThread();
+
+    // before hedging starts
+    assertThat(policy.execute(hedge -> HedgingPolicy.Outcome.accepted(Thread.currentThread()))).isSameAs(caller);
+
+    warmUp(policy);
+    AtomicReference<Thread> hedgeThread = new AtomicReference<>();
+    Thread primaryThread = policy.execute(hedge -> {
+      if (hedge) {
+        hedgeThread.set(Thread.currentThread());
+        return HedgingPolicy.Outcome.of(null, false);
+      }
+      Thread.sleep(100);
+      return HedgingPolicy.Outcome.accepted(Thread.currentThread());
+    });
+
+    assertThat(primaryThread).isSameAs(caller);
+    assertThat(hedgeThread.get()).isNotNull().isNotSameAs(caller);
+  }
+
+  @Test
+  public void shouldNotLeaveCallerInterruptedWhenPrimaryLoses() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+
+    String result = policy.execute(hedge -> {
+      if (hedge) {
+        return HedgingPolicy.Outcome.accepted("hedge");
+      }
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        // attempts restoring interrupt status should not leave the caller interrupted
+        Thread.currentThread().interrupt();
+      }
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("hedge");
+    assertThat(Thread.interrupted()).isFalse();
+  }
+
+  @Test
+  public void shouldNotHedgeAfterClose() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+    policy.close();
+    AtomicInteger attempts = new AtomicInteger();
+
+    String result = policy.execute(hedge -> {
+      attempts.incrementAndGet();
+      Thread.sleep(50);
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("primary");
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void shouldPassHeadersThroughOutcomeHandler() throws Exception {
+    AtomicReference<String> retryAfter = new AtomicReference<>();
+    HttpResponseHandler<String> handler = new HttpResponseHandler<String>() {
+      @Override
+      public String handle(int statusCode, Reader body) {
+        return "without headers";
+      }
+
+      @Override
+      public String handle(int statusCode, Reader body, Function<String, String> headers) {
+        retryAfter.set(headers.apply("Retry-After"));
+        return "with headers";
+      }
+    };
+
+    HedgingPolicy.Outcome<String> outcome = HedgingPolicy.outcomeHandler(handler)
+      .handle(503, new StringReader(""), name -> "Retry-After".equals(name) ? "2" : null);
+
+    assertThat(outcome).extracting("value", "accepted").containsExactly("with headers", false);
+    assertThat(retryAfter).hasValue("2");
+  }
+
+  @Test
+  public void shouldWaitForOtherAttemptWhenOneIsNotAccepted() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+
+    String result = policy.execute(hedge -> {
+      if (hedge) {
+        return HedgingPolicy.Outcome.of("hedge error", false);
+      }
+      Thread.sleep(100);
+      return HedgingPolicy.Outcome.accepted("primary");
+    });
+
+    assertThat(result).isEqualTo("primary");
+  }
+
+  @Test
+  public void shouldThrowErrorOfLastAttemptWhenAllFail() {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 1);
+    warmUp(policy);
+
+    assertThatThrownBy(() -> policy.execute(hedge -> {
+      if (hedge) {
+        throw new IllegalStateException("hedge failed");
+      }
+      Thread.sleep(100);
+      throw new IllegalStateException("primary failed");
+    })).isInstanceOf(IllegalStateException.class).hasMessage("primary failed");
+  }
+
+  @Test
+  public void shouldNotHedgeOverBudget() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1, TimeUnit.MILLISECONDS, 0.1);
+    // enough fast latencies for slow ones recorded below not to move the percentile
+    for (int i = 0; i < 1000; i++) {
+      policy.record(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    AtomicInteger hedges = new AtomicInteger();
+
+    for (int i = 0; i < 20; i++) {
+      policy.execute(hedge -> {
+        if (hedge) {
+          hedges.incrementAndGet();
+          return HedgingPolicy.Outcome.accepted("hedge");
+        }
+        Thread.sleep(50);
+        return HedgingPolicy.Outcome.accepted("primary");
+      });
+    }
+
+    assertThat(hedges).hasValue(2);
+  }
+
+  private static void warmUp(HedgingPolicy policy) {
+    for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+      policy.record(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+  }
+}
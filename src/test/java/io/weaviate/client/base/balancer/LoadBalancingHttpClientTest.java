@@ -0,0 +1,82 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import java.io.StringReader;
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LoadBalancingHttpClientTest {
+
+  @Mock
+  private HttpClient clientMock;
+
+  private EndpointBalancer balancer;
+  private LoadBalancingHttpClient client;
+
+  @Before
+  public void before() {
+    Config config = new Config("http", "localhost:8080");
+    balancer = new EndpointBalancer(Arrays.asList("node-0:8080", "node-1:8080"), LoadBalancingPolicy.roundRobin(), 1, 30, TimeUnit.SECONDS);
+    client = new LoadBalancingHttpClient(clientMock, config, balancer);
+  }
+
+  @Test
+  public void shouldSpreadRequestsAcrossEndpoints() throws Exception {
+    Mockito.when(clientMock.sendGetRequest(anyString())).thenReturn(new HttpResponse(200, "{}"));
+
+    client.sendGetRequest("http://localhost:8080/v1/meta");
+    client.sendGetRequest("http://localhost:8080/v1/meta");
+
+    Mockito.verify(clientMock).sendGetRequest("http://node-0:8080/v1/meta");
+    Mockito.verify(clientMock).sendGetRequest("http://node-1:8080/v1/meta");
+  }
+
+  @Test
+  public void shouldPassThroughRequestsToOtherHosts() throws Exception {
+    Mockito.when(clientMock.sendGetRequest(anyString())).thenReturn(new HttpResponse(200, "{}"));
+
+    client.sendGetRequest("http://localhost:80801/v1/meta");
+
+    Mockito.verify(clientMock).sendGetRequest("http://localhost:80801/v1/meta");
+  }
+
+  @Test
+  public void shouldEjectEndpointFailingRequest() throws Exception {
+    Mockito.when(clientMock.sendGetRequest("http://node-0:8080/v1/meta")).thenThrow(new ConnectException("refused"));
+    Mockito.when(clientMock.sendGetRequest("http://node-1:8080/v1/meta")).thenReturn(new HttpResponse(503, ""));
+
+    assertThatThrownBy(() -> client.sendGetRequest("http://localhost:8080/v1/meta")).isInstanceOf(ConnectException.class);
+    assertThat(client.sendGetRequest("http://localhost:8080/v1/meta").getStatusCode()).isEqualTo(503);
+
+    long now = System.nanoTime();
+    assertThat(balancer.getEndpoints()).noneMatch(endpoint -> endpoint.isAvailable(now));
+    assertThat(balancer.getEndpoints()).allMatch(endpoint -> endpoint.getOutstanding() == 0);
+  }
+
+  @Test
+  public void shouldTrackStreamedRequests() throws Exception {
+    Mockito.when(clientMock.sendRequest(anyString(), Mockito.eq("POST"), Mockito.any(), Mockito.any()))
+      .thenAnswer(invocation -> invocation.<HttpResponseHandler<String>>getArgument(3)
+        .handle(502, new StringReader("")));
+
+    String body = client.sendRequest("http://localhost:8080/v1/batch/objects", "POST", out -> {}, (statusCode, reader) -> "handled");
+
+    assertThat(body).isEqualTo("handled");
+    Mockito.verify(clientMock).sendRequest(Mockito.eq("http://node-0:8080/v1/batch/objects"), Mockito.eq("POST"), Mockito.any(), Mockito.any());
+    assertThat(balancer.getEndpoints().get(0).isAvailable(System.nanoTime())).isFalse();
+  }
+}
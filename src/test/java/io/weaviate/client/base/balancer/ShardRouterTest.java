@@ -0,0 +1,129 @@
+package io.weaviate.client.base.balancer;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponseHandler;
+import java.io.StringReader;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ShardRouterTest {
+
+  private static final String NODES = "{\"nodes\": [" +
+    "{\"name\": \"node-0\", \"status\": \"HEALTHY\", \"shards\": [" +
+    "{\"name\": \"TenantA\", \"class\": \"Pizza\"}, {\"name\": \"TenantB\", \"class\": \"Pizza\"}]}," +
+    "{\"name\": \"node-1\", \"status\": \"HEALTHY\", \"shards\": [{\"name\": \"TenantA\", \"class\": \"Pizza\"}]}," +
+    "{\"name\": \"node-2\", \"status\": \"UNHEALTHY\", \"shards\": [{\"name\": \"TenantB\", \"class\": \"Pizza\"}]}" +
+    "]}";
+
+  @Mock
+  private HttpClient clientMock;
+
+  private static final String TENANT_A_PATH = "/v1/objects/Pizza/00000000-0000-0000-0000-000000000001?tenant=TenantA";
+
+  private ShardRouter router;
+
+  @Before
+  public void before() throws Exception {
+    Mockito.lenient().when(clientMock.sendRequest(anyString(), eq("GET"), isNull(), any()))
+      .thenAnswer(invocation -> invocation.<HttpResponseHandler<?>>getArgument(3).handle(200, new StringReader(NODES)));
+    router = new ShardRouter(clientMock, new Config("http", "localhost:8080"), 1, TimeUnit.HOURS);
+  }
+
+  @After
+  public void after() {
+    router.close();
+  }
+
+  @Test
+  public void shouldRouteTenantReadsToHealthyShardOwners() throws Exception {
+    router.refresh();
+
+    assertThat(router.route("/v1/objects/Pizza/00000000-0000-0000-0000-000000000001?tenant=TenantA"))
+      .containsExactlyInAnyOrder("node-0", "node-1");
+    assertThat(router.route("/v1/objects?class=pizza&limit=10&tenant=TenantB"))
+      .containsExactly("node-0");
+    assertThat(router.route("/v1/objects?class=Pizza&tenant=TenantC")).isEmpty();
+
+    Mockito.verify(clientMock).sendRequest(eq("http://localhost:8080/v1/nodes?output=verbose"), eq("GET"), isNull(), any());
+  }
+
+  @Test
+  public void shouldRefreshInBackgroundWithoutBlockingRequests() throws Exception {
+    CountDownLatch nodesRequested = new CountDownLatch(1);
+    CountDownLatch nodesReleased = new CountDownLatch(1);
+    Mockito.doAnswer(invocation -> {
+      nodesRequested.countDown();
+      nodesReleased.await(5, TimeUnit.SECONDS);
+      return invocation.<HttpResponseHandler<?>>getArgument(3).handle(200, new StringReader(NODES));
+    }).when(clientMock).sendRequest(anyString(), eq("GET"), isNull(), any());
+
+    // ownership is not known yet, request is not routed instead of waiting for it
+    assertThat(router.route(TENANT_A_PATH)).isEmpty();
+    assertThat(nodesRequested.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(router.route(TENANT_A_PATH)).isEmpty();
+
+    nodesReleased.countDown();
+    assertThat(awaitRoute(TENANT_A_PATH)).containsExactlyInAnyOrder("node-0", "node-1");
+    // refresh already in progress is not started again
+    Mockito.verify(clientMock).sendRequest(anyString(), eq("GET"), isNull(), any());
+  }
+
+  @Test
+  public void shouldRetryFailedRefreshAfterShortDelay() throws Exception {
+    router.close();
+    router = new ShardRouter(clientMock, new Config("http", "localhost:8080"),
+      TimeUnit.HOURS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(100));
+    Mockito.doAnswer(invocation -> invocation.<HttpResponseHandler<?>>getArgument(3)
+        .handle(500, new StringReader("{\"error\": [{\"message\": \"nodes unavailable\"}]}")))
+      .doAnswer(invocation -> invocation.<HttpResponseHandler<?>>getArgument(3).handle(200, new StringReader(NODES)))
+      .when(clientMock).sendRequest(anyString(), eq("GET"), isNull(), any());
+
+    router.refresh();
+    assertThat(router.route(TENANT_A_PATH)).isEmpty();
+
+    // failed refresh does not keep empty ownership for a whole ttl
+    assertThat(awaitRoute(TENANT_A_PATH)).containsExactlyInAnyOrder("node-0", "node-1");
+    Mockito.verify(clientMock, Mockito.times(2)).sendRequest(anyString(), eq("GET"), isNull(), any());
+  }
+
+  @Test
+  public void shouldRouteToRequestedNode() throws Exception {
+    assertThat(router.route("/v1/objects/Pizza/00000000-0000-0000-0000-000000000001?node_name=node-2"))
+      .containsExactly("node-2");
+
+    Mockito.verify(clientMock, Mockito.never()).sendRequest(anyString(), anyString(), any(), any());
+  }
+
+  @Test
+  public void shouldNotRouteRequestsWithoutTenant() throws Exception {
+    assertThat(router.route("/v1/objects/Pizza/00000000-0000-0000-0000-000000000001")).isEmpty();
+    assertThat(router.route("/v1/objects?class=Pizza&limit=10")).isEmpty();
+
+    Mockito.verify(clientMock, Mockito.never()).sendRequest(anyString(), anyString(), any(), any());
+  }
+
+  private Set<String> awaitRoute(String path) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    Set<String> nodes = router.route(path);
+    while (nodes.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      nodes = router.route(path);
+    }
+    return nodes;
+  }
+}
@@ -0,0 +1,85 @@
+package io.weaviate.client.base.grpc;
+
+import io.grpc.ManagedChannel;
+import io.weaviate.client.Config;
+import java.util.Arrays;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Test;
+
+public class GrpcChannelPoolTest {
+
+  private static final String TARGET = "localhost:50051";
+
+  @Test
+  public void shouldReuseChannelForSameTarget() {
+    GrpcChannelPool pool = new GrpcChannelPool(new Config("http", "localhost:8080"));
+
+    ManagedChannel first = pool.getChannel(TARGET);
+    ManagedChannel second = pool.getChannel(TARGET);
+    ManagedChannel other = pool.getChannel("localhost:50052");
+    pool.close();
+
+    assertThat(second).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+    assertThat(first.isShutdown()).isTrue();
+    assertThat(other.isShutdown()).isTrue();
+  }
+
+  @Test
+  public void shouldRoundRobinChannelsOfTarget() {
+    Config config = new Config("http", "localhost:8080");
+    config.setGRPCChannelPoolSize(2);
+    GrpcChannelPool pool = new GrpcChannelPool(config);
+
+    ManagedChannel first = pool.getChannel(TARGET);
+    ManagedChannel second = pool.getChannel(TARGET);
+    ManagedChannel third = pool.getChannel(TARGET);
+    pool.close();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(third).isSameAs(first);
+  }
+
+  @Test
+  public void shouldFailWhenClosed() {
+    GrpcChannelPool pool = new GrpcChannelPool(new Config("http", "localhost:8080"));
+    pool.close();
+
+    assertThatThrownBy(() -> pool.getChannel(TARGET))
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldShutDownChannelsOfRemovedTargets() {
+    Config config = new Config("http", "localhost:8080");
+    config.setGRPCHosts(Arrays.asList("node-0:50051", "node-1:50051"));
+    GrpcChannelPool pool = new GrpcChannelPool(config);
+
+    ManagedChannel removed = pool.getChannel("node-0:50051");
+    ManagedChannel kept = pool.getChannel("node-1:50051");
+    pool.getBalancer().updateAddresses(Arrays.asList("node-1:50051", "node-2:50051"));
+
+    assertThat(removed.isShutdown()).isTrue();
+    assertThat(kept.isShutdown()).isFalse();
+    assertThat(pool.getChannel("node-1:50051")).isSameAs(kept);
+
+    // channel recreated by a call racing with the update is removed with the next one
+    ManagedChannel recreated = pool.getChannel("node-0:50051");
+    assertThat(recreated).isNotSameAs(removed);
+    pool.getBalancer().updateAddresses(Arrays.asList("node-1:50051", "node-2:50051"));
+    assertThat(recreated.isShutdown()).isTrue();
+    pool.close();
+  }
+
+  @Test
+  public void shouldKeepConfiguredAuthorityForDiscoveredNodes() {
+    Config config = new Config("https", "weaviate.example.com", true, "grpc.weaviate.example.com");
+    config.setNodesDiscoveryInterval(30);
+    GrpcChannelPool pool = new GrpcChannelPool(config);
+
+    assertThat(pool.getChannel("grpc.weaviate.example.com:443").authority()).isEqualTo("grpc.weaviate.example.com:443");
+    assertThat(pool.getChannel("weaviate-0:443").authority()).isEqualTo("grpc.weaviate.example.com:443");
+    pool.close();
+  }
+}
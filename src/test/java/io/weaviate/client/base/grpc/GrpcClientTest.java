@@ -0,0 +1,130 @@
+package io.weaviate.client.base.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.weaviate.client.Config;
+import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GrpcClientTest {
+
+  private Server server;
+  private BlockingQueue<Call> calls;
+  private GrpcClient client;
+
+  @Before
+  public void before() throws IOException {
+    calls = new LinkedBlockingQueue<>();
+    server = ServerBuilder.forPort(0)
+      .addService(new WeaviateGrpc.WeaviateImplBase() {
+        @Override
+        public void batchObjects(WeaviateProtoBatch.BatchObjectsRequest request,
+                                 StreamObserver<WeaviateProtoBatch.BatchObjectsReply> responseObserver) {
+          // replies are sent by tests, so that calls stay in flight as long as needed
+          calls.add(new Call(request, responseObserver));
+        }
+      })
+      .build()
+      .start();
+    client = GrpcClient.create(new Config("http", "localhost:8080", false, "localhost:" + server.getPort()), null);
+  }
+
+  @After
+  public void after() throws InterruptedException {
+    client.shutdown();
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldKeepManyBatchCallsInFlight() throws Exception {
+    List<CompletableFuture<WeaviateProtoBatch.BatchObjectsReply>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(client.batchObjectsAsync(request("id-" + i)));
+    }
+
+    // all calls reach the server before any of them is answered
+    List<Call> received = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      received.add(calls.poll(5, TimeUnit.SECONDS));
+    }
+    assertThat(received).doesNotContainNull();
+    assertThat(futures).noneMatch(CompletableFuture::isDone);
+
+    // replies completed in reverse order are matched with their own calls
+    for (int i = received.size() - 1; i >= 0; i--) {
+      Call call = received.get(i);
+      call.reply(WeaviateProtoBatch.BatchObjectsReply.newBuilder()
+        .addErrors(WeaviateProtoBatch.BatchObjectsReply.BatchError.newBuilder()
+          .setIndex(0)
+          .setError("failed " + call.request.getObjects(0).getUuid()))
+        .build());
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      WeaviateProtoBatch.BatchObjectsReply reply = futures.get(i).get(5, TimeUnit.SECONDS);
+      assertThat(reply.getErrors(0).getError()).isEqualTo("failed id-" + i);
+    }
+  }
+
+  @Test
+  public void shouldCompleteFutureExceptionallyOnError() throws Exception {
+    CompletableFuture<WeaviateProtoBatch.BatchObjectsReply> future = client.batchObjectsAsync(request("id-1"));
+
+    calls.poll(5, TimeUnit.SECONDS).observer.onError(Status.INTERNAL.withDescription("shard is read-only").asRuntimeException());
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(StatusRuntimeException.class)
+      .hasMessageContaining("shard is read-only");
+    assertThat(Status.fromThrowable(future.handle((r, e) -> e).get()).getCode()).isEqualTo(Status.Code.INTERNAL);
+  }
+
+  @Test
+  public void shouldCompleteFutureExceptionallyWhenServerIsUnavailable() throws Exception {
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+
+    CompletableFuture<WeaviateProtoBatch.BatchObjectsReply> future = client.batchObjectsAsync(request("id-1"));
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(StatusRuntimeException.class);
+    assertThat(Status.fromThrowable(future.handle((r, e) -> e).get()).getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+  }
+
+  private static WeaviateProtoBatch.BatchObjectsRequest request(String id) {
+    return WeaviateProtoBatch.BatchObjectsRequest.newBuilder()
+      .addObjects(WeaviateProtoBatch.BatchObject.newBuilder().setUuid(id).setCollection("Pizza"))
+      .build();
+  }
+
+  private static class Call {
+    private final WeaviateProtoBatch.BatchObjectsRequest request;
+    private final StreamObserver<WeaviateProtoBatch.BatchObjectsReply> observer;
+
+    private Call(WeaviateProtoBatch.BatchObjectsRequest request, StreamObserver<WeaviateProtoBatch.BatchObjectsReply> observer) {
+      this.request = request;
+      this.observer = observer;
+    }
+
+    private void reply(WeaviateProtoBatch.BatchObjectsReply reply) {
+      observer.onNext(reply);
+      observer.onCompleted();
+    }
+  }
+}
@@ -1,15 +1,23 @@
 package io.weaviate.client.base.http.impl;
 
+import io.weaviate.client.base.Serializer;
 import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.RequestCompression;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpHead;
@@ -20,8 +28,11 @@ import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.io.CloseMode;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.Before;
 import org.junit.Test;
@@ -182,6 +193,193 @@ public class CommonsHttpClientImplTest {
     assertContentEmpty(request);
   }
 
+  @Test
+  public void shouldReuseClientAcrossRequests() throws Exception {
+    AtomicInteger builds = new AtomicInteger();
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> {
+      builds.incrementAndGet();
+      return clientMock;
+    });
+    client.sendGetRequest(URL);
+    client.sendPostRequest(URL, JSON_PAYLOAD);
+    client.close();
+
+    assertThat(builds).hasValue(1);
+    Mockito.verify(clientMock, Mockito.times(2)).execute(any(HttpUriRequest.class));
+    Mockito.verify(responseMock, Mockito.times(2)).close();
+    Mockito.verify(clientMock).close(CloseMode.GRACEFUL);
+  }
+
+  @Test
+  public void shouldStreamBodyOnPostRequest() throws Exception {
+    Map<String, String> expectedHeaders = new HashMap<>(ADDITIONAL_HEADERS);
+    expectedHeaders.put(HttpHeaders.ACCEPT, "application/json");
+    expectedHeaders.put(HttpHeaders.CONTENT_TYPE, "application/json");
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, true);
+    HttpResponse response = client.sendRequest(URL, "POST", out -> out.write(JSON_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(response.getStatusCode()).isEqualTo(STATUS);
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    assertThat(request.getMethod()).isEqualTo(HttpPost.METHOD_NAME);
+    assertHeadersMatch(request, expectedHeaders);
+    HttpEntity entity = ((HttpUriRequestBase) request).getEntity();
+    assertThat(entity.isChunked()).isTrue();
+    assertThat(entity.getContentLength()).isEqualTo(-1);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    entity.writeTo(out);
+    assertThat(out.toString(StandardCharsets.UTF_8.name())).isEqualTo(JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldBufferBodyByDefault() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> clientMock);
+    client.sendRequest(URL, "PUT", out -> out.write(JSON_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    assertThat(request.getMethod()).isEqualTo(HttpPut.METHOD_NAME);
+    HttpEntity entity = ((HttpUriRequestBase) request).getEntity();
+    assertThat(entity.isChunked()).isFalse();
+    assertThat(entity.getContentLength()).isEqualTo(JSON_PAYLOAD.length());
+    assertContentEqual(request, JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldPassResponseStreamToHandler() throws Exception {
+    Mockito.when(responseMock.getEntity())
+      .thenReturn(new StringEntity(JSON_PAYLOAD, StandardCharsets.UTF_8));
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> clientMock);
+    String body = client.sendRequest(URL, "GET", null, (statusCode, reader) -> {
+      assertThat(statusCode).isEqualTo(STATUS);
+      return new BufferedReader(reader).lines().collect(Collectors.joining());
+    });
+
+    assertThat(body).isEqualTo(JSON_PAYLOAD);
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    assertThat(request.getMethod()).isEqualTo(HttpGet.METHOD_NAME);
+    assertContentEmpty(request);
+  }
+
+  @Test
+  public void shouldPassEmptyStreamToHandlerWhenNoEntity() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> clientMock);
+    Integer read = client.sendRequest(URL, "HEAD", null, (statusCode, reader) -> reader.read());
+
+    assertThat(read).isEqualTo(-1);
+    Mockito.verify(clientMock).execute(captor.capture());
+    assertThat(captor.getValue().getMethod()).isEqualTo(HttpHead.METHOD_NAME);
+  }
+
+  @Test
+  public void shouldCompressPayloadAboveThreshold() throws Exception {
+    Map<String, String> expectedHeaders = new HashMap<>(ADDITIONAL_HEADERS);
+    expectedHeaders.put(HttpHeaders.ACCEPT, "application/json");
+    expectedHeaders.put(HttpHeaders.CONTENT_TYPE, "application/json");
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, true,
+      new RequestCompression(JSON_PAYLOAD.length(), Deflater.BEST_SPEED));
+    client.sendPostRequest(URL, JSON_PAYLOAD);
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    // Content-Encoding is taken from the entity when request is sent
+    assertHeadersMatch(request, expectedHeaders);
+    HttpEntity entity = ((HttpUriRequestBase) request).getEntity();
+    assertThat(entity.getContentEncoding()).isEqualTo(RequestCompression.GZIP);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    entity.writeTo(out);
+    assertThat(gunzip(out.toByteArray())).isEqualTo(JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldNotCompressPayloadBelowThreshold() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, true,
+      new RequestCompression(JSON_PAYLOAD.length() + 1, Deflater.BEST_SPEED));
+    client.sendPutRequest(URL, JSON_PAYLOAD);
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    assertThat(((HttpUriRequestBase) request).getEntity().getContentEncoding()).isNull();
+    assertContentEqual(request, JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldNotCompressStreamedBodyBelowThreshold() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, true,
+      new RequestCompression(JSON_PAYLOAD.length() + 1, Deflater.DEFAULT_COMPRESSION));
+    client.sendRequest(URL, "POST", out -> out.write(JSON_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpEntity entity = ((HttpUriRequestBase) captor.getValue()).getEntity();
+    assertThat(entity.getContentEncoding()).isNull();
+    assertThat(entity.isChunked()).isTrue();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    entity.writeTo(out);
+    assertThat(out.toString(StandardCharsets.UTF_8.name())).isEqualTo(JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldCompressStreamedBodyReachingThreshold() throws Exception {
+    Map<String, String> payload = new HashMap<>();
+    payload.put("description", String.join("", Collections.nCopies(2000, "pizza ")));
+    String json = new Serializer().toJsonString(payload);
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, true,
+      new RequestCompression(1000, Deflater.DEFAULT_COMPRESSION));
+    // body is written by json writer, which wraps exceptions thrown by the stream
+    client.sendRequest(URL, "POST", out -> new Serializer().toJson(payload, out));
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpEntity entity = ((HttpUriRequestBase) captor.getValue()).getEntity();
+    assertThat(entity.getContentEncoding()).isEqualTo(RequestCompression.GZIP);
+    assertThat(entity.isChunked()).isTrue();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    entity.writeTo(out);
+    assertThat(gunzip(out.toByteArray())).isEqualTo(json);
+  }
+
+  @Test
+  public void shouldNotCompressBufferedBodyBelowThreshold() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, false,
+      new RequestCompression(JSON_PAYLOAD.length() + 1, Deflater.BEST_SPEED));
+    client.sendRequest(URL, "PUT", out -> out.write(JSON_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpUriRequest request = captor.getValue();
+    HttpEntity entity = ((HttpUriRequestBase) request).getEntity();
+    assertThat(entity.getContentEncoding()).isNull();
+    assertThat(entity.isChunked()).isFalse();
+    assertThat(entity.getContentLength()).isEqualTo(JSON_PAYLOAD.length());
+    assertContentEqual(request, JSON_PAYLOAD);
+  }
+
+  @Test
+  public void shouldCompressBufferedBodyReachingThreshold() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, null, () -> clientMock, false,
+      new RequestCompression(JSON_PAYLOAD.length(), Deflater.BEST_SPEED));
+    client.sendRequest(URL, "PUT", out -> out.write(JSON_PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    Mockito.verify(clientMock).execute(captor.capture());
+    HttpEntity entity = ((HttpUriRequestBase) captor.getValue()).getEntity();
+    assertThat(entity.getContentEncoding()).isEqualTo(RequestCompression.GZIP);
+    assertThat(entity.isChunked()).isFalse();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    entity.writeTo(out);
+    assertThat(entity.getContentLength()).isEqualTo(out.size());
+    assertThat(gunzip(out.toByteArray())).isEqualTo(JSON_PAYLOAD);
+  }
+
+  private String gunzip(byte[] compressed) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).readLine();
+    }
+  }
+
   private void assertHeadersMatch(HttpUriRequest request, Map<String, String> expectedHeaders) {
     Map<String, String> headers = Arrays.stream(request.getHeaders())
       .map(BasicHeader.class::cast)
@@ -0,0 +1,152 @@
+package io.weaviate.client.base.retry;
+
+import java.net.ConnectException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Test;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+  @Test
+  public void shouldRetryWithExponentialBackoffAndFullJitter() {
+    RetryPolicy policy = ExponentialBackoffRetryPolicy.defaultConfig()
+      .maxAttempts(10)
+      .baseDelayMs(100)
+      .maxDelayMs(1000)
+      .retryBudgetRatio(1)
+      .build();
+
+    for (int i = 0; i < 100; i++) {
+      policy.onRequest();
+      assertThat(policy.retryDelay(status(1, "GET", 503))).isBetween(0L, 100L);
+      policy.onRequest();
+      assertThat(policy.retryDelay(status(3, "GET", 503))).isBetween(0L, 400L);
+      policy.onRequest();
+      assertThat(policy.retryDelay(status(8, "GET", 503))).isBetween(0L, 1000L);
+    }
+  }
+
+  @Test
+  public void shouldNotRetryAfterMaxAttempts() {
+    RetryPolicy policy = ExponentialBackoffRetryPolicy.defaultConfig().maxAttempts(2).build();
+
+    assertThat(policy.retryDelay(status(1, "GET", 503))).isNotNegative();
+    assertThat(policy.retryDelay(status(2, "GET", 503))).isEqualTo(RetryPolicy.NO_RETRY);
+  }
+
+  @Test
+  public void shouldNotRetrySuccessfulOrClientErrorResponses() {
+    RetryPolicy policy = RetryPolicy.exponentialBackoff();
+
+    assertThat(policy.retryDelay(status(1, "GET", 200))).isEqualTo(RetryPolicy.NO_RETRY);
+    assertThat(policy.retryDelay(status(1, "GET", 404))).isEqualTo(RetryPolicy.NO_RETRY);
+    assertThat(policy.retryDelay(status(1, "GET", 500))).isEqualTo(RetryPolicy.NO_RETRY);
+  }
+
+  @Test
+  public void shouldRetryNonIdempotentRequestsOnlyWhenRejected() {
+    RetryPolicy policy = RetryPolicy.exponentialBackoff();
+
+    assertThat(policy.retryDelay(status(1, "POST", 503))).isEqualTo(RetryPolicy.NO_RETRY);
+    assertThat(policy.retryDelay(error(1, "POST", new ConnectException()))).isEqualTo(RetryPolicy.NO_RETRY);
+    assertThat(policy.retryDelay(status(1, "POST", 429))).isNotNegative();
+  }
+
+  @Test
+  public void shouldRetryNonIdempotentRequestsWhenAllowed() {
+    RetryPolicy policy = ExponentialBackoffRetryPolicy.defaultConfig().retryNonIdempotent(true).build();
+
+    assertThat(policy.retryDelay(status(1, "POST", 503))).isNotNegative();
+    assertThat(policy.retryDelay(error(1, "POST", new ConnectException()))).isNotNegative();
+  }
+
+  @Test
+  public void shouldRetryIOErrorsOnly() {
+    RetryPolicy policy = RetryPolicy.exponentialBackoff();
+
+    assertThat(policy.retryDelay(error(1, "GET", new ConnectException()))).isNotNegative();
+    assertThat(policy.retryDelay(error(1, "GET", new IllegalArgumentException()))).isEqualTo(RetryPolicy.NO_RETRY);
+  }
+
+  @Test
+  public void shouldRetryByStatusWhenReadingResponseFailed() {
+    RetryPolicy policy = RetryPolicy.exponentialBackoff();
+    RetryAttempt unreadable = RetryAttempt.builder()
+      .attempt(1)
+      .method("GET")
+      .idempotent(true)
+      .statusCode(503)
+      .error(new IllegalStateException("unexpected body"))
+      .build();
+
+    assertThat(policy.retryDelay(unreadable)).isNotNegative();
+  }
+
+  @Test
+  public void shouldWaitAtLeastRetryAfter() {
+    RetryPolicy policy = ExponentialBackoffRetryPolicy.defaultConfig().baseDelayMs(1).maxDelayMs(5000).build();
+
+    assertThat(policy.retryDelay(retryAfter(503, 2000L))).isEqualTo(2000L);
+    assertThat(policy.retryDelay(retryAfter(503, 6000L))).isEqualTo(RetryPolicy.NO_RETRY);
+  }
+
+  @Test
+  public void shouldLimitRetriesWithBudget() {
+    RetryPolicy policy = ExponentialBackoffRetryPolicy.defaultConfig().retryBudgetRatio(0.5).build();
+
+    for (int i = 0; i < ExponentialBackoffRetryPolicy.RETRY_BUDGET_BURST; i++) {
+      assertThat(policy.retryDelay(status(1, "GET", 503))).isNotNegative();
+    }
+    assertThat(policy.retryDelay(status(1, "GET", 503))).isEqualTo(RetryPolicy.NO_RETRY);
+
+    policy.onRequest();
+    assertThat(policy.retryDelay(status(1, "GET", 503))).isEqualTo(RetryPolicy.NO_RETRY);
+    policy.onRequest();
+    assertThat(policy.retryDelay(status(1, "GET", 503))).isNotNegative();
+  }
+
+  @Test
+  public void shouldRetryGraphQLQueriesAsIdempotent() {
+    assertThat(RetryPolicy.isIdempotent("POST", "/graphql")).isTrue();
+    assertThat(RetryPolicy.isIdempotent("POST", "/objects")).isFalse();
+    assertThat(RetryPolicy.isIdempotent("PUT", "/objects")).isTrue();
+  }
+
+  @Test
+  public void shouldValidateConfig() {
+    assertThatThrownBy(() -> ExponentialBackoffRetryPolicy.defaultConfig().maxAttempts(0).build())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("maxAttempts");
+    assertThatThrownBy(() -> ExponentialBackoffRetryPolicy.defaultConfig().baseDelayMs(100).maxDelayMs(10).build())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("maxDelayMs");
+  }
+
+  private static RetryAttempt status(int attempt, String method, int statusCode) {
+    return RetryAttempt.builder()
+      .attempt(attempt)
+      .method(method)
+      .idempotent(RetryPolicy.isIdempotent(method, "/objects"))
+      .statusCode(statusCode)
+      .build();
+  }
+
+  private static RetryAttempt error(int attempt, String method, Exception error) {
+    return RetryAttempt.builder()
+      .attempt(attempt)
+      .method(method)
+      .idempotent(RetryPolicy.isIdempotent(method, "/objects"))
+      .error(error)
+      .build();
+  }
+
+  private static RetryAttempt retryAfter(int statusCode, Long retryAfterMs) {
+    return RetryAttempt.builder()
+      .attempt(1)
+      .method("GET")
+      .idempotent(true)
+      .statusCode(statusCode)
+      .retryAfterMs(retryAfterMs)
+      .build();
+  }
+}
@@ -0,0 +1,33 @@
+package io.weaviate.client.base.retry;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+public class RetryAfterTest {
+
+  @Test
+  public void shouldParseDelayInSeconds() {
+    assertThat(RetryAfter.parseMillis("0")).isEqualTo(0L);
+    assertThat(RetryAfter.parseMillis(" 120 ")).isEqualTo(120_000L);
+  }
+
+  @Test
+  public void shouldParseHttpDate() {
+    long now = Instant.parse("2024-01-01T10:00:00Z").toEpochMilli();
+    String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.parse("2024-01-01T10:00:30Z").atZone(ZoneOffset.UTC));
+
+    assertThat(RetryAfter.parseMillis(date, now)).isEqualTo(30_000L);
+    assertThat(RetryAfter.parseMillis("Mon, 01 Jan 2024 09:00:00 GMT", now)).isEqualTo(0L);
+  }
+
+  @Test
+  public void shouldIgnoreMissingOrInvalidValue() {
+    assertThat(RetryAfter.parseMillis(null)).isNull();
+    assertThat(RetryAfter.parseMillis("")).isNull();
+    assertThat(RetryAfter.parseMillis("-1")).isNull();
+    assertThat(RetryAfter.parseMillis("soon")).isNull();
+  }
+}
@@ -0,0 +1,48 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.v1.batch.model.QueueFullPolicy;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AutoBatchConfigTest {
+
+  @Test
+  public void shouldKeepBatcherUnboundedWhenLimitsAreNotSet() {
+    ObjectsBatcher.AutoBatchConfig config = ObjectsBatcher.AutoBatchConfig.builder()
+      .batchSize(50)
+      .poolSize(2)
+      .awaitTerminationMs(1000)
+      .build();
+
+    assertThat(config.getMaxInFlightBatches()).isEqualTo(ObjectsBatcher.AutoBatchConfig.MAX_IN_FLIGHT_BATCHES);
+    assertThat(config.getMaxQueuedObjects()).isEqualTo(ObjectsBatcher.AutoBatchConfig.MAX_QUEUED_OBJECTS);
+    assertThat(config.getQueueFullPolicy()).isEqualTo(QueueFullPolicy.BLOCK);
+    assertThat(config.getGrpcPipelineWindow()).isZero();
+  }
+
+  @Test
+  public void shouldKeepConfiguredLimits() {
+    ObjectsBatcher.AutoBatchConfig config = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(10)
+      .maxInFlightBatches(2)
+      .maxQueuedObjects(20)
+      .queueFullPolicy(QueueFullPolicy.FAIL_FAST)
+      .build();
+
+    assertThat(config.getMaxInFlightBatches()).isEqualTo(2);
+    assertThat(config.getMaxQueuedObjects()).isEqualTo(20);
+    assertThat(config.getQueueFullPolicy()).isEqualTo(QueueFullPolicy.FAIL_FAST);
+  }
+
+  @Test
+  public void shouldRejectQueueSmallerThanBatch() {
+    assertThatThrownBy(() -> ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(10)
+      .maxQueuedObjects(5)
+      .build())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("maxQueuedObjects");
+  }
+}
@@ -0,0 +1,114 @@
+package io.weaviate.client.v1.batch.grpc;
+
+import com.google.protobuf.ByteString;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatchDelete;
+import io.weaviate.client.v1.batch.model.BatchDeleteOutput;
+import io.weaviate.client.v1.batch.model.BatchDeleteResult;
+import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class BatchDeleteConverterTest {
+
+  @Test
+  public void shouldBuildRequest() {
+    WhereFilter where = WhereFilter.builder()
+      .path("name")
+      .operator(Operator.Equal)
+      .valueText("Hawaii")
+      .build();
+
+    WeaviateProtoBatchDelete.BatchDeleteRequest request = BatchDeleteConverter.toBatchDeleteRequest(
+      "Pizza", where, BatchDeleteOutput.VERBOSE, true, ConsistencyLevel.QUORUM, "tenant");
+
+    assertThat(request.getCollection()).isEqualTo("Pizza");
+    assertThat(request.getVerbose()).isTrue();
+    assertThat(request.getDryRun()).isTrue();
+    assertThat(request.getConsistencyLevel()).isEqualTo(WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_QUORUM);
+    assertThat(request.getTenant()).isEqualTo("tenant");
+    assertThat(request.getFilters().getOperator()).isEqualTo(WeaviateProtoBase.Filters.Operator.OPERATOR_EQUAL);
+    assertThat(request.getFilters().getTarget().getProperty()).isEqualTo("name");
+    assertThat(request.getFilters().getValueText()).isEqualTo("Hawaii");
+  }
+
+  @Test
+  public void shouldBuildMinimalRequest() {
+    WhereFilter where = WhereFilter.builder()
+      .path("size")
+      .operator(Operator.GreaterThan)
+      .valueInt(10)
+      .build();
+
+    WeaviateProtoBatchDelete.BatchDeleteRequest request = BatchDeleteConverter.toBatchDeleteRequest(
+      "Pizza", where, null, null, null, null);
+
+    assertThat(request.getVerbose()).isFalse();
+    assertThat(request.getDryRun()).isFalse();
+    assertThat(request.hasConsistencyLevel()).isFalse();
+    assertThat(request.hasTenant()).isFalse();
+  }
+
+  @Test
+  public void shouldDecodeReply() {
+    UUID deleted = UUID.fromString("97fa5147-bdad-4d74-9a81-f8babc811b09");
+    UUID failed = UUID.fromString("07473b34-0ab2-4120-882d-303d9e13f7af");
+    WeaviateProtoBatchDelete.BatchDeleteReply reply = WeaviateProtoBatchDelete.BatchDeleteReply.newBuilder()
+      .setTook(0.25f)
+      .setMatches(2)
+      .setSuccessful(1)
+      .setFailed(1)
+      .addObjects(WeaviateProtoBatchDelete.BatchDeleteObject.newBuilder()
+        .setUuid(uuidBytes(deleted))
+        .setSuccessful(true)
+        .setError(""))
+      .addObjects(WeaviateProtoBatchDelete.BatchDeleteObject.newBuilder()
+        .setUuid(uuidBytes(failed))
+        .setSuccessful(false)
+        .setError("shard is read-only"))
+      .build();
+
+    BatchDeleteResult result = BatchDeleteConverter.toBatchDeleteResult(reply);
+
+    assertThat(result.getTook()).isEqualTo(0.25f);
+    assertThat(result.getMatches()).isEqualTo(2);
+    assertThat(result.getSuccessful()).isEqualTo(1);
+    assertThat(result.getFailed()).isEqualTo(1);
+    assertThat(result.getObjectsCount()).isEqualTo(2);
+    assertThat(result)
+      .extracting(BatchDeleteResult.DeletedObject::getId, BatchDeleteResult.DeletedObject::isSuccessful,
+        BatchDeleteResult.DeletedObject::getError)
+      .containsExactly(
+        tuple(deleted.toString(), true, null),
+        tuple(failed.toString(), false, "shard is read-only")
+      );
+  }
+
+  @Test
+  public void shouldDecodeMinimalReply() {
+    WeaviateProtoBatchDelete.BatchDeleteReply reply = WeaviateProtoBatchDelete.BatchDeleteReply.newBuilder()
+      .setMatches(5)
+      .setSuccessful(5)
+      .build();
+
+    BatchDeleteResult result = BatchDeleteConverter.toBatchDeleteResult(reply);
+
+    assertThat(result.getMatches()).isEqualTo(5);
+    assertThat(result.getObjectsCount()).isZero();
+    assertThat(result).isEmpty();
+  }
+
+  private static ByteString uuidBytes(UUID uuid) {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    buffer.putLong(uuid.getMostSignificantBits());
+    buffer.putLong(uuid.getLeastSignificantBits());
+    return ByteString.copyFrom(buffer.array());
+  }
+}
@@ -0,0 +1,146 @@
+package io.weaviate.client.v1.batch.spool;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchSpoolTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReplayUnacknowledgedObjects() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    Map<String, Object> props = new HashMap<>();
+    props.put("name", "Hawaii");
+    props.put("slices", 8L);
+    props.put("price", 9.5);
+    WeaviateObject pizza = WeaviateObject.builder().id("id-1").className("Pizza").tenant("t1")
+      .vector(new float[]{0.1f, 0.2f}).properties(props).build();
+    WeaviateObject soup = WeaviateObject.builder().id("id-2").className("Soup")
+      .primitiveVectors(Collections.singletonMap("text", new float[]{0.3f})).build();
+
+    BatchSpool<WeaviateObject> spool = BatchSpool.open(dir, new ObjectSpoolCodec(), false);
+    spool.append(pizza, soup);
+    spool.ack(soup);
+    spool.close();
+
+    BatchSpool<WeaviateObject> reopened = BatchSpool.open(dir, new ObjectSpoolCodec(), false);
+    List<WeaviateObject> pending = reopened.takePending();
+
+    assertThat(pending).hasSize(1);
+    WeaviateObject replayed = pending.get(0);
+    assertThat(replayed.getId()).isEqualTo("id-1");
+    assertThat(replayed.getClassName()).isEqualTo("Pizza");
+    assertThat(replayed.getTenant()).isEqualTo("t1");
+    assertThat(replayed.getPrimitiveVector()).containsExactly(0.1f, 0.2f);
+    assertThat(replayed.getProperties()).isEqualTo(props);
+    assertThat(reopened.takePending()).isEmpty();
+
+    reopened.ack(replayed);
+    reopened.close();
+    assertThat(BatchSpool.open(dir, new ObjectSpoolCodec(), false).takePending()).isEmpty();
+    assertThat(listFiles(dir)).isEmpty();
+  }
+
+  @Test
+  public void shouldSkipTruncatedRecord() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    BatchReference ref1 = BatchReference.builder().from("from-1").to("to-1").build();
+    BatchReference ref2 = BatchReference.builder().from("from-2").to("to-2").tenant("t").build();
+
+    BatchSpool<BatchReference> spool = BatchSpool.open(dir, new ReferenceSpoolCodec(), true);
+    spool.append(ref1, ref2);
+    spool.close();
+
+    // simulate crash in the middle of writing the last record
+    Path log = listFiles(dir).get(0);
+    try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    List<BatchReference> pending = BatchSpool.open(dir, new ReferenceSpoolCodec(), false).takePending();
+    assertThat(pending).containsExactly(ref1);
+  }
+
+  @Test
+  public void shouldReclaimSegmentsWithReleasedRecords() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    BatchReference ref1 = BatchReference.builder().from("from-1").to("to-1").build();
+    BatchReference ref2 = BatchReference.builder().from("from-2").to("to-2").build();
+    BatchReference ref3 = BatchReference.builder().from("from-3").to("to-3").build();
+
+    // every append starts new segment
+    BatchSpool<BatchReference> spool = BatchSpool.open(dir, new ReferenceSpoolCodec(), false, 1);
+    spool.append(ref1);
+    spool.append(ref2);
+    assertThat(listFiles(dir)).hasSize(2);
+
+    // released record is moved to the active segment, full one is deleted
+    spool.release(ref1);
+    assertThat(listFiles(dir)).hasSize(1);
+
+    spool.ack(ref2);
+    spool.append(ref3);
+    assertThat(listFiles(dir)).hasSize(1);
+    spool.close();
+
+    List<BatchReference> pending = BatchSpool.open(dir, new ReferenceSpoolCodec(), false).takePending();
+    assertThat(pending).containsExactlyInAnyOrder(ref1, ref3);
+  }
+
+  @Test
+  public void shouldTrackEachAppendOfTheSameItem() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    BatchReference ref = BatchReference.builder().from("from-1").to("to-1").build();
+
+    BatchSpool<BatchReference> spool = BatchSpool.open(dir, new ReferenceSpoolCodec(), false);
+    spool.append(ref);
+    spool.append(ref);
+    spool.ack(ref);
+    spool.ack(ref);
+    spool.close();
+
+    assertThat(BatchSpool.open(dir, new ReferenceSpoolCodec(), false).takePending()).isEmpty();
+  }
+
+  @Test
+  public void shouldSerializePropertiesLikeRequests() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    Map<String, Object> props = new HashMap<>();
+    props.put("name", "<Hawaii & co>");
+    props.put("slices", 8);
+    props.put("embedding", new float[]{0.5f, 1f});
+    WeaviateObject pizza = WeaviateObject.builder().id("id-1").className("Pizza").properties(props).build();
+
+    BatchSpool<WeaviateObject> spool = BatchSpool.open(dir, new ObjectSpoolCodec(), false);
+    spool.append(pizza);
+    spool.close();
+
+    WeaviateObject replayed = BatchSpool.open(dir, new ObjectSpoolCodec(), false).takePending().get(0);
+    Serializer serializer = new Serializer();
+    assertThat(serializer.toJsonString(replayed.getProperties())).isEqualTo(serializer.toJsonString(props));
+  }
+
+  private List<Path> listFiles(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.v1.batch.model.QueueFullPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchQueueTest {
+
+  private static final int PRODUCERS = 8;
+  private static final int CONSUMERS = 4;
+  private static final int ITEMS_PER_PRODUCER = 20_000;
+  private static final int BATCH_SIZE = 100;
+
+  @Test
+  public void shouldTakeFullBatchesOnly() {
+    BatchQueue<Integer> queue = new BatchQueue<>();
+    queue.addAll(1, 2, 3);
+
+    assertThat(queue.pollFull(4)).isEmpty();
+    assertThat(queue.pollFull(2)).containsExactly(1, 2);
+    assertThat(queue.pollFull(2)).isEmpty();
+    assertThat(queue.poll(2)).containsExactly(3);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldRejectItemsWhenFull() {
+    BatchQueue<Integer> queue = new BatchQueue<>(2, QueueFullPolicy.FAIL_FAST);
+    queue.addAll(1, 2);
+
+    assertThatThrownBy(() -> queue.addAll(3)).isInstanceOf(RejectedExecutionException.class);
+
+    queue.poll(1);
+    queue.addAll(3);
+    assertThat(queue.poll(10)).containsExactly(2, 3);
+  }
+
+  @Test
+  public void shouldAcceptItemsOverCapacityWhenEmpty() {
+    BatchQueue<Integer> queue = new BatchQueue<>(2, QueueFullPolicy.FAIL_FAST);
+    queue.addAll(1, 2, 3);
+
+    assertThat(queue.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldTakeEachItemExactlyOnceWithConcurrentProducersAndConsumers() throws Exception {
+    assertTakesEachItemExactlyOnce(new BatchQueue<>());
+  }
+
+  @Test
+  public void shouldTakeEachItemExactlyOnceWithBlockedProducers() throws Exception {
+    assertTakesEachItemExactlyOnce(new BatchQueue<>(BATCH_SIZE * 2, QueueFullPolicy.BLOCK));
+  }
+
+  private void assertTakesEachItemExactlyOnce(BatchQueue<Integer> queue) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean producing = new AtomicBoolean(true);
+    ConcurrentLinkedQueue<List<Integer>> batches = new ConcurrentLinkedQueue<>();
+
+    try {
+      List<Future<?>> producers = new ArrayList<>();
+      for (int p = 0; p < PRODUCERS; p++) {
+        int offset = p * ITEMS_PER_PRODUCER;
+        producers.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < ITEMS_PER_PRODUCER; ) {
+            // mix single items and small chunks
+            int chunk = Math.min(1 + i % 7, ITEMS_PER_PRODUCER - i);
+            Integer[] items = new Integer[chunk];
+            for (int c = 0; c < chunk; c++) {
+              items[c] = offset + i + c;
+            }
+            queue.addAll(items);
+            i += chunk;
+          }
+          return null;
+        }));
+      }
+      List<Future<?>> consumers = new ArrayList<>();
+      for (int c = 0; c < CONSUMERS; c++) {
+        consumers.add(executor.submit(() -> {
+          start.await();
+          while (producing.get() || !queue.isEmpty()) {
+            List<Integer> batch = queue.pollFull(BATCH_SIZE);
+            if (batch.isEmpty()) {
+              batch = producing.get() ? batch : queue.poll(BATCH_SIZE);
+            } else {
+              assertThat(batch).hasSize(BATCH_SIZE);
+            }
+            if (!batch.isEmpty()) {
+              batches.add(batch);
+            }
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> producer : producers) {
+        producer.get(30, TimeUnit.SECONDS);
+      }
+      producing.set(false);
+      for (Future<?> consumer : consumers) {
+        consumer.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Set<Integer> taken = new HashSet<>();
+    int count = 0;
+    for (List<Integer> batch : batches) {
+      for (Integer item : batch) {
+        assertThat(item).isNotNull();
+        taken.add(item);
+        count++;
+      }
+    }
+    assertThat(count).isEqualTo(PRODUCERS * ITEMS_PER_PRODUCER);
+    assertThat(taken).hasSize(PRODUCERS * ITEMS_PER_PRODUCER);
+  }
+}
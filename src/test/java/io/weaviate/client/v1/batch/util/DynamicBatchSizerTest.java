@@ -0,0 +1,62 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.v1.batch.model.AutoBatchStats;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DynamicBatchSizerTest {
+
+  @Test
+  public void shouldGrowBatchSizeThenConcurrencyWithinTargetLatency() {
+    DynamicBatchSizer sizer = new DynamicBatchSizer(20, 10, 40, 2, 1000);
+
+    sizer.onSuccess(20, 100);
+    assertThat(sizer.getBatchSize()).isEqualTo(30);
+    sizer.onSuccess(30, 100);
+    assertThat(sizer.getBatchSize()).isEqualTo(40);
+    assertThat(sizer.getConcurrency()).isEqualTo(1);
+
+    sizer.onSuccess(40, 100);
+    assertThat(sizer.getBatchSize()).isEqualTo(40);
+    assertThat(sizer.getConcurrency()).isEqualTo(2);
+
+    sizer.onSuccess(40, 100);
+    assertThat(sizer.getConcurrency()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotGrowOnPartialBatch() {
+    DynamicBatchSizer sizer = new DynamicBatchSizer(20, 10, 40, 2, 1000);
+
+    sizer.onSuccess(5, 100);
+
+    assertThat(sizer.getBatchSize()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldHalveBatchSizeAboveTargetLatency() {
+    DynamicBatchSizer sizer = new DynamicBatchSizer(100, 30, 200, 2, 1000);
+
+    sizer.onSuccess(100, 1500);
+    assertThat(sizer.getBatchSize()).isEqualTo(50);
+    sizer.onSuccess(50, 1500);
+    assertThat(sizer.getBatchSize()).isEqualTo(30);
+  }
+
+  @Test
+  public void shouldHalveBatchSizeAndConcurrencyOnFailure() {
+    DynamicBatchSizer sizer = new DynamicBatchSizer(40, 10, 40, 4, 1000);
+    sizer.onSuccess(40, 100);
+    sizer.onSuccess(40, 100);
+    assertThat(sizer.getConcurrency()).isEqualTo(3);
+
+    sizer.onFailure(1000);
+
+    AutoBatchStats stats = sizer.getStats();
+    assertThat(stats.getBatchSize()).isEqualTo(20);
+    assertThat(stats.getConcurrency()).isEqualTo(1);
+    assertThat(stats.getErrorRate()).isGreaterThan(0).isLessThan(1);
+    assertThat(stats.getObjectsPerSecond()).isGreaterThan(0);
+  }
+}
@@ -0,0 +1,82 @@
+package io.weaviate.client.v1.batch.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PendingBatchesTest {
+
+  @Test
+  public void shouldNotWaitWhenNothingIsPending() {
+    PendingBatches pending = new PendingBatches();
+
+    pending.awaitNone();
+    assertThat(pending.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldWaitUntilAllPendingBatchesAreDone() throws Exception {
+    PendingBatches pending = new PendingBatches();
+    pending.increment();
+    pending.increment();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch started = new CountDownLatch(1);
+      Future<?> waiter = executor.submit(() -> {
+        started.countDown();
+        pending.awaitNone();
+      });
+      started.await();
+
+      pending.decrement();
+      assertThatThrownBy(() -> waiter.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+      pending.decrement();
+      waiter.get(1, TimeUnit.SECONDS);
+      assertThat(pending.isEmpty()).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldNotMissConcurrentDecrements() throws Exception {
+    PendingBatches pending = new PendingBatches();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int i = 0; i < 10_000; i++) {
+        pending.increment();
+        Future<?> decrement = executor.submit(pending::decrement);
+        Future<?> waiter = executor.submit(pending::awaitNone);
+
+        waiter.get(1, TimeUnit.SECONDS);
+        decrement.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldRejectWhenInterrupted() {
+    PendingBatches pending = new PendingBatches();
+    pending.increment();
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(pending::awaitNone).isInstanceOf(RejectedExecutionException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+}
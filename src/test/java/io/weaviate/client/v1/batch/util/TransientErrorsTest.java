@@ -0,0 +1,35 @@
+package io.weaviate.client.v1.batch.util;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransientErrorsTest {
+
+  @Test
+  public void shouldRecognizeTransientServerErrors() {
+    assertThat(TransientErrors.isTransient("context deadline exceeded")).isTrue();
+    assertThat(TransientErrors.isTransient("put object: shard \"Pizza_abc\" is read-only")).isTrue();
+    assertThat(TransientErrors.isTransient("vectorize: 429 Too Many Requests")).isTrue();
+    assertThat(TransientErrors.isTransient("dial tcp 10.0.0.1:7001: i/o timeout")).isTrue();
+    assertThat(TransientErrors.isTransient("vectorize: 503 Service Unavailable")).isTrue();
+  }
+
+  @Test
+  public void shouldNotRecognizePermanentErrorsMentioningGenericWords() {
+    assertThat(TransientErrors.isTransient("invalid property 'timeout': expected number")).isFalse();
+    assertThat(TransientErrors.isTransient("invalid property 'unavailable': expected boolean")).isFalse();
+    assertThat(TransientErrors.isTransient(null)).isFalse();
+  }
+
+  @Test
+  public void shouldLimitRetryDelay() {
+    for (int retry = 1; retry <= 100; retry++) {
+      long cap = Math.min(TransientErrors.MAX_RETRY_DELAY_MS, 2000L << Math.min(retry - 1, 30));
+
+      assertThat(TransientErrors.retryDelay(2000, retry)).isBetween(0L, cap);
+    }
+    // shift of int interval does not overflow
+    assertThat(TransientErrors.retryDelay(Integer.MAX_VALUE, 40)).isBetween(0L, TransientErrors.MAX_RETRY_DELAY_MS);
+  }
+}
@@ -107,4 +107,26 @@ public class ObjectTest extends TestCase {
     Assert.assertTrue(result.contains("otherFoods"));
     Assert.assertTrue(result.contains("weaviate://localhost/someClass/abefd256-8574-442b-9293-9205193737ee"));
   }
+
+  @Test
+  public void testVectorGetterReturnsCopy() {
+    // given
+    WeaviateObject obj = WeaviateObject.builder().vector(new Float[]{ 1.0f, 2.0f }).build();
+    // when
+    obj.getVector()[0] = 5.0f;
+    // then
+    Assert.assertArrayEquals(new Float[]{ 1.0f, 2.0f }, obj.getVector());
+  }
+
+  @Test
+  public void testVectorWithNullElementIsRejected() {
+    try {
+      // when
+      WeaviateObject.builder().vector(new Float[]{ 1.0f, null }).build();
+      Assert.fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // then
+      Assert.assertTrue(e.getMessage().contains("index 1"));
+    }
+  }
 }
@@ -0,0 +1,111 @@
+package io.weaviate.client.v1.filters.grpc;
+
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WhereFilterConverterTest {
+
+  @Test
+  public void shouldConvertOperands() {
+    WhereFilter where = WhereFilter.builder()
+      .operator(Operator.Or)
+      .operands(
+        WhereFilter.builder().path("size").operator(Operator.ContainsAny).valueInt(1, 2).build(),
+        WhereFilter.builder().path("vegan").operator(Operator.Equal).valueBoolean(true).build()
+      )
+      .build();
+
+    WeaviateProtoBase.Filters filters = WhereFilterConverter.toFilters(where);
+
+    assertThat(filters.getOperator()).isEqualTo(WeaviateProtoBase.Filters.Operator.OPERATOR_OR);
+    assertThat(filters.getFiltersCount()).isEqualTo(2);
+    assertThat(filters.getFilters(0).getOperator()).isEqualTo(WeaviateProtoBase.Filters.Operator.OPERATOR_CONTAINS_ANY);
+    assertThat(filters.getFilters(0).getValueIntArray().getValuesList()).containsExactly(1L, 2L);
+    assertThat(filters.getFilters(1).getValueBoolean()).isTrue();
+  }
+
+  @Test
+  public void shouldConvertDates() {
+    Date date = new Date(1_700_000_000_000L);
+    Date otherDate = new Date(1_710_000_000_000L);
+    WhereFilter single = WhereFilter.builder().path("bakedAt").operator(Operator.GreaterThan).valueDate(date).build();
+    WhereFilter array = WhereFilter.builder().path("bakedAt").operator(Operator.ContainsAny).valueDate(date, otherDate).build();
+
+    assertThat(WhereFilterConverter.toFilters(single).getValueText())
+      .isEqualTo(DateFormatUtils.format(date, "yyyy-MM-dd'T'HH:mm:ssZZZZZ"));
+    assertThat(WhereFilterConverter.toFilters(array).getValueTextArray().getValuesList()).containsExactly(
+      DateFormatUtils.format(date, "yyyy-MM-dd'T'HH:mm:ssZZZZZ"),
+      DateFormatUtils.format(otherDate, "yyyy-MM-dd'T'HH:mm:ssZZZZZ")
+    );
+  }
+
+  @Test
+  public void shouldConvertGeoRange() {
+    WhereFilter where = WhereFilter.builder()
+      .path("location")
+      .operator(Operator.WithinGeoRange)
+      .valueGeoRange(WhereFilter.GeoRange.builder()
+        .geoCoordinates(WhereFilter.GeoCoordinates.builder().latitude(52.37f).longitude(4.89f).build())
+        .distance(WhereFilter.GeoDistance.builder().max(2000f).build())
+        .build())
+      .build();
+
+    WeaviateProtoBase.Filters filters = WhereFilterConverter.toFilters(where);
+
+    assertThat(filters.getOperator()).isEqualTo(WeaviateProtoBase.Filters.Operator.OPERATOR_WITHIN_GEO_RANGE);
+    assertThat(filters.getValueGeo().getLatitude()).isEqualTo(52.37f);
+    assertThat(filters.getValueGeo().getLongitude()).isEqualTo(4.89f);
+    assertThat(filters.getValueGeo().getDistance()).isEqualTo(2000f);
+  }
+
+  @Test
+  public void shouldConvertReferencePath() {
+    WhereFilter where = WhereFilter.builder()
+      .path("inPublication", "Publication", "ofCountry", "Country", "name")
+      .operator(Operator.Equal)
+      .valueText("NL")
+      .build();
+
+    WeaviateProtoBase.FilterTarget target = WhereFilterConverter.toFilters(where).getTarget();
+
+    assertThat(target.getMultiTarget().getOn()).isEqualTo("inPublication");
+    assertThat(target.getMultiTarget().getTargetCollection()).isEqualTo("Publication");
+    WeaviateProtoBase.FilterTarget nested = target.getMultiTarget().getTarget();
+    assertThat(nested.getMultiTarget().getOn()).isEqualTo("ofCountry");
+    assertThat(nested.getMultiTarget().getTargetCollection()).isEqualTo("Country");
+    assertThat(nested.getMultiTarget().getTarget().getProperty()).isEqualTo("name");
+  }
+
+  @Test
+  public void shouldConvertIdPath() {
+    WhereFilter where = WhereFilter.builder().path("id").operator(Operator.Equal).valueText("some-id").build();
+
+    assertThat(WhereFilterConverter.toFilters(where).getTarget().getProperty()).isEqualTo("_id");
+  }
+
+  @Test
+  public void shouldRejectIncompleteReferencePath() {
+    WhereFilter where = WhereFilter.builder().path("inPublication", "Publication").operator(Operator.Equal).valueText("x").build();
+
+    assertThatThrownBy(() -> WhereFilterConverter.toFilters(where)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldCompileReusedFilterAfterItsValuesChange() {
+    String[] values = new String[]{"Hawaii", "Doener"};
+    WhereFilter where = WhereFilter.builder().path("name").operator(Operator.ContainsAny).valueText(values).build();
+
+    assertThat(WhereFilterConverter.toFilters(where).getValueTextArray().getValuesList()).containsExactly("Hawaii", "Doener");
+
+    values[1] = "Margherita";
+    assertThat(WhereFilterConverter.toFilters(where).getValueTextArray().getValuesList()).containsExactly("Hawaii", "Margherita");
+  }
+}
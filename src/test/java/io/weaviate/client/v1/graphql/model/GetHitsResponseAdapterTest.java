@@ -0,0 +1,124 @@
+package io.weaviate.client.v1.graphql.model;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.search.model.SearchHit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GetHitsResponseAdapterTest {
+
+  @Test
+  public void shouldDecodeHits() {
+    String json = "{\"data\":{\"Get\":{\"Pizza\":[" +
+      "{\"name\":\"Hawaii\",\"price\":5,\"tags\":[\"a\",\"b\"],\"sizes\":[1,2.5]," +
+      "\"_additional\":{\"id\":\"00000000-0000-0000-0000-000000000001\",\"vector\":[0.1,0.2,0.3]," +
+      "\"distance\":0.25,\"score\":\"0.5\",\"creationTimeUnix\":\"1700000000000\",\"vectors\":{\"title\":[1,2]}," +
+      "\"classification\":{\"id\":\"x\"}}}" +
+      "]}}}";
+
+    GetHitsResponse response = new Serializer().toObject(json, GetHitsResponse.class);
+
+    assertThat(response.getErrors()).isNull();
+    assertThat(response.getObjects()).hasSize(1);
+    SearchHit hit = response.getObjects().get(0);
+    assertThat(hit.getClassName()).isEqualTo("Pizza");
+    assertThat(hit.getId()).isEqualTo("00000000-0000-0000-0000-000000000001");
+    assertThat(hit.getVector()).containsExactly(0.1f, 0.2f, 0.3f);
+    assertThat(hit.getVectors().get("title")).containsExactly(1f, 2f);
+    assertThat(hit.getDistance()).isEqualTo(0.25f);
+    assertThat(hit.getScore()).isEqualTo(0.5f);
+    assertThat(hit.getCertainty()).isNaN();
+    assertThat(hit.getCreationTimeUnix()).isEqualTo(1700000000000L);
+    Map<String, Object> properties = hit.getProperties();
+    assertThat(properties).containsEntry("name", "Hawaii").containsEntry("price", 5.0);
+    assertThat((List<?>) properties.get("tags")).containsExactly("a", "b");
+    assertThat((double[]) properties.get("sizes")).containsExactly(1.0, 2.5);
+  }
+
+  @Test
+  public void shouldDecodeMixedArraysAndReferencesAsGenericValues() {
+    String json = "{\"data\":{\"Get\":{\"Pizza\":[" +
+      "{\"mixed\":[1,\"two\",null],\"empty\":[]," +
+      "\"hasCategory\":[{\"name\":\"Italian\",\"_additional\":{\"id\":\"00000000-0000-0000-0000-000000000002\"}}]}" +
+      "]}}}";
+
+    GetHitsResponse response = new Serializer().toObject(json, GetHitsResponse.class);
+
+    Map<String, Object> properties = response.getObjects().get(0).getProperties();
+    assertThat((List<?>) properties.get("mixed")).containsExactly(1.0, "two", null);
+    assertThat((List<?>) properties.get("empty")).isEmpty();
+    List<?> refs = (List<?>) properties.get("hasCategory");
+    assertThat(refs).hasSize(1);
+    assertThat((Map<?, ?>) refs.get(0)).containsEntry("name", "Italian");
+  }
+
+  @Test
+  public void shouldWriteResponseWhichReadsBackTheSame() {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("name", "Hawaii");
+    properties.put("sizes", new double[]{1.0, 2.5});
+    properties.put("tags", Arrays.asList("a", 1.0));
+    properties.put("hasCategory", Collections.singletonList(Collections.singletonMap("name", "Italian")));
+    SearchHit pizza = SearchHit.builder()
+      .className("Pizza")
+      .id("00000000-0000-0000-0000-000000000001")
+      .vector(new float[]{0.1f, 0.2f})
+      .vectors(Collections.singletonMap("title", new float[]{1.5f}))
+      .distance(0.25f)
+      .score(0.5f)
+      .creationTimeUnix(1700000000000L)
+      .isConsistent(true)
+      .properties(properties)
+      .build();
+    SearchHit soup = SearchHit.builder()
+      .className("Soup")
+      .properties(Collections.singletonMap("name", "ChickenSoup"))
+      .build();
+    GraphQLError error = GraphQLError.builder().message("partial failure").build();
+    GetHitsResponse response = GetHitsResponse.builder()
+      .objects(Arrays.asList(pizza, soup))
+      .errors(new GraphQLError[]{error})
+      .build();
+
+    Serializer serializer = new Serializer();
+    GetHitsResponse read = serializer.toObject(serializer.toJsonString(response), GetHitsResponse.class);
+
+    assertThat(read.getErrors()).extracting(GraphQLError::getMessage).containsExactly("partial failure");
+    assertThat(read.getObjects()).hasSize(2);
+    SearchHit readPizza = read.getObjects().get(0);
+    assertThat(readPizza.getClassName()).isEqualTo("Pizza");
+    assertThat(readPizza.getId()).isEqualTo(pizza.getId());
+    assertThat(readPizza.getVector()).containsExactly(0.1f, 0.2f);
+    assertThat(readPizza.getVectors().get("title")).containsExactly(1.5f);
+    assertThat(readPizza.getDistance()).isEqualTo(0.25f);
+    assertThat(readPizza.getCertainty()).isNaN();
+    assertThat(readPizza.getScore()).isEqualTo(0.5f);
+    assertThat(readPizza.getCreationTimeUnix()).isEqualTo(1700000000000L);
+    assertThat(readPizza.getLastUpdateTimeUnix()).isNull();
+    assertThat(readPizza.getIsConsistent()).isTrue();
+    assertThat(readPizza.getProperties()).containsOnlyKeys("name", "sizes", "tags", "hasCategory");
+    assertThat(readPizza.getProperties()).containsEntry("name", "Hawaii")
+      .containsEntry("tags", Arrays.asList("a", 1.0))
+      .containsEntry("hasCategory", properties.get("hasCategory"));
+    assertThat((double[]) readPizza.getProperties().get("sizes")).containsExactly(1.0, 2.5);
+    SearchHit readSoup = read.getObjects().get(1);
+    assertThat(readSoup.getClassName()).isEqualTo("Soup");
+    assertThat(readSoup.getProperties()).isEqualTo(soup.getProperties());
+  }
+
+  @Test
+  public void shouldDecodeErrors() {
+    String json = "{\"data\":{\"Get\":{\"Pizza\":null}},\"errors\":[{\"message\":\"no such class\"}]}";
+
+    GetHitsResponse response = new Serializer().toObject(json, GetHitsResponse.class);
+
+    assertThat(response.getObjects()).isEmpty();
+    assertThat(response.errorMessages()).extracting("message").containsExactly("no such class");
+  }
+}
@@ -0,0 +1,52 @@
+package io.weaviate.client.v1.search.grpc;
+
+import io.weaviate.client.base.grpc.VectorBytes;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoProperties;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
+import io.weaviate.client.v1.search.model.SearchHit;
+import io.weaviate.client.v1.search.model.SearchResponse;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchReplyConverterTest {
+
+  @Test
+  public void shouldDecodeResults() {
+    WeaviateProtoSearchGet.SearchReply reply = WeaviateProtoSearchGet.SearchReply.newBuilder()
+      .setTook(0.5f)
+      .addResults(WeaviateProtoSearchGet.SearchResult.newBuilder()
+        .setMetadata(WeaviateProtoSearchGet.MetadataResult.newBuilder()
+          .setId("00000000-0000-0000-0000-000000000001")
+          .setVectorBytes(VectorBytes.fromFloats(new Float[]{0.1f, 0.2f}))
+          .setDistance(0.25f).setDistancePresent(true))
+        .setProperties(WeaviateProtoSearchGet.PropertiesResult.newBuilder()
+          .setNonRefProps(WeaviateProtoProperties.Properties.newBuilder()
+            .putFields("name", WeaviateProtoProperties.Value.newBuilder().setTextValue("Hawaii").build())
+            .putFields("slices", WeaviateProtoProperties.Value.newBuilder().setIntValue(8).build()))
+          .addRefProps(WeaviateProtoSearchGet.RefPropertiesResult.newBuilder()
+            .setPropName("ofDocument")
+            .addProperties(WeaviateProtoSearchGet.PropertiesResult.newBuilder()
+              .setTargetCollection("Document")
+              .setMetadata(WeaviateProtoSearchGet.MetadataResult.newBuilder().setId("00000000-0000-0000-0000-000000000002"))))))
+      .build();
+
+    SearchResponse response = SearchReplyConverter.toSearchResponse(reply);
+
+    assertThat(response.getTook()).isEqualTo(0.5f);
+    assertThat(response.getGroups()).isEmpty();
+    assertThat(response.getObjects()).hasSize(1);
+    SearchHit hit = response.getObjects().get(0);
+    assertThat(hit.getId()).isEqualTo("00000000-0000-0000-0000-000000000001");
+    assertThat(hit.getVector()).containsExactly(0.1f, 0.2f);
+    assertThat(hit.getDistance()).isEqualTo(0.25f);
+    assertThat(hit.getCertainty()).isNaN();
+    assertThat(hit.getProperties()).containsEntry("name", "Hawaii").containsEntry("slices", 8L);
+    @SuppressWarnings("unchecked")
+    List<SearchHit> refs = (List<SearchHit>) hit.getProperties().get("ofDocument");
+    assertThat(refs).extracting(SearchHit::getId).containsExactly("00000000-0000-0000-0000-000000000002");
+    assertThat(refs).extracting(SearchHit::getClassName).containsExactly("Document");
+  }
+}
@@ -0,0 +1,124 @@
+package io.weaviate.client.v1.search.grpc;
+
+import io.weaviate.client.base.grpc.VectorBytes;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoSearchGet;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.query.argument.GroupByArgument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArgument;
+import io.weaviate.client.v1.graphql.query.argument.SortArguments;
+import io.weaviate.client.v1.graphql.query.argument.SortOrder;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SearchRequestConverterTest {
+
+  @Test
+  public void shouldRequestAllPropertiesWhenNoFields() {
+    GetBuilder get = GetBuilder.builder().className("Pizza").limit(10).build();
+
+    WeaviateProtoSearchGet.SearchRequest request = SearchRequestConverter.toSearchRequest(get);
+
+    assertThat(request.getCollection()).isEqualTo("Pizza");
+    assertThat(request.getLimit()).isEqualTo(10);
+    assertThat(request.getProperties().getReturnAllNonrefProperties()).isTrue();
+    assertThat(request.getMetadata().getUuid()).isTrue();
+  }
+
+  @Test
+  public void shouldMapFields() {
+    Fields fields = Fields.builder().fields(new Field[]{
+      Field.builder().name("name").build(),
+      Field.builder().name("address").fields(Field.builder().name("city").build()).build(),
+      Field.builder().name("ofDocument").fields(
+        Field.builder().name("... on Document").fields(Field.builder().name("title").build()).build()
+      ).build(),
+      Field.builder().name("_additional").fields(
+        Field.builder().name("id").build(),
+        Field.builder().name("vector").build(),
+        Field.builder().name("distance").build()
+      ).build()
+    }).build();
+    GetBuilder get = GetBuilder.builder().className("Pizza").fields(fields).build();
+
+    WeaviateProtoSearchGet.SearchRequest request = SearchRequestConverter.toSearchRequest(get);
+
+    WeaviateProtoSearchGet.PropertiesRequest properties = request.getProperties();
+    assertThat(properties.getNonRefPropertiesList()).containsExactly("name");
+    assertThat(properties.getObjectProperties(0).getPropName()).isEqualTo("address");
+    assertThat(properties.getObjectProperties(0).getPrimitivePropertiesList()).containsExactly("city");
+    assertThat(properties.getRefProperties(0).getReferenceProperty()).isEqualTo("ofDocument");
+    assertThat(properties.getRefProperties(0).getTargetCollection()).isEqualTo("Document");
+    assertThat(properties.getRefProperties(0).getProperties().getNonRefPropertiesList()).containsExactly("title");
+    WeaviateProtoSearchGet.MetadataRequest metadata = request.getMetadata();
+    assertThat(metadata.getUuid()).isTrue();
+    assertThat(metadata.getVector()).isTrue();
+    assertThat(metadata.getDistance()).isTrue();
+    assertThat(metadata.getCertainty()).isFalse();
+  }
+
+  @Test
+  public void shouldMapArguments() {
+    WhereFilter where = WhereFilter.builder()
+      .operator(Operator.And)
+      .operands(
+        WhereFilter.builder().path("name").operator(Operator.Equal).valueText("Hawaii").build(),
+        WhereFilter.builder().path("price").operator(Operator.GreaterThan).valueNumber(2.5).build()
+      ).build();
+    GetBuilder get = GetBuilder.builder()
+      .className("Pizza")
+      .tenant("TenantA")
+      .withConsistencyLevel("QUORUM")
+      .withWhereFilter(WhereArgument.builder().filter(where).build())
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).distance(0.5f).build())
+      .withSortArguments(SortArguments.builder().sort(new SortArgument[]{
+        SortArgument.builder().path(new String[]{"name"}).order(SortOrder.desc).build()
+      }).build())
+      .withGroupByArgument(GroupByArgument.builder().path(new String[]{"name"}).groups(2).objectsPerGroup(3).build())
+      .autocut(1)
+      .build();
+
+    WeaviateProtoSearchGet.SearchRequest request = SearchRequestConverter.toSearchRequest(get);
+
+    assertThat(request.getTenant()).isEqualTo("TenantA");
+    assertThat(request.getConsistencyLevel()).isEqualTo(WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_QUORUM);
+    assertThat(request.getFilters().getOperator()).isEqualTo(WeaviateProtoBase.Filters.Operator.OPERATOR_AND);
+    assertThat(request.getFilters().getFilters(0).getTarget().getProperty()).isEqualTo("name");
+    assertThat(request.getFilters().getFilters(0).getValueText()).isEqualTo("Hawaii");
+    assertThat(request.getFilters().getFilters(1).getValueNumber()).isEqualTo(2.5);
+    assertThat(VectorBytes.toFloats(request.getNearVector().getVectorBytes())).containsExactly(1f, 2f);
+    assertThat(request.getNearVector().getDistance()).isEqualTo(0.5);
+    assertThat(request.getSortBy(0).getAscending()).isFalse();
+    assertThat(request.getGroupBy().getNumberOfGroups()).isEqualTo(2);
+    assertThat(request.getGroupBy().getObjectsPerGroup()).isEqualTo(3);
+    assertThat(request.getAutocut()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldUseDefaultHybridAlpha() {
+    GetBuilder get = GetBuilder.builder()
+      .className("Pizza")
+      .withHybridFilter(HybridArgument.builder().query("hawaii").build())
+      .build();
+
+    WeaviateProtoSearchGet.SearchRequest request = SearchRequestConverter.toSearchRequest(get);
+
+    assertThat(request.getHybridSearch().getQuery()).isEqualTo("hawaii");
+    assertThat(request.getHybridSearch().getAlpha()).isEqualTo(0.75f);
+  }
+
+  @Test
+  public void shouldFailWithoutClassName() {
+    assertThatThrownBy(() -> SearchRequestConverter.toSearchRequest(GetBuilder.builder().build()))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,219 @@
+package io.weaviate.integration.client.async.backup;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.backup.model.BackupCreateResponse;
+import io.weaviate.client.v1.backup.model.BackupCreateStatusResponse;
+import io.weaviate.client.v1.backup.model.BackupRestoreResponse;
+import io.weaviate.client.v1.backup.model.CreateStatus;
+import io.weaviate.client.v1.backup.model.RestoreStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientBackupMockServerTest {
+
+  private static final String BACKEND = "filesystem";
+  private static final String BACKUP_ID = "backup-1";
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldCreateBackup() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/backups/" + BACKEND)
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(CreateStatus.STARTED))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BackupCreateResponse> result = asyncClient.backup().creator()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .withIncludeClassNames("Pizza")
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getId()).isEqualTo(BACKUP_ID);
+      assertThat(result.getResult().getStatus()).isEqualTo(CreateStatus.STARTED);
+      assertThat(result.getResult().getClassNames()).containsExactly("Pizza");
+    }
+  }
+
+  @Test
+  public void shouldWaitForBackupCreation() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/backups/" + BACKEND)
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(CreateStatus.STARTED))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID), Times.once()
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(CreateStatus.TRANSFERRING))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID)
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(CreateStatus.SUCCESS))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BackupCreateResponse> result = asyncClient.backup().creator()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .withIncludeClassNames("Pizza")
+        .withWaitForCompletion(true)
+        .run().get(10, TimeUnit.SECONDS);
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getStatus()).isEqualTo(CreateStatus.SUCCESS);
+      assertThat(result.getResult().getClassNames()).containsExactly("Pizza");
+      mockServerClient.verify(request().withMethod("GET").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID),
+        VerificationTimes.exactly(2));
+    }
+  }
+
+  @Test
+  public void shouldNotWaitWhenBackupCreationFails() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/backups/" + BACKEND)
+    ).respond(
+      response().withStatusCode(422).withBody("{\"error\":[{\"message\":\"backup backup-1 already exists\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BackupCreateResponse> result = asyncClient.backup().creator()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .withWaitForCompletion(true)
+        .run().get(10, TimeUnit.SECONDS);
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getError().getStatusCode()).isEqualTo(422);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("backup backup-1 already exists");
+      mockServerClient.verify(request().withMethod("GET").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID),
+        VerificationTimes.never());
+    }
+  }
+
+  @Test
+  public void shouldMapStatusErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID)
+    ).respond(
+      response().withStatusCode(404).withBody("{\"error\":[{\"message\":\"backup not found\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BackupCreateStatusResponse> result = asyncClient.backup().createStatusGetter()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .run().get();
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(404);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("backup not found");
+    }
+  }
+
+  @Test
+  public void shouldWaitForBackupRestore() throws Exception {
+    String restorePath = "/v1/backups/" + BACKEND + "/" + BACKUP_ID + "/restore";
+    mockServerClient.when(
+      request().withMethod("POST").withPath(restorePath)
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(RestoreStatus.STARTED))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath(restorePath)
+    ).respond(
+      response().withStatusCode(200).withBody(backupBody(RestoreStatus.SUCCESS))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BackupRestoreResponse> result = asyncClient.backup().restorer()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .withWaitForCompletion(true)
+        .run().get(10, TimeUnit.SECONDS);
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getStatus()).isEqualTo(RestoreStatus.SUCCESS);
+    }
+  }
+
+  @Test
+  public void shouldAbortCancelRequestWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("DELETE").withPath("/v1/backups/" + BACKEND + "/" + BACKUP_ID)
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(204)
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<Void>> future = asyncClient.backup().canceler()
+        .withBackend(BACKEND)
+        .withBackupId(BACKUP_ID)
+        .run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+  }
+
+  private String backupBody(String status) {
+    return String.format("{\"id\":\"%s\",\"backend\":\"%s\",\"path\":\"/tmp/backups/%s\",\"classes\":[\"Pizza\"],\"status\":\"%s\"}",
+      BACKUP_ID, BACKEND, BACKUP_ID, status);
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
@@ -0,0 +1,220 @@
+package io.weaviate.integration.client.async.batch;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+import org.mockserver.verify.VerificationTimes;
+
+import java.net.ConnectException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientBatchMockServerTest {
+
+  private static final String PIZZA_1_ID = "abefd256-8574-442b-9293-9205193737ee";
+  private static final String PIZZA_2_ID = "97fa5147-bdad-4d74-9a81-f8babc811b09";
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldCreateObjectsBatch() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(200).withBody(String.format("[" +
+        "{\"class\":\"Pizza\",\"id\":\"%s\",\"result\":{}}," +
+        "{\"class\":\"Pizza\",\"id\":\"%s\",\"result\":{\"errors\":{\"error\":[{\"message\":\"invalid property\"}]}}}" +
+        "]", PIZZA_1_ID, PIZZA_2_ID))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<ObjectGetResponse[]> result = asyncClient.batch().objectsBatcher()
+        .withObjects(
+          WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).build(),
+          WeaviateObject.builder().className("Pizza").id(PIZZA_2_ID).build())
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult()).extracting(ObjectGetResponse::getId).containsExactly(PIZZA_1_ID, PIZZA_2_ID);
+      assertThat(result.getResult()[0].getResult().getErrors()).isNull();
+      assertThat(result.getResult()[1].getResult().getErrors().getError()).extracting("message")
+        .containsExactly("invalid property");
+    }
+  }
+
+  @Test
+  public void shouldNotSendEmptyObjectsBatch() throws Exception {
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<ObjectGetResponse[]> result = asyncClient.batch().objectsBatcher().run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult()).isEmpty();
+      mockServerClient.verify(request().withPath("/v1/batch/objects"), VerificationTimes.never());
+    }
+  }
+
+  @Test
+  public void shouldMapObjectsBatchErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(500).withBody("{\"error\":[{\"message\":\"shard is read-only\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<ObjectGetResponse[]> result = asyncClient.batch().objectsBatcher()
+        .withObject(WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).build())
+        .run().get();
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(500);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("shard is read-only");
+    }
+  }
+
+  @Test
+  public void shouldRetryObjectsBatchOnConnectionError() throws Exception {
+    // stop server to simulate connection issues
+    mockServer.stop();
+
+    ObjectsBatcher.BatchRetriesConfig retriesConfig = ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+      .maxConnectionRetries(2)
+      .retriesIntervalMs(100)
+      .build();
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      long start = System.currentTimeMillis();
+      CompletableFuture<Result<ObjectGetResponse[]>> future = asyncClient.batch().objectsBatcher(retriesConfig)
+        .withObject(WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).build())
+        .run();
+
+      assertThatThrownBy(future::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConnectException.class);
+      // 2 retries after 100 + 200 ms
+      assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(300);
+    }
+  }
+
+  @Test
+  public void shouldCreateReferencesBatch() throws Exception {
+    String from = "weaviate://localhost/Pizza/" + PIZZA_1_ID + "/otherFoods";
+    String to = "weaviate://localhost/Pizza/" + PIZZA_2_ID;
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/references")
+    ).respond(
+      response().withStatusCode(200).withBody(String.format("[{\"from\":\"%s\",\"to\":\"%s\",\"result\":{}}]", from, to))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BatchReferenceResponse[]> result = asyncClient.batch().referencesBatcher()
+        .withReference(BatchReference.builder().from(from).to(to).build())
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult()).extracting(BatchReferenceResponse::getFrom, BatchReferenceResponse::getTo)
+        .containsExactly(tuple(from, to));
+    }
+  }
+
+  @Test
+  public void shouldDeleteObjectsBatch() throws Exception {
+    mockServerClient.when(
+      request().withMethod("DELETE").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"output\":\"minimal\",\"dryRun\":true," +
+        "\"results\":{\"matches\":2,\"limit\":10000,\"successful\":0,\"failed\":0}}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<BatchDeleteResponse> result = asyncClient.batch().objectsBatchDeleter()
+        .withClassName("Pizza")
+        .withWhere(WhereFilter.builder()
+          .path(new String[]{"name"})
+          .operator(Operator.Equal)
+          .valueText("Hawaii")
+          .build())
+        .withDryRun(true)
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getDryRun()).isTrue();
+      assertThat(result.getResult().getResults().getMatches()).isEqualTo(2L);
+    }
+  }
+
+  @Test
+  public void shouldAbortObjectsBatchDeleteWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("DELETE").withPath("/v1/batch/objects")
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(200).withBody("{}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<BatchDeleteResponse>> future = asyncClient.batch().objectsBatchDeleter()
+        .withClassName("Pizza")
+        .run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
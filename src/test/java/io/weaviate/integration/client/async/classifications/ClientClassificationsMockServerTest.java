@@ -0,0 +1,170 @@
+package io.weaviate.integration.client.async.classifications;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.classifications.model.Classification;
+import io.weaviate.client.v1.classifications.model.ClassificationType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientClassificationsMockServerTest {
+
+  private static final String CLASSIFICATION_ID = "e7bb3a34-5bd5-4e0a-9a71-a53d6c2d6b8e";
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldScheduleClassification() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/classifications")
+    ).respond(
+      response().withStatusCode(201).withBody(classificationBody("running"))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<Classification> result = asyncClient.classifications().scheduler()
+        .withType(ClassificationType.KNN)
+        .withClassName("Pizza")
+        .withClassifyProperties(new String[]{"tagged"})
+        .withBasedOnProperties(new String[]{"description"})
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getId()).isEqualTo(CLASSIFICATION_ID);
+      assertThat(result.getResult().getStatus()).isEqualTo("running");
+    }
+  }
+
+  @Test
+  public void shouldWaitForClassificationCompletion() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/classifications")
+    ).respond(
+      response().withStatusCode(201).withBody(classificationBody("running"))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/classifications/" + CLASSIFICATION_ID), Times.once()
+    ).respond(
+      response().withStatusCode(200).withBody(classificationBody("running"))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/classifications/" + CLASSIFICATION_ID)
+    ).respond(
+      response().withStatusCode(200).withBody(classificationBody("completed"))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<Classification> result = asyncClient.classifications().scheduler()
+        .withType(ClassificationType.KNN)
+        .withClassName("Pizza")
+        .withClassifyProperties(new String[]{"tagged"})
+        .withBasedOnProperties(new String[]{"description"})
+        .withWaitForCompletion()
+        .run().get(10, TimeUnit.SECONDS);
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getStatus()).isEqualTo("completed");
+      mockServerClient.verify(request().withMethod("GET").withPath("/v1/classifications/" + CLASSIFICATION_ID),
+        VerificationTimes.exactly(2));
+    }
+  }
+
+  @Test
+  public void shouldMapErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/classifications")
+    ).respond(
+      response().withStatusCode(400).withBody("{\"error\":[{\"message\":\"invalid classification: class Pizza not found\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<Classification> result = asyncClient.classifications().scheduler()
+        .withType(ClassificationType.KNN)
+        .withClassName("Pizza")
+        .withWaitForCompletion()
+        .run().get(10, TimeUnit.SECONDS);
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(400);
+      assertThat(result.getError().getMessages()).extracting("message")
+        .containsExactly("invalid classification: class Pizza not found");
+      mockServerClient.verify(request().withMethod("GET").withPath("/v1/classifications/" + CLASSIFICATION_ID),
+        VerificationTimes.never());
+    }
+  }
+
+  @Test
+  public void shouldAbortRequestWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/classifications/" + CLASSIFICATION_ID)
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(200).withBody(classificationBody("completed"))
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<Classification>> future = asyncClient.classifications().getter()
+        .withID(CLASSIFICATION_ID)
+        .run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThat(future.isCancelled()).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+  }
+
+  private String classificationBody(String status) {
+    return String.format("{\"id\":\"%s\",\"class\":\"Pizza\",\"classifyProperties\":[\"tagged\"]," +
+      "\"basedOnProperties\":[\"description\"],\"type\":\"knn\",\"status\":\"%s\"}", CLASSIFICATION_ID, status);
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
@@ -0,0 +1,122 @@
+package io.weaviate.integration.client.async.cluster;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientClusterMockServerTest {
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldGetNodesStatus() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/nodes/Pizza").withQueryStringParameter("output", "verbose")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"nodes\":[{\"name\":\"node1\",\"status\":\"HEALTHY\",\"version\":\"1.17.999\"," +
+        "\"stats\":{\"shardCount\":1,\"objectCount\":2},\"shards\":[{\"class\":\"Pizza\",\"name\":\"shard1\",\"objectCount\":2}]}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<NodesStatusResponse> result = asyncClient.cluster().nodesStatusGetter()
+        .withClassName("Pizza")
+        .withOutput("verbose")
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getNodes()).hasSize(1);
+      NodesStatusResponse.NodeStatus node = result.getResult().getNodes()[0];
+      assertThat(node.getName()).isEqualTo("node1");
+      assertThat(node.getStatus()).isEqualTo("HEALTHY");
+      assertThat(node.getStats().getObjectCount()).isEqualTo(2L);
+      assertThat(node.getShards()).extracting(NodesStatusResponse.ShardStatus::getClassName).containsExactly("Pizza");
+    }
+  }
+
+  @Test
+  public void shouldMapErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/nodes/Soup")
+    ).respond(
+      response().withStatusCode(404).withBody("{\"error\":[{\"message\":\"class Soup not found\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<NodesStatusResponse> result = asyncClient.cluster().nodesStatusGetter()
+        .withClassName("Soup")
+        .run().get();
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(404);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("class Soup not found");
+    }
+  }
+
+  @Test
+  public void shouldAbortRequestWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/nodes")
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(200).withBody("{\"nodes\":[]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<NodesStatusResponse>> future = asyncClient.cluster().nodesStatusGetter().run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThat(future.isCancelled()).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
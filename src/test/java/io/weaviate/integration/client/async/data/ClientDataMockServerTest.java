@@ -0,0 +1,219 @@
+package io.weaviate.integration.client.async.data;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+
+import java.net.ConnectException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientDataMockServerTest {
+
+  private static final String PIZZA_ID = "abefd256-8574-442b-9293-9205193737ee";
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldCreateObject() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(200).withBody(pizzaBody())
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<WeaviateObject> result = asyncClient.data().creator()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .withProperties(Collections.singletonMap("name", "Hawaii"))
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getId()).isEqualTo(PIZZA_ID);
+      assertThat(result.getResult().getClassName()).isEqualTo("Pizza");
+      assertThat(result.getResult().getProperties()).containsEntry("name", "Hawaii");
+    }
+  }
+
+  @Test
+  public void shouldGetObjectById() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects/Pizza/" + PIZZA_ID)
+    ).respond(
+      response().withStatusCode(200).withBody(pizzaBody())
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<List<WeaviateObject>> result = asyncClient.data().objectsGetter()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult()).hasSize(1)
+        .first().extracting(WeaviateObject::getId).isEqualTo(PIZZA_ID);
+    }
+  }
+
+  @Test
+  public void shouldMapErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(422).withBody("{\"error\":[{\"message\":\"invalid object: no such class with name 'Pizza'\"}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<WeaviateObject> result = asyncClient.data().creator()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run().get();
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(422);
+      assertThat(result.getError().getMessages()).hasSize(1)
+        .first().extracting("message").asString().contains("no such class with name 'Pizza'");
+    }
+  }
+
+  @Test
+  public void shouldMapNotFoundToFalse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("HEAD").withPath("/v1/objects/Pizza/" + PIZZA_ID)
+    ).respond(
+      response().withStatusCode(404)
+    );
+    mockServerClient.when(
+      request().withMethod("DELETE").withPath("/v1/objects/Pizza/" + PIZZA_ID)
+    ).respond(
+      response().withStatusCode(404)
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<Boolean> exists = asyncClient.data().checker()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run().get();
+      Result<Boolean> deleted = asyncClient.data().deleter()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run().get();
+
+      assertThat(exists.getResult()).isFalse();
+      assertThat(deleted.getResult()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldNotSendRequestWithoutId() throws Exception {
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<Boolean> result = asyncClient.data().deleter()
+        .withClassName("Pizza")
+        .run().get();
+
+      assertThat(result.getResult()).isFalse();
+      assertThat(result.getError().getStatusCode()).isEqualTo(500);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("id cannot be empty");
+    }
+  }
+
+  @Test
+  public void shouldFailFutureOnConnectionError() throws Exception {
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      // stop server to simulate connection issues
+      mockServer.stop();
+
+      CompletableFuture<Result<WeaviateObject>> future = asyncClient.data().creator()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run();
+
+      assertThatThrownBy(future::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConnectException.class);
+    }
+  }
+
+  @Test
+  public void shouldAbortRequestWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects/Pizza/" + PIZZA_ID)
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(200).withBody(pizzaBody())
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<List<WeaviateObject>>> future = asyncClient.data().objectsGetter()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThat(future.isCancelled()).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+
+      // aborted exchange does not block following requests
+      Result<Boolean> exists = asyncClient.data().checker()
+        .withClassName("Pizza")
+        .withID(PIZZA_ID)
+        .run().get(2, TimeUnit.SECONDS);
+      assertThat(exists).isNotNull();
+    }
+  }
+
+  private String pizzaBody() {
+    return String.format("{\"class\":\"Pizza\",\"id\":\"%s\",\"properties\":{\"name\":\"Hawaii\"}}", PIZZA_ID);
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
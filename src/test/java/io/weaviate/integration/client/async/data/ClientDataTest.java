@@ -0,0 +1,80 @@
+package io.weaviate.integration.client.async.data;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.integration.client.WeaviateDockerCompose;
+import io.weaviate.integration.client.WeaviateTestGenerics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class ClientDataTest {
+
+  private WeaviateClient client;
+  private final WeaviateTestGenerics testGenerics = new WeaviateTestGenerics();
+
+  @ClassRule
+  public static WeaviateDockerCompose compose = new WeaviateDockerCompose();
+
+  @Before
+  public void before() {
+    Config config = new Config("http", compose.getHttpHostAddress());
+    client = new WeaviateClient(config);
+    testGenerics.createWeaviateTestSchemaFood(client);
+  }
+
+  @After
+  public void after() {
+    testGenerics.cleanupWeaviate(client);
+  }
+
+  @Test
+  public void testDataCreateGetDelete() throws ExecutionException, InterruptedException {
+    String id = "abefd256-8574-442b-9293-9205193737ee";
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("name", "Hawaii");
+    properties.put("description", "Universally accepted to be the best pizza ever created.");
+
+    try (WeaviateAsyncClient asyncClient = client.async()) {
+      Result<WeaviateObject> created = asyncClient.data().creator()
+        .withClassName("Pizza")
+        .withID(id)
+        .withProperties(properties)
+        .run().get();
+      Result<List<WeaviateObject>> objects = asyncClient.data().objectsGetter()
+        .withClassName("Pizza")
+        .withID(id)
+        .run().get();
+      Result<Boolean> exists = asyncClient.data().checker()
+        .withClassName("Pizza")
+        .withID(id)
+        .run().get();
+      Result<Boolean> deleted = asyncClient.data().deleter()
+        .withClassName("Pizza")
+        .withID(id)
+        .run().get();
+      Result<Boolean> existsAfterDelete = asyncClient.data().checker()
+        .withClassName("Pizza")
+        .withID(id)
+        .run().get();
+
+      assertThat(created.hasErrors()).isFalse();
+      assertThat(created.getResult().getId()).isEqualTo(id);
+      assertThat(objects.hasErrors()).isFalse();
+      assertThat(objects.getResult()).hasSize(1);
+      assertThat(objects.getResult().get(0).getProperties()).containsEntry("name", "Hawaii");
+      assertThat(exists.getResult()).isTrue();
+      assertThat(deleted.getResult()).isTrue();
+      assertThat(existsAfterDelete.getResult()).isFalse();
+    }
+  }
+}
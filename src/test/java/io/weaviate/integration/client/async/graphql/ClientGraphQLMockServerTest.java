@@ -0,0 +1,149 @@
+package io.weaviate.integration.client.async.graphql;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+import org.mockserver.model.JsonBody;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientGraphQLMockServerTest {
+
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldGetObjects() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql")
+        .withBody(JsonBody.json("{\"query\":\"{Get{Pizza{name}}}\"}"))
+    ).respond(
+      response().withStatusCode(200).withBody("{\"data\":{\"Get\":{\"Pizza\":[{\"name\":\"Hawaii\"},{\"name\":\"Doener\"}]}}}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<GraphQLResponse> result = asyncClient.graphQL().get()
+        .withClassName("Pizza")
+        .withFields(Field.builder().name("name").build())
+        .run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      Map<String, Object> data = (Map<String, Object>) result.getResult().getData();
+      Map<String, Object> get = (Map<String, Object>) data.get("Get");
+      assertThat(get).containsKey("Pizza");
+      assertThat((Iterable<Object>) get.get("Pizza")).hasSize(2);
+    }
+  }
+
+  @Test
+  public void shouldReturnQueryErrorsInResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"errors\":[{\"message\":\"Cannot query field \\\"Soup\\\" on type \\\"GetObjectsObj\\\".\"," +
+        "\"locations\":[{\"line\":1,\"column\":6}]}]}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<GraphQLResponse> result = asyncClient.graphQL().raw()
+        .withQuery("{Get{Soup{name}}}")
+        .run().get();
+
+      // query errors do not change status code, they are part of the response
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getData()).isNull();
+      assertThat(result.getResult().getErrors()).hasSize(1);
+      assertThat(result.getResult().getErrors()[0].getMessage()).contains("Cannot query field \"Soup\"");
+    }
+  }
+
+  @Test
+  public void shouldMapErrorResponse() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql")
+    ).respond(
+      response().withStatusCode(401).withBody("{\"message\":\"anonymous access not enabled\"}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<GraphQLResponse> result = asyncClient.graphQL().aggregate()
+        .withClassName("Pizza")
+        .withFields(Field.builder().name("meta").fields(Field.builder().name("count").build()).build())
+        .run().get();
+
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getStatusCode()).isEqualTo(401);
+      assertThat(result.getError().getMessages()).extracting("message").containsExactly("anonymous access not enabled");
+    }
+  }
+
+  @Test
+  public void shouldAbortQueryWhenFutureIsCancelled() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql")
+    ).respond(
+      response().withDelay(Delay.seconds(5)).withStatusCode(200).withBody("{\"data\":{}}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      CompletableFuture<Result<GraphQLResponse>> future = asyncClient.graphQL().raw()
+        .withQuery("{Get{Pizza{name}}}")
+        .run();
+
+      assertThat(future.cancel(true)).isTrue();
+      assertThat(future.isCancelled()).isTrue();
+      assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
@@ -0,0 +1,73 @@
+package io.weaviate.integration.client.async.graphql;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.integration.client.WeaviateDockerCompose;
+import io.weaviate.integration.client.WeaviateTestGenerics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class ClientGraphQLTest {
+
+  private WeaviateClient client;
+  private final WeaviateTestGenerics testGenerics = new WeaviateTestGenerics();
+
+  @ClassRule
+  public static WeaviateDockerCompose compose = new WeaviateDockerCompose();
+
+  @Before
+  public void before() {
+    Config config = new Config("http", compose.getHttpHostAddress());
+    client = new WeaviateClient(config);
+    testGenerics.createTestSchemaAndData(client);
+  }
+
+  @After
+  public void after() {
+    testGenerics.cleanupWeaviate(client);
+  }
+
+  @Test
+  public void testGraphQLGetConcurrently() throws ExecutionException, InterruptedException {
+    Field name = Field.builder().name("name").build();
+
+    try (WeaviateAsyncClient asyncClient = client.async()) {
+      CompletableFuture<Result<GraphQLResponse>> pizzas = asyncClient.graphQL().get()
+        .withClassName("Pizza").withFields(name).run();
+      CompletableFuture<Result<GraphQLResponse>> soups = asyncClient.graphQL().get()
+        .withClassName("Soup").withFields(name).run();
+      CompletableFuture.allOf(pizzas, soups).get();
+
+      assertThat(getObjects(pizzas.get(), "Pizza")).hasSize(4);
+      assertThat(getObjects(soups.get(), "Soup")).hasSize(2);
+    }
+  }
+
+  @Test
+  public void testRawGraphQL() throws ExecutionException, InterruptedException {
+    try (WeaviateAsyncClient asyncClient = client.async()) {
+      Result<GraphQLResponse> result = asyncClient.graphQL().raw()
+        .withQuery("{Get{Pizza{_additional{id}}}}").run().get();
+
+      assertThat(getObjects(result, "Pizza")).hasSize(4);
+    }
+  }
+
+  private List<?> getObjects(Result<GraphQLResponse> result, String className) {
+    assertThat(result.hasErrors()).isFalse();
+    Map<?, ?> data = (Map<?, ?>) result.getResult().getData();
+    Map<?, ?> get = (Map<?, ?>) data.get("Get");
+    return (List<?>) get.get(className);
+  }
+}
@@ -3,6 +3,8 @@ package io.weaviate.integration.client.batch;
 import com.jparams.junit4.JParamsTestRunner;
 import com.jparams.junit4.data.DataMethod;
 import io.weaviate.client.v1.batch.model.ObjectGetResponseStatus;
+import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
+import io.weaviate.client.v1.batch.model.QueueFullPolicy;
 import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
 import org.junit.After;
 import org.junit.Before;
@@ -11,6 +13,9 @@ import org.junit.runner.RunWith;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.Delay;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.StringBody;
 import org.mockserver.verify.VerificationTimes;
 import io.weaviate.client.Config;
 import io.weaviate.client.WeaviateClient;
@@ -19,19 +24,36 @@ import io.weaviate.client.base.Serializer;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.v1.batch.api.ObjectsBatcher;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.spool.BatchSpool;
+import io.weaviate.client.v1.batch.spool.ObjectSpoolCodec;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -51,6 +73,7 @@ public class ClientBatchCreateMockServerTest {
   private WeaviateClient client;
   private ClientAndServer mockServer;
   private MockServerClient mockServerClient;
+  private Path spoolDirectory;
 
   private static final String MOCK_SERVER_HOST = "localhost";
   private static final int MOCK_SERVER_PORT = 8999;
@@ -71,8 +94,13 @@ public class ClientBatchCreateMockServerTest {
   }
 
   @After
-  public void stopMockServer() {
+  public void stopMockServer() throws IOException {
     mockServer.stop();
+    if (spoolDirectory != null) {
+      try (Stream<Path> files = Files.walk(spoolDirectory)) {
+        files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+      }
+    }
   }
 
   @Test
@@ -370,6 +398,258 @@ public class ClientBatchCreateMockServerTest {
     }
   }
 
+  @Test
+  public void shouldCheckGeneratedIdsInBulkDueToTimeoutIssue() {
+    // given client times out after 1s
+
+    WeaviateObject pizza1 = WeaviateObject.builder().className("Pizza").properties(PIZZA_1_PROPS).build();
+    WeaviateObject pizza2 = WeaviateObject.builder().className("Pizza").properties(PIZZA_2_PROPS).build();
+    WeaviateObject soup1 = WeaviateObject.builder().className("Soup").properties(SOUP_1_PROPS).build();
+    WeaviateObject soup2 = WeaviateObject.builder().className("Soup").properties(SOUP_2_PROPS).build();
+
+    ObjectsBatcher batcher = client.batch().objectsBatcher(ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .maxTimeoutRetries(0)
+        .build())
+      .withObjects(pizza1, pizza2, soup1, soup2);
+
+    // batch request should end up with timeout exception, but Pizza1 and Soup1 should be "added" and found by id query
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withDelay(Delay.seconds(2)).withStatusCode(200)
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql").withBody(StringBody.subString("Pizza"))
+    ).respond(
+      response().withBody(idsBody("Pizza", pizza1.getId()))
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql").withBody(StringBody.subString("Soup"))
+    ).respond(
+      response().withBody(idsBody("Soup", soup1.getId()))
+    );
+
+    Result<ObjectGetResponse[]> resBatch = batcher.run();
+
+    mockServerClient
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/objects"),
+        VerificationTimes.exactly(1)
+      )
+      .verify(
+        request().withMethod("POST").withPath("/v1/graphql"),
+        VerificationTimes.exactly(2)
+      )
+      .verify(
+        request().withMethod("GET").withPath("/v1/objects/.*"),
+        VerificationTimes.never()
+      );
+
+    assertThat(resBatch.getResult()).hasSize(2)
+      .extracting(ObjectGetResponse::getId)
+      .containsExactly(pizza1.getId(), soup1.getId());
+    assertThat(resBatch.hasErrors()).isTrue();
+
+    List<WeaviateErrorMessage> errorMessages = resBatch.getError().getMessages();
+    assertThat(errorMessages).hasSize(2);
+    assertThat(errorMessages.get(0).getThrowable()).isInstanceOf(SocketTimeoutException.class);
+    assertThat(errorMessages.get(1).getMessage()).contains(pizza2.getId(), soup2.getId())
+      .doesNotContain(pizza1.getId(), soup1.getId());
+  }
+
+  @Test
+  public void shouldRejectObjectsWhenAutoBatchQueueIsFull() {
+    WeaviateObject pizza1 = WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).properties(PIZZA_1_PROPS).build();
+    WeaviateObject pizza2 = WeaviateObject.builder().className("Pizza").id(PIZZA_2_ID).properties(PIZZA_2_PROPS).build();
+    WeaviateObject soup1 = WeaviateObject.builder().className("Soup").id(SOUP_1_ID).properties(SOUP_1_PROPS).build();
+    WeaviateObject soup2 = WeaviateObject.builder().className("Soup").id(SOUP_2_ID).properties(SOUP_2_PROPS).build();
+
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withDelay(Delay.milliseconds(500)).withStatusCode(200).withBody("[]")
+    );
+
+    List<Result<ObjectGetResponse[]>> resBatches = Collections.synchronizedList(new ArrayList<>(2));
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(2)
+      .poolSize(1)
+      .maxInFlightBatches(1)
+      .maxQueuedObjects(2)
+      .queueFullPolicy(QueueFullPolicy.FAIL_FAST)
+      .callback(resBatches::add)
+      .build();
+
+    ObjectsBatcher batcher = client.batch().objectsAutoBatcher(autoBatchConfig);
+    // first batch is sent, second one waits in the queue for the first one to complete
+    batcher.withObjects(pizza1, pizza2);
+    batcher.withObjects(soup1, soup2);
+
+    assertThatThrownBy(() -> batcher.withObject(WeaviateObject.builder().className("Soup").build()))
+      .isInstanceOf(RejectedExecutionException.class);
+
+    batcher.flush();
+
+    mockServerClient.verify(
+      request().withMethod("POST").withPath("/v1/batch/objects"),
+      VerificationTimes.exactly(2)
+    );
+    assertThat(resBatches).hasSize(2);
+  }
+
+  @Test
+  public void shouldSendAllObjectsAddedByConcurrentProducers() throws Exception {
+    int producers = 8;
+    int objectsPerProducer = 250;
+
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(200).withBody("[]")
+    );
+
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(30)
+      .poolSize(4)
+      .build();
+    ObjectsBatcher batcher = client.batch().objectsAutoBatcher(autoBatchConfig);
+
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < objectsPerProducer; i++) {
+            batcher.withObject(WeaviateObject.builder().className("Pizza").properties(PIZZA_1_PROPS).build());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    batcher.flush();
+
+    Serializer serializer = new Serializer();
+    Set<String> sentIds = new HashSet<>();
+    int sentCount = 0;
+    for (HttpRequest sent : mockServerClient.retrieveRecordedRequests(request().withMethod("POST").withPath("/v1/batch/objects"))) {
+      ObjectsBatchRequestBody body = serializer.toObject(sent.getBodyAsString(), ObjectsBatchRequestBody.class);
+      for (WeaviateObject object : body.getObjects()) {
+        sentIds.add(object.getId());
+        sentCount++;
+      }
+    }
+    assertThat(sentCount).isEqualTo(producers * objectsPerProducer);
+    assertThat(sentIds).hasSize(producers * objectsPerProducer);
+  }
+
+  @Test
+  public void shouldResendOnlyObjectsFailedWithTransientErrors() {
+    WeaviateObject pizza1 = WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).properties(PIZZA_1_PROPS).build();
+    WeaviateObject pizza2 = WeaviateObject.builder().className("Pizza").id(PIZZA_2_ID).properties(PIZZA_2_PROPS).build();
+    WeaviateObject soup1 = WeaviateObject.builder().className("Soup").id(SOUP_1_ID).properties(SOUP_1_PROPS).build();
+
+    // pizza2 fails with transient error, soup1 with permanent one, both only in the first response
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects"),
+      Times.once()
+    ).respond(
+      response().withStatusCode(200).withBody("[" +
+        objectResultBody(PIZZA_1_ID, null) + "," +
+        objectResultBody(PIZZA_2_ID, "too many requests") + "," +
+        objectResultBody(SOUP_1_ID, "invalid property") + "]")
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(200).withBody("[" + objectResultBody(PIZZA_2_ID, null) + "]")
+    );
+
+    Result<ObjectGetResponse[]> resBatch = client.batch().objectsBatcher(ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .retriesIntervalMs(100)
+        .build())
+      .withObjects(pizza1, pizza2, soup1)
+      .run();
+
+    mockServerClient
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/objects"),
+        VerificationTimes.exactly(2)
+      )
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/objects").withBody(StringBody.subString(PIZZA_2_ID)),
+        VerificationTimes.exactly(2)
+      )
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/objects").withBody(StringBody.subString(SOUP_1_ID)),
+        VerificationTimes.exactly(1)
+      );
+
+    assertThat(resBatch.hasErrors()).isFalse();
+    assertThat(resBatch.getResult()).hasSize(3)
+      .extracting(ObjectGetResponse::getId, r -> r.getResult().getStatus())
+      .containsExactlyInAnyOrder(
+        tuple(PIZZA_1_ID, ObjectGetResponseStatus.SUCCESS),
+        tuple(PIZZA_2_ID, ObjectGetResponseStatus.SUCCESS),
+        tuple(SOUP_1_ID, ObjectGetResponseStatus.FAILED)
+      );
+  }
+
+  @Test
+  public void shouldAcknowledgeSpooledBatchRejectedPermanently() throws IOException {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(422).withBody("{\"error\": [{\"message\": \"class 'Pizza' not found\"}]}")
+    );
+
+    List<Result<ObjectGetResponse[]>> resBatches = runSpooledPizzas();
+
+    assertThat(resBatches).hasSize(1);
+    assertThat(resBatches.get(0).getError().getStatusCode()).isEqualTo(422);
+    // batch would be rejected again on every start, so it is not replayed
+    assertThat(BatchSpool.open(spoolDirectory, new ObjectSpoolCodec(), false).takePending()).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepSpooledBatchFailedTransiently() throws IOException {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(503)
+    );
+
+    List<Result<ObjectGetResponse[]>> resBatches = runSpooledPizzas();
+
+    assertThat(resBatches).hasSize(1);
+    assertThat(resBatches.get(0).getError().getStatusCode()).isEqualTo(503);
+    assertThat(BatchSpool.open(spoolDirectory, new ObjectSpoolCodec(), false).takePending())
+      .extracting(WeaviateObject::getId)
+      .containsExactlyInAnyOrder(PIZZA_1_ID, PIZZA_2_ID);
+  }
+
+  private List<Result<ObjectGetResponse[]>> runSpooledPizzas() throws IOException {
+    spoolDirectory = Files.createTempDirectory("batch-spool");
+    List<Result<ObjectGetResponse[]>> resBatches = Collections.synchronizedList(new ArrayList<>());
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(2)
+      .spoolDirectory(spoolDirectory)
+      .callback(resBatches::add)
+      .build();
+
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(autoBatchConfig)) {
+      batcher.withObjects(
+        WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).properties(PIZZA_1_PROPS).build(),
+        WeaviateObject.builder().className("Pizza").id(PIZZA_2_ID).properties(PIZZA_2_PROPS).build()
+      );
+      batcher.flush();
+    }
+    return resBatches;
+  }
+
   public static Object[][] provideForNotCreateBatchDueToTimeoutIssue() {
     return new Object[][]{
       new Object[]{
@@ -407,6 +687,17 @@ public class ClientBatchCreateMockServerTest {
     return props;
   }
 
+  private String objectResultBody(String id, String error) {
+    if (error == null) {
+      return String.format("{\"id\": \"%s\", \"result\": {\"status\": \"SUCCESS\"}}", id);
+    }
+    return String.format("{\"id\": \"%s\", \"result\": {\"status\": \"FAILED\", \"errors\": {\"error\": [{\"message\": \"%s\"}]}}}", id, error);
+  }
+
+  private String idsBody(String className, String id) {
+    return String.format("{\"data\": {\"Get\": {\"%s\": [{\"_additional\": {\"id\": \"%s\"}}]}}}", className, id);
+  }
+
   private String metaBody() {
     return String.format("{\n" +
       "  \"hostname\": \"http://[::]:%s\",\n" +
@@ -0,0 +1,262 @@
+package io.weaviate.integration.client.batch;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponseStatus;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientBatchGrpcPipelineMockServerTest {
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  private WeaviateClient client;
+  private ClientAndServer mockServer;
+  private Server grpcServer;
+  private BlockingQueue<Call> calls;
+  private ScheduledExecutorService responder;
+  private List<Result<ObjectGetResponse[]>> results;
+
+  @Before
+  public void before() throws IOException {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT).when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    calls = new LinkedBlockingQueue<>();
+    grpcServer = ServerBuilder.forPort(0)
+      .addService(new WeaviateGrpc.WeaviateImplBase() {
+        @Override
+        public void batchObjects(WeaviateProtoBatch.BatchObjectsRequest request,
+                                 StreamObserver<WeaviateProtoBatch.BatchObjectsReply> responseObserver) {
+          // replies are sent by tests, so that calls stay in flight as long as needed
+          calls.add(new Call(request, responseObserver));
+        }
+      })
+      .build()
+      .start();
+    responder = Executors.newSingleThreadScheduledExecutor();
+    results = Collections.synchronizedList(new ArrayList<>());
+
+    Config config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, false,
+      MOCK_SERVER_HOST + ":" + grpcServer.getPort());
+    client = new WeaviateClient(config);
+  }
+
+  @After
+  public void after() throws InterruptedException {
+    responder.shutdownNow();
+    grpcServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldNotExceedPipelineWindow() throws InterruptedException {
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig(1, 2))) {
+      batcher.withObjects(pizza("id-1"), pizza("id-2"), pizza("id-3"), pizza("id-4"));
+
+      Call first = calls.poll(5, TimeUnit.SECONDS);
+      Call second = calls.poll(5, TimeUnit.SECONDS);
+      assertThat(first).isNotNull();
+      assertThat(second).isNotNull();
+      // window is full, remaining batches wait for in-flight ones
+      assertThat(calls.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+      first.reply(success());
+      Call third = calls.poll(5, TimeUnit.SECONDS);
+      assertThat(third).isNotNull();
+      assertThat(calls.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+      second.reply(success());
+      third.reply(success());
+      replyLater(calls.poll(5, TimeUnit.SECONDS), success());
+      batcher.flush();
+
+      assertThat(results).hasSize(4);
+      assertThat(results).noneMatch(Result::hasErrors);
+    }
+  }
+
+  @Test
+  public void shouldLimitPipelineWindowToMaxInFlightBatches() throws InterruptedException {
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .grpcPipelineWindow(4)
+      .maxInFlightBatches(1)
+      .callback(results::add)
+      .build();
+
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig)) {
+      batcher.withObjects(pizza("id-1"), pizza("id-2"));
+
+      Call first = calls.poll(5, TimeUnit.SECONDS);
+      assertThat(first).isNotNull();
+      assertThat(calls.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+      first.reply(success());
+      replyLater(calls.poll(5, TimeUnit.SECONDS), success());
+      batcher.flush();
+
+      assertThat(results).hasSize(2);
+    }
+  }
+
+  @Test
+  public void shouldMapErrorsToObjectsInRequestOrder() throws InterruptedException {
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig(3, 2))) {
+      batcher.withObjects(pizza("id-1"), pizza("id-2"), pizza("id-3"));
+
+      Call call = calls.poll(5, TimeUnit.SECONDS);
+      assertThat(call.request.getObjectsList())
+        .extracting(WeaviateProtoBatch.BatchObject::getUuid)
+        .containsExactly("id-1", "id-2", "id-3");
+      replyLater(call, WeaviateProtoBatch.BatchObjectsReply.newBuilder()
+        .addErrors(WeaviateProtoBatch.BatchObjectsReply.BatchError.newBuilder()
+          .setIndex(1)
+          .setError("invalid property 'price'"))
+        .build());
+      batcher.flush();
+
+      assertThat(results).hasSize(1);
+      assertThat(results.get(0).getResult())
+        .extracting(ObjectGetResponse::getId, r -> r.getResult().getStatus())
+        .containsExactly(
+          tuple("id-1", ObjectGetResponseStatus.SUCCESS),
+          tuple("id-2", ObjectGetResponseStatus.FAILED),
+          tuple("id-3", ObjectGetResponseStatus.SUCCESS)
+        );
+      assertThat(results.get(0).getResult()[1].getResult().getErrors().getError().get(0).getMessage())
+        .isEqualTo("invalid property 'price'");
+    }
+  }
+
+  @Test
+  public void shouldPassCallErrorToCallback() throws InterruptedException {
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig(1, 2))) {
+      batcher.withObjects(pizza("id-1"));
+
+      calls.poll(5, TimeUnit.SECONDS).observer.onError(Status.INTERNAL.withDescription("shard failure").asRuntimeException());
+      batcher.flush();
+
+      assertThat(results).hasSize(1);
+      Result<ObjectGetResponse[]> result = results.get(0);
+      assertThat(result.hasErrors()).isTrue();
+      assertThat(result.getResult()).isNull();
+      assertThat(result.getError().getMessages()).hasSize(1);
+      assertThat(result.getError().getMessages().get(0).getMessage()).contains("shard failure");
+      // other errors than unavailable are not retried
+      assertThat(calls).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldRetryUnavailableCall() throws InterruptedException {
+    try (ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig(1, 2))) {
+      batcher.withObjects(pizza("id-1"));
+
+      calls.poll(5, TimeUnit.SECONDS).observer.onError(Status.UNAVAILABLE.withDescription("node restarting").asRuntimeException());
+      replyLater(calls.poll(5, TimeUnit.SECONDS), success());
+      batcher.flush();
+
+      assertThat(results).hasSize(1);
+      assertThat(results.get(0).hasErrors()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldWaitForPipelinedCallsOnClose() throws InterruptedException {
+    ObjectsBatcher batcher = client.batch().objectsAutoBatcher(retriesConfig(), autoBatchConfig(1, 2));
+    batcher.withObjects(pizza("id-1"), pizza("id-2"));
+
+    replyLater(calls.poll(5, TimeUnit.SECONDS), success());
+    replyLater(calls.poll(5, TimeUnit.SECONDS), success());
+    batcher.close();
+
+    assertThat(results).hasSize(2);
+    assertThat(results).noneMatch(Result::hasErrors);
+  }
+
+  private ObjectsBatcher.BatchRetriesConfig retriesConfig() {
+    return ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+      .maxConnectionRetries(1)
+      .retriesIntervalMs(10)
+      .build();
+  }
+
+  private ObjectsBatcher.AutoBatchConfig autoBatchConfig(int batchSize, int grpcPipelineWindow) {
+    return ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(batchSize)
+      .grpcPipelineWindow(grpcPipelineWindow)
+      .callback(results::add)
+      .build();
+  }
+
+  private void replyLater(Call call, WeaviateProtoBatch.BatchObjectsReply reply) {
+    assertThat(call).isNotNull();
+    // flush and close have to wait for reply sent while they are already waiting
+    responder.schedule(() -> call.reply(reply), 200, TimeUnit.MILLISECONDS);
+  }
+
+  private static WeaviateProtoBatch.BatchObjectsReply success() {
+    return WeaviateProtoBatch.BatchObjectsReply.newBuilder().build();
+  }
+
+  private static WeaviateObject pizza(String id) {
+    return WeaviateObject.builder().id(id).className("Pizza").build();
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+
+  private static class Call {
+    private final WeaviateProtoBatch.BatchObjectsRequest request;
+    private final StreamObserver<WeaviateProtoBatch.BatchObjectsReply> observer;
+
+    private Call(WeaviateProtoBatch.BatchObjectsRequest request, StreamObserver<WeaviateProtoBatch.BatchObjectsReply> observer) {
+      this.request = request;
+      this.observer = observer;
+    }
+
+    private void reply(WeaviateProtoBatch.BatchObjectsReply reply) {
+      observer.onNext(reply);
+      observer.onCompleted();
+    }
+  }
+}
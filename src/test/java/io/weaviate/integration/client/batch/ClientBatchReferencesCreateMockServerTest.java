@@ -8,7 +8,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.Delay;
+import org.mockserver.model.StringBody;
 import org.mockserver.verify.VerificationTimes;
 import io.weaviate.client.Config;
 import io.weaviate.client.WeaviateClient;
@@ -17,6 +19,7 @@ import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.v1.batch.api.ReferencesBatcher;
 import io.weaviate.client.v1.batch.model.BatchReference;
 import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
+import io.weaviate.client.v1.batch.model.BatchReferenceResponseStatus;
 
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
@@ -27,6 +30,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -329,6 +333,71 @@ public class ClientBatchReferencesCreateMockServerTest {
     };
   }
 
+  @Test
+  public void shouldResendOnlyReferencesFailedWithTransientErrors() {
+    String fromPizza = String.format("weaviate://localhost/%s/%s/otherFoods", "Pizza", PIZZA_ID);
+    String fromSoup = String.format("weaviate://localhost/%s/%s/otherFoods", "Soup", SOUP_ID);
+    String toPizza = String.format("weaviate://localhost/%s/%s", "Pizza", PIZZA_ID);
+    String toSoup = String.format("weaviate://localhost/%s/%s", "Soup", SOUP_ID);
+
+    BatchReference refPizzaToSoup = BatchReference.builder().from(fromPizza).to(toSoup).build();
+    BatchReference refSoupToPizza = BatchReference.builder().from(fromSoup).to(toPizza).build();
+    BatchReference refPizzaToPizza = BatchReference.builder().from(fromPizza).to(toPizza).build();
+
+    // soup => pizza fails with transient error, pizza => pizza with permanent one, both only in the first response
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/references"),
+      Times.once()
+    ).respond(
+      response().withStatusCode(200).withBody("[" +
+        referenceResultBody(fromPizza, toSoup, null) + "," +
+        referenceResultBody(fromSoup, toPizza, "too many requests") + "," +
+        referenceResultBody(fromPizza, toPizza, "invalid reference") + "]")
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/references")
+    ).respond(
+      response().withStatusCode(200).withBody("[" + referenceResultBody(fromSoup, toPizza, null) + "]")
+    );
+
+    Result<BatchReferenceResponse[]> resReferences = client.batch().referencesBatcher(ReferencesBatcher.BatchRetriesConfig.defaultConfig()
+        .retriesIntervalMs(100)
+        .build())
+      .withReferences(refPizzaToSoup, refSoupToPizza, refPizzaToPizza)
+      .run();
+
+    mockServerClient
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/references"),
+        VerificationTimes.exactly(2)
+      )
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/references").withBody(StringBody.subString(fromSoup)),
+        VerificationTimes.exactly(2)
+      )
+      .verify(
+        request().withMethod("POST").withPath("/v1/batch/references").withBody(StringBody.subString(fromPizza)),
+        VerificationTimes.exactly(1)
+      );
+
+    assertThat(resReferences.hasErrors()).isFalse();
+    assertThat(resReferences.getResult()).hasSize(3)
+      .extracting(BatchReferenceResponse::getFrom, BatchReferenceResponse::getTo, r -> r.getResult().getStatus())
+      .containsExactlyInAnyOrder(
+        tuple(fromPizza, toSoup, BatchReferenceResponseStatus.SUCCESS),
+        tuple(fromSoup, toPizza, BatchReferenceResponseStatus.SUCCESS),
+        tuple(fromPizza, toPizza, BatchReferenceResponseStatus.FAILED)
+      );
+  }
+
+  private String referenceResultBody(String from, String to, String error) {
+    if (error == null) {
+      return String.format("{\"from\": \"%s\", \"to\": \"%s\", \"result\": {\"status\": \"SUCCESS\"}}", from, to);
+    }
+    return String.format("{\"from\": \"%s\", \"to\": \"%s\", \"result\": {\"status\": \"FAILED\", " +
+      "\"errors\": {\"error\": [{\"message\": \"%s\"}]}}}", from, to, error);
+  }
+
   private String metaBody() {
     return String.format("{\n" +
       "  \"hostname\": \"http://[::]:%s\",\n" +
@@ -0,0 +1,177 @@
+package io.weaviate.integration.client.data;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.data.model.ObjectsExportResult;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.data.util.ObjectsFileWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientDataObjectsExporterMockServerTest {
+  private static final String ID_1 = "00000000-0000-0000-0000-000000000001";
+  private static final String ID_2 = "00000000-0000-0000-0000-000000000002";
+
+  private WeaviateClient client;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    Config config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+    client = new WeaviateClient(config);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldExportClassWithoutMultiTenancyToSink() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(200).withBody(objectsBody(null, ID_1, ID_2))
+    );
+
+    List<WeaviateObject> exported = new CopyOnWriteArrayList<>();
+    Result<ObjectsExportResult> result = client.data().objectsExporter("Pizza")
+      .withSink(exported::add)
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().getObjectsCount()).isEqualTo(2);
+    assertThat(result.getResult().getTenantObjectsCounts()).isEmpty();
+    assertThat(exported.stream().map(WeaviateObject::getId).collect(Collectors.toList()))
+      .containsExactly(ID_1, ID_2);
+  }
+
+  @Test
+  public void shouldExportActiveTenantsToFiles() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\", \"multiTenancyConfig\": {\"enabled\": true}}")
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza/tenants")
+    ).respond(
+      response().withStatusCode(200).withBody("[" +
+        "{\"name\": \"TenantA\", \"activityStatus\": \"HOT\"}," +
+        "{\"name\": \"TenantB\", \"activityStatus\": \"HOT\"}," +
+        "{\"name\": \"TenantC\", \"activityStatus\": \"COLD\"}]")
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects").withQueryStringParameter("tenant", "TenantA")
+    ).respond(
+      response().withStatusCode(200).withBody(objectsBody("TenantA", ID_1))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects").withQueryStringParameter("tenant", "TenantB")
+    ).respond(
+      response().withStatusCode(200).withBody(objectsBody("TenantB"))
+    );
+
+    Path directory = folder.newFolder().toPath();
+    Result<ObjectsExportResult> result = client.data().objectsExporter("Pizza")
+      .withOutputDirectory(directory)
+      .withVector()
+      .withParallelism(2)
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().getObjectsCount()).isEqualTo(1);
+    assertThat(result.getResult().getTenantObjectsCounts())
+      .containsEntry("TenantA", 1L)
+      .containsEntry("TenantB", 0L)
+      .doesNotContainKey("TenantC");
+    assertThat(result.getResult().getFiles())
+      .containsExactly(directory.resolve("Pizza.TenantA.bin"), directory.resolve("Pizza.TenantB.bin"));
+    mockServerClient.verify(
+      request().withMethod("GET").withPath("/v1/objects").withQueryStringParameter("tenant", "TenantC"),
+      VerificationTimes.never()
+    );
+
+    ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("Pizza.TenantA.bin")));
+    byte[] magic = new byte[4];
+    file.get(magic);
+    assertThat(magic).isEqualTo(ObjectsFileWriter.MAGIC);
+    file.order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(file.getInt()).isEqualTo(ObjectsFileWriter.VERSION);
+
+    file.order(ByteOrder.BIG_ENDIAN);
+    assertThat(new UUID(file.getLong(), file.getLong()).toString()).isEqualTo(ID_1);
+    file.order(ByteOrder.LITTLE_ENDIAN);
+    byte[] properties = new byte[file.getInt()];
+    file.get(properties);
+    assertThat(new String(properties, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Hawaii\"}");
+    assertThat(file.getInt()).isEqualTo(2);
+    assertThat(file.getFloat()).isEqualTo(0.5f);
+    assertThat(file.getFloat()).isEqualTo(-1.25f);
+    assertThat(file.getInt()).isZero();
+    assertThat(file.hasRemaining()).isFalse();
+
+    assertThat(Files.readAllBytes(directory.resolve("Pizza.TenantB.bin"))).hasSize(8);
+  }
+
+  private String objectsBody(String tenant, String... ids) {
+    String tenantField = tenant != null ? String.format("\"tenant\": \"%s\", ", tenant) : "";
+    String objects = Arrays.stream(ids)
+      .map(id -> String.format("{\"id\": \"%s\", \"class\": \"Pizza\", %s" +
+        "\"properties\": {\"name\": \"Hawaii\"}, \"vector\": [0.5, -1.25]}", id, tenantField))
+      .collect(Collectors.joining(","));
+    return String.format("{\"objects\": [%s], \"totalResults\": %d}", objects, ids.length);
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
@@ -0,0 +1,117 @@
+package io.weaviate.integration.client.data;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientDataObjectsIteratorMockServerTest {
+  private static final String ID_1 = "00000000-0000-0000-0000-000000000001";
+  private static final String ID_2 = "00000000-0000-0000-0000-000000000002";
+  private static final String ID_3 = "00000000-0000-0000-0000-000000000003";
+
+  private WeaviateClient client;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    Config config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+    client = new WeaviateClient(config);
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldIterateOverAllPagesWithCursor() {
+    // expectations are matched in order of creation, so page requested with cursor is registered first
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects").withQueryStringParameter("after", ID_2)
+    ).respond(
+      response().withStatusCode(200).withBody(objectsBody(ID_3))
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects").withQueryStringParameter("class", "Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody(objectsBody(ID_1, ID_2))
+    );
+
+    List<String> ids = client.data().objectsIterator("Pizza")
+      .withPageSize(2)
+      .stream()
+      .map(WeaviateObject::getId)
+      .collect(Collectors.toList());
+
+    assertThat(ids).containsExactly(ID_1, ID_2, ID_3);
+    mockServerClient
+      .verify(
+        request().withMethod("GET").withPath("/v1/objects")
+          .withQueryStringParameter("class", "Pizza")
+          .withQueryStringParameter("limit", "2"),
+        VerificationTimes.exactly(2)
+      );
+  }
+
+  @Test
+  public void shouldThrowWhenPageCannotBeFetched() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(500).withBody("{\"error\": [{\"message\": \"shard unavailable\"}]}")
+    );
+
+    Iterator<WeaviateObject> iterator = client.data().objectsIterator("Pizza").iterator();
+
+    assertThatThrownBy(iterator::hasNext)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("500")
+      .hasMessageContaining("shard unavailable");
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  private String objectsBody(String... ids) {
+    String objects = Arrays.stream(ids)
+      .map(id -> String.format("{\"id\": \"%s\", \"class\": \"Pizza\", \"properties\": {}}", id))
+      .collect(Collectors.joining(","));
+    return String.format("{\"objects\": [%s], \"totalResults\": %d}", objects, ids.length);
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}
@@ -0,0 +1,81 @@
+package io.weaviate.integration.client.misc;
+
+import io.weaviate.client.base.balancer.HedgingPolicy;
+import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
+
+import java.io.BufferedReader;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientHedgingMockServerTest {
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+  private PoolingHttpClientConnectionManager connectionManager;
+  private CommonsHttpClientImpl client;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+  private static final String URL = String.format("http://%s:%s/v1/graphql", MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    connectionManager = PoolingHttpClientConnectionManagerBuilder.create().build();
+    client = new CommonsHttpClientImpl(null, null, () -> HttpClients.custom().setConnectionManager(connectionManager).build());
+  }
+
+  @After
+  public void after() throws Exception {
+    client.close();
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldReleaseConnectionOfLosingAttempt() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 100, TimeUnit.MILLISECONDS, 1);
+    // hedging starts once enough latencies are recorded
+    for (int i = 0; i < 20; i++) {
+      policy.execute(hedge -> HedgingPolicy.Outcome.accepted("warm up"));
+    }
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql"), Times.once()
+    ).respond(
+      response().withStatusCode(200).withBody("primary").withDelay(Delay.seconds(10))
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/graphql")
+    ).respond(
+      response().withStatusCode(200).withBody("hedge")
+    );
+
+    long start = System.nanoTime();
+    String body = client.sendHedgedRequest(URL, "POST", out -> out.write("{}".getBytes()),
+      (statusCode, reader) -> new BufferedReader(reader).lines().collect(Collectors.joining()), policy);
+
+    assertThat(body).isEqualTo("hedge");
+    // request of the primary attempt is aborted, instead of holding its connection until response arrives
+    long deadline = start + TimeUnit.SECONDS.toNanos(5);
+    while (connectionManager.getTotalStats().getLeased() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+  }
+}
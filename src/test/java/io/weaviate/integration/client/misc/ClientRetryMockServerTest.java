@@ -0,0 +1,270 @@
+package io.weaviate.integration.client.misc;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.retry.ExponentialBackoffRetryPolicy;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ClientRetryMockServerTest {
+  private Config config;
+  private ClientAndServer mockServer;
+  private MockServerClient mockServerClient;
+
+  private static final String MOCK_SERVER_HOST = "localhost";
+  private static final int MOCK_SERVER_PORT = 8999;
+  private static final String PROXY_ERROR_PAGE = "<html><body><h1>503 Service Temporarily Unavailable</h1></body></html>";
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer(MOCK_SERVER_PORT);
+    mockServerClient = new MockServerClient(MOCK_SERVER_HOST, MOCK_SERVER_PORT);
+
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/meta")
+    ).respond(
+      response().withStatusCode(200).withBody(metaBody())
+    );
+
+    config = new Config("http", MOCK_SERVER_HOST + ":" + MOCK_SERVER_PORT, null, 1, 1, 1);
+    config.setRetryPolicy(ExponentialBackoffRetryPolicy.defaultConfig()
+      .baseDelayMs(1)
+      .maxDelayMs(50)
+      .build());
+  }
+
+  @After
+  public void stopMockServer() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldRetryIdempotentRequestOnServiceUnavailable() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza"), Times.exactly(2)
+    ).respond(
+      response().withStatusCode(503)
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+
+    Result<WeaviateClass> result = new WeaviateClient(config).schema().classGetter().withClassName("Pizza").run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().getClassName()).isEqualTo("Pizza");
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"), VerificationTimes.exactly(3));
+  }
+
+  @Test
+  public void shouldGiveUpAfterMaxAttempts() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(503)
+    );
+
+    Result<WeaviateClass> result = new WeaviateClient(config).schema().classGetter().withClassName("Pizza").run();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getStatusCode()).isEqualTo(503);
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"),
+      VerificationTimes.exactly(ExponentialBackoffRetryPolicy.MAX_ATTEMPTS));
+  }
+
+  @Test
+  public void shouldNotRetryNonIdempotentRequestOnServiceUnavailable() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(503)
+    );
+
+    Result<WeaviateObject> result = new WeaviateClient(config).data().creator()
+      .withClassName("Pizza")
+      .withProperties(Collections.singletonMap("name", "Margherita"))
+      .run();
+
+    assertThat(result.hasErrors()).isTrue();
+    mockServerClient.verify(request().withMethod("POST").withPath("/v1/objects"), VerificationTimes.once());
+  }
+
+  @Test
+  public void shouldRetryNonIdempotentRequestRejectedWithRetryAfter() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/objects"), Times.once()
+    ).respond(
+      response().withStatusCode(429).withHeader("Retry-After", "0")
+    );
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/objects")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+
+    Result<WeaviateObject> result = new WeaviateClient(config).data().creator()
+      .withClassName("Pizza")
+      .withProperties(Collections.singletonMap("name", "Margherita"))
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    mockServerClient.verify(request().withMethod("POST").withPath("/v1/objects"), VerificationTimes.exactly(2));
+  }
+
+  @Test
+  public void shouldNotRetryWhenRetryAfterExceedsMaxDelay() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(503).withHeader("Retry-After", "60")
+    );
+
+    Result<WeaviateClass> result = new WeaviateClient(config).schema().classGetter().withClassName("Pizza").run();
+
+    assertThat(result.hasErrors()).isTrue();
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"), VerificationTimes.once());
+  }
+
+  @Test
+  public void shouldRetryAsyncRequestOnServiceUnavailable() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza"), Times.once()
+    ).respond(
+      response().withStatusCode(503)
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<WeaviateClass> result = asyncClient.schema().classGetter().withClassName("Pizza").run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getClassName()).isEqualTo("Pizza");
+    }
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"), VerificationTimes.exactly(2));
+  }
+
+  @Test
+  public void shouldRetryOnServiceUnavailableWithHtmlBody() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza"), Times.once()
+    ).respond(
+      response().withStatusCode(503).withHeader("Content-Type", "text/html").withBody(PROXY_ERROR_PAGE)
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+
+    Result<WeaviateClass> result = new WeaviateClient(config).schema().classGetter().withClassName("Pizza").run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().getClassName()).isEqualTo("Pizza");
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"), VerificationTimes.exactly(2));
+  }
+
+  @Test
+  public void shouldKeepHtmlBodyOfServiceUnavailableAsError() {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(503).withHeader("Content-Type", "text/html").withBody(PROXY_ERROR_PAGE)
+    );
+
+    Result<WeaviateClass> result = new WeaviateClient(config).schema().classGetter().withClassName("Pizza").run();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getStatusCode()).isEqualTo(503);
+    assertThat(result.getError().getMessages().get(0).getMessage()).isEqualTo(PROXY_ERROR_PAGE);
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"),
+      VerificationTimes.exactly(ExponentialBackoffRetryPolicy.MAX_ATTEMPTS));
+  }
+
+  @Test
+  public void shouldRetryAsyncRequestOnServiceUnavailableWithHtmlBody() throws Exception {
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza"), Times.once()
+    ).respond(
+      response().withStatusCode(503).withHeader("Content-Type", "text/html").withBody(PROXY_ERROR_PAGE)
+    );
+    mockServerClient.when(
+      request().withMethod("GET").withPath("/v1/schema/Pizza")
+    ).respond(
+      response().withStatusCode(200).withBody("{\"class\": \"Pizza\"}")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<WeaviateClass> result = asyncClient.schema().classGetter().withClassName("Pizza").run().get();
+
+      assertThat(result.hasErrors()).isFalse();
+      assertThat(result.getResult().getClassName()).isEqualTo("Pizza");
+    }
+    mockServerClient.verify(request().withMethod("GET").withPath("/v1/schema/Pizza"), VerificationTimes.exactly(2));
+  }
+
+  @Test
+  public void shouldLeaveBatchRequestsToBatcherRetries() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(429).withHeader("Retry-After", "0")
+    );
+
+    Result<ObjectGetResponse[]> result = new WeaviateClient(config).batch().objectsBatcher()
+      .withObject(WeaviateObject.builder().className("Pizza").build())
+      .run();
+
+    assertThat(result.hasErrors()).isTrue();
+    mockServerClient.verify(request().withMethod("POST").withPath("/v1/batch/objects"), VerificationTimes.once());
+  }
+
+  @Test
+  public void shouldLeaveAsyncBatchRequestsToBatcherRetries() throws Exception {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withStatusCode(429).withHeader("Retry-After", "0")
+    );
+
+    try (WeaviateAsyncClient asyncClient = new WeaviateClient(config).async()) {
+      Result<ObjectGetResponse[]> result = asyncClient.batch().objectsBatcher()
+        .withObjects(WeaviateObject.builder().className("Pizza").build())
+        .run()
+        .get();
+
+      assertThat(result.hasErrors()).isTrue();
+    }
+    mockServerClient.verify(request().withMethod("POST").withPath("/v1/batch/objects"), VerificationTimes.once());
+  }
+
+  private String metaBody() {
+    return String.format("{\n" +
+      "  \"hostname\": \"http://[::]:%s\",\n" +
+      "  \"modules\": {},\n" +
+      "  \"version\": \"%s\"\n" +
+      "}", MOCK_SERVER_PORT, "1.17.999-mock-server-version");
+  }
+}